@@ -0,0 +1,169 @@
+package io.swagger.v3.core.converter;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.Schema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Component schemas resolving some of their entries on first access, installed in components by
+ * {@link #install(Components)} for the lazy mode of {@link ModelConverters#resolveAsLazyReference(AnnotatedType, Components)}.
+ *
+ * A pending schema is resolved when it is got, along with the schemas it references; iterating the map, e.g. to
+ * serialize it, resolves all the pending schemas. Checking whether a name is defined doesn't resolve it.
+ *
+ * @since 2.0.10
+ */
+public class LazyComponentSchemas extends AbstractMap<String, Schema> {
+
+    private static Logger LOGGER = LoggerFactory.getLogger(LazyComponentSchemas.class);
+
+    private final Map<String, Schema> schemas = new LinkedHashMap<>();
+    private final Map<String, Supplier<ResolvedSchema>> pending = new LinkedHashMap<>();
+
+    public LazyComponentSchemas() {
+    }
+
+    public LazyComponentSchemas(Map<String, Schema> schemas) {
+        if (schemas != null) {
+            this.schemas.putAll(schemas);
+        }
+    }
+
+    /**
+     * Sets lazy schemas holding the current ones to the given components, unless they already have lazy schemas.
+     *
+     * @return the lazy schemas of the components
+     */
+    public static LazyComponentSchemas install(Components components) {
+        LazyComponentSchemas lazySchemas = of(components);
+        if (lazySchemas == null) {
+            lazySchemas = new LazyComponentSchemas(components.getSchemas());
+            components.setSchemas(lazySchemas);
+        }
+        return lazySchemas;
+    }
+
+    /**
+     * @return the lazy schemas of the given components, or null if they have none
+     */
+    public static LazyComponentSchemas of(Components components) {
+        if (components != null && components.getSchemas() instanceof LazyComponentSchemas) {
+            return (LazyComponentSchemas) components.getSchemas();
+        }
+        return null;
+    }
+
+    /**
+     * Defers the resolution of the schema with the given name, unless a schema is already defined or pending with the
+     * name, e.g. as the type was referenced before.
+     */
+    synchronized void defer(String name, Supplier<ResolvedSchema> resolver) {
+        if (schemas.containsKey(name) || pending.containsKey(name)) {
+            return;
+        }
+        pending.put(name, resolver);
+    }
+
+    /**
+     * @return true if no schema is pending
+     */
+    public synchronized boolean isResolved() {
+        return pending.isEmpty();
+    }
+
+    /**
+     * @return a copy of the schemas resolved so far
+     */
+    public synchronized Map<String, Schema> getResolvedSchemas() {
+        return new LinkedHashMap<>(schemas);
+    }
+
+    /**
+     * Resolves all the pending schemas, e.g. to warm them up in the background.
+     */
+    public synchronized void resolveAll() {
+        while (resolveNext()) {
+        }
+    }
+
+    /**
+     * Resolves the next pending schema, letting a background warm-up stop between schemas.
+     *
+     * @return false if no schema was pending
+     */
+    public synchronized boolean resolveNext() {
+        if (pending.isEmpty()) {
+            return false;
+        }
+        resolve(pending.keySet().iterator().next());
+        return true;
+    }
+
+    private void resolve(String name) {
+        Supplier<ResolvedSchema> resolver = pending.remove(name);
+        if (resolver == null) {
+            return;
+        }
+        ResolvedSchema resolvedSchema = resolver.get();
+        if (resolvedSchema.referencedSchemas != null) {
+            for (Entry<String, Schema> entry : resolvedSchema.referencedSchemas.entrySet()) {
+                schemas.put(entry.getKey(), entry.getValue());
+                pending.remove(entry.getKey());
+            }
+        }
+        if (!schemas.containsKey(name)) {
+            // the type didn't resolve to the referenced component, keeps the reference resolvable
+            LOGGER.debug("schema {} resolved inline, defining it as component", name);
+            schemas.put(name, resolvedSchema.schema == null ? new Schema() : resolvedSchema.schema);
+        }
+    }
+
+    @Override
+    public synchronized Schema get(Object key) {
+        if (key instanceof String) {
+            resolve((String) key);
+        }
+        return schemas.get(key);
+    }
+
+    @Override
+    public synchronized boolean containsKey(Object key) {
+        return pending.containsKey(key) || schemas.containsKey(key);
+    }
+
+    @Override
+    public synchronized Schema put(String key, Schema value) {
+        pending.remove(key);
+        return schemas.put(key, value);
+    }
+
+    @Override
+    public synchronized Schema remove(Object key) {
+        pending.remove(key);
+        return schemas.remove(key);
+    }
+
+    @Override
+    public synchronized void clear() {
+        pending.clear();
+        schemas.clear();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return pending.isEmpty() && schemas.isEmpty();
+    }
+
+    @Override
+    public synchronized Set<Entry<String, Schema>> entrySet() {
+        resolveAll();
+        return schemas.entrySet();
+    }
+}
@@ -1,5 +1,7 @@
 package io.swagger.v3.core.converter;
 
+import io.swagger.v3.core.metrics.MetricsUtils;
+import io.swagger.v3.core.metrics.OpenApiMetrics;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -74,7 +76,10 @@ public class ModelConverterContextImpl implements ModelConverterContext {
     @Override
     public Schema resolve(AnnotatedType type) {
 
+        OpenApiMetrics metrics = MetricsUtils.current();
+        metrics.count(OpenApiMetrics.CONVERTER_RESOLVE, null, 1);
         if (processedTypes.contains(type)) {
+            metrics.count(OpenApiMetrics.CONVERTER_RESOLVE_CACHED, null, 1);
             return modelByType.get(type);
         } else {
             processedTypes.add(type);
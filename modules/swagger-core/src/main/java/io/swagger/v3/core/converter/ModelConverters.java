@@ -1,39 +1,160 @@
 package io.swagger.v3.core.converter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.swagger.v3.core.jackson.ModelResolver;
+import io.swagger.v3.core.util.ClassLoaderCache;
 import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.ModelCopyUtils;
+import io.swagger.v3.core.util.RefUtils;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 public class ModelConverters {
     private static final ModelConverters SINGLETON = new ModelConverters();
+    private static final ThreadLocal<ModelConverters> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Session> SESSION = new ThreadLocal<>();
     static Logger LOGGER = LoggerFactory.getLogger(ModelConverters.class);
     private final List<ModelConverter> converters;
-    private final Set<String> skippedPackages = new HashSet<String>();
-    private final Set<String> skippedClasses = new HashSet<String>();
+    private final Set<String> skippedPackages;
+    private final Set<String> skippedClasses;
+    private final ConcurrentHashMap<List<Object>, ResolvedSchema> resolvedSchemas;
 
     public ModelConverters() {
         converters = new CopyOnWriteArrayList<>();
         converters.add(new ModelResolver(Json.mapper()));
+        skippedPackages = ConcurrentHashMap.newKeySet();
+        skippedClasses = ConcurrentHashMap.newKeySet();
+        resolvedSchemas = null;
+    }
+
+    private ModelConverters(List<ModelConverter> converters, ModelConverters parent, boolean cacheResolvedSchemas) {
+        this.converters = Collections.unmodifiableList(converters);
+        this.skippedPackages = parent.skippedPackages;
+        this.skippedClasses = parent.skippedClasses;
+        this.resolvedSchemas = cacheResolvedSchemas ? new ConcurrentHashMap<>() : null;
     }
 
     public static ModelConverters getInstance() {
         return SINGLETON;
     }
 
+    /**
+     * @return the converter chain set for the current thread, e.g. by the context being read, or the global instance
+     * if none is set
+     *
+     * @since 2.0.10
+     */
+    public static ModelConverters getCurrent() {
+        ModelConverters current = CURRENT.get();
+        return current == null ? SINGLETON : current;
+    }
+
+    /**
+     * Sets the converter chain used by the current thread; null resets it to the global instance.
+     *
+     * @return the chain previously set for the current thread, or null
+     *
+     * @since 2.0.10
+     */
+    public static ModelConverters setCurrent(ModelConverters modelConverters) {
+        ModelConverters previous = CURRENT.get();
+        if (modelConverters == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(modelConverters);
+        }
+        return previous;
+    }
+
+    /**
+     * Creates an immutable chain holding the given converters, in order of precedence, followed by the converters
+     * currently held by this instance; converters occurring more than once are kept at their first position.
+     * The returned chain shares skipped packages and classes with this instance, and doesn't support adding or
+     * removing converters.
+     *
+     * @since 2.0.10
+     */
+    public ModelConverters chain(List<ModelConverter> first) {
+        Set<ModelConverter> chain = new LinkedHashSet<>();
+        if (first != null) {
+            chain.addAll(first);
+        }
+        chain.addAll(converters);
+        return new ModelConverters(new ArrayList<>(chain), this, false);
+    }
+
+    /**
+     * Creates an immutable chain holding the converters currently held by this instance, which keeps the schemas
+     * resolved for each type, e.g. to share them across contexts using equivalent converters. Callers get copies of
+     * the kept schemas; the converters are expected to resolve a type the same way on each call.
+     *
+     * @since 2.0.10
+     */
+    public ModelConverters withResolvedSchemaCache() {
+        return new ModelConverters(new ArrayList<>(converters), this, true);
+    }
+
+    /**
+     * Opens a resolution session for this instance on the current thread, e.g. for a reader pass, until the returned
+     * session is closed. Within the session a type is resolved once for the same resolution properties, later calls
+     * getting a copy of the resolved schema along with the same referenced schemas, which
+     * {@link #addReferencedSchemas(ResolvedSchema, Components)} merges once per resolved type and components instance.
+     *
+     * @since 2.0.10
+     */
+    public Session openSession() {
+        Session session = new Session(this, SESSION.get());
+        SESSION.set(session);
+        return session;
+    }
+
+    /**
+     * Adds the schemas referenced by the given resolved schema to the given components, unless the schemas referenced
+     * by the same resolved type have already been added to them within the current session.
+     *
+     * @since 2.0.10
+     */
+    public static void addReferencedSchemas(ResolvedSchema resolvedSchema, Components components) {
+        if (resolvedSchema == null || resolvedSchema.referencedSchemas == null || components == null) {
+            return;
+        }
+        Session session = SESSION.get();
+        if (session != null && resolvedSchema.resolutionKey != null &&
+                !session.merged.computeIfAbsent(components, c -> new HashSet<>()).add(resolvedSchema.resolutionKey)) {
+            return;
+        }
+        resolvedSchema.referencedSchemas.forEach(components::addSchemas);
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public List<ModelConverter> getConverters() {
+        return Collections.unmodifiableList(converters);
+    }
+
     public void addConverter(ModelConverter converter) {
         converters.add(0, converter);
     }
@@ -58,12 +179,10 @@ public class ModelConverters {
     public Map<String, Schema> read(AnnotatedType type) {
         Map<String, Schema> modelMap = new HashMap<String, Schema>();
         if (shouldProcess(type.getType())) {
-            ModelConverterContextImpl context = new ModelConverterContextImpl(
-                    converters);
-            Schema resolve = context.resolve(type);
-            for (Entry<String, Schema> entry : context.getDefinedModels()
+            ResolvedSchema resolvedSchema = resolve(type);
+            for (Entry<String, Schema> entry : resolvedSchema.referencedSchemas
                     .entrySet()) {
-                if (entry.getValue().equals(resolve)) {
+                if (entry.getValue().equals(resolvedSchema.schema)) {
                     modelMap.put(entry.getKey(), entry.getValue());
                 }
             }
@@ -77,12 +196,9 @@ public class ModelConverters {
 
     public Map<String, Schema> readAll(AnnotatedType type) {
         if (shouldProcess(type.getType())) {
-            ModelConverterContextImpl context = new ModelConverterContextImpl(
-                    converters);
-
             LOGGER.debug("ModelConverters readAll from " + type);
-            context.resolve(type);
-            return context.getDefinedModels();
+            // cached resolutions share their maps, callers get their own in any case
+            return new LinkedHashMap<>(resolve(type).referencedSchemas);
         }
         return new HashMap<String, Schema>();
     }
@@ -92,19 +208,86 @@ public class ModelConverters {
     }
     public ResolvedSchema readAllAsResolvedSchema(AnnotatedType type) {
         if (shouldProcess(type.getType())) {
-            ModelConverterContextImpl context = new ModelConverterContextImpl(
-                    converters);
-
-            ResolvedSchema resolvedSchema = new ResolvedSchema();
-            resolvedSchema.schema = context.resolve(type);
-            resolvedSchema.referencedSchemas = context.getDefinedModels();
-
-            return resolvedSchema;
+            return resolve(type);
         }
         return null;
     }
 
     public ResolvedSchema resolveAsResolvedSchema(AnnotatedType type) {
+        return resolve(type);
+    }
+
+    /**
+     * In the lazy mode of the given components, i.e. with {@link LazyComponentSchemas} installed, returns a reference
+     * to the component the given type resolves to, and defers the resolution of the type until the component is
+     * accessed. The deferred resolution uses this instance, as set for the current thread.
+     *
+     * @return the reference, or null if the components are not lazy or the type is to be resolved now, e.g. as it
+     * doesn't resolve to a component or it is resolved by converters other than {@link ModelResolver}
+     *
+     * @since 2.0.10
+     */
+    public Schema resolveAsLazyReference(AnnotatedType type, Components components) {
+        LazyComponentSchemas lazySchemas = LazyComponentSchemas.of(components);
+        if (lazySchemas == null || converters.isEmpty()) {
+            return null;
+        }
+        for (ModelConverter converter : converters) {
+            // other converters may resolve the type to another name, or not to a component
+            if (!(converter instanceof ModelResolver)) {
+                return null;
+            }
+        }
+        String name = ((ModelResolver) converters.get(0)).resolveReferenceName(type);
+        if (name == null) {
+            return null;
+        }
+        lazySchemas.defer(name, () -> {
+            ModelConverters previous = setCurrent(this);
+            try {
+                return resolve(type);
+            } finally {
+                setCurrent(previous);
+            }
+        });
+        return new Schema().$ref(RefUtils.constructRef(name));
+    }
+
+    private ResolvedSchema resolve(AnnotatedType type) {
+        Session session = SESSION.get();
+        if (session == null || session.owner != this) {
+            return resolveShared(type);
+        }
+        List<Object> key = getResolvedSchemaKey(type);
+        if (key == null) {
+            return resolveShared(type);
+        }
+        ResolvedSchema resolved = session.resolved.get(key);
+        if (resolved != null) {
+            ResolvedSchema copy = new ResolvedSchema();
+            copy.schema = ModelCopyUtils.deepCopy(resolved.schema);
+            copy.referencedSchemas = resolved.referencedSchemas;
+            copy.resolutionKey = key;
+            return copy;
+        }
+        ResolvedSchema resolvedSchema = resolveShared(type);
+        // callers may change the returned schema, the session keeps its own copy
+        resolved = new ResolvedSchema();
+        resolved.schema = ModelCopyUtils.deepCopy(resolvedSchema.schema);
+        resolved.referencedSchemas = resolvedSchema.referencedSchemas;
+        session.resolved.put(key, resolved);
+        resolvedSchema.resolutionKey = key;
+        return resolvedSchema;
+    }
+
+    private ResolvedSchema resolveShared(AnnotatedType type) {
+        List<Object> key = resolvedSchemas == null ? null : getResolvedSchemaKey(type);
+        if (key != null) {
+            ResolvedSchema cached = resolvedSchemas.get(key);
+            if (cached != null) {
+                return copy(cached);
+            }
+        }
         ModelConverterContextImpl context = new ModelConverterContextImpl(
                 converters);
 
@@ -112,9 +295,71 @@ public class ModelConverters {
         resolvedSchema.schema = context.resolve(type);
         resolvedSchema.referencedSchemas = context.getDefinedModels();
 
+        if (key != null) {
+            resolvedSchemas.putIfAbsent(key, copy(resolvedSchema));
+        }
         return resolvedSchema;
     }
 
+    /**
+     * @return the properties of the type affecting its resolution, or null if the type depends on the caller
+     */
+    private static List<Object> getResolvedSchemaKey(AnnotatedType type) {
+        if (type.getType() == null || type.getParent() != null || type.getJsonUnwrappedHandler() != null) {
+            return null;
+        }
+        return Arrays.asList(type.getType(),
+                type.getCtxAnnotations() == null ? null : Arrays.asList(type.getCtxAnnotations()),
+                type.getName(),
+                type.getPropertyName(),
+                type.getJsonViewAnnotation(),
+                type.isResolveAsRef(),
+                type.isSchemaProperty(),
+                type.isSkipOverride(),
+                type.isSkipSchemaName(),
+                type.isSkipJsonIdentity());
+    }
+
+    private static ResolvedSchema copy(ResolvedSchema resolvedSchema) {
+        // keeps the resolved schema and the referenced ones sharing instances
+        Map<Schema, Schema> copies = new IdentityHashMap<>();
+        ResolvedSchema copy = new ResolvedSchema();
+        copy.schema = ModelCopyUtils.deepCopy(resolvedSchema.schema, copies);
+        Map<String, Schema> referencedSchemas = new LinkedHashMap<>();
+        for (Entry<String, Schema> entry : resolvedSchema.referencedSchemas.entrySet()) {
+            referencedSchemas.put(entry.getKey(), ModelCopyUtils.deepCopy(entry.getValue(), copies));
+        }
+        copy.referencedSchemas = Collections.unmodifiableMap(referencedSchemas);
+        return copy;
+    }
+
+    /**
+     * A resolution session opened by {@link #openSession()}, closing it restores the session previously open on the
+     * current thread.
+     *
+     * @since 2.0.10
+     */
+    public static class Session implements AutoCloseable {
+        private final ModelConverters owner;
+        private final Session previous;
+        private final Map<List<Object>, ResolvedSchema> resolved = new HashMap<>();
+        private final Map<Components, Set<Object>> merged = new IdentityHashMap<>();
+
+        private Session(ModelConverters owner, Session previous) {
+            this.owner = owner;
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                SESSION.remove();
+            } else {
+                SESSION.set(previous);
+            }
+        }
+    }
+
     public boolean isRegisteredAsSkippedClass(String className) {
         return skippedClasses.contains(className);
     }
@@ -133,8 +378,27 @@ public class ModelConverters {
         return !skippedClasses.contains(className);
     }
 
+    /**
+     * Removes the converters of the global instance loaded by the given class loader or its descendants, and flushes
+     * the serializers cached by the mappers of the remaining resolvers, invoked on {@link ClassLoaderCache#releaseAll(ClassLoader)}.
+     */
+    private static void release(ClassLoader classLoader) {
+        for (ModelConverter converter : SINGLETON.converters) {
+            if (ClassLoaderCache.isLoadedBy(converter.getClass(), classLoader)) {
+                LOGGER.debug("removing ModelConverter of released class loader: " + converter);
+                SINGLETON.converters.remove(converter);
+            } else if (converter instanceof ModelResolver) {
+                ObjectMapper mapper = ((ModelResolver) converter).objectMapper();
+                if (mapper.getSerializerProviderInstance() instanceof DefaultSerializerProvider) {
+                    ((DefaultSerializerProvider) mapper.getSerializerProviderInstance()).flushCachedSerializers();
+                }
+            }
+        }
+    }
+
     static {
         SINGLETON.skippedPackages.add("java.lang");
+        ClassLoaderCache.addReleaseListener(ModelConverters::release);
 
         ServiceLoader<ModelConverter> loader = ServiceLoader.load(ModelConverter.class);
         Iterator<ModelConverter> itr = loader.iterator();
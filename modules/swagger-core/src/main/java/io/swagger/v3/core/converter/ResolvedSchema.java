@@ -7,4 +7,6 @@ import java.util.Map;
 public class ResolvedSchema {
     public Schema schema;
     public Map<String, Schema> referencedSchemas;
+    // the resolution properties of the type within a session, see ModelConverters#openSession()
+    Object resolutionKey;
 }
@@ -1,7 +1,7 @@
 package io.swagger.v3.core.filter;
 
 import io.swagger.v3.core.model.ApiDescription;
-import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.ModelCopyUtils;
 import io.swagger.v3.core.util.RefUtils;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -22,7 +22,6 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.tags.Tag;
 import org.apache.commons.lang3.StringUtils;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -34,6 +33,13 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 
+/**
+ * Applies an {@link OpenAPISpecFilter} to an OpenAPI definition.
+ *
+ * The given definition is never modified: filters receive path copies (see {@link ModelCopyUtils}) of the
+ * nodes they are handed, and the returned OpenAPI shares all nodes left untouched with the source. This
+ * allows the same (e.g. cached) definition to be filtered concurrently.
+ */
 public class SpecFilter {
 
     public OpenAPI filter(OpenAPI openAPI, OpenAPISpecFilter filter, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
@@ -141,7 +147,7 @@ public class SpecFilter {
 
     protected OpenAPI filterOpenAPI(OpenAPISpecFilter filter, OpenAPI openAPI, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
         if (openAPI != null) {
-            Optional<OpenAPI> filteredOpenAPI = filter.filterOpenAPI(openAPI, params, cookies, headers);
+            Optional<OpenAPI> filteredOpenAPI = filter.filterOpenAPI(ModelCopyUtils.copy(openAPI), params, cookies, headers);
             if (filteredOpenAPI.isPresent()) {
                 return filteredOpenAPI.get();
             }
@@ -152,7 +158,7 @@ public class SpecFilter {
     protected Operation filterOperation(OpenAPISpecFilter filter, Operation operation, String resourcePath, String key, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
         if (operation != null) {
             ApiDescription description = new ApiDescription(resourcePath, key);
-            Optional<Operation> filteredOperation = filter.filterOperation(operation, description, params, cookies, headers);
+            Optional<Operation> filteredOperation = filter.filterOperation(ModelCopyUtils.copy(operation), description, params, cookies, headers);
             if (filteredOperation.isPresent()) {
                 List<Parameter> filteredParameters = new ArrayList<>();
                 Operation filteredOperationGet = filteredOperation.get();
@@ -175,8 +181,8 @@ public class SpecFilter {
                 }
 
                 ApiResponses responses = filteredOperation.get().getResponses();
-                ApiResponses clonedResponses = responses;
                 if (responses != null) {
+                    ApiResponses clonedResponses = ModelCopyUtils.copy(responses);
                     responses.forEach((responseKey, response) -> {
                         ApiResponse filteredResponse = filterResponse(filter, operation, response, resourcePath, key, params, cookies, headers);
                         if (filteredResponse != null) {
@@ -194,7 +200,7 @@ public class SpecFilter {
 
     protected PathItem filterPathItem(OpenAPISpecFilter filter, PathItem pathItem, String resourcePath, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
         ApiDescription description = new ApiDescription(resourcePath, null);
-        Optional<PathItem> filteredPathItem = filter.filterPathItem(pathItem, description, params, cookies, headers);
+        Optional<PathItem> filteredPathItem = filter.filterPathItem(ModelCopyUtils.copy(pathItem), description, params, cookies, headers);
         if (filteredPathItem.isPresent()) {
             return filteredPathItem.get();
         }
@@ -204,7 +210,7 @@ public class SpecFilter {
     protected Parameter filterParameter(OpenAPISpecFilter filter, Operation operation, Parameter parameter, String resourcePath, String key, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
         if (parameter != null) {
             ApiDescription description = new ApiDescription(resourcePath, key);
-            Optional<Parameter> filteredParameter = filter.filterParameter(parameter, operation, description, params, cookies, headers);
+            Optional<Parameter> filteredParameter = filter.filterParameter(ModelCopyUtils.copy(parameter), ModelCopyUtils.copy(operation), description, params, cookies, headers);
             if (filteredParameter.isPresent()) {
                 return filteredParameter.get();
             }
@@ -216,7 +222,7 @@ public class SpecFilter {
     protected RequestBody filterRequestBody(OpenAPISpecFilter filter, Operation operation, RequestBody requestBody, String resourcePath, String key, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
         if (requestBody != null) {
             ApiDescription description = new ApiDescription(resourcePath, key);
-            Optional<RequestBody> filteredRequestBody = filter.filterRequestBody(requestBody, operation, description, params, cookies, headers);
+            Optional<RequestBody> filteredRequestBody = filter.filterRequestBody(ModelCopyUtils.copy(requestBody), ModelCopyUtils.copy(operation), description, params, cookies, headers);
             if (filteredRequestBody.isPresent()) {
                 return filteredRequestBody.get();
             }
@@ -228,7 +234,7 @@ public class SpecFilter {
     protected ApiResponse filterResponse(OpenAPISpecFilter filter, Operation operation, ApiResponse response, String resourcePath, String key, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
         if (response != null) {
             ApiDescription description = new ApiDescription(resourcePath, key);
-            Optional<ApiResponse> filteredResponse = filter.filterResponse(response, operation, description, params, cookies, headers);
+            Optional<ApiResponse> filteredResponse = filter.filterResponse(ModelCopyUtils.copy(response), ModelCopyUtils.copy(operation), description, params, cookies, headers);
             if (filteredResponse.isPresent()) {
                 return filteredResponse.get();
             }
@@ -245,7 +251,8 @@ public class SpecFilter {
 
         for (String key : schemasMap.keySet()) {
             Schema definition = schemasMap.get(key);
-            Optional<Schema> filteredDefinition = filter.filterSchema(definition, params, cookies, headers);
+            Schema clonedModel = ModelCopyUtils.copy(definition);
+            Optional<Schema> filteredDefinition = filter.filterSchema(clonedModel, params, cookies, headers);
             if (!filteredDefinition.isPresent()) {
                 continue;
             } else {
@@ -254,7 +261,7 @@ public class SpecFilter {
                     for (Object propName : filteredDefinition.get().getProperties().keySet()) {
                         Schema property = (Schema) filteredDefinition.get().getProperties().get((String) propName);
                         if (property != null) {
-                            Optional<Schema> filteredProperty = filter.filterSchemaProperty(property, definition, (String) propName, params, cookies, headers);
+                            Optional<Schema> filteredProperty = filter.filterSchemaProperty(ModelCopyUtils.copy(property), clonedModel, (String) propName, params, cookies, headers);
                             if (filteredProperty.isPresent()) {
                                 clonedProperties.put((String) propName, filteredProperty.get());
                             }
@@ -262,20 +269,10 @@ public class SpecFilter {
                     }
                 }
 
-                try {
-                    // TODO solve this, and generally handle clone and passing references
-                    Schema clonedModel = Json.mapper().readValue(Json.pretty(definition), Schema.class);
-                    if (clonedModel.getProperties() != null) {
-                        clonedModel.getProperties().clear();
-                    }
-                    if (!clonedProperties.isEmpty()) {
-                        clonedModel.setProperties(clonedProperties);
-                    }
-                    clonedComponentsSchema.put(key, clonedModel);
-
-                } catch (IOException e) {
-                    continue;
+                if (!clonedProperties.isEmpty() || clonedModel.getProperties() != null) {
+                    clonedModel.setProperties(clonedProperties);
                 }
+                clonedComponentsSchema.put(key, clonedModel);
             }
         }
         return clonedComponentsSchema;
@@ -100,6 +100,64 @@ public class ModelResolver extends AbstractModelConverter implements ModelConver
         return _mapper;
     }
 
+    /**
+     * Returns the name of the component the given type is resolved to as a reference, without resolving the type,
+     * or null if the type is not resolved to a component or its resolution may change it, e.g. for containers,
+     * enums, primitive and system types, or types with a ref, implementation or type set by their schema annotation.
+     *
+     * @since 2.0.10
+     */
+    public String resolveReferenceName(AnnotatedType annotatedType) {
+        if (annotatedType == null || annotatedType.getType() == null || !annotatedType.isResolveAsRef() ||
+                annotatedType.getParent() != null || annotatedType.getJsonUnwrappedHandler() != null ||
+                shouldIgnoreClass(annotatedType.getType())) {
+            return null;
+        }
+        final JavaType type;
+        if (annotatedType.getType() instanceof JavaType) {
+            type = (JavaType) annotatedType.getType();
+        } else {
+            type = _mapper.constructType(annotatedType.getType());
+        }
+        if (type.isContainerType() || type.isArrayType() || type.isReferenceType() || type.isEnumType() ||
+                type.isPrimitive() || PrimitiveType.fromType(type) != null || ReflectionUtils.isSystemType(type)) {
+            return null;
+        }
+        final Annotation resolvedSchemaOrArrayAnnotation = AnnotationsUtils.mergeSchemaAnnotations(annotatedType.getCtxAnnotations(), type);
+        if (resolvedSchemaOrArrayAnnotation instanceof io.swagger.v3.oas.annotations.media.ArraySchema) {
+            return null;
+        }
+        final io.swagger.v3.oas.annotations.media.Schema resolvedSchemaAnnotation = (io.swagger.v3.oas.annotations.media.Schema) resolvedSchemaOrArrayAnnotation;
+        if (resolvedSchemaAnnotation != null && (resolvedSchemaAnnotation.hidden() || StringUtils.isNotEmpty(resolvedSchemaAnnotation.ref()) ||
+                (!annotatedType.isSkipOverride() && !Void.class.equals(resolvedSchemaAnnotation.implementation())) ||
+                (StringUtils.isNotEmpty(resolvedSchemaAnnotation.type()) && !"object".equals(resolvedSchemaAnnotation.type())))) {
+            return null;
+        }
+        if (type.getRawClass().getAnnotation(JsonIdentityInfo.class) != null ||
+                AnnotationsUtils.getAnnotation(JsonIdentityInfo.class, annotatedType.getCtxAnnotations()) != null) {
+            return null;
+        }
+        final BeanDescription beanDesc = _mapper.getSerializationConfig().introspect(type);
+        if (beanDesc.findJsonValueMethod() != null) {
+            return null;
+        }
+
+        String name = annotatedType.getName();
+        if (StringUtils.isBlank(name)) {
+            if (!annotatedType.isSkipSchemaName() && resolvedSchemaAnnotation != null && !resolvedSchemaAnnotation.name().isEmpty()) {
+                name = resolvedSchemaAnnotation.name();
+            }
+            if (StringUtils.isBlank(name)) {
+                name = _typeName(type, beanDesc);
+            }
+        }
+        name = decorateModelName(annotatedType, name);
+        if (StringUtils.isBlank(name) || "Object".equals(name)) {
+            return null;
+        }
+        return name;
+    }
+
     @Override
     public Schema resolve(AnnotatedType annotatedType, ModelConverterContext context, Iterator<ModelConverter> next) {
 
@@ -0,0 +1,494 @@
+package io.swagger.v3.core.jackson;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.ExternalDocumentation;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.info.Contact;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.links.Link;
+import io.swagger.v3.oas.models.links.LinkParameter;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.Encoding;
+import io.swagger.v3.oas.models.media.EncodingProperty;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.XML;
+import io.swagger.v3.oas.models.parameters.CookieParameter;
+import io.swagger.v3.oas.models.parameters.HeaderParameter;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.security.OAuthFlow;
+import io.swagger.v3.oas.models.security.OAuthFlows;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import io.swagger.v3.oas.models.servers.Server;
+import io.swagger.v3.oas.models.servers.ServerVariable;
+import io.swagger.v3.oas.models.tags.Tag;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Serializes a swagger-models bean through getter calls specialized per model class, in place of the bean serializer
+ * it wraps, see {@link ModelSerializersModule}. Extensions are written inline and null values are skipped without
+ * inclusion checks.
+ *
+ * Properties are written in the order of the wrapped serializer, so output is unchanged; properties without a
+ * specialized writer, e.g. declared by another class or annotated with {@link JsonSerialize} or {@link JsonFormat}
+ * in a mixin, are written by the property writer of the wrapped serializer. The wrapped serializer is used for the
+ * whole bean if the default inclusion is not non null, with a property filter, or if a view is active.
+ *
+ * @since 2.0.10
+ */
+public class ModelSerializer<T> extends JsonSerializer<T> implements ResolvableSerializer {
+
+    private static final Map<Class<?>, Map<String, FieldWriter>> FIELD_WRITERS = new HashMap<>();
+    private static final Map<Class<?>, Function<Object, Map<String, Object>>> EXTENSIONS = new HashMap<>();
+
+    protected final JsonSerializer<Object> defaultSerializer;
+    private final boolean writeExtensions;
+
+    // the properties of the default serializer in order, or null if the default serializer is to be used
+    private FieldWriter[] fieldWriters;
+    private Function<Object, Map<String, Object>> extensions;
+
+    /**
+     * @param writeExtensions whether the wrapped serializer writes the extensions of the bean, i.e. the model has
+     *                        an any getter
+     */
+    public ModelSerializer(JsonSerializer<Object> serializer, boolean writeExtensions) {
+        this.defaultSerializer = serializer;
+        this.writeExtensions = writeExtensions;
+    }
+
+    @Override
+    public void resolve(SerializerProvider serializerProvider) throws JsonMappingException {
+        if (defaultSerializer instanceof ResolvableSerializer) {
+            ((ResolvableSerializer) defaultSerializer).resolve(serializerProvider);
+        }
+        extensions = writeExtensions ? getExtensions(handledType()) : null;
+        fieldWriters = writeExtensions && extensions == null ? null : getFieldWriters(serializerProvider);
+    }
+
+    private static Function<Object, Map<String, Object>> getExtensions(Class<?> type) {
+        for (Class<?> cls = type; cls != null; cls = cls.getSuperclass()) {
+            Function<Object, Map<String, Object>> extensions = EXTENSIONS.get(cls);
+            if (extensions != null) {
+                return extensions;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the writers of the properties of the default serializer, or null if the default serializer is to be used,
+     * i.e. with an inclusion other than non null or a property filter, or if it is not a bean serializer or the
+     * extensions of the model are not known
+     */
+    private FieldWriter[] getFieldWriters(SerializerProvider serializerProvider) {
+        if (!(defaultSerializer instanceof BeanSerializerBase)) {
+            return null;
+        }
+        JsonInclude.Value inclusion = serializerProvider.getConfig().getDefaultPropertyInclusion(handledType());
+        if (inclusion == null || inclusion.getValueInclusion() != JsonInclude.Include.NON_NULL) {
+            return null;
+        }
+        // filtered properties are left to the default serializer
+        if (serializerProvider.getAnnotationIntrospector().findFilterId(
+                serializerProvider.getConfig().introspectClassAnnotations(handledType()).getClassInfo()) != null) {
+            return null;
+        }
+        List<FieldWriter> writers = new ArrayList<>();
+        Iterator<PropertyWriter> properties = defaultSerializer.properties();
+        while (properties.hasNext()) {
+            PropertyWriter property = properties.next();
+            FieldWriter writer = null;
+            if (property.getMember() != null
+                    && property.getAnnotation(JsonFormat.class) == null && property.getAnnotation(JsonSerialize.class) == null) {
+                Map<String, FieldWriter> declared = FIELD_WRITERS.get(property.getMember().getDeclaringClass());
+                writer = declared == null ? null : declared.get(property.getName());
+            }
+            writers.add(writer == null ? new PropertyFieldWriter(property) : writer);
+        }
+        return writers.toArray(new FieldWriter[writers.size()]);
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+        if (fieldWriters == null || provider.getActiveView() != null) {
+            defaultSerializer.serialize(value, jgen, provider);
+            return;
+        }
+        jgen.writeStartObject(value);
+        for (FieldWriter fieldWriter : fieldWriters) {
+            fieldWriter.write(value, jgen, provider);
+        }
+        if (extensions != null) {
+            writeExtensions(extensions.apply(value), jgen, provider);
+        }
+        jgen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator jgen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+        defaultSerializer.serializeWithType(value, jgen, provider, typeSer);
+    }
+
+    @Override
+    public Class<T> handledType() {
+        return (Class<T>) defaultSerializer.handledType();
+    }
+
+    private static void writeExtensions(Map<String, Object> extensions, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+        if (extensions == null) {
+            return;
+        }
+        for (Map.Entry<String, Object> extension : extensions.entrySet()) {
+            if (extension.getValue() != null) {
+                provider.defaultSerializeField(extension.getKey(), extension.getValue(), jgen);
+            } else if (provider.isEnabled(SerializationFeature.WRITE_NULL_MAP_VALUES)) {
+                jgen.writeNullField(extension.getKey());
+            }
+        }
+    }
+
+    private interface FieldWriter {
+        void write(Object bean, JsonGenerator jgen, SerializerProvider provider) throws IOException;
+    }
+
+    private static class PropertyFieldWriter implements FieldWriter {
+        private final PropertyWriter property;
+
+        private PropertyFieldWriter(PropertyWriter property) {
+            this.property = property;
+        }
+
+        @Override
+        public void write(Object bean, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+            try {
+                property.serializeAsField(bean, jgen, provider);
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw JsonMappingException.from(jgen, "error writing property " + property.getName() + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private static void register(Class<?> owner, String name, FieldWriter writer) {
+        FIELD_WRITERS.computeIfAbsent(owner, o -> new HashMap<>()).put(name, writer);
+    }
+
+    private static void registerExtensions(Class<?> owner, Function<Object, Map<String, Object>> extensions) {
+        EXTENSIONS.put(owner, extensions);
+    }
+
+    private static void writeString(String name, String value, JsonGenerator jgen) throws IOException {
+        if (value != null) {
+            jgen.writeStringField(name, value);
+        }
+    }
+
+    private static void writeBoolean(String name, Boolean value, JsonGenerator jgen) throws IOException {
+        if (value != null) {
+            jgen.writeBooleanField(name, value);
+        }
+    }
+
+    private static void writeNumber(String name, Integer value, JsonGenerator jgen) throws IOException {
+        if (value != null) {
+            jgen.writeNumberField(name, value);
+        }
+    }
+
+    private static void writeNumber(String name, BigDecimal value, JsonGenerator jgen) throws IOException {
+        if (value != null) {
+            jgen.writeNumberField(name, value);
+        }
+    }
+
+    private static void writeObject(String name, Object value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+        if (value != null) {
+            provider.defaultSerializeField(name, value, jgen);
+        }
+    }
+
+    static {
+        registerExtensions(Components.class, b -> ((Components) b).getExtensions());
+        registerExtensions(ExternalDocumentation.class, b -> ((ExternalDocumentation) b).getExtensions());
+        registerExtensions(OpenAPI.class, b -> ((OpenAPI) b).getExtensions());
+        registerExtensions(Operation.class, b -> ((Operation) b).getExtensions());
+        registerExtensions(PathItem.class, b -> ((PathItem) b).getExtensions());
+        registerExtensions(Encoding.class, b -> ((Encoding) b).getExtensions());
+        registerExtensions(EncodingProperty.class, b -> ((EncodingProperty) b).getExtensions());
+        registerExtensions(MediaType.class, b -> ((MediaType) b).getExtensions());
+        registerExtensions(Schema.class, b -> ((Schema) b).getExtensions());
+        registerExtensions(XML.class, b -> ((XML) b).getExtensions());
+        registerExtensions(Parameter.class, b -> ((Parameter) b).getExtensions());
+        registerExtensions(RequestBody.class, b -> ((RequestBody) b).getExtensions());
+        registerExtensions(Example.class, b -> ((Example) b).getExtensions());
+        registerExtensions(Link.class, b -> ((Link) b).getExtensions());
+        registerExtensions(LinkParameter.class, b -> ((LinkParameter) b).getExtensions());
+        registerExtensions(Header.class, b -> ((Header) b).getExtensions());
+        registerExtensions(Server.class, b -> ((Server) b).getExtensions());
+        registerExtensions(ServerVariable.class, b -> ((ServerVariable) b).getExtensions());
+        registerExtensions(ApiResponse.class, b -> ((ApiResponse) b).getExtensions());
+        registerExtensions(Tag.class, b -> ((Tag) b).getExtensions());
+        registerExtensions(Contact.class, b -> ((Contact) b).getExtensions());
+        registerExtensions(Info.class, b -> ((Info) b).getExtensions());
+        registerExtensions(License.class, b -> ((License) b).getExtensions());
+        registerExtensions(OAuthFlow.class, b -> ((OAuthFlow) b).getExtensions());
+        registerExtensions(OAuthFlows.class, b -> ((OAuthFlows) b).getExtensions());
+        registerExtensions(SecurityScheme.class, b -> ((SecurityScheme) b).getExtensions());
+
+        register(Components.class, "schemas", (s, g, p) -> writeObject("schemas", ((Components) s).getSchemas(), g, p));
+        register(Components.class, "responses", (s, g, p) -> writeObject("responses", ((Components) s).getResponses(), g, p));
+        register(Components.class, "parameters", (s, g, p) -> writeObject("parameters", ((Components) s).getParameters(), g, p));
+        register(Components.class, "examples", (s, g, p) -> writeObject("examples", ((Components) s).getExamples(), g, p));
+        register(Components.class, "requestBodies", (s, g, p) -> writeObject("requestBodies", ((Components) s).getRequestBodies(), g, p));
+        register(Components.class, "headers", (s, g, p) -> writeObject("headers", ((Components) s).getHeaders(), g, p));
+        register(Components.class, "securitySchemes", (s, g, p) -> writeObject("securitySchemes", ((Components) s).getSecuritySchemes(), g, p));
+        register(Components.class, "links", (s, g, p) -> writeObject("links", ((Components) s).getLinks(), g, p));
+        register(Components.class, "callbacks", (s, g, p) -> writeObject("callbacks", ((Components) s).getCallbacks(), g, p));
+
+        register(ExternalDocumentation.class, "description", (s, g, p) -> writeString("description", ((ExternalDocumentation) s).getDescription(), g));
+        register(ExternalDocumentation.class, "url", (s, g, p) -> writeString("url", ((ExternalDocumentation) s).getUrl(), g));
+
+        register(OpenAPI.class, "openapi", (s, g, p) -> writeString("openapi", ((OpenAPI) s).getOpenapi(), g));
+        register(OpenAPI.class, "info", (s, g, p) -> writeObject("info", ((OpenAPI) s).getInfo(), g, p));
+        register(OpenAPI.class, "externalDocs", (s, g, p) -> writeObject("externalDocs", ((OpenAPI) s).getExternalDocs(), g, p));
+        register(OpenAPI.class, "servers", (s, g, p) -> writeObject("servers", ((OpenAPI) s).getServers(), g, p));
+        register(OpenAPI.class, "security", (s, g, p) -> writeObject("security", ((OpenAPI) s).getSecurity(), g, p));
+        register(OpenAPI.class, "tags", (s, g, p) -> writeObject("tags", ((OpenAPI) s).getTags(), g, p));
+        register(OpenAPI.class, "paths", (s, g, p) -> writeObject("paths", ((OpenAPI) s).getPaths(), g, p));
+        register(OpenAPI.class, "components", (s, g, p) -> writeObject("components", ((OpenAPI) s).getComponents(), g, p));
+
+        register(Operation.class, "tags", (s, g, p) -> writeObject("tags", ((Operation) s).getTags(), g, p));
+        register(Operation.class, "summary", (s, g, p) -> writeString("summary", ((Operation) s).getSummary(), g));
+        register(Operation.class, "description", (s, g, p) -> writeString("description", ((Operation) s).getDescription(), g));
+        register(Operation.class, "externalDocs", (s, g, p) -> writeObject("externalDocs", ((Operation) s).getExternalDocs(), g, p));
+        register(Operation.class, "operationId", (s, g, p) -> writeString("operationId", ((Operation) s).getOperationId(), g));
+        register(Operation.class, "parameters", (s, g, p) -> writeObject("parameters", ((Operation) s).getParameters(), g, p));
+        register(Operation.class, "requestBody", (s, g, p) -> writeObject("requestBody", ((Operation) s).getRequestBody(), g, p));
+        register(Operation.class, "responses", (s, g, p) -> writeObject("responses", ((Operation) s).getResponses(), g, p));
+        register(Operation.class, "callbacks", (s, g, p) -> writeObject("callbacks", ((Operation) s).getCallbacks(), g, p));
+        register(Operation.class, "deprecated", (s, g, p) -> writeBoolean("deprecated", ((Operation) s).getDeprecated(), g));
+        register(Operation.class, "security", (s, g, p) -> writeObject("security", ((Operation) s).getSecurity(), g, p));
+        register(Operation.class, "servers", (s, g, p) -> writeObject("servers", ((Operation) s).getServers(), g, p));
+
+        register(PathItem.class, "summary", (s, g, p) -> writeString("summary", ((PathItem) s).getSummary(), g));
+        register(PathItem.class, "description", (s, g, p) -> writeString("description", ((PathItem) s).getDescription(), g));
+        register(PathItem.class, "get", (s, g, p) -> writeObject("get", ((PathItem) s).getGet(), g, p));
+        register(PathItem.class, "put", (s, g, p) -> writeObject("put", ((PathItem) s).getPut(), g, p));
+        register(PathItem.class, "post", (s, g, p) -> writeObject("post", ((PathItem) s).getPost(), g, p));
+        register(PathItem.class, "delete", (s, g, p) -> writeObject("delete", ((PathItem) s).getDelete(), g, p));
+        register(PathItem.class, "options", (s, g, p) -> writeObject("options", ((PathItem) s).getOptions(), g, p));
+        register(PathItem.class, "head", (s, g, p) -> writeObject("head", ((PathItem) s).getHead(), g, p));
+        register(PathItem.class, "patch", (s, g, p) -> writeObject("patch", ((PathItem) s).getPatch(), g, p));
+        register(PathItem.class, "trace", (s, g, p) -> writeObject("trace", ((PathItem) s).getTrace(), g, p));
+        register(PathItem.class, "servers", (s, g, p) -> writeObject("servers", ((PathItem) s).getServers(), g, p));
+        register(PathItem.class, "parameters", (s, g, p) -> writeObject("parameters", ((PathItem) s).getParameters(), g, p));
+        register(PathItem.class, "$ref", (s, g, p) -> writeString("$ref", ((PathItem) s).get$ref(), g));
+
+        register(ArraySchema.class, "items", (s, g, p) -> writeObject("items", ((ArraySchema) s).getItems(), g, p));
+
+        register(ComposedSchema.class, "allOf", (s, g, p) -> writeObject("allOf", ((ComposedSchema) s).getAllOf(), g, p));
+        register(ComposedSchema.class, "anyOf", (s, g, p) -> writeObject("anyOf", ((ComposedSchema) s).getAnyOf(), g, p));
+        register(ComposedSchema.class, "oneOf", (s, g, p) -> writeObject("oneOf", ((ComposedSchema) s).getOneOf(), g, p));
+
+        register(Discriminator.class, "propertyName", (s, g, p) -> writeString("propertyName", ((Discriminator) s).getPropertyName(), g));
+        register(Discriminator.class, "mapping", (s, g, p) -> writeObject("mapping", ((Discriminator) s).getMapping(), g, p));
+
+        register(Encoding.class, "contentType", (s, g, p) -> writeString("contentType", ((Encoding) s).getContentType(), g));
+        register(Encoding.class, "headers", (s, g, p) -> writeObject("headers", ((Encoding) s).getHeaders(), g, p));
+        register(Encoding.class, "style", (s, g, p) -> writeObject("style", ((Encoding) s).getStyle(), g, p));
+        register(Encoding.class, "explode", (s, g, p) -> writeBoolean("explode", ((Encoding) s).getExplode(), g));
+        register(Encoding.class, "allowReserved", (s, g, p) -> writeBoolean("allowReserved", ((Encoding) s).getAllowReserved(), g));
+
+        register(EncodingProperty.class, "contentType", (s, g, p) -> writeString("contentType", ((EncodingProperty) s).getContentType(), g));
+        register(EncodingProperty.class, "headers", (s, g, p) -> writeObject("headers", ((EncodingProperty) s).getHeaders(), g, p));
+        register(EncodingProperty.class, "style", (s, g, p) -> writeObject("style", ((EncodingProperty) s).getStyle(), g, p));
+        register(EncodingProperty.class, "explode", (s, g, p) -> writeBoolean("explode", ((EncodingProperty) s).getExplode(), g));
+        register(EncodingProperty.class, "allowReserved", (s, g, p) -> writeBoolean("allowReserved", ((EncodingProperty) s).getAllowReserved(), g));
+
+        register(MediaType.class, "schema", (s, g, p) -> writeObject("schema", ((MediaType) s).getSchema(), g, p));
+        register(MediaType.class, "examples", (s, g, p) -> writeObject("examples", ((MediaType) s).getExamples(), g, p));
+        register(MediaType.class, "example", (s, g, p) -> writeObject("example", ((MediaType) s).getExample(), g, p));
+        register(MediaType.class, "encoding", (s, g, p) -> writeObject("encoding", ((MediaType) s).getEncoding(), g, p));
+
+        register(Schema.class, "discriminator", (s, g, p) -> writeObject("discriminator", ((Schema) s).getDiscriminator(), g, p));
+        register(Schema.class, "title", (s, g, p) -> writeString("title", ((Schema) s).getTitle(), g));
+        register(Schema.class, "default", (s, g, p) -> writeObject("default", ((Schema) s).getDefault(), g, p));
+        register(Schema.class, "enum", (s, g, p) -> writeObject("enum", ((Schema) s).getEnum(), g, p));
+        register(Schema.class, "multipleOf", (s, g, p) -> writeNumber("multipleOf", ((Schema) s).getMultipleOf(), g));
+        register(Schema.class, "maximum", (s, g, p) -> writeNumber("maximum", ((Schema) s).getMaximum(), g));
+        register(Schema.class, "exclusiveMaximum", (s, g, p) -> writeBoolean("exclusiveMaximum", ((Schema) s).getExclusiveMaximum(), g));
+        register(Schema.class, "minimum", (s, g, p) -> writeNumber("minimum", ((Schema) s).getMinimum(), g));
+        register(Schema.class, "exclusiveMinimum", (s, g, p) -> writeBoolean("exclusiveMinimum", ((Schema) s).getExclusiveMinimum(), g));
+        register(Schema.class, "maxLength", (s, g, p) -> writeNumber("maxLength", ((Schema) s).getMaxLength(), g));
+        register(Schema.class, "minLength", (s, g, p) -> writeNumber("minLength", ((Schema) s).getMinLength(), g));
+        register(Schema.class, "pattern", (s, g, p) -> writeString("pattern", ((Schema) s).getPattern(), g));
+        register(Schema.class, "maxItems", (s, g, p) -> writeNumber("maxItems", ((Schema) s).getMaxItems(), g));
+        register(Schema.class, "minItems", (s, g, p) -> writeNumber("minItems", ((Schema) s).getMinItems(), g));
+        register(Schema.class, "uniqueItems", (s, g, p) -> writeBoolean("uniqueItems", ((Schema) s).getUniqueItems(), g));
+        register(Schema.class, "maxProperties", (s, g, p) -> writeNumber("maxProperties", ((Schema) s).getMaxProperties(), g));
+        register(Schema.class, "minProperties", (s, g, p) -> writeNumber("minProperties", ((Schema) s).getMinProperties(), g));
+        register(Schema.class, "required", (s, g, p) -> writeObject("required", ((Schema) s).getRequired(), g, p));
+        register(Schema.class, "type", (s, g, p) -> writeString("type", ((Schema) s).getType(), g));
+        register(Schema.class, "not", (s, g, p) -> writeObject("not", ((Schema) s).getNot(), g, p));
+        register(Schema.class, "properties", (s, g, p) -> writeObject("properties", ((Schema) s).getProperties(), g, p));
+        register(Schema.class, "additionalProperties", (s, g, p) -> writeObject("additionalProperties", ((Schema) s).getAdditionalProperties(), g, p));
+        register(Schema.class, "description", (s, g, p) -> writeString("description", ((Schema) s).getDescription(), g));
+        register(Schema.class, "format", (s, g, p) -> writeString("format", ((Schema) s).getFormat(), g));
+        register(Schema.class, "$ref", (s, g, p) -> writeString("$ref", ((Schema) s).get$ref(), g));
+        register(Schema.class, "nullable", (s, g, p) -> writeBoolean("nullable", ((Schema) s).getNullable(), g));
+        register(Schema.class, "readOnly", (s, g, p) -> writeBoolean("readOnly", ((Schema) s).getReadOnly(), g));
+        register(Schema.class, "writeOnly", (s, g, p) -> writeBoolean("writeOnly", ((Schema) s).getWriteOnly(), g));
+        register(Schema.class, "example", (s, g, p) -> writeObject("example", ((Schema) s).getExample(), g, p));
+        register(Schema.class, "externalDocs", (s, g, p) -> writeObject("externalDocs", ((Schema) s).getExternalDocs(), g, p));
+        register(Schema.class, "deprecated", (s, g, p) -> writeBoolean("deprecated", ((Schema) s).getDeprecated(), g));
+        register(Schema.class, "xml", (s, g, p) -> writeObject("xml", ((Schema) s).getXml(), g, p));
+
+        register(XML.class, "name", (s, g, p) -> writeString("name", ((XML) s).getName(), g));
+        register(XML.class, "namespace", (s, g, p) -> writeString("namespace", ((XML) s).getNamespace(), g));
+        register(XML.class, "prefix", (s, g, p) -> writeString("prefix", ((XML) s).getPrefix(), g));
+        register(XML.class, "attribute", (s, g, p) -> writeBoolean("attribute", ((XML) s).getAttribute(), g));
+        register(XML.class, "wrapped", (s, g, p) -> writeBoolean("wrapped", ((XML) s).getWrapped(), g));
+
+        register(CookieParameter.class, "in", (s, g, p) -> writeString("in", ((CookieParameter) s).getIn(), g));
+
+        register(HeaderParameter.class, "in", (s, g, p) -> writeString("in", ((HeaderParameter) s).getIn(), g));
+
+        register(Parameter.class, "name", (s, g, p) -> writeString("name", ((Parameter) s).getName(), g));
+        register(Parameter.class, "in", (s, g, p) -> writeString("in", ((Parameter) s).getIn(), g));
+        register(Parameter.class, "description", (s, g, p) -> writeString("description", ((Parameter) s).getDescription(), g));
+        register(Parameter.class, "required", (s, g, p) -> writeBoolean("required", ((Parameter) s).getRequired(), g));
+        register(Parameter.class, "deprecated", (s, g, p) -> writeBoolean("deprecated", ((Parameter) s).getDeprecated(), g));
+        register(Parameter.class, "allowEmptyValue", (s, g, p) -> writeBoolean("allowEmptyValue", ((Parameter) s).getAllowEmptyValue(), g));
+        register(Parameter.class, "style", (s, g, p) -> writeObject("style", ((Parameter) s).getStyle(), g, p));
+        register(Parameter.class, "explode", (s, g, p) -> writeBoolean("explode", ((Parameter) s).getExplode(), g));
+        register(Parameter.class, "allowReserved", (s, g, p) -> writeBoolean("allowReserved", ((Parameter) s).getAllowReserved(), g));
+        register(Parameter.class, "schema", (s, g, p) -> writeObject("schema", ((Parameter) s).getSchema(), g, p));
+        register(Parameter.class, "examples", (s, g, p) -> writeObject("examples", ((Parameter) s).getExamples(), g, p));
+        register(Parameter.class, "example", (s, g, p) -> writeObject("example", ((Parameter) s).getExample(), g, p));
+        register(Parameter.class, "content", (s, g, p) -> writeObject("content", ((Parameter) s).getContent(), g, p));
+        register(Parameter.class, "$ref", (s, g, p) -> writeString("$ref", ((Parameter) s).get$ref(), g));
+
+        register(PathParameter.class, "in", (s, g, p) -> writeString("in", ((PathParameter) s).getIn(), g));
+        register(PathParameter.class, "required", (s, g, p) -> writeBoolean("required", ((PathParameter) s).getRequired(), g));
+
+        register(QueryParameter.class, "in", (s, g, p) -> writeString("in", ((QueryParameter) s).getIn(), g));
+
+        register(RequestBody.class, "description", (s, g, p) -> writeString("description", ((RequestBody) s).getDescription(), g));
+        register(RequestBody.class, "content", (s, g, p) -> writeObject("content", ((RequestBody) s).getContent(), g, p));
+        register(RequestBody.class, "required", (s, g, p) -> writeBoolean("required", ((RequestBody) s).getRequired(), g));
+        register(RequestBody.class, "$ref", (s, g, p) -> writeString("$ref", ((RequestBody) s).get$ref(), g));
+
+        register(Example.class, "summary", (s, g, p) -> writeString("summary", ((Example) s).getSummary(), g));
+        register(Example.class, "description", (s, g, p) -> writeString("description", ((Example) s).getDescription(), g));
+        register(Example.class, "value", (s, g, p) -> writeObject("value", ((Example) s).getValue(), g, p));
+        register(Example.class, "externalValue", (s, g, p) -> writeString("externalValue", ((Example) s).getExternalValue(), g));
+        register(Example.class, "$ref", (s, g, p) -> writeString("$ref", ((Example) s).get$ref(), g));
+
+        register(Link.class, "server", (s, g, p) -> writeObject("server", ((Link) s).getServer(), g, p));
+        register(Link.class, "operationRef", (s, g, p) -> writeString("operationRef", ((Link) s).getOperationRef(), g));
+        register(Link.class, "requestBody", (s, g, p) -> writeObject("requestBody", ((Link) s).getRequestBody(), g, p));
+        register(Link.class, "operationId", (s, g, p) -> writeString("operationId", ((Link) s).getOperationId(), g));
+        register(Link.class, "parameters", (s, g, p) -> writeObject("parameters", ((Link) s).getParameters(), g, p));
+        register(Link.class, "headers", (s, g, p) -> writeObject("headers", ((Link) s).getHeaders(), g, p));
+        register(Link.class, "description", (s, g, p) -> writeString("description", ((Link) s).getDescription(), g));
+        register(Link.class, "$ref", (s, g, p) -> writeString("$ref", ((Link) s).get$ref(), g));
+
+        register(LinkParameter.class, "value", (s, g, p) -> writeString("value", ((LinkParameter) s).getValue(), g));
+
+        register(Header.class, "description", (s, g, p) -> writeString("description", ((Header) s).getDescription(), g));
+        register(Header.class, "required", (s, g, p) -> writeBoolean("required", ((Header) s).getRequired(), g));
+        register(Header.class, "deprecated", (s, g, p) -> writeBoolean("deprecated", ((Header) s).getDeprecated(), g));
+        register(Header.class, "style", (s, g, p) -> writeObject("style", ((Header) s).getStyle(), g, p));
+        register(Header.class, "explode", (s, g, p) -> writeBoolean("explode", ((Header) s).getExplode(), g));
+        register(Header.class, "schema", (s, g, p) -> writeObject("schema", ((Header) s).getSchema(), g, p));
+        register(Header.class, "examples", (s, g, p) -> writeObject("examples", ((Header) s).getExamples(), g, p));
+        register(Header.class, "example", (s, g, p) -> writeObject("example", ((Header) s).getExample(), g, p));
+        register(Header.class, "content", (s, g, p) -> writeObject("content", ((Header) s).getContent(), g, p));
+        register(Header.class, "$ref", (s, g, p) -> writeString("$ref", ((Header) s).get$ref(), g));
+
+        register(Server.class, "url", (s, g, p) -> writeString("url", ((Server) s).getUrl(), g));
+        register(Server.class, "description", (s, g, p) -> writeString("description", ((Server) s).getDescription(), g));
+        register(Server.class, "variables", (s, g, p) -> writeObject("variables", ((Server) s).getVariables(), g, p));
+
+        register(ServerVariable.class, "enum", (s, g, p) -> writeObject("enum", ((ServerVariable) s).getEnum(), g, p));
+        register(ServerVariable.class, "default", (s, g, p) -> writeString("default", ((ServerVariable) s).getDefault(), g));
+        register(ServerVariable.class, "description", (s, g, p) -> writeString("description", ((ServerVariable) s).getDescription(), g));
+
+        register(ApiResponse.class, "description", (s, g, p) -> writeString("description", ((ApiResponse) s).getDescription(), g));
+        register(ApiResponse.class, "headers", (s, g, p) -> writeObject("headers", ((ApiResponse) s).getHeaders(), g, p));
+        register(ApiResponse.class, "content", (s, g, p) -> writeObject("content", ((ApiResponse) s).getContent(), g, p));
+        register(ApiResponse.class, "links", (s, g, p) -> writeObject("links", ((ApiResponse) s).getLinks(), g, p));
+        register(ApiResponse.class, "$ref", (s, g, p) -> writeString("$ref", ((ApiResponse) s).get$ref(), g));
+
+        register(Tag.class, "name", (s, g, p) -> writeString("name", ((Tag) s).getName(), g));
+        register(Tag.class, "description", (s, g, p) -> writeString("description", ((Tag) s).getDescription(), g));
+        register(Tag.class, "externalDocs", (s, g, p) -> writeObject("externalDocs", ((Tag) s).getExternalDocs(), g, p));
+
+        register(Contact.class, "name", (s, g, p) -> writeString("name", ((Contact) s).getName(), g));
+        register(Contact.class, "url", (s, g, p) -> writeString("url", ((Contact) s).getUrl(), g));
+        register(Contact.class, "email", (s, g, p) -> writeString("email", ((Contact) s).getEmail(), g));
+
+        register(Info.class, "title", (s, g, p) -> writeString("title", ((Info) s).getTitle(), g));
+        register(Info.class, "description", (s, g, p) -> writeString("description", ((Info) s).getDescription(), g));
+        register(Info.class, "termsOfService", (s, g, p) -> writeString("termsOfService", ((Info) s).getTermsOfService(), g));
+        register(Info.class, "contact", (s, g, p) -> writeObject("contact", ((Info) s).getContact(), g, p));
+        register(Info.class, "license", (s, g, p) -> writeObject("license", ((Info) s).getLicense(), g, p));
+        register(Info.class, "version", (s, g, p) -> writeString("version", ((Info) s).getVersion(), g));
+
+        register(License.class, "name", (s, g, p) -> writeString("name", ((License) s).getName(), g));
+        register(License.class, "url", (s, g, p) -> writeString("url", ((License) s).getUrl(), g));
+
+        register(OAuthFlow.class, "authorizationUrl", (s, g, p) -> writeString("authorizationUrl", ((OAuthFlow) s).getAuthorizationUrl(), g));
+        register(OAuthFlow.class, "tokenUrl", (s, g, p) -> writeString("tokenUrl", ((OAuthFlow) s).getTokenUrl(), g));
+        register(OAuthFlow.class, "refreshUrl", (s, g, p) -> writeString("refreshUrl", ((OAuthFlow) s).getRefreshUrl(), g));
+        register(OAuthFlow.class, "scopes", (s, g, p) -> writeObject("scopes", ((OAuthFlow) s).getScopes(), g, p));
+
+        register(OAuthFlows.class, "implicit", (s, g, p) -> writeObject("implicit", ((OAuthFlows) s).getImplicit(), g, p));
+        register(OAuthFlows.class, "password", (s, g, p) -> writeObject("password", ((OAuthFlows) s).getPassword(), g, p));
+        register(OAuthFlows.class, "clientCredentials", (s, g, p) -> writeObject("clientCredentials", ((OAuthFlows) s).getClientCredentials(), g, p));
+        register(OAuthFlows.class, "authorizationCode", (s, g, p) -> writeObject("authorizationCode", ((OAuthFlows) s).getAuthorizationCode(), g, p));
+
+        register(SecurityScheme.class, "type", (s, g, p) -> writeObject("type", ((SecurityScheme) s).getType(), g, p));
+        register(SecurityScheme.class, "description", (s, g, p) -> writeString("description", ((SecurityScheme) s).getDescription(), g));
+        register(SecurityScheme.class, "name", (s, g, p) -> writeString("name", ((SecurityScheme) s).getName(), g));
+        register(SecurityScheme.class, "in", (s, g, p) -> writeObject("in", ((SecurityScheme) s).getIn(), g, p));
+        register(SecurityScheme.class, "scheme", (s, g, p) -> writeString("scheme", ((SecurityScheme) s).getScheme(), g));
+        register(SecurityScheme.class, "bearerFormat", (s, g, p) -> writeString("bearerFormat", ((SecurityScheme) s).getBearerFormat(), g));
+        register(SecurityScheme.class, "flows", (s, g, p) -> writeObject("flows", ((SecurityScheme) s).getFlows(), g, p));
+        register(SecurityScheme.class, "openIdConnectUrl", (s, g, p) -> writeString("openIdConnectUrl", ((SecurityScheme) s).getOpenIdConnectUrl(), g));
+        register(SecurityScheme.class, "$ref", (s, g, p) -> writeString("$ref", ((SecurityScheme) s).get$ref(), g));
+    }
+}
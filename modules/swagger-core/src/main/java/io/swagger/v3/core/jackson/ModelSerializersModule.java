@@ -0,0 +1,45 @@
+package io.swagger.v3.core.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import io.swagger.v3.oas.models.media.Schema;
+
+/**
+ * Replaces the bean serializers of the swagger-models classes by {@link ModelSerializer} and {@link SchemaSerializer},
+ * registered by {@link io.swagger.v3.core.util.ObjectMapperFactory} on the mappers it creates.
+ *
+ * @since 2.0.10
+ */
+public class ModelSerializersModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    private static final String MODELS_PACKAGE = "io.swagger.v3.oas.models.";
+
+    public ModelSerializersModule() {
+        super(ModelSerializersModule.class.getSimpleName(), PackageVersion.VERSION);
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addBeanSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifySerializer(
+                    SerializationConfig config, BeanDescription desc, JsonSerializer<?> serializer) {
+                boolean writeExtensions = desc.findAnyGetter() != null;
+                // handle ref schema serialization skipping all other props
+                if (Schema.class.isAssignableFrom(desc.getBeanClass())) {
+                    return new SchemaSerializer((JsonSerializer<Object>) serializer, writeExtensions);
+                }
+                if (!(serializer instanceof BeanSerializerBase) || !desc.getBeanClass().getName().startsWith(MODELS_PACKAGE)) {
+                    return serializer;
+                }
+                return new ModelSerializer<>((JsonSerializer<Object>) serializer, writeExtensions);
+            }
+        });
+    }
+}
@@ -2,28 +2,24 @@ package io.swagger.v3.core.jackson;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
 
-public class SchemaSerializer extends JsonSerializer<Schema> implements ResolvableSerializer {
-
-    private JsonSerializer<Object> defaultSerializer;
+public class SchemaSerializer extends ModelSerializer<Schema> {
 
     public SchemaSerializer(JsonSerializer<Object> serializer) {
-        defaultSerializer = serializer;
+        this(serializer, true);
     }
 
-    @Override
-    public void resolve(SerializerProvider serializerProvider) throws JsonMappingException {
-        if (defaultSerializer instanceof ResolvableSerializer) {
-            ((ResolvableSerializer) defaultSerializer).resolve(serializerProvider);
-        }
+    /**
+     * @since 2.0.10
+     */
+    public SchemaSerializer(JsonSerializer<Object> serializer, boolean writeExtensions) {
+        super(serializer, writeExtensions);
     }
 
     @Override
@@ -33,11 +29,11 @@ public class SchemaSerializer extends JsonSerializer<Schema> implements Resolvab
 
         // handle ref schema serialization skipping all other props
         if (StringUtils.isBlank(value.get$ref())) {
-            defaultSerializer.serialize(value, jgen, provider);
+            super.serialize(value, jgen, provider);
         } else {
             jgen.writeStartObject();
             jgen.writeStringField("$ref", value.get$ref());
             jgen.writeEndObject();
         }
     }
-}
\ No newline at end of file
+}
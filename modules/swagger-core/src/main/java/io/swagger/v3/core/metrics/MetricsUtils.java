@@ -0,0 +1,35 @@
+package io.swagger.v3.core.metrics;
+
+/**
+ * Holds the metrics of the OpenAPI definition being resolved by the current thread, allowing components not
+ * aware of the context (e.g. model converters) to record measurements.
+ *
+ * @since 2.0.10
+ */
+public class MetricsUtils {
+
+    private static final OpenApiMetrics NO_OP = new NoOpOpenApiMetrics();
+
+    private static final ThreadLocal<OpenApiMetrics> CURRENT = new ThreadLocal<>();
+
+    public static OpenApiMetrics current() {
+        return nonNull(CURRENT.get());
+    }
+
+    public static OpenApiMetrics nonNull(OpenApiMetrics metrics) {
+        return metrics == null ? NO_OP : metrics;
+    }
+
+    /**
+     * Sets the metrics of the current thread, returning the previous ones to be restored once done.
+     */
+    public static OpenApiMetrics setCurrent(OpenApiMetrics metrics) {
+        OpenApiMetrics previous = CURRENT.get();
+        if (metrics == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(metrics);
+        }
+        return previous;
+    }
+}
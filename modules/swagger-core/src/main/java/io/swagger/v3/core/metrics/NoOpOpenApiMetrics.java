@@ -0,0 +1,15 @@
+package io.swagger.v3.core.metrics;
+
+/**
+ * @since 2.0.10
+ */
+public class NoOpOpenApiMetrics implements OpenApiMetrics {
+
+    @Override
+    public void time(String metric, String key, long nanos) {
+    }
+
+    @Override
+    public void count(String metric, String key, long value) {
+    }
+}
@@ -0,0 +1,33 @@
+package io.swagger.v3.core.metrics;
+
+/**
+ * Receives measurements taken while resolving, filtering and serializing an OpenAPI definition.
+ *
+ * Implementations must be thread safe. A metric can be qualified by a key (e.g. the resource class name),
+ * which is <code>null</code> for plain metrics.
+ *
+ * @since 2.0.10
+ */
+public interface OpenApiMetrics {
+
+    String SCANNER_CLASSES = "scanner.classes";
+    String READER_READ = "reader.read";
+    String READER_CLASS = "reader.class";
+    String READER_OPERATION = "reader.operation";
+    String CONVERTER_RESOLVE = "converter.resolve";
+    String CONVERTER_RESOLVE_CACHED = "converter.resolve.cached";
+    String FILTER = "filter";
+    String SERIALIZATION = "serialization";
+    String SERIALIZATION_BYTES = "serialization.bytes";
+
+    /**
+     * Records a duration in nanoseconds
+     */
+    void time(String metric, String key, long nanos);
+
+    /**
+     * Records a value, e.g. 1 for an occurrence or the number of written bytes
+     */
+    void count(String metric, String key, long value);
+
+}
@@ -547,15 +547,9 @@ public abstract class AnnotationsUtils {
         if (schemaImplementation.getName().startsWith("java.lang")) {
             schemaObject.setType(schemaImplementation.getSimpleName().toLowerCase());
         } else {
-            ResolvedSchema resolvedSchema = ModelConverters.getInstance().readAllAsResolvedSchema(new AnnotatedType().type(schemaImplementation).jsonViewAnnotation(jsonViewAnnotation));
-            Map<String, Schema> schemaMap;
+            ResolvedSchema resolvedSchema = ModelConverters.getCurrent().readAllAsResolvedSchema(new AnnotatedType().type(schemaImplementation).jsonViewAnnotation(jsonViewAnnotation));
             if (resolvedSchema != null) {
-                schemaMap = resolvedSchema.referencedSchemas;
-                schemaMap.forEach((key, referencedSchema) -> {
-                    if (components != null) {
-                        components.addSchemas(key, referencedSchema);
-                    }
-                });
+                ModelConverters.addReferencedSchemas(resolvedSchema, components);
                 schemaObject.set$ref(COMPONENTS_REF + resolvedSchema.schema.getName());
             }
         }
@@ -1106,18 +1100,14 @@ public abstract class AnnotationsUtils {
                                                        Class<?> schemaImplementation,
                                                        Components components,
                                                        JsonView jsonViewAnnotation) {
-        Map<String, Schema> schemaMap;
         if (schemaImplementation != Void.class) {
             Schema schemaObject = new Schema();
             if (schemaImplementation.getName().startsWith("java.lang")) {
                 schemaObject.setType(schemaImplementation.getSimpleName().toLowerCase());
             } else {
-                ResolvedSchema resolvedSchema = ModelConverters.getInstance().readAllAsResolvedSchema(new AnnotatedType().type(schemaImplementation).jsonViewAnnotation(jsonViewAnnotation));
+                ResolvedSchema resolvedSchema = ModelConverters.getCurrent().readAllAsResolvedSchema(new AnnotatedType().type(schemaImplementation).jsonViewAnnotation(jsonViewAnnotation));
                 if (resolvedSchema != null) {
-                    schemaMap = resolvedSchema.referencedSchemas;
-                    schemaMap.forEach((key, schema) -> {
-                        components.addSchemas(key, schema);
-                    });
+                    ModelConverters.addReferencedSchemas(resolvedSchema, components);
                     if (resolvedSchema.schema != null && StringUtils.isNotBlank(resolvedSchema.schema.getName())) {
                         schemaObject.set$ref(COMPONENTS_REF + resolvedSchema.schema.getName());
                     } else if (resolvedSchema.schema != null){
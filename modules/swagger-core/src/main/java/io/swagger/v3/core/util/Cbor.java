@@ -0,0 +1,35 @@
+package io.swagger.v3.core.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Mapper for the <a href="https://tools.ietf.org/html/rfc7049">CBOR</a> binary encoding, configured as {@link Json}.
+ *
+ * @since 2.0.10
+ */
+public class Cbor {
+
+    private static ObjectMapper mapper;
+
+    private static final boolean AVAILABLE = ObjectMapperFactory.isPresent("com.fasterxml.jackson.dataformat.cbor.CBORFactory");
+
+    /**
+     * @return true if jackson-dataformat-cbor, an optional dependency of swagger-core, is on the classpath
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * @throws IllegalStateException if jackson-dataformat-cbor is not on the classpath
+     */
+    public static ObjectMapper mapper() {
+        if (!AVAILABLE) {
+            throw new IllegalStateException("jackson-dataformat-cbor is required for the CBOR format");
+        }
+        if (mapper == null) {
+            mapper = ObjectMapperFactory.createCbor();
+        }
+        return mapper;
+    }
+}
@@ -0,0 +1,149 @@
+package io.swagger.v3.core.util;
+
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Values computed per class loader, e.g. services loaded from it, holding the class loaders weakly.
+ *
+ * Values referencing classes of their own class loader keep it reachable, they are dropped by
+ * {@link #releaseAll(ClassLoader)}, which also invokes the listeners added by {@link #addReleaseListener(Consumer)}
+ * to drop other state referencing the classes of the released loader, e.g. when the last context of an undeployed
+ * application is closed. Releasing the class loader of swagger-core itself, or one of its ancestors, drops nothing:
+ * the state of swagger-core goes along with it.
+ *
+ * @since 2.0.10
+ */
+public class ClassLoaderCache<V> {
+
+    private static Logger LOGGER = LoggerFactory.getLogger(ClassLoaderCache.class);
+
+    private static final Set<ClassLoaderCache<?>> CACHES = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final List<Consumer<ClassLoader>> RELEASE_LISTENERS = new CopyOnWriteArrayList<>();
+
+    private final Map<ClassLoader, V> values = new WeakHashMap<>();
+    private final Function<ClassLoader, V> factory;
+    private V bootstrapValue;
+
+    /**
+     * @param factory computes the value of a class loader, null standing for the bootstrap class loader
+     */
+    public ClassLoaderCache(Function<ClassLoader, V> factory) {
+        this.factory = factory;
+        CACHES.add(this);
+    }
+
+    /**
+     * @return the value of the context class loader of the current thread
+     */
+    public V get() {
+        return get(Thread.currentThread().getContextClassLoader());
+    }
+
+    public synchronized V get(ClassLoader classLoader) {
+        if (classLoader == null) {
+            if (bootstrapValue == null) {
+                bootstrapValue = factory.apply(null);
+            }
+            return bootstrapValue;
+        }
+        V value = values.get(classLoader);
+        if (value == null) {
+            value = factory.apply(classLoader);
+            values.put(classLoader, value);
+        }
+        return value;
+    }
+
+    public synchronized void set(ClassLoader classLoader, V value) {
+        if (classLoader == null) {
+            bootstrapValue = value;
+        } else {
+            values.put(classLoader, value);
+        }
+    }
+
+    /**
+     * Drops the values of the given class loader and its descendants.
+     */
+    public synchronized void release(ClassLoader classLoader) {
+        if (classLoader == null) {
+            return;
+        }
+        Iterator<ClassLoader> keys = values.keySet().iterator();
+        while (keys.hasNext()) {
+            if (isSameOrDescendant(keys.next(), classLoader)) {
+                keys.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        bootstrapValue = null;
+        values.clear();
+    }
+
+    /**
+     * Adds a listener invoked with the class loaders released by {@link #releaseAll(ClassLoader)}.
+     */
+    public static void addReleaseListener(Consumer<ClassLoader> listener) {
+        RELEASE_LISTENERS.add(listener);
+    }
+
+    public static void removeReleaseListener(Consumer<ClassLoader> listener) {
+        RELEASE_LISTENERS.remove(listener);
+    }
+
+    /**
+     * Drops the values of all caches for the given class loader and its descendants, invokes the release listeners
+     * and clears the type cache of Jackson, so that none of them keeps the classes of the loader reachable.
+     */
+    public static void releaseAll(ClassLoader classLoader) {
+        if (classLoader == null || isSameOrDescendant(ClassLoaderCache.class.getClassLoader(), classLoader)) {
+            return;
+        }
+        List<ClassLoaderCache<?>> caches;
+        synchronized (CACHES) {
+            caches = new ArrayList<>(CACHES);
+        }
+        for (ClassLoaderCache<?> cache : caches) {
+            cache.release(classLoader);
+        }
+        for (Consumer<ClassLoader> listener : RELEASE_LISTENERS) {
+            try {
+                listener.accept(classLoader);
+            } catch (Exception e) {
+                LOGGER.warn("error releasing class loader " + classLoader + ": " + e.getMessage(), e);
+            }
+        }
+        TypeFactory.defaultInstance().clearCache();
+    }
+
+    /**
+     * @return true if the given class is loaded by the given class loader or one of its descendants
+     */
+    public static boolean isLoadedBy(Class<?> cls, ClassLoader classLoader) {
+        return cls != null && isSameOrDescendant(cls.getClassLoader(), classLoader);
+    }
+
+    private static boolean isSameOrDescendant(ClassLoader candidate, ClassLoader classLoader) {
+        for (ClassLoader current = candidate; current != null; current = current.getParent()) {
+            if (current == classLoader) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
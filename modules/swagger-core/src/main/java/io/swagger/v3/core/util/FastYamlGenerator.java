@@ -0,0 +1,694 @@
+package io.swagger.v3.core.util;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.base.GeneratorBase;
+import com.fasterxml.jackson.core.json.JsonWriteContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Writes YAML as the generator of {@link Yaml#mapper()} does with the features enabled by ObjectMapperFactory (block
+ * style without document start marker, minimized quotes, split lines and numbers quoted as strings), without building
+ * the events of the SnakeYAML emitter. Scalars are analyzed, styled, split and indented following the emitter.
+ *
+ * Writing what is not handled here, e.g. control and non printable characters, keys the emitter writes as complex
+ * keys, native type and object ids, binary and raw values, throws an {@link UnsupportedValueException}; the value is
+ * then to be written by the mapper.
+ */
+class FastYamlGenerator extends GeneratorBase {
+
+    private static final int BEST_INDENT = 2;
+    private static final int BEST_WIDTH = 80;
+    private static final int MAX_SIMPLE_KEY_LENGTH = 128;
+
+    private static final int PLAIN = 0;
+    private static final int SINGLE_QUOTED = 1;
+    private static final int DOUBLE_QUOTED = 2;
+    private static final int LITERAL = 3;
+
+    private static final byte MAPPING = 0;
+    private static final byte SEQUENCE = 1;
+
+    // leading indicators, and the ones not allowed within flow plain scalars
+    private static final String LEADING_INDICATORS = "#,[]{}&*!|>'\"%@`";
+    private static final String FLOW_INDICATORS = ",?[]{}";
+
+    static class UnsupportedValueException extends IOException {
+        UnsupportedValueException(String message) {
+            super(message);
+        }
+    }
+
+    private final StringBuilder out;
+
+    private int column;
+    private boolean whitespace = true;
+    private boolean indention = true;
+    // -1 for no indentation yet
+    private int indent = -1;
+    private int[] indents = new int[16];
+    private int indentDepth;
+
+    private byte[] containers = new byte[16];
+    // whether the container is a mapping value, for the indentation of sequences
+    private boolean[] mappingValues = new boolean[16];
+    private int depth;
+    // the innermost container is started but not written, until it is known to be empty or not
+    private boolean pending;
+    private boolean rootWritten;
+
+    // analysis of the last scalar
+    private boolean multiline;
+    private boolean allowBlockPlain;
+    private boolean allowSingleQuoted;
+    private boolean allowBlock;
+
+    FastYamlGenerator(int features, StringBuilder out) {
+        super(features, null);
+        this.out = out;
+    }
+
+    @Override
+    public boolean canWriteObjectId() {
+        // as the YAML generator, which writes anchors
+        return true;
+    }
+
+    @Override
+    public boolean canWriteTypeId() {
+        // as the YAML generator, which writes tags
+        return true;
+    }
+
+    @Override
+    public void writeObjectId(Object id) throws IOException {
+        throw new UnsupportedValueException("object id");
+    }
+
+    @Override
+    public void writeObjectRef(Object id) throws IOException {
+        throw new UnsupportedValueException("object reference");
+    }
+
+    @Override
+    public void writeTypeId(Object id) throws IOException {
+        throw new UnsupportedValueException("type id");
+    }
+
+    @Override
+    public void writeStartArray() throws IOException {
+        _verifyValueWrite("start an array");
+        _writeContext = _writeContext.createChildArrayContext();
+        startContainer(SEQUENCE);
+    }
+
+    @Override
+    public void writeEndArray() throws IOException {
+        if (!_writeContext.inArray()) {
+            _reportError("Current context not Array but " + _writeContext.typeDesc());
+        }
+        _writeContext = _writeContext.getParent();
+        endContainer("[", "]");
+    }
+
+    @Override
+    public void writeStartObject() throws IOException {
+        _verifyValueWrite("start an object");
+        _writeContext = _writeContext.createChildObjectContext();
+        startContainer(MAPPING);
+    }
+
+    @Override
+    public void writeEndObject() throws IOException {
+        if (!_writeContext.inObject()) {
+            _reportError("Current context not Object but " + _writeContext.typeDesc());
+        }
+        _writeContext = _writeContext.getParent();
+        endContainer("{", "}");
+    }
+
+    @Override
+    public void writeFieldName(String name) throws IOException {
+        if (_writeContext.writeFieldName(name) == JsonWriteContext.STATUS_EXPECT_VALUE) {
+            _reportError("Can not write a field name, expecting a value");
+        }
+        if (pending) {
+            pending = false;
+            increaseIndent(false, false);
+        }
+        writeIndent();
+        // keys the emitter would not write as simple keys
+        if (name.isEmpty() || name.length() > MAX_SIMPLE_KEY_LENGTH || name.indexOf('\n') >= 0) {
+            throw new UnsupportedValueException("complex key");
+        }
+        writeScalar(name, PLAIN, true);
+        writeIndicator(":", false, false, false);
+    }
+
+    @Override
+    public void writeString(String text) throws IOException {
+        if (text == null) {
+            writeNull();
+            return;
+        }
+        _verifyValueWrite(WRITE_STRING);
+        int style;
+        if (text.equals("true") || text.equals("false") || isPlainNumber(text)) {
+            style = DOUBLE_QUOTED;
+        } else if (text.indexOf('\n') >= 0) {
+            style = LITERAL;
+        } else {
+            style = PLAIN;
+        }
+        writeValue(text, style);
+    }
+
+    @Override
+    public void writeString(char[] text, int offset, int len) throws IOException {
+        writeString(new String(text, offset, len));
+    }
+
+    @Override
+    public void writeRawUTF8String(byte[] text, int offset, int length) throws IOException {
+        throw new UnsupportedValueException("raw value");
+    }
+
+    @Override
+    public void writeUTF8String(byte[] text, int offset, int length) throws IOException {
+        writeString(new String(text, offset, length, "UTF-8"));
+    }
+
+    @Override
+    public void writeRaw(String text) throws IOException {
+        throw new UnsupportedValueException("raw value");
+    }
+
+    @Override
+    public void writeRaw(String text, int offset, int len) throws IOException {
+        throw new UnsupportedValueException("raw value");
+    }
+
+    @Override
+    public void writeRaw(char[] text, int offset, int len) throws IOException {
+        throw new UnsupportedValueException("raw value");
+    }
+
+    @Override
+    public void writeRaw(char c) throws IOException {
+        throw new UnsupportedValueException("raw value");
+    }
+
+    @Override
+    public void writeBinary(Base64Variant b64variant, byte[] data, int offset, int len) throws IOException {
+        throw new UnsupportedValueException("binary value");
+    }
+
+    @Override
+    public void writeNumber(int v) throws IOException {
+        _verifyValueWrite(WRITE_NUMBER);
+        writeValue(String.valueOf(v), PLAIN);
+    }
+
+    @Override
+    public void writeNumber(long v) throws IOException {
+        _verifyValueWrite(WRITE_NUMBER);
+        writeValue(String.valueOf(v), PLAIN);
+    }
+
+    @Override
+    public void writeNumber(BigInteger v) throws IOException {
+        if (v == null) {
+            writeNull();
+            return;
+        }
+        _verifyValueWrite(WRITE_NUMBER);
+        writeValue(v.toString(), PLAIN);
+    }
+
+    @Override
+    public void writeNumber(double v) throws IOException {
+        _verifyValueWrite(WRITE_NUMBER);
+        writeValue(String.valueOf(v), PLAIN);
+    }
+
+    @Override
+    public void writeNumber(float v) throws IOException {
+        _verifyValueWrite(WRITE_NUMBER);
+        writeValue(String.valueOf(v), PLAIN);
+    }
+
+    @Override
+    public void writeNumber(BigDecimal v) throws IOException {
+        if (v == null) {
+            writeNull();
+            return;
+        }
+        _verifyValueWrite(WRITE_NUMBER);
+        writeValue(isEnabled(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN) ? v.toPlainString() : v.toString(), PLAIN);
+    }
+
+    @Override
+    public void writeNumber(String encodedValue) throws IOException {
+        if (encodedValue == null) {
+            writeNull();
+            return;
+        }
+        _verifyValueWrite(WRITE_NUMBER);
+        writeValue(encodedValue, PLAIN);
+    }
+
+    @Override
+    public void writeBoolean(boolean state) throws IOException {
+        _verifyValueWrite(WRITE_BOOLEAN);
+        writeValue(state ? "true" : "false", PLAIN);
+    }
+
+    @Override
+    public void writeNull() throws IOException {
+        _verifyValueWrite(WRITE_NULL);
+        writeValue("null", PLAIN);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!_closed && rootWritten && depth == 0) {
+            // implicit document end
+            writeIndent();
+        }
+        super.close();
+    }
+
+    @Override
+    protected void _releaseBuffers() {
+    }
+
+    @Override
+    protected void _verifyValueWrite(String typeMsg) throws IOException {
+        if (_writeContext.writeValue() == JsonWriteContext.STATUS_EXPECT_NAME) {
+            _reportError("Can not " + typeMsg + ", expecting field name");
+        }
+    }
+
+    private static boolean isPlainNumber(String text) {
+        // [0-9]*(\.[0-9]*)?, quoted as strings
+        boolean dot = false;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch == '.' && !dot) {
+                dot = true;
+            } else if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void startNode() throws IOException {
+        if (depth == 0) {
+            if (rootWritten) {
+                throw new UnsupportedValueException("multiple documents");
+            }
+            rootWritten = true;
+            return;
+        }
+        if (pending) {
+            pending = false;
+            if (containers[depth - 1] == SEQUENCE) {
+                increaseIndent(false, mappingValues[depth - 1] && !indention);
+            } else {
+                increaseIndent(false, false);
+            }
+        }
+        if (containers[depth - 1] == SEQUENCE) {
+            writeIndent();
+            writeIndicator("-", true, false, true);
+        }
+    }
+
+    private void startContainer(byte container) throws IOException {
+        startNode();
+        if (depth == containers.length) {
+            containers = Arrays.copyOf(containers, depth * 2);
+            mappingValues = Arrays.copyOf(mappingValues, depth * 2);
+        }
+        mappingValues[depth] = depth > 0 && containers[depth - 1] == MAPPING;
+        containers[depth++] = container;
+        pending = true;
+    }
+
+    private void endContainer(String flowStart, String flowEnd) throws IOException {
+        if (pending) {
+            // empty, in flow style
+            pending = false;
+            writeIndicator(flowStart, true, true, false);
+            writeIndicator(flowEnd, false, false, false);
+        } else {
+            indent = indents[--indentDepth];
+        }
+        depth--;
+    }
+
+    private void writeValue(String text, int style) throws IOException {
+        if (depth == 0) {
+            throw new UnsupportedValueException("scalar document");
+        }
+        startNode();
+        writeScalar(text, style, false);
+    }
+
+    private void writeScalar(String text, int requestedStyle, boolean simpleKey) throws IOException {
+        increaseIndent(true, false);
+        analyze(text);
+        int style;
+        if (requestedStyle == DOUBLE_QUOTED) {
+            style = DOUBLE_QUOTED;
+        } else if (requestedStyle == PLAIN && !(simpleKey && (text.isEmpty() || multiline)) && allowBlockPlain) {
+            style = PLAIN;
+        } else if (requestedStyle == LITERAL && !simpleKey && allowBlock) {
+            style = LITERAL;
+        } else if (requestedStyle == PLAIN && allowSingleQuoted && !(simpleKey && multiline)) {
+            style = SINGLE_QUOTED;
+        } else {
+            style = DOUBLE_QUOTED;
+        }
+        boolean split = !simpleKey;
+        switch (style) {
+            case PLAIN:
+                writePlain(text, split);
+                break;
+            case SINGLE_QUOTED:
+                writeSingleQuoted(text, split);
+                break;
+            case LITERAL:
+                writeLiteral(text);
+                break;
+            default:
+                writeDoubleQuoted(text, split);
+                break;
+        }
+        indent = indents[--indentDepth];
+    }
+
+    /**
+     * Determines the styles allowed for the given scalar in block context, as the emitter does.
+     */
+    private void analyze(String text) throws IOException {
+        multiline = false;
+        if (text.isEmpty()) {
+            allowBlockPlain = true;
+            allowSingleQuoted = true;
+            allowBlock = false;
+            return;
+        }
+        boolean blockIndicators = text.startsWith("---") || text.startsWith("...");
+        boolean leadingSpace = false;
+        boolean leadingBreak = false;
+        boolean trailingSpace = false;
+        boolean trailingBreak = false;
+        boolean breakSpace = false;
+        boolean spaceBreak = false;
+        boolean precededByWhitespace = true;
+        boolean followedByWhitespace = text.length() == 1 || isBlank(text.charAt(1));
+        boolean previousSpace = false;
+        boolean previousBreak = false;
+        int length = text.length();
+        for (int index = 0; index < length; index++) {
+            char ch = text.charAt(index);
+            if (!isSupported(ch)) {
+                throw new UnsupportedValueException("special character");
+            }
+            if (index == 0) {
+                if (LEADING_INDICATORS.indexOf(ch) >= 0 || ((ch == '?' || ch == ':' || ch == '-') && followedByWhitespace)) {
+                    blockIndicators = true;
+                }
+            } else if ((ch == ':' && followedByWhitespace) || (ch == '#' && precededByWhitespace)) {
+                blockIndicators = true;
+            }
+            boolean lineBreak = ch == '\n';
+            if (lineBreak) {
+                multiline = true;
+            }
+            if (ch == ' ') {
+                if (index == 0) {
+                    leadingSpace = true;
+                }
+                if (index == length - 1) {
+                    trailingSpace = true;
+                }
+                if (previousBreak) {
+                    breakSpace = true;
+                }
+                previousSpace = true;
+                previousBreak = false;
+            } else if (lineBreak) {
+                if (index == 0) {
+                    leadingBreak = true;
+                }
+                if (index == length - 1) {
+                    trailingBreak = true;
+                }
+                if (previousSpace) {
+                    spaceBreak = true;
+                }
+                previousSpace = false;
+                previousBreak = true;
+            } else {
+                previousSpace = false;
+                previousBreak = false;
+            }
+            precededByWhitespace = ch == ' ' || lineBreak;
+            followedByWhitespace = index + 2 >= length || isBlank(text.charAt(index + 2));
+        }
+        allowBlockPlain = !(multiline || leadingSpace || leadingBreak || trailingSpace || trailingBreak || breakSpace || spaceBreak
+                || blockIndicators);
+        allowSingleQuoted = !(breakSpace || spaceBreak);
+        allowBlock = !(trailingSpace || spaceBreak);
+    }
+
+    private static boolean isBlank(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\0';
+    }
+
+    /**
+     * @return false for the characters the emitter escapes or treats as line breaks, left to the mapper
+     */
+    private static boolean isSupported(char ch) {
+        if (ch < 0x7F) {
+            return ch >= 0x20 || ch == '\n';
+        }
+        return ch > 0xA0 && ch <= 0xFFFD && (ch < 0xD800 || ch > 0xDFFF) && ch != 0x2028 && ch != 0x2029 && ch != 0xFEFF;
+    }
+
+    private void increaseIndent(boolean flow, boolean indentless) {
+        if (indentDepth == indents.length) {
+            indents = Arrays.copyOf(indents, indentDepth * 2);
+        }
+        indents[indentDepth++] = indent;
+        if (indent < 0) {
+            indent = flow ? BEST_INDENT : 0;
+        } else if (!indentless) {
+            indent += BEST_INDENT;
+        }
+    }
+
+    private void writeIndicator(String indicator, boolean needWhitespace, boolean whitespace, boolean indentation) {
+        if (!this.whitespace && needWhitespace) {
+            column++;
+            out.append(' ');
+        }
+        this.whitespace = whitespace;
+        this.indention = this.indention && indentation;
+        column += indicator.length();
+        out.append(indicator);
+    }
+
+    private void writeIndent() {
+        int indent = Math.max(this.indent, 0);
+        if (!indention || column > indent || (column == indent && !whitespace)) {
+            writeLineBreak();
+        }
+        writeWhitespace(indent - column);
+    }
+
+    private void writeWhitespace(int length) {
+        if (length <= 0) {
+            return;
+        }
+        whitespace = true;
+        for (int i = 0; i < length; i++) {
+            out.append(' ');
+        }
+        column += length;
+    }
+
+    private void writeLineBreak() {
+        whitespace = true;
+        indention = true;
+        column = 0;
+        out.append('\n');
+    }
+
+    private void write(String text, int start, int end) {
+        column += end - start;
+        out.append(text, start, end);
+    }
+
+    private void writePlain(String text, boolean split) {
+        if (text.isEmpty()) {
+            return;
+        }
+        if (!whitespace) {
+            column++;
+            out.append(' ');
+        }
+        whitespace = false;
+        indention = false;
+        boolean spaces = false;
+        int start = 0;
+        int length = text.length();
+        for (int end = 0; end <= length; end++) {
+            char ch = end < length ? text.charAt(end) : 0;
+            if (spaces) {
+                if (ch != ' ') {
+                    if (start + 1 == end && column > BEST_WIDTH && split) {
+                        writeIndent();
+                        whitespace = false;
+                        indention = false;
+                    } else {
+                        write(text, start, end);
+                    }
+                    start = end;
+                }
+            } else if (ch == 0 || ch == ' ') {
+                write(text, start, end);
+                start = end;
+            }
+            spaces = ch == ' ';
+        }
+    }
+
+    private void writeSingleQuoted(String text, boolean split) {
+        writeIndicator("'", true, false, false);
+        boolean spaces = false;
+        int start = 0;
+        int length = text.length();
+        for (int end = 0; end <= length; end++) {
+            char ch = end < length ? text.charAt(end) : 0;
+            if (spaces) {
+                if (ch != ' ') {
+                    if (start + 1 == end && column > BEST_WIDTH && split && start != 0 && end != length) {
+                        writeIndent();
+                    } else {
+                        write(text, start, end);
+                    }
+                    start = end;
+                }
+            } else if ((ch == 0 || ch == ' ' || ch == '\'') && start < end) {
+                write(text, start, end);
+                start = end;
+            }
+            if (ch == '\'') {
+                column += 2;
+                out.append("''");
+                start = end + 1;
+            }
+            spaces = ch == ' ';
+        }
+        writeIndicator("'", false, false, false);
+    }
+
+    private void writeDoubleQuoted(String text, boolean split) {
+        writeIndicator("\"", true, false, false);
+        int start = 0;
+        int length = text.length();
+        for (int end = 0; end <= length; end++) {
+            char ch = end < length ? text.charAt(end) : 0;
+            if (end == length || ch == '"' || ch == '\\' || ch < 0x20 || ch > 0x7E) {
+                if (start < end) {
+                    write(text, start, end);
+                    start = end;
+                }
+                if (end < length) {
+                    String data;
+                    if (ch == '"') {
+                        data = "\\\"";
+                    } else if (ch == '\\') {
+                        data = "\\\\";
+                    } else if (ch == '\n') {
+                        data = "\\n";
+                    } else {
+                        data = String.valueOf(ch);
+                    }
+                    column += data.length();
+                    out.append(data);
+                    start = end + 1;
+                }
+            }
+            if (0 < end && end < length - 1 && (ch == ' ' || start >= end) && column + (end - start) > BEST_WIDTH && split) {
+                if (start < end) {
+                    write(text, start, end);
+                    start = end;
+                }
+                column++;
+                out.append('\\');
+                writeIndent();
+                whitespace = false;
+                indention = false;
+                if (text.charAt(start) == ' ') {
+                    column++;
+                    out.append('\\');
+                }
+            }
+        }
+        writeIndicator("\"", false, false, false);
+    }
+
+    private void writeLiteral(String text) throws IOException {
+        String hints = "";
+        if (text.charAt(0) == ' ' || text.charAt(0) == '\n') {
+            hints = String.valueOf(BEST_INDENT);
+        }
+        char last = text.charAt(text.length() - 1);
+        if (last != '\n') {
+            hints += "-";
+        } else if (text.length() == 1 || text.charAt(text.length() - 2) == '\n') {
+            // kept trailing line breaks may be followed by a document end marker
+            throw new UnsupportedValueException("kept line breaks");
+        }
+        writeIndicator("|" + hints, true, false, false);
+        writeLineBreak();
+        boolean breaks = true;
+        int start = 0;
+        int length = text.length();
+        for (int end = 0; end <= length; end++) {
+            char ch = end < length ? text.charAt(end) : 0;
+            if (breaks) {
+                if (ch != '\n') {
+                    for (int i = start; i < end; i++) {
+                        writeLineBreak();
+                    }
+                    if (end < length) {
+                        writeIndent();
+                    }
+                    start = end;
+                }
+            } else if (ch == 0 || ch == '\n') {
+                // as the emitter, the column is not updated for the lines
+                out.append(text, start, end);
+                if (end == length) {
+                    writeLineBreak();
+                }
+                start = end;
+            }
+            breaks = ch == '\n';
+        }
+    }
+}
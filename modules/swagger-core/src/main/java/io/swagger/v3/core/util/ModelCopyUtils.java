@@ -0,0 +1,314 @@
+package io.swagger.v3.core.util;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shallow ("path") copies of the nodes of an OpenAPI tree.
+ *
+ * A copy gets its own instance and its own collection containers, while the children are shared with the
+ * source. Deriving a modified variant of a shared (e.g. cached) OpenAPI therefore only requires copying the
+ * nodes on the path to the changed element; untouched subtrees are reused as they are, and the source is
+ * left unmodified.
+ *
+ * @since 2.0.10
+ */
+public class ModelCopyUtils {
+
+    private static Logger LOGGER = LoggerFactory.getLogger(ModelCopyUtils.class);
+
+    public static OpenAPI copy(OpenAPI openAPI) {
+        if (openAPI == null) {
+            return null;
+        }
+        OpenAPI copy = new OpenAPI();
+        copy.setOpenapi(openAPI.getOpenapi());
+        copy.setInfo(openAPI.getInfo());
+        copy.setExternalDocs(openAPI.getExternalDocs());
+        copy.setServers(copyList(openAPI.getServers()));
+        copy.setSecurity(copyList(openAPI.getSecurity()));
+        copy.setTags(copyList(openAPI.getTags()));
+        copy.setPaths(openAPI.getPaths());
+        copy.setComponents(openAPI.getComponents());
+        copy.setExtensions(copyMap(openAPI.getExtensions()));
+        return copy;
+    }
+
+    public static Paths copy(Paths paths) {
+        if (paths == null) {
+            return null;
+        }
+        Paths copy = new Paths();
+        copy.putAll(paths);
+        copy.setExtensions(copyMap(paths.getExtensions()));
+        return copy;
+    }
+
+    public static PathItem copy(PathItem pathItem) {
+        if (pathItem == null) {
+            return null;
+        }
+        PathItem copy = new PathItem();
+        copy.setSummary(pathItem.getSummary());
+        copy.setDescription(pathItem.getDescription());
+        copy.setGet(pathItem.getGet());
+        copy.setPut(pathItem.getPut());
+        copy.setPost(pathItem.getPost());
+        copy.setDelete(pathItem.getDelete());
+        copy.setOptions(pathItem.getOptions());
+        copy.setHead(pathItem.getHead());
+        copy.setPatch(pathItem.getPatch());
+        copy.setTrace(pathItem.getTrace());
+        copy.setServers(copyList(pathItem.getServers()));
+        copy.setParameters(copyList(pathItem.getParameters()));
+        copy.set$ref(pathItem.get$ref());
+        copy.setExtensions(copyMap(pathItem.getExtensions()));
+        return copy;
+    }
+
+    public static Operation copy(Operation operation) {
+        if (operation == null) {
+            return null;
+        }
+        Operation copy = new Operation();
+        copy.setTags(copyList(operation.getTags()));
+        copy.setSummary(operation.getSummary());
+        copy.setDescription(operation.getDescription());
+        copy.setExternalDocs(operation.getExternalDocs());
+        copy.setOperationId(operation.getOperationId());
+        copy.setParameters(copyList(operation.getParameters()));
+        copy.setRequestBody(operation.getRequestBody());
+        copy.setResponses(copy(operation.getResponses()));
+        copy.setCallbacks(copyMap(operation.getCallbacks()));
+        copy.setDeprecated(operation.getDeprecated());
+        copy.setSecurity(copyList(operation.getSecurity()));
+        copy.setServers(copyList(operation.getServers()));
+        copy.setExtensions(copyMap(operation.getExtensions()));
+        return copy;
+    }
+
+    public static ApiResponses copy(ApiResponses responses) {
+        if (responses == null) {
+            return null;
+        }
+        ApiResponses copy = new ApiResponses();
+        copy.putAll(responses);
+        copy.setExtensions(copyMap(responses.getExtensions()));
+        return copy;
+    }
+
+    public static RequestBody copy(RequestBody requestBody) {
+        if (requestBody == null) {
+            return null;
+        }
+        RequestBody copy = new RequestBody();
+        copy.setDescription(requestBody.getDescription());
+        copy.setContent(requestBody.getContent());
+        copy.setRequired(requestBody.getRequired());
+        copy.set$ref(requestBody.get$ref());
+        copy.setExtensions(copyMap(requestBody.getExtensions()));
+        return copy;
+    }
+
+    public static ApiResponse copy(ApiResponse response) {
+        if (response == null) {
+            return null;
+        }
+        ApiResponse copy = new ApiResponse();
+        copy.setDescription(response.getDescription());
+        copy.setHeaders(copyMap(response.getHeaders()));
+        copy.setContent(response.getContent());
+        copy.setLinks(copyMap(response.getLinks()));
+        copy.set$ref(response.get$ref());
+        copy.setExtensions(copyMap(response.getExtensions()));
+        return copy;
+    }
+
+    public static Components copy(Components components) {
+        if (components == null) {
+            return null;
+        }
+        Components copy = new Components();
+        copy.setSchemas(copyMap(components.getSchemas()));
+        copy.setResponses(copyMap(components.getResponses()));
+        copy.setParameters(copyMap(components.getParameters()));
+        copy.setExamples(copyMap(components.getExamples()));
+        copy.setRequestBodies(copyMap(components.getRequestBodies()));
+        copy.setHeaders(copyMap(components.getHeaders()));
+        copy.setSecuritySchemes(copyMap(components.getSecuritySchemes()));
+        copy.setLinks(copyMap(components.getLinks()));
+        copy.setCallbacks(copyMap(components.getCallbacks()));
+        copy.setExtensions(copyMap(components.getExtensions()));
+        return copy;
+    }
+
+    /**
+     * Copies a parameter retaining its concrete class (e.g. QueryParameter) when it can be instantiated; falls
+     * back to a plain Parameter otherwise.
+     */
+    public static Parameter copy(Parameter parameter) {
+        if (parameter == null) {
+            return null;
+        }
+        Parameter copy;
+        try {
+            copy = parameter.getClass().newInstance();
+        } catch (Exception e) {
+            LOGGER.debug("cannot instantiate {}, copying as Parameter", parameter.getClass().getName());
+            copy = new Parameter();
+        }
+        copy.setName(parameter.getName());
+        copy.setIn(parameter.getIn());
+        copy.setDescription(parameter.getDescription());
+        copy.setRequired(parameter.getRequired());
+        copy.setDeprecated(parameter.getDeprecated());
+        copy.setAllowEmptyValue(parameter.getAllowEmptyValue());
+        copy.set$ref(parameter.get$ref());
+        copy.setStyle(parameter.getStyle());
+        copy.setExplode(parameter.getExplode());
+        copy.setAllowReserved(parameter.getAllowReserved());
+        copy.setSchema(parameter.getSchema());
+        copy.setExamples(copyMap(parameter.getExamples()));
+        copy.setExample(parameter.getExample());
+        copy.setContent(parameter.getContent());
+        copy.setExtensions(copyMap(parameter.getExtensions()));
+        return copy;
+    }
+
+    /**
+     * Copies a schema retaining its concrete class (e.g. ArraySchema, ComposedSchema) when it can be
+     * instantiated; falls back to a plain Schema otherwise.
+     */
+    public static Schema copy(Schema schema) {
+        if (schema == null) {
+            return null;
+        }
+        Schema copy;
+        try {
+            copy = schema.getClass().newInstance();
+        } catch (Exception e) {
+            LOGGER.debug("cannot instantiate {}, copying as Schema", schema.getClass().getName());
+            copy = new Schema();
+        }
+        copy.setName(schema.getName());
+        copy.setTitle(schema.getTitle());
+        copy.setMultipleOf(schema.getMultipleOf());
+        copy.setMaximum(schema.getMaximum());
+        copy.setExclusiveMaximum(schema.getExclusiveMaximum());
+        copy.setMinimum(schema.getMinimum());
+        copy.setExclusiveMinimum(schema.getExclusiveMinimum());
+        copy.setMaxLength(schema.getMaxLength());
+        copy.setMinLength(schema.getMinLength());
+        copy.setPattern(schema.getPattern());
+        copy.setMaxItems(schema.getMaxItems());
+        copy.setMinItems(schema.getMinItems());
+        copy.setUniqueItems(schema.getUniqueItems());
+        copy.setMaxProperties(schema.getMaxProperties());
+        copy.setMinProperties(schema.getMinProperties());
+        copy.setType(schema.getType());
+        copy.setFormat(schema.getFormat());
+        copy.setNot(schema.getNot());
+        copy.setAdditionalProperties(schema.getAdditionalProperties());
+        copy.setDescription(schema.getDescription());
+        copy.set$ref(schema.get$ref());
+        copy.setNullable(schema.getNullable());
+        copy.setReadOnly(schema.getReadOnly());
+        copy.setWriteOnly(schema.getWriteOnly());
+        copy.setExternalDocs(schema.getExternalDocs());
+        copy.setDeprecated(schema.getDeprecated());
+        copy.setXml(schema.getXml());
+        copy.setDiscriminator(schema.getDiscriminator());
+        copy.setDefault(schema.getDefault());
+        copy.setExample(schema.getExample());
+        copy.setEnum(copyList(schema.getEnum()));
+        copy.setExtensions(copyMap(schema.getExtensions()));
+        copy.setProperties(copyMap(schema.getProperties()));
+        // setRequired filters and sorts, keep the list as it is
+        copy.required(copyList(schema.getRequired()));
+
+        if (schema instanceof ArraySchema && copy instanceof ArraySchema) {
+            ((ArraySchema) copy).setItems(((ArraySchema) schema).getItems());
+        } else if (schema instanceof ComposedSchema && copy instanceof ComposedSchema) {
+            ComposedSchema composedSchema = (ComposedSchema) schema;
+            ((ComposedSchema) copy).setAllOf(copyList(composedSchema.getAllOf()));
+            ((ComposedSchema) copy).setAnyOf(copyList(composedSchema.getAnyOf()));
+            ((ComposedSchema) copy).setOneOf(copyList(composedSchema.getOneOf()));
+        }
+        return copy;
+    }
+
+    /**
+     * Copies a schema along with its nested schemas (properties, items, compositions, not and additional
+     * properties), e.g. to hand out a cached schema which callers may modify.
+     */
+    public static Schema deepCopy(Schema schema) {
+        return deepCopy(schema, new IdentityHashMap<>());
+    }
+
+    /**
+     * Copies a schema along with its nested schemas, reusing the copies already made of shared instances.
+     *
+     * @param copies the copies by source schema, updated with the schemas copied
+     */
+    public static Schema deepCopy(Schema schema, Map<Schema, Schema> copies) {
+        if (schema == null) {
+            return null;
+        }
+        Schema copy = copies.get(schema);
+        if (copy != null) {
+            return copy;
+        }
+        copy = copy(schema);
+        copies.put(schema, copy);
+        copy.setNot(deepCopy(schema.getNot(), copies));
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            copy.setAdditionalProperties(deepCopy((Schema) schema.getAdditionalProperties(), copies));
+        }
+        if (copy.getProperties() != null) {
+            Map<String, Schema> properties = copy.getProperties();
+            properties.replaceAll((name, property) -> deepCopy(property, copies));
+        }
+        if (copy instanceof ArraySchema) {
+            ArraySchema arraySchema = (ArraySchema) copy;
+            arraySchema.setItems(deepCopy(arraySchema.getItems(), copies));
+        } else if (copy instanceof ComposedSchema) {
+            ComposedSchema composedSchema = (ComposedSchema) copy;
+            deepCopy(composedSchema.getAllOf(), copies);
+            deepCopy(composedSchema.getAnyOf(), copies);
+            deepCopy(composedSchema.getOneOf(), copies);
+        }
+        return copy;
+    }
+
+    private static void deepCopy(List<Schema> schemas, Map<Schema, Schema> copies) {
+        if (schemas != null) {
+            schemas.replaceAll(schema -> deepCopy(schema, copies));
+        }
+    }
+
+    private static <T> List<T> copyList(List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    private static <K, V> Map<K, V> copyMap(Map<K, V> map) {
+        return map == null ? null : new LinkedHashMap<>(map);
+    }
+}
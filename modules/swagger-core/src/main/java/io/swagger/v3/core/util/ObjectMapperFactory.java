@@ -2,19 +2,17 @@ package io.swagger.v3.core.util;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import io.swagger.v3.core.jackson.SchemaSerializer;
+import io.swagger.v3.core.jackson.ModelSerializersModule;
 import io.swagger.v3.core.jackson.mixin.ComponentsMixin;
 import io.swagger.v3.core.jackson.mixin.DateSchemaMixin;
 import io.swagger.v3.core.jackson.mixin.ExtensionsMixin;
@@ -64,35 +62,31 @@ public class ObjectMapperFactory {
     }
 
     protected static ObjectMapper createYaml() {
+        return create(createYamlFactory());
+    }
+
+    static YAMLFactory createYamlFactory() {
         YAMLFactory factory = new YAMLFactory();
         factory.disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER);
         factory.enable(YAMLGenerator.Feature.MINIMIZE_QUOTES);
         factory.enable(YAMLGenerator.Feature.SPLIT_LINES);
         factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
+        return factory;
+    }
 
-        return create(factory);
+    protected static ObjectMapper createSmile() {
+        return create(SmileFactories.create());
+    }
+
+    protected static ObjectMapper createCbor() {
+        return create(CborFactories.create());
     }
 
     private static ObjectMapper create(JsonFactory jsonFactory) {
         ObjectMapper mapper = jsonFactory == null ? new ObjectMapper() : new ObjectMapper(jsonFactory);
 
-        // handle ref schema serialization skipping all other props
-        mapper.registerModule(new SimpleModule() {
-            @Override
-            public void setupModule(SetupContext context) {
-                super.setupModule(context);
-                context.addBeanSerializerModifier(new BeanSerializerModifier() {
-                    @Override
-                    public JsonSerializer<?> modifySerializer(
-                            SerializationConfig config, BeanDescription desc, JsonSerializer<?> serializer) {
-                        if (Schema.class.isAssignableFrom(desc.getBeanClass())) {
-                            return new SchemaSerializer((JsonSerializer<Object>) serializer);
-                        }
-                        return serializer;
-                    }
-                });
-            }
-        });
+        // handle ref schema serialization skipping all other props, and write models without reflection
+        mapper.registerModule(new ModelSerializersModule());
 
         Module deserializerModule = new DeserializationModule();
         mapper.registerModule(deserializerModule);
@@ -143,4 +137,30 @@ public class ObjectMapperFactory {
 
         return mapper;
     }
+
+    static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, ObjectMapperFactory.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    // the smile and cbor dataformats are optional, their classes are only loaded along with these holders
+
+    private static class SmileFactories {
+        private static JsonFactory create() {
+            SmileFactory factory = new SmileFactory();
+            // references and types repeat throughout a definition, back-reference them along with the property names
+            factory.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+            return factory;
+        }
+    }
+
+    private static class CborFactories {
+        private static JsonFactory create() {
+            return new CBORFactory();
+        }
+    }
 }
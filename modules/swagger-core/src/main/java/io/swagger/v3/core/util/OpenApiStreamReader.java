@@ -0,0 +1,309 @@
+package io.swagger.v3.core.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.links.Link;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads a definition as it is parsed, reporting paths, operations and components to a {@link Visitor}, which selects
+ * the ones to materialize. Sections not selected are skipped by the parser without being materialized, so that e.g.
+ * listing the paths and component names of a definition takes memory independent of its size.
+ *
+ * The parser determines the format, e.g. a parser of {@link Yaml#mapper()} for YAML definitions; selected sections are
+ * read with the mapper of this reader.
+ *
+ * @since 2.0.10
+ */
+public class OpenApiStreamReader {
+
+    private static final Map<String, Class<?>> COMPONENT_TYPES = new HashMap<>();
+
+    static {
+        COMPONENT_TYPES.put("schemas", Schema.class);
+        COMPONENT_TYPES.put("responses", ApiResponse.class);
+        COMPONENT_TYPES.put("parameters", Parameter.class);
+        COMPONENT_TYPES.put("examples", Example.class);
+        COMPONENT_TYPES.put("requestBodies", RequestBody.class);
+        COMPONENT_TYPES.put("headers", Header.class);
+        COMPONENT_TYPES.put("securitySchemes", SecurityScheme.class);
+        COMPONENT_TYPES.put("links", Link.class);
+        COMPONENT_TYPES.put("callbacks", Callback.class);
+    }
+
+    /**
+     * Selects the sections of a definition to materialize, and receives them once read.
+     */
+    public interface Visitor {
+
+        /**
+         * @return true to read the given top level property, e.g. info or servers; paths and components are
+         * visited instead
+         */
+        default boolean visitProperty(String name) {
+            return true;
+        }
+
+        /**
+         * @return true to visit the operations of the given path and read its other properties, false to skip it
+         */
+        default boolean visitPath(String path) {
+            return true;
+        }
+
+        /**
+         * @return true to read the given operation
+         */
+        default boolean visitOperation(String path, PathItem.HttpMethod method) {
+            return false;
+        }
+
+        /**
+         * @param type the components property, e.g. schemas
+         * @return true to read the given component
+         */
+        default boolean visitComponent(String type, String name) {
+            return false;
+        }
+
+        default void onOperation(String path, PathItem.HttpMethod method, Operation operation) {
+        }
+
+        /**
+         * Receives a visited path once it is read. The path item holds the path level properties, and the operations
+         * read only if the reader retains them; with {@code retain(false)} the operations are passed to
+         * {@link #onOperation} alone.
+         */
+        default void onPath(String path, PathItem pathItem) {
+        }
+
+        default void onComponent(String type, String name, Object component) {
+        }
+    }
+
+    private final ObjectMapper mapper;
+    private boolean retain = true;
+
+    public OpenApiStreamReader() {
+        this(Json.mapper());
+    }
+
+    public OpenApiStreamReader(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * Sets whether the sections read are kept in the definition returned, true by default; false only passes them to
+     * the visitor, e.g. to process the operations of a definition one at a time.
+     */
+    public OpenApiStreamReader retain(boolean retain) {
+        this.retain = retain;
+        return this;
+    }
+
+    public OpenAPI read(InputStream in, Visitor visitor) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(in)) {
+            return read(parser, visitor);
+        }
+    }
+
+    /**
+     * Reads the definition at the current or next token of the given parser.
+     *
+     * @return the definition holding the top level properties and, if retained, the paths, operations and components
+     * read
+     */
+    public OpenAPI read(JsonParser parser, Visitor visitor) throws IOException {
+        JsonToken token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("expected an OpenAPI object, found " + token);
+        }
+        ObjectNode root = JsonNodeFactory.instance.objectNode();
+        Paths paths = null;
+        Components components = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            if ("paths".equals(name)) {
+                paths = readPaths(parser, visitor);
+            } else if ("components".equals(name)) {
+                components = readComponents(parser, visitor);
+            } else if (visitor.visitProperty(name)) {
+                root.set(name, mapper.readTree(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        OpenAPI openAPI = mapper.treeToValue(root, OpenAPI.class);
+        if (retain) {
+            openAPI.setPaths(paths);
+            openAPI.setComponents(components);
+        }
+        return openAPI;
+    }
+
+    private Paths readPaths(JsonParser parser, Visitor visitor) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        Paths paths = new Paths();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String path = parser.getCurrentName();
+            parser.nextToken();
+            if (path.startsWith("x-")) {
+                paths.addExtension(path, mapper.readValue(parser, Object.class));
+            } else if (visitor.visitPath(path)) {
+                PathItem pathItem = readPathItem(parser, path, visitor);
+                visitor.onPath(path, pathItem);
+                if (retain) {
+                    paths.addPathItem(path, pathItem);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return paths;
+    }
+
+    private PathItem readPathItem(JsonParser parser, String path, Visitor visitor) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return new PathItem();
+        }
+        // the properties other than operations are small, read them as a whole
+        ObjectNode properties = JsonNodeFactory.instance.objectNode();
+        Map<PathItem.HttpMethod, Operation> operations = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            PathItem.HttpMethod method = getMethod(name);
+            if (method == null) {
+                properties.set(name, mapper.readTree(parser));
+            } else if (visitor.visitOperation(path, method)) {
+                Operation operation = mapper.readValue(parser, Operation.class);
+                visitor.onOperation(path, method, operation);
+                if (retain) {
+                    operations.put(method, operation);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        PathItem pathItem = mapper.treeToValue(properties, PathItem.class);
+        for (Map.Entry<PathItem.HttpMethod, Operation> operation : operations.entrySet()) {
+            pathItem.operation(operation.getKey(), operation.getValue());
+        }
+        return pathItem;
+    }
+
+    private static PathItem.HttpMethod getMethod(String name) {
+        switch (name) {
+            case "get":
+                return PathItem.HttpMethod.GET;
+            case "put":
+                return PathItem.HttpMethod.PUT;
+            case "post":
+                return PathItem.HttpMethod.POST;
+            case "delete":
+                return PathItem.HttpMethod.DELETE;
+            case "options":
+                return PathItem.HttpMethod.OPTIONS;
+            case "head":
+                return PathItem.HttpMethod.HEAD;
+            case "patch":
+                return PathItem.HttpMethod.PATCH;
+            case "trace":
+                return PathItem.HttpMethod.TRACE;
+            default:
+                return null;
+        }
+    }
+
+    private Components readComponents(JsonParser parser, Visitor visitor) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        Components components = new Components();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String type = parser.getCurrentName();
+            parser.nextToken();
+            Class<?> componentClass = COMPONENT_TYPES.get(type);
+            if (type.startsWith("x-")) {
+                components.addExtension(type, mapper.readValue(parser, Object.class));
+            } else if (componentClass == null || parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+            } else {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    parser.nextToken();
+                    if (visitor.visitComponent(type, name)) {
+                        Object component = mapper.readValue(parser, componentClass);
+                        visitor.onComponent(type, name, component);
+                        if (retain) {
+                            addComponent(components, type, name, component);
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        return components;
+    }
+
+    private static void addComponent(Components components, String type, String name, Object component) {
+        switch (type) {
+            case "schemas":
+                components.addSchemas(name, (Schema) component);
+                break;
+            case "responses":
+                components.addResponses(name, (ApiResponse) component);
+                break;
+            case "parameters":
+                components.addParameters(name, (Parameter) component);
+                break;
+            case "examples":
+                components.addExamples(name, (Example) component);
+                break;
+            case "requestBodies":
+                components.addRequestBodies(name, (RequestBody) component);
+                break;
+            case "headers":
+                components.addHeaders(name, (Header) component);
+                break;
+            case "securitySchemes":
+                components.addSecuritySchemes(name, (SecurityScheme) component);
+                break;
+            case "links":
+                components.addLinks(name, (Link) component);
+                break;
+            case "callbacks":
+                components.addCallbacks(name, (Callback) component);
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -36,6 +36,21 @@ public class ParameterProcessor {
             String[] classTypes,
             String[] methodTypes,
             JsonView jsonViewAnnotation) {
+        return applyAnnotations(parameter, type, annotations, components, classTypes, methodTypes, jsonViewAnnotation, ModelConverters.getCurrent());
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public static Parameter applyAnnotations(
+            Parameter parameter,
+            Type type,
+            List<Annotation> annotations,
+            Components components,
+            String[] classTypes,
+            String[] methodTypes,
+            JsonView jsonViewAnnotation,
+            ModelConverters modelConverters) {
 
         final AnnotationsHelper helper = new AnnotationsHelper(annotations, type);
         if (helper.isContext()) {
@@ -59,12 +74,17 @@ public class ParameterProcessor {
                 .skipOverride(true)
                 .jsonViewAnnotation(jsonViewAnnotation)
                 .ctxAnnotations(reworkedAnnotations.toArray(new Annotation[reworkedAnnotations.size()]));
-        ResolvedSchema resolvedSchema = ModelConverters.getInstance().resolveAsResolvedSchema(annotatedType);
+        Schema lazyReference = modelConverters.resolveAsLazyReference(annotatedType, components);
+        if (lazyReference != null) {
+            parameter.setSchema(lazyReference);
+        } else {
+            ResolvedSchema resolvedSchema = modelConverters.resolveAsResolvedSchema(annotatedType);
 
-        if (resolvedSchema.schema != null) {
-            parameter.setSchema(resolvedSchema.schema);
+            if (resolvedSchema.schema != null) {
+                parameter.setSchema(resolvedSchema.schema);
+            }
+            ModelConverters.addReferencedSchemas(resolvedSchema, components);
         }
-        resolvedSchema.referencedSchemas.forEach((key, schema) -> components.addSchemas(key, schema));
 
         for (Annotation annotation : annotations) {
             if (annotation instanceof io.swagger.v3.oas.annotations.Parameter) {
@@ -0,0 +1,35 @@
+package io.swagger.v3.core.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Mapper for the <a href="https://github.com/FasterXML/smile-format-specification">Smile</a> binary encoding of JSON, configured as {@link Json}.
+ *
+ * @since 2.0.10
+ */
+public class Smile {
+
+    private static ObjectMapper mapper;
+
+    private static final boolean AVAILABLE = ObjectMapperFactory.isPresent("com.fasterxml.jackson.dataformat.smile.SmileFactory");
+
+    /**
+     * @return true if jackson-dataformat-smile, an optional dependency of swagger-core, is on the classpath
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * @throws IllegalStateException if jackson-dataformat-smile is not on the classpath
+     */
+    public static ObjectMapper mapper() {
+        if (!AVAILABLE) {
+            throw new IllegalStateException("jackson-dataformat-smile is required for the SMILE format");
+        }
+        if (mapper == null) {
+            mapper = ObjectMapperFactory.createSmile();
+        }
+        return mapper;
+    }
+}
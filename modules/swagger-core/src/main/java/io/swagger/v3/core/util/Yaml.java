@@ -1,12 +1,21 @@
 package io.swagger.v3.core.util;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+
+import java.io.IOException;
 
 public class Yaml {
     static ObjectMapper mapper;
 
+    // the YAML features FastYamlGenerator writes with
+    private static final YAMLFactory FAST_PATH_FEATURES = ObjectMapperFactory.createYamlFactory();
+
     public static ObjectMapper mapper() {
         if (mapper == null) {
             mapper = ObjectMapperFactory.createYaml();
@@ -18,9 +27,66 @@ public class Yaml {
         return mapper().writer(new DefaultPrettyPrinter());
     }
 
+    /**
+     * Writes the given value as {@link #mapper()} does, without going through the SnakeYAML emitter for the values
+     * written by the definitions; values it is needed for, e.g. with control characters, are written by the mapper.
+     * The mapper writes all values if the YAML features of its factory were changed from the ones it is created with.
+     *
+     * @since 2.0.10
+     */
+    public static String write(Object value) throws IOException {
+        ObjectMapper mapper = mapper();
+        if (!hasFastPathFeatures(mapper.getFactory())) {
+            return mapper.writeValueAsString(value);
+        }
+        StringBuilder out = new StringBuilder();
+        try (FastYamlGenerator generator = new FastYamlGenerator(getGeneratorFeatures(mapper.getFactory()), out)) {
+            mapper.getSerializationConfig().initialize(generator);
+            mapper.writeValue(generator, value);
+        } catch (IOException e) {
+            if (!isUnsupported(e)) {
+                throw e;
+            }
+            return mapper.writeValueAsString(value);
+        }
+        return out.toString();
+    }
+
+    private static boolean hasFastPathFeatures(JsonFactory factory) {
+        if (factory.getClass() != YAMLFactory.class) {
+            return false;
+        }
+        for (YAMLGenerator.Feature feature : YAMLGenerator.Feature.values()) {
+            if (((YAMLFactory) factory).isEnabled(feature) != FAST_PATH_FEATURES.isEnabled(feature)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int getGeneratorFeatures(JsonFactory factory) {
+        int features = 0;
+        for (JsonGenerator.Feature feature : JsonGenerator.Feature.values()) {
+            if (factory.isEnabled(feature)) {
+                features |= feature.getMask();
+            }
+        }
+        return features;
+    }
+
+    private static boolean isUnsupported(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof FastYamlGenerator.UnsupportedValueException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static String pretty(Object o) {
         try {
-            return pretty().writeValueAsString(o);
+            // the YAML generator does not use pretty printers
+            return write(o);
         } catch (Exception e) {
             e.printStackTrace();
             return null;
@@ -0,0 +1,61 @@
+package io.swagger.v3.core.benchmark;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.ResourceUtils;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing a definition as YAML through {@link Yaml#write(Object)} with the SnakeYAML emitter of
+ * {@link Yaml#mapper()}.
+ *
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.swagger.v3.core.benchmark.YamlBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class YamlBenchmark {
+
+    @Param({"specFiles/petstore-3.0-v2.json", "specFiles/compositionTest-3.0.json"})
+    public String file;
+
+    private OpenAPI openAPI;
+
+    @Setup
+    public void setUp() throws Exception {
+        openAPI = Json.mapper().readValue(ResourceUtils.loadClassResource(getClass(), file), OpenAPI.class);
+    }
+
+    @Benchmark
+    public String write() throws Exception {
+        return Yaml.write(openAPI);
+    }
+
+    @Benchmark
+    public String mapper() throws Exception {
+        return Yaml.mapper().writeValueAsString(openAPI);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(YamlBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,123 @@
+package io.swagger.v3.core.converting.override;
+
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.converter.ResolvedSchema;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class ConverterChainTest {
+
+    @Test(description = "resolve with a chain without modifying its parent")
+    public void shouldNotModifyParent() {
+        ModelConverters parent = new ModelConverters();
+        ModelConverter converter = new SamplePropertyConverter();
+        ModelConverters chain = parent.chain(Arrays.asList(converter, converter));
+
+        assertEquals(chain.getConverters().size(), 2);
+        assertSame(chain.getConverters().get(0), converter);
+        assertEquals(parent.getConverters().size(), 1);
+
+        Map<String, Schema> models = chain.read(ModelPropertyOverrideTest.MyPojo.class);
+        assertEquals(((Schema) models.get("MyPojo").getProperties().get("myCustomClass")).getFormat(), "date-time");
+        models = parent.read(ModelPropertyOverrideTest.MyPojo.class);
+        assertNull(((Schema) models.get("MyPojo").getProperties().get("myCustomClass")).getFormat());
+    }
+
+    @Test(description = "scope a chain to the current thread")
+    public void shouldScopeCurrentChain() {
+        ModelConverters chain = new ModelConverters().chain(null);
+        assertSame(ModelConverters.getCurrent(), ModelConverters.getInstance());
+
+        ModelConverters previous = ModelConverters.setCurrent(chain);
+        try {
+            assertNull(previous);
+            assertSame(ModelConverters.getCurrent(), chain);
+        } finally {
+            ModelConverters.setCurrent(previous);
+        }
+        assertSame(ModelConverters.getCurrent(), ModelConverters.getInstance());
+    }
+
+    @Test(description = "keep the schemas resolved by a chain")
+    public void shouldCacheResolvedSchemas() {
+        AtomicInteger resolutions = new AtomicInteger();
+        ModelConverter counter = (type, context, chain) -> {
+            resolutions.incrementAndGet();
+            return chain.hasNext() ? chain.next().resolve(type, context, chain) : null;
+        };
+        ModelConverters cached = new ModelConverters().chain(Arrays.asList(counter)).withResolvedSchemaCache();
+
+        Map<String, Schema> models = cached.readAll(ModelPropertyOverrideTest.MyPojo.class);
+        int count = resolutions.get();
+        models.get("MyPojo").getProperties().remove("myCustomClass");
+
+        Map<String, Schema> again = cached.readAll(ModelPropertyOverrideTest.MyPojo.class);
+        assertEquals(resolutions.get(), count);
+        assertNotSame(again.get("MyPojo"), models.get("MyPojo"));
+        assertTrue(again.get("MyPojo").getProperties().containsKey("myCustomClass"));
+        // a miss and a hit both return a map of the caller
+        models.put("Other", new Schema());
+        again.put("Other", new Schema());
+        assertFalse(cached.readAll(ModelPropertyOverrideTest.MyPojo.class).containsKey("Other"));
+        assertTrue(cached.read(ModelPropertyOverrideTest.MyPojo.class).containsKey("MyPojo"));
+        assertEquals(resolutions.get(), count);
+
+        ResolvedSchema resolved = cached.resolveAsResolvedSchema(
+                new AnnotatedType(ModelPropertyOverrideTest.MyPojo.class).resolveAsRef(true));
+        assertTrue(resolutions.get() > count);
+        assertEquals(resolved.schema.get$ref(), "#/components/schemas/MyPojo");
+    }
+
+    @Test(description = "resolve a type once within a session")
+    public void shouldResolveOncePerSession() {
+        AtomicInteger resolutions = new AtomicInteger();
+        ModelConverter counter = (type, context, chain) -> {
+            resolutions.incrementAndGet();
+            return chain.hasNext() ? chain.next().resolve(type, context, chain) : null;
+        };
+        ModelConverters chain = new ModelConverters().chain(Arrays.asList(counter));
+        AnnotatedType type = new AnnotatedType(ModelPropertyOverrideTest.MyPojo.class).resolveAsRef(true);
+        Components components = new Components();
+
+        ResolvedSchema first;
+        ResolvedSchema second;
+        try (ModelConverters.Session session = chain.openSession()) {
+            first = chain.resolveAsResolvedSchema(type);
+            int count = resolutions.get();
+            ModelConverters.addReferencedSchemas(first, components);
+            components.getSchemas().clear();
+
+            second = chain.resolveAsResolvedSchema(new AnnotatedType(ModelPropertyOverrideTest.MyPojo.class).resolveAsRef(true));
+            assertEquals(resolutions.get(), count);
+            assertNotSame(second.schema, first.schema);
+            assertEquals(second.schema.get$ref(), "#/components/schemas/MyPojo");
+            Components other = new Components();
+            ModelConverters.addReferencedSchemas(second, other);
+            assertTrue(other.getSchemas().containsKey("MyPojo"));
+        }
+
+        int count = resolutions.get();
+        ModelConverters.addReferencedSchemas(chain.resolveAsResolvedSchema(type), components);
+        assertTrue(resolutions.get() > count);
+        assertTrue(components.getSchemas().containsKey("MyPojo"));
+    }
+
+    @Test(description = "reject changes to a chain", expectedExceptions = UnsupportedOperationException.class)
+    public void shouldBeImmutable() {
+        new ModelConverters().chain(null).addConverter(new SamplePropertyConverter());
+    }
+}
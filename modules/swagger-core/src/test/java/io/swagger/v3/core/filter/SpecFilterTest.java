@@ -1,6 +1,7 @@
 package io.swagger.v3.core.filter;
 
 import com.google.common.collect.Sets;
+import io.swagger.v3.core.filter.resources.ChangeDescriptionsFilter;
 import io.swagger.v3.core.filter.resources.ChangeGetOperationsFilter;
 import io.swagger.v3.core.filter.resources.InternalModelPropertiesRemoverFilter;
 import io.swagger.v3.core.filter.resources.NoGetOperationsFilter;
@@ -27,6 +28,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -36,7 +38,9 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.fail;
 
 public class SpecFilterTest {
@@ -60,9 +64,19 @@ public class SpecFilterTest {
     @Test(description = "it should clone everything")
     public void cloneEverything() throws IOException {
         final OpenAPI openAPI = getOpenAPI(RESOURCE_PATH);
+        final OpenAPI expected = getOpenAPI(RESOURCE_PATH);
         final OpenAPI filtered = new SpecFilter().filter(openAPI, new NoOpOperationsFilter(), null, null, null);
 
-        assertEquals(Json.pretty(filtered), Json.pretty(openAPI));
+        // filtered operations get a parameter list, the source is left untouched
+        for (PathItem pathItem : expected.getPaths().values()) {
+            for (Operation operation : pathItem.readOperations()) {
+                if (operation.getParameters() == null) {
+                    operation.setParameters(new ArrayList<>());
+                }
+            }
+        }
+        assertEquals(Json.pretty(filtered), Json.pretty(expected));
+        assertEquals(Json.pretty(openAPI), Json.pretty(getOpenAPI(RESOURCE_PATH)));
     }
 
     @Test(description = "it should filter away get operations in a resource")
@@ -114,6 +128,36 @@ public class SpecFilterTest {
         assertOperations(filter, CHANGED_OPERATION_ID, CHANGED_OPERATION_DESCRIPTION);
     }
 
+    @Test(description = "it should not modify the filtered openAPI")
+    public void changeGetResourcesKeepsOriginal() throws IOException {
+        final OpenAPI openAPI = getOpenAPI(RESOURCE_PATH);
+        final String original = Json.pretty(openAPI);
+        final OpenAPI filtered = new SpecFilter().filter(openAPI, new ChangeGetOperationsFilter(), null, null, null);
+        assertOperations(filtered, CHANGED_OPERATION_ID, CHANGED_OPERATION_DESCRIPTION);
+        assertEquals(Json.pretty(openAPI), original);
+
+        // untouched subtrees are shared with the original
+        final PathItem pathItem = openAPI.getPaths().get("/pet");
+        final PathItem filteredPathItem = filtered.getPaths().get("/pet");
+        assertNotSame(filteredPathItem, pathItem);
+        assertSame(filteredPathItem.getPut().getRequestBody().getContent(), pathItem.getPut().getRequestBody().getContent());
+    }
+
+    @Test(description = "it should hand copies of parameters, bodies, responses and properties to the filter")
+    public void changeDescriptionsKeepsOriginal() throws IOException {
+        final OpenAPI openAPI = getOpenAPI(RESOURCE_PATH);
+        final String original = Json.pretty(openAPI);
+        final OpenAPI filtered = new SpecFilter().filter(openAPI, new ChangeDescriptionsFilter(), null, null, null);
+        assertEquals(Json.pretty(openAPI), original);
+
+        final Operation operation = filtered.getPaths().get("/pet/{petId}").getGet();
+        assertEquals(operation.getParameters().get(0).getDescription(), ChangeDescriptionsFilter.CHANGED_DESCRIPTION);
+        assertEquals(operation.getResponses().get("404").getDescription(), ChangeDescriptionsFilter.CHANGED_DESCRIPTION);
+        assertEquals(filtered.getPaths().get("/pet").getPut().getRequestBody().getDescription(), ChangeDescriptionsFilter.CHANGED_DESCRIPTION);
+        final Schema property = (Schema) filtered.getComponents().getSchemas().get(PET_MODEL).getProperties().get("name");
+        assertEquals(property.getDescription(), ChangeDescriptionsFilter.CHANGED_DESCRIPTION);
+    }
+
     private void assertOperations(OpenAPI filtered, String operationId, String description) {
         if (filtered.getPaths() != null) {
             for (Map.Entry<String, PathItem> entry : filtered.getPaths().entrySet()) {
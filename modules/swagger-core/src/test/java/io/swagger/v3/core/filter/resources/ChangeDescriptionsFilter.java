@@ -0,0 +1,45 @@
+package io.swagger.v3.core.filter.resources;
+
+import io.swagger.v3.core.filter.AbstractSpecFilter;
+import io.swagger.v3.core.model.ApiDescription;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sample filter changing the descriptions of the nodes it is handed in place
+ **/
+public class ChangeDescriptionsFilter extends AbstractSpecFilter {
+    public static final String CHANGED_DESCRIPTION = "changed";
+
+    @Override
+    public Optional<Parameter> filterParameter(Parameter parameter, Operation operation, ApiDescription api, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+        parameter.setDescription(CHANGED_DESCRIPTION);
+        operation.setDescription(CHANGED_DESCRIPTION);
+        return Optional.of(parameter);
+    }
+
+    @Override
+    public Optional<RequestBody> filterRequestBody(RequestBody requestBody, Operation operation, ApiDescription api, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+        requestBody.setDescription(CHANGED_DESCRIPTION);
+        return Optional.of(requestBody);
+    }
+
+    @Override
+    public Optional<ApiResponse> filterResponse(ApiResponse response, Operation operation, ApiDescription api, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+        response.setDescription(CHANGED_DESCRIPTION);
+        return Optional.of(response);
+    }
+
+    @Override
+    public Optional<Schema> filterSchemaProperty(Schema property, Schema schema, String propName, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+        property.setDescription(CHANGED_DESCRIPTION);
+        return Optional.of(property);
+    }
+}
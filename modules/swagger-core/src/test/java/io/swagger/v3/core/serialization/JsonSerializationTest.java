@@ -1,10 +1,15 @@
 package io.swagger.v3.core.serialization;
 
+import io.swagger.v3.core.util.Cbor;
 import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Smile;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.servers.Server;
@@ -67,4 +72,21 @@ public class JsonSerializationTest {
         assertEquals(rebuilt.getPaths().get("/health").getGet().getResponses().get("200"), expectedResponse);
 
     }
+
+    @Test
+    public void testSerializeASpecAsSmileAndCbor() throws Exception {
+        OpenAPI swagger = new OpenAPI()
+                .addServersItem(new Server().url("http://petstore.swagger.io"))
+                .components(new Components()
+                        .addSchemas("Pet", new Schema().type("object").addProperties("name", new StringSchema())))
+                .path("/pets", new PathItem().get(new Operation().responses(new ApiResponses()
+                        .addApiResponse("200", new ApiResponse().description("pets")))));
+        swagger.addExtension("x-foo-bar", "foo bar");
+
+        String swaggerJson = Json.mapper().writeValueAsString(swagger);
+        OpenAPI rebuilt = Smile.mapper().readValue(Smile.mapper().writeValueAsBytes(swagger), OpenAPI.class);
+        assertEquals(Json.mapper().writeValueAsString(rebuilt), swaggerJson);
+        rebuilt = Cbor.mapper().readValue(Cbor.mapper().writeValueAsBytes(swagger), OpenAPI.class);
+        assertEquals(Json.mapper().writeValueAsString(rebuilt), swaggerJson);
+    }
 }
@@ -9,18 +9,50 @@ import io.swagger.v3.core.oas.models.Manufacturers;
 import io.swagger.v3.core.oas.models.ReadOnlyModel;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.core.util.ResourceUtils;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.ExternalDocumentation;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.info.Contact;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.links.Link;
 import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.DateSchema;
 import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.Encoding;
 import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.media.XML;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.security.OAuthFlow;
+import io.swagger.v3.oas.models.security.OAuthFlows;
+import io.swagger.v3.oas.models.security.Scopes;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import io.swagger.v3.oas.models.servers.Server;
+import io.swagger.v3.oas.models.servers.ServerVariable;
+import io.swagger.v3.oas.models.servers.ServerVariables;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -367,4 +399,68 @@ public class ModelSerializerTest {
         SerializationMatchers.assertEqualsToYaml(model, yaml);
 
     }
-}
\ No newline at end of file
+
+    @Test(description = "it should write schemas as the bean serializer does")
+    public void writeSchemasAsBeanSerializer() throws Exception {
+        Schema[] schemas = {new Schema(), new StringSchema(), new DateSchema(),
+                new ArraySchema().items(new IntegerSchema()),
+                new ComposedSchema().addAllOfItem(new Schema().$ref("Pet")).addOneOfItem(new StringSchema())};
+        for (Schema schema : schemas) {
+            schema.title("title").multipleOf(BigDecimal.TEN).maximum(new BigDecimal("1.5")).exclusiveMaximum(true)
+                    .minLength(1).pattern("^a").required(Arrays.asList("id")).type("object")
+                    .addProperties("id", new IntegerSchema().format("int64")).additionalProperties(false)
+                    .description("description").nullable(true).externalDocs(new ExternalDocumentation().url("http://swagger.io"))
+                    .discriminator(new Discriminator().propertyName("id"));
+            schema.addExtension("x-order", 1);
+            schema.setExample(schema instanceof DateSchema ? new Date(0) : "example");
+            schema.setEnum(Arrays.asList(schema.getExample(), null));
+
+            // an active view makes the serializer use the bean serializer
+            String expected = m.writerWithView(Object.class).writeValueAsString(schema);
+            assertEquals(m.writeValueAsString(schema), expected);
+            assertEquals(Json.pretty(schema), m.writerWithView(Object.class).withDefaultPrettyPrinter().writeValueAsString(schema));
+        }
+        assertEquals(m.writeValueAsString(new Schema().$ref("Pet").type("object")), "{\"$ref\":\"#/components/schemas/Pet\"}");
+    }
+
+    @Test(description = "it should write definitions as the bean serializers do")
+    public void writeDefinitionsAsBeanSerializers() throws Exception {
+        for (String file : new String[]{"specFiles/petstore-3.0-v2.json", "specFiles/compositionTest-3.0.json",
+                "specFiles/securityDefinitions.json", "specFiles/propertyWithVendorExtensions.json"}) {
+            final OpenAPI openAPI = m.readValue(ResourceUtils.loadClassResource(getClass(), file), OpenAPI.class);
+            assertEquals(m.writeValueAsString(openAPI), m.writerWithView(Object.class).writeValueAsString(openAPI), file);
+        }
+
+        final OpenAPI openAPI = new OpenAPI()
+                .info(new Info().title("title").version("1.0").contact(new Contact().name("name").email("email"))
+                        .license(new License().name("Apache 2.0").url("http://www.apache.org")))
+                .addServersItem(new Server().url("http://{host}").variables(new ServerVariables()
+                        .addServerVariable("host", new ServerVariable()._default("localhost").addEnumItem("localhost"))))
+                .addSecurityItem(new SecurityRequirement().addList("oauth", "read"))
+                .components(new Components()
+                        .addSecuritySchemes("oauth", new SecurityScheme().type(SecurityScheme.Type.OAUTH2)
+                                .flows(new OAuthFlows().implicit(new OAuthFlow().authorizationUrl("http://auth")
+                                        .scopes(new Scopes().addString("read", "read access")))))
+                        .addSecuritySchemes("key", new SecurityScheme().type(SecurityScheme.Type.APIKEY)
+                                .in(SecurityScheme.In.HEADER).name("key"))
+                        .addExamples("example", new Example().summary("summary").value(1))
+                        .addHeaders("header", new Header().description("header").schema(new IntegerSchema()))
+                        .addLinks("link", new Link().operationId("get").parameters("id", "$response.body#/id"))
+                        .addSchemas("Pet", new Schema().xml(new XML().name("pet").wrapped(true))
+                                .discriminator(new Discriminator().propertyName("type"))))
+                .path("/pets", new PathItem().summary("pets").get(new Operation().operationId("get")
+                        .addParametersItem(new Parameter().name("id").in("query").explode(true).style(Parameter.StyleEnum.FORM))
+                        .requestBody(new RequestBody().content(new Content().addMediaType("multipart/form-data",
+                                new MediaType().addEncoding("file", new Encoding().contentType("image/png")
+                                        .style(Encoding.StyleEnum.FORM)))))
+                        .callbacks(Collections.singletonMap("onEvent", new Callback().addPathItem("{$request.body#/url}",
+                                new PathItem().post(new Operation().responses(new ApiResponses()
+                                        .addApiResponse("200", new ApiResponse().description("ok")))))))
+                        .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("ok")
+                                .link("self", new Link().$ref("link"))))));
+        openAPI.addExtension("x-root", Collections.singletonMap("a", null));
+        openAPI.getComponents().getSecuritySchemes().get("oauth").getFlows().getImplicit().addExtension("x-flow", true);
+        assertEquals(m.writeValueAsString(openAPI), m.writerWithView(Object.class).writeValueAsString(openAPI));
+        assertEquals(Json.pretty(openAPI), m.writerWithView(Object.class).withDefaultPrettyPrinter().writeValueAsString(openAPI));
+    }
+}
@@ -1,10 +1,18 @@
 package io.swagger.v3.core.serialization;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.ResourceUtils;
 import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 public class YamlSerializerTest {
     @Test
@@ -69,4 +77,86 @@ public class YamlSerializerTest {
 
         assertEquals(serializedYaml, yaml);
     }
+
+    @Test(description = "write scalars in the styles of the mapper")
+    public void testWriteStyles() throws Exception {
+        final String yaml =
+                "plain: Look ma no quotes\n" +
+                        "boolean: \"true\"\n" +
+                        "number: \"3.0\"\n" +
+                        "indicator: '#/components/schemas/Pet'\n" +
+                        "colon: 'key: value'\n" +
+                        "quote: '''quoted'' it''s'\n" +
+                        "leading space: ' text'\n" +
+                        "'- key': value\n" +
+                        "description: A long description of the operation that goes on past the width of the\n" +
+                        "  line and is split\n" +
+                        "multiLine: |-\n" +
+                        "  first line\n" +
+                        "  second line\n" +
+                        "empty: {}\n" +
+                        "emptyList: []\n" +
+                        "tags:\n" +
+                        "- pets\n" +
+                        "- name: store\n" +
+                        "  count: 3\n" +
+                        "- - 1\n" +
+                        "  - 2.5\n";
+
+        ObjectNode node = Json.mapper().createObjectNode();
+        node.put("plain", "Look ma no quotes");
+        node.put("boolean", "true");
+        node.put("number", "3.0");
+        node.put("indicator", "#/components/schemas/Pet");
+        node.put("colon", "key: value");
+        node.put("quote", "'quoted' it's");
+        node.put("leading space", " text");
+        node.put("- key", "value");
+        node.put("description", "A long description of the operation that goes on past the width of the line and is split");
+        node.put("multiLine", "first line\nsecond line");
+        node.putObject("empty");
+        node.putArray("emptyList");
+        ArrayNode tags = node.putArray("tags");
+        tags.add("pets");
+        tags.addObject().put("name", "store").put("count", 3);
+        tags.addArray().add(1).add(2.5);
+
+        assertEquals(Yaml.write(node), yaml);
+    }
+
+    @Test(description = "write values with special characters through the mapper")
+    public void testWriteSpecialCharacters() throws Exception {
+        ObjectNode node = Json.mapper().createObjectNode();
+        node.put("tab", "a\tb");
+        node.put("keptBreaks", "a\n\n");
+        node.putObject("").put("key\nwith break", "value");
+
+        assertEquals(Yaml.write(node), Yaml.mapper().writeValueAsString(node));
+    }
+
+    @Test(description = "write definitions as the mapper")
+    public void testWriteDefinitions() throws Exception {
+        for (String file : new String[]{"specFiles/petstore-3.0.json", "specFiles/petstore-3.0-v2.json"}) {
+            OpenAPI openAPI = Json.mapper().readValue(ResourceUtils.loadClassResource(getClass(), file), OpenAPI.class);
+
+            assertEquals(Yaml.write(openAPI), Yaml.mapper().writeValueAsString(openAPI));
+        }
+    }
+
+    @Test(description = "write through the mapper with changed YAML features")
+    public void testWriteWithChangedFeatures() throws Exception {
+        ObjectNode node = Json.mapper().createObjectNode();
+        node.put("multiLine", "first line\nsecond line");
+        node.putArray("tags").add("pets");
+
+        YAMLFactory factory = (YAMLFactory) Yaml.mapper().getFactory();
+        factory.enable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER);
+        try {
+            String yaml = Yaml.write(node);
+            assertEquals(yaml, Yaml.mapper().writeValueAsString(node));
+            assertTrue(yaml.startsWith("---"));
+        } finally {
+            factory.disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER);
+        }
+    }
 }
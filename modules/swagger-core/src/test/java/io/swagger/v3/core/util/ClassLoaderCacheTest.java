@@ -0,0 +1,57 @@
+package io.swagger.v3.core.util;
+
+import org.testng.annotations.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class ClassLoaderCacheTest {
+
+    @Test(description = "compute values once per class loader")
+    public void shouldComputeValuesPerClassLoader() throws Exception {
+        ClassLoader parent = getClass().getClassLoader();
+        try (URLClassLoader child = new URLClassLoader(new URL[0], parent)) {
+            ClassLoaderCache<Object> cache = new ClassLoaderCache<>(classLoader -> new Object());
+            assertSame(cache.get(child), cache.get(child));
+            assertNotSame(cache.get(child), cache.get(parent));
+            assertSame(cache.get(null), cache.get(null));
+        }
+    }
+
+    @Test(description = "release the values and notify the listeners of a released class loader")
+    public void shouldReleaseClassLoader() throws Exception {
+        ClassLoader parent = getClass().getClassLoader();
+        List<ClassLoader> released = new ArrayList<>();
+        Consumer<ClassLoader> listener = released::add;
+        ClassLoaderCache.addReleaseListener(listener);
+        try (URLClassLoader child = new URLClassLoader(new URL[0], parent);
+             URLClassLoader grandChild = new URLClassLoader(new URL[0], child)) {
+            ClassLoaderCache<Object> cache = new ClassLoaderCache<>(classLoader -> new Object());
+            Object parentValue = cache.get(parent);
+            Object childValue = cache.get(child);
+            Object grandChildValue = cache.get(grandChild);
+
+            // the loader of swagger-core is never released
+            ClassLoaderCache.releaseAll(parent);
+            assertTrue(released.isEmpty());
+            assertSame(cache.get(child), childValue);
+
+            ClassLoaderCache.releaseAll(child);
+            assertEquals(released.size(), 1);
+            assertSame(released.get(0), child);
+            assertNotSame(cache.get(child), childValue);
+            assertNotSame(cache.get(grandChild), grandChildValue);
+            assertSame(cache.get(parent), parentValue);
+        } finally {
+            ClassLoaderCache.removeReleaseListener(listener);
+        }
+    }
+}
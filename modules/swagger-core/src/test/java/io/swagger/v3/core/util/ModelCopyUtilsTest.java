@@ -0,0 +1,78 @@
+package io.swagger.v3.core.util;
+
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class ModelCopyUtilsTest {
+
+    @Test(description = "copy an operation sharing its children")
+    public void copyOperation() {
+        final ApiResponse ok = new ApiResponse().description("ok");
+        final Operation operation = new Operation()
+                .operationId("getPet")
+                .addParametersItem(new QueryParameter().name("id"))
+                .responses(new ApiResponses().addApiResponse("200", ok));
+
+        final Operation copy = ModelCopyUtils.copy(operation);
+        assertNotSame(copy, operation);
+        assertEquals(copy, operation);
+        assertSame(copy.getParameters().get(0), operation.getParameters().get(0));
+        assertSame(copy.getResponses().get("200"), ok);
+
+        copy.getParameters().clear();
+        copy.getResponses().remove("200");
+        copy.setOperationId("changed");
+        assertEquals(operation.getParameters().size(), 1);
+        assertSame(operation.getResponses().get("200"), ok);
+        assertEquals(operation.getOperationId(), "getPet");
+    }
+
+    @Test(description = "copy a schema retaining its type")
+    public void copySchema() {
+        final Schema schema = new Schema()
+                .type("object")
+                .addProperties("name", new StringSchema())
+                .addProperties("age", new IntegerSchema())
+                .required(Arrays.asList("name", "age"));
+
+        final Schema copy = ModelCopyUtils.copy(schema);
+        assertEquals(copy, schema);
+        assertEquals(copy.getRequired(), Arrays.asList("name", "age"));
+
+        copy.getProperties().remove("age");
+        assertEquals(schema.getProperties().size(), 2);
+
+        final ArraySchema array = new ArraySchema().items(new StringSchema());
+        final Schema arrayCopy = ModelCopyUtils.copy(array);
+        assertTrue(arrayCopy instanceof ArraySchema);
+        assertSame(((ArraySchema) arrayCopy).getItems(), array.getItems());
+
+        final ComposedSchema composed = new ComposedSchema().addAllOfItem(new Schema().$ref("Pet"));
+        final Schema composedCopy = ModelCopyUtils.copy(composed);
+        assertTrue(composedCopy instanceof ComposedSchema);
+        assertEquals(composedCopy, composed);
+        assertNotSame(((ComposedSchema) composedCopy).getAllOf(), composed.getAllOf());
+    }
+
+    @Test(description = "copy null")
+    public void copyNull() {
+        assertNull(ModelCopyUtils.copy((Operation) null));
+        assertNull(ModelCopyUtils.copy((Schema) null));
+    }
+}
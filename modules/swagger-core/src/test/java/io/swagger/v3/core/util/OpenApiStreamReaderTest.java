@@ -0,0 +1,98 @@
+package io.swagger.v3.core.util;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class OpenApiStreamReaderTest {
+
+    @Test(description = "list paths and component names without reading them")
+    public void listPathsAndComponents() throws Exception {
+        final List<String> paths = new ArrayList<>();
+        final List<String> schemas = new ArrayList<>();
+        final OpenAPI openAPI = new OpenApiStreamReader().read(load(), new OpenApiStreamReader.Visitor() {
+            @Override
+            public boolean visitPath(String path) {
+                paths.add(path);
+                return false;
+            }
+
+            @Override
+            public boolean visitComponent(String type, String name) {
+                schemas.add(type + "/" + name);
+                return false;
+            }
+        });
+
+        assertEquals(paths, Arrays.asList("/pets", "/pets/{petId}"));
+        assertEquals(schemas, Arrays.asList("schemas/Pet", "schemas/Pets", "schemas/Error"));
+        assertEquals(openAPI.getInfo().getTitle(), "Swagger Petstore");
+        assertTrue(openAPI.getPaths().isEmpty());
+        assertNull(openAPI.getComponents().getSchemas());
+    }
+
+    @Test(description = "read the selected operations and components")
+    public void readSelected() throws Exception {
+        final OpenAPI full = Json.mapper().readValue(load(), OpenAPI.class);
+        final OpenAPI openAPI = new OpenApiStreamReader().read(load(), new OpenApiStreamReader.Visitor() {
+            @Override
+            public boolean visitProperty(String name) {
+                return !"servers".equals(name);
+            }
+
+            @Override
+            public boolean visitOperation(String path, PathItem.HttpMethod method) {
+                return "/pets".equals(path) && method == PathItem.HttpMethod.GET;
+            }
+
+            @Override
+            public boolean visitComponent(String type, String name) {
+                return "Pet".equals(name);
+            }
+        });
+
+        assertNull(openAPI.getServers());
+        assertEquals(openAPI.getInfo(), full.getInfo());
+        assertEquals(openAPI.getPaths().get("/pets").getGet(), full.getPaths().get("/pets").getGet());
+        assertNull(openAPI.getPaths().get("/pets").getPost());
+        assertTrue(openAPI.getPaths().get("/pets/{petId}").readOperations().isEmpty());
+        assertEquals(new ArrayList<>(openAPI.getComponents().getSchemas().keySet()), Arrays.asList("Pet"));
+        assertEquals(openAPI.getComponents().getSchemas().get("Pet"), full.getComponents().getSchemas().get("Pet"));
+    }
+
+    @Test(description = "pass operations to the visitor without retaining them")
+    public void visitWithoutRetaining() throws Exception {
+        final List<String> operations = new ArrayList<>();
+        final OpenAPI openAPI = new OpenApiStreamReader().retain(false).read(load(), new OpenApiStreamReader.Visitor() {
+            @Override
+            public boolean visitOperation(String path, PathItem.HttpMethod method) {
+                return true;
+            }
+
+            @Override
+            public void onOperation(String path, PathItem.HttpMethod method, Operation operation) {
+                operations.add(operation.getOperationId());
+            }
+        });
+
+        assertEquals(operations, Arrays.asList("createPets", "listPets", "showPetById"));
+        assertNull(openAPI.getPaths());
+        assertNull(openAPI.getComponents());
+    }
+
+    private static ByteArrayInputStream load() throws Exception {
+        return new ByteArrayInputStream(ResourceUtils.loadClassResource(OpenApiStreamReaderTest.class, "specFiles/petstore-3.0.json")
+                .getBytes(StandardCharsets.UTF_8));
+    }
+}
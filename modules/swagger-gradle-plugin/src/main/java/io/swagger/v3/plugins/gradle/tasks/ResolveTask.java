@@ -33,7 +33,9 @@ import java.util.stream.StreamSupport;
 public class ResolveTask extends DefaultTask {
     private static Logger LOGGER = Logging.getLogger(ResolveTask.class);
 
-    public enum Format {JSON, YAML, JSONANDYAML};
+    public enum Format {JSON, YAML, JSONANDYAML, SMILE, CBOR};
+
+    public enum SplitBy {TAG, PATH};
 
     private String outputFileName = "openapi";
 
@@ -44,6 +46,8 @@ public class ResolveTask extends DefaultTask {
 
     private Format outputFormat = Format.JSON;
 
+    private SplitBy splitBy;
+
     private Set<String> resourcePackages;
     private Set<String> resourceClasses;
     private String filterClass;
@@ -135,6 +139,24 @@ public class ResolveTask extends DefaultTask {
         this.outputFormat = outputFormat;
     }
 
+    /**
+     * @since 2.0.10
+     */
+    @Input
+    @Optional
+    public SplitBy getSplitBy() {
+        return splitBy;
+    }
+
+    /**
+     * Writes the specification as multiple files, grouping paths by tag or by first path segment
+     *
+     * @since 2.0.10
+     */
+    public void setSplitBy(SplitBy splitBy) {
+        this.splitBy = splitBy;
+    }
+
     @Input
     @Optional
     public Set<String> getResourcePackages() {
@@ -384,6 +406,20 @@ public class ResolveTask extends DefaultTask {
             method=swaggerLoaderClass.getDeclaredMethod("setReadAllResources", Boolean.class);
             method.invoke(swaggerLoader, readAllResources);
 
+            // split and binary specifications are written by the loader
+            if (splitBy != null || Format.SMILE.equals(outputFormat) || Format.CBOR.equals(outputFormat)) {
+                if (splitBy != null) {
+                    method=swaggerLoaderClass.getDeclaredMethod("setSplitBy",String.class);
+                    method.invoke(swaggerLoader, splitBy.name());
+                }
+                method=swaggerLoaderClass.getDeclaredMethod("setOutputPath",String.class);
+                method.invoke(swaggerLoader, outputPath);
+                method=swaggerLoaderClass.getDeclaredMethod("setOutputFileName",String.class);
+                method.invoke(swaggerLoader, outputFileName);
+                method=swaggerLoaderClass.getDeclaredMethod("setEncoding",String.class);
+                method.invoke(swaggerLoader, encoding);
+            }
+
             method=swaggerLoaderClass.getDeclaredMethod("resolve");
             Map<String, String> specs = (Map<String, String>)method.invoke(swaggerLoader);
 
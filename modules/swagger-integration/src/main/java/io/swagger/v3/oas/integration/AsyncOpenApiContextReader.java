@@ -0,0 +1,139 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.oas.integration.api.OpenApiContext;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads OpenApiContexts on an executor, so that the resolution of the definition doesn't block the caller.
+ *
+ * Concurrent reads of the same context are coalesced into a single in-flight read; the last definition read
+ * for each context is retained, to be served when a read takes too long or is rejected. Reads and definitions are
+ * kept per context instance, so that contexts of different applications sharing an id don't see each other's.
+ *
+ * @since 2.0.10
+ */
+public class AsyncOpenApiContextReader {
+
+    public static final int DEFAULT_THREADS = 2;
+    public static final int DEFAULT_QUEUE_SIZE = 100;
+
+    private static AsyncOpenApiContextReader instance;
+
+    private final Executor executor;
+    private final ConcurrentHashMap<OpenApiContext, CompletableFuture<OpenAPI>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<OpenApiContext, OpenAPI> snapshots = new ConcurrentHashMap<>();
+
+    public static synchronized AsyncOpenApiContextReader getInstance() {
+        if (instance == null) {
+            instance = new AsyncOpenApiContextReader(createExecutor(DEFAULT_THREADS, DEFAULT_QUEUE_SIZE));
+        }
+        return instance;
+    }
+
+    /**
+     * Shuts down the executor of the shared instance, if created, letting the reads already submitted complete; the
+     * next call to {@link #getInstance()} creates a new one.
+     */
+    public static synchronized void shutdown() {
+        if (instance != null) {
+            if (instance.executor instanceof ExecutorService) {
+                ((ExecutorService) instance.executor).shutdown();
+            }
+            instance = null;
+        }
+    }
+
+    public AsyncOpenApiContextReader(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a bounded executor with daemon threads; tasks exceeding the queue size are rejected. The threads don't
+     * inherit the context class loader of the thread creating them, e.g. the one of the first application reading.
+     */
+    public static ThreadPoolExecutor createExecutor(int threads, int queueSize) {
+        final AtomicInteger count = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread thread = new Thread(r, "swagger-openapi-reader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(AsyncOpenApiContextReader.class.getClassLoader());
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueSize), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Reads the given context on the executor, joining the read already in flight for the same context if any.
+     */
+    public CompletableFuture<OpenAPI> read(OpenApiContext ctx) {
+        CompletableFuture<OpenAPI> future = inFlight.get(ctx);
+        if (future != null) {
+            return future;
+        }
+        final CompletableFuture<OpenAPI> read = new CompletableFuture<>();
+        future = inFlight.putIfAbsent(ctx, read);
+        if (future != null) {
+            return future;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    OpenAPI openAPI = ctx.read();
+                    if (openAPI != null) {
+                        snapshots.put(ctx, openAPI);
+                    }
+                    inFlight.remove(ctx, read);
+                    read.complete(openAPI);
+                } catch (Throwable t) {
+                    inFlight.remove(ctx, read);
+                    read.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(ctx, read);
+            read.completeExceptionally(e);
+        }
+        return read;
+    }
+
+    /**
+     * Drops the definition retained for the given context, e.g. when the context is closed.
+     */
+    public void remove(OpenApiContext ctx) {
+        snapshots.remove(ctx);
+    }
+
+    /**
+     * Drops the definition retained for the given context by the shared instance, if created.
+     */
+    static synchronized void release(OpenApiContext ctx) {
+        if (instance != null) {
+            instance.remove(ctx);
+        }
+    }
+
+    /**
+     * @return the last definition read for the given context, or null if none was read yet
+     */
+    public OpenAPI getSnapshot(OpenApiContext ctx) {
+        return snapshots.get(ctx);
+    }
+}
@@ -1,13 +1,21 @@
 package io.swagger.v3.oas.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.converter.LazyComponentSchemas;
 import io.swagger.v3.core.converter.ModelConverter;
 import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.filter.OpenAPISpecFilter;
 import io.swagger.v3.core.jackson.ModelResolver;
+import io.swagger.v3.core.metrics.MetricsUtils;
+import io.swagger.v3.core.metrics.NoOpOpenApiMetrics;
+import io.swagger.v3.core.metrics.OpenApiMetrics;
+import io.swagger.v3.core.util.ClassLoaderCache;
+import io.swagger.v3.core.util.ModelCopyUtils;
 import io.swagger.v3.oas.integration.api.ObjectMapperProcessor;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
 import io.swagger.v3.oas.integration.api.OpenApiConfigurationLoader;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
+import io.swagger.v3.oas.integration.api.OpenApiMetricsMXBean;
 import io.swagger.v3.oas.integration.api.OpenApiReader;
 import io.swagger.v3.oas.integration.api.OpenApiScanner;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -16,19 +24,33 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class GenericOpenApiContext<T extends GenericOpenApiContext> implements OpenApiContext {
 
     private static Logger LOGGER = LoggerFactory.getLogger(GenericOpenApiContext.class);
 
+    public static final String METRICS_MBEAN_DOMAIN = "io.swagger.v3.oas.integration";
+
     protected Set<String> resourcePackages;
     protected Set<String> resourceClasses;
     protected String id = OPENAPI_CONTEXT_ID_DEFAULT;
@@ -42,8 +64,31 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
 
     private ObjectMapperProcessor objectMapperProcessor;
     private Set<ModelConverter> modelConverters;
+    private ModelConverters modelConverterChain;
+
+    private OpenApiMetrics metrics;
+
+    private OpenAPISpecFilter filter;
+    private OpenAPISpecFilter providedFilter;
+    private Class<? extends OpenAPISpecFilter> filterClass;
 
     private ConcurrentHashMap<String, Cache> cache = new ConcurrentHashMap<>();
+    // incremented by applyConfiguration, a definition read while applying is not cached
+    private volatile long configurationGeneration;
+
+    private AsyncOpenApiContextReader asyncReader;
+    // the background resolution of the lazy component schemas of the last definition read, if any
+    private CompletableFuture<Void> warmUp;
+
+    private boolean watchConfiguration;
+    private Path configurationFile;
+    private OpenApiConfigurationWatcher configurationWatcher;
+
+    // contexts open per class loader, the state of a loader is released when its last context is closed
+    private static final ClassLoaderCache<AtomicInteger> OPEN_CONTEXTS = new ClassLoaderCache<>(classLoader -> new AtomicInteger());
+    private ClassLoader classLoader;
+    private boolean open;
+    private boolean closed;
 
     // 0 doesn't cache
     // -1 perpetual
@@ -62,6 +107,61 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         return (T) this;
     }
 
+    /**
+     * @return the reader whose executor runs the background tasks of the context, the shared one if not set
+     *
+     * @since 2.0.10
+     */
+    public AsyncOpenApiContextReader getAsyncReader() {
+        return asyncReader == null ? AsyncOpenApiContextReader.getInstance() : asyncReader;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setAsyncReader(AsyncOpenApiContextReader asyncReader) {
+        this.asyncReader = asyncReader;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public final T asyncReader(AsyncOpenApiContextReader asyncReader) {
+        this.asyncReader = asyncReader;
+        return (T) this;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public boolean isWatchConfiguration() {
+        return watchConfiguration;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setWatchConfiguration(boolean watchConfiguration) {
+        this.watchConfiguration = watchConfiguration;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public final T watchConfiguration(boolean watchConfiguration) {
+        this.watchConfiguration = watchConfiguration;
+        return (T) this;
+    }
+
+    /**
+     * @return the file the configuration was loaded from, if it was loaded from the file system
+     *
+     * @since 2.0.10
+     */
+    public Path getConfigurationFile() {
+        return configurationFile;
+    }
+
     public OpenApiReader getOpenApiReader() {
         return openApiReader;
     }
@@ -209,11 +309,113 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         return (T) this;
     }
 
+    /**
+     * @return the converter chain built on init from the configured converters and object mapper processor,
+     * or null if the context uses the global chain
+     *
+     * @since 2.0.10
+     */
+    public ModelConverters getModelConverterChain() {
+        return modelConverterChain;
+    }
+
+    /**
+     * Replaces the converter chain used to read the definition, e.g. by a chain shared with other contexts using
+     * the same converters; to be set after init, which builds the chain of the context.
+     *
+     * @since 2.0.10
+     */
+    public void setModelConverterChain(ModelConverters modelConverterChain) {
+        this.modelConverterChain = modelConverterChain;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public final T modelConverterChain(ModelConverters modelConverterChain) {
+        this.modelConverterChain = modelConverterChain;
+        return (T) this;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    @Override
+    public OpenApiMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    @Override
+    public void setMetrics(OpenApiMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public final T metrics(OpenApiMetrics metrics) {
+        this.metrics = metrics;
+        return (T) this;
+    }
+
+    /**
+     * @return the filter applied to the definition when served: the filter set or loaded as a service, shared by all
+     * requests, or else a new instance of the configured filter class, see {@link OpenApiContext#getFilter()}
+     *
+     * @since 2.0.10
+     */
+    @Override
+    public OpenAPISpecFilter getFilter() {
+        if (filter != null) {
+            return filter;
+        }
+        Class<? extends OpenAPISpecFilter> cls = filterClass;
+        if (cls == null) {
+            return null;
+        }
+        try {
+            return cls.newInstance();
+        } catch (Exception e) {
+            LOGGER.error("failed to load filter", e);
+            return null;
+        }
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    @Override
+    public void setFilter(OpenAPISpecFilter filter) {
+        this.filter = filter;
+        providedFilter = filter;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public final T filter(OpenAPISpecFilter filter) {
+        setFilter(filter);
+        return (T) this;
+    }
 
     protected void register() {
         OpenApiContextLocator.getInstance().putOpenApiContext(id, this);
     }
 
+    protected void unregister() {
+        if (OpenApiContextLocator.getInstance().removeOpenApiContext(id, this)) {
+            unregisterMetricsMBean();
+            OpenApiSerializationCache.removeInstance(id);
+        }
+        AsyncOpenApiContextReader.release(this);
+        if (asyncReader != null) {
+            asyncReader.remove(this);
+        }
+    }
+
     @Override
     public OpenAPIConfiguration getOpenApiConfiguration() {
         return openApiConfiguration;
@@ -228,7 +430,7 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         if (StringUtils.isNotBlank(openApiConfiguration.getReaderClass())) {
             Class cls = getClass().getClassLoader().loadClass(openApiConfiguration.getReaderClass());
             reader = (OpenApiReader) cls.newInstance();
-        } else {
+        } else if ((reader = loadService(OpenApiReader.class, openApiConfiguration)) == null) {
             reader = new OpenApiReader() {
 
                 OpenAPIConfiguration openApiConfiguration;
@@ -254,7 +456,7 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         if (StringUtils.isNotBlank(openApiConfiguration.getScannerClass())) {
             Class cls = getClass().getClassLoader().loadClass(openApiConfiguration.getScannerClass());
             scanner = (OpenApiScanner) cls.newInstance();
-        } else {
+        } else if ((scanner = loadService(OpenApiScanner.class, openApiConfiguration)) == null) {
             scanner = new GenericOpenApiScanner();
         }
         scanner.setConfiguration(openApiConfiguration);
@@ -266,6 +468,8 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         if (StringUtils.isNotBlank(openApiConfiguration.getObjectMapperProcessorClass())) {
             Class cls = getClass().getClassLoader().loadClass(openApiConfiguration.getObjectMapperProcessorClass());
             objectMapperProcessor = (ObjectMapperProcessor) cls.newInstance();
+        } else {
+            objectMapperProcessor = loadService(ObjectMapperProcessor.class, openApiConfiguration);
         }
         return objectMapperProcessor;
     }
@@ -283,6 +487,94 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         return null;
     }
 
+    protected OpenApiMetrics buildMetrics(final OpenAPIConfiguration openApiConfiguration) throws Exception {
+        if (StringUtils.isNotBlank(openApiConfiguration.getMetricsClass())) {
+            Class cls = getClass().getClassLoader().loadClass(openApiConfiguration.getMetricsClass());
+            return (OpenApiMetrics) cls.newInstance();
+        }
+        OpenApiMetrics metrics = loadService(OpenApiMetrics.class, openApiConfiguration);
+        return metrics == null ? new NoOpOpenApiMetrics() : metrics;
+    }
+
+    /**
+     * @return the configured filter class, instantiated for each request as filters may keep request state
+     *
+     * @since 2.0.10
+     */
+    protected Class<? extends OpenAPISpecFilter> buildFilterClass(final OpenAPIConfiguration openApiConfiguration) throws Exception {
+        if (StringUtils.isNotBlank(openApiConfiguration.getFilterClass())) {
+            return getClass().getClassLoader().loadClass(openApiConfiguration.getFilterClass()).asSubclass(OpenAPISpecFilter.class);
+        }
+        return null;
+    }
+
+    /**
+     * @return the filter loaded as a service if no filter class is configured, shared by all requests
+     *
+     * @since 2.0.10
+     */
+    protected OpenAPISpecFilter buildFilter(final OpenAPIConfiguration openApiConfiguration) throws Exception {
+        if (StringUtils.isNotBlank(openApiConfiguration.getFilterClass())) {
+            return null;
+        }
+        return loadService(OpenAPISpecFilter.class, openApiConfiguration);
+    }
+
+    /**
+     * Returns the implementation of the given extension point registered as a service, used where no class is
+     * configured if enabled by {@link OpenAPIConfiguration#isUseServiceLoader()}; unlike class names, services are
+     * known at build time, e.g. to native image builds.
+     *
+     * @return the service, or null if the service loader is not enabled or none is registered
+     * @throws IllegalStateException if more than one implementation is registered
+     * @since 2.0.10
+     */
+    protected <S> S loadService(Class<S> type, OpenAPIConfiguration openApiConfiguration) {
+        if (openApiConfiguration == null || !Boolean.TRUE.equals(openApiConfiguration.isUseServiceLoader())) {
+            return null;
+        }
+        S found = null;
+        for (S service : ServiceLoader.load(type, getClass().getClassLoader())) {
+            if (found != null) {
+                throw new IllegalStateException("more than one " + type.getName() + " service registered: "
+                        + found.getClass().getName() + ", " + service.getClass().getName());
+            }
+            found = service;
+        }
+        return found;
+    }
+
+    protected void registerMetricsMBean() {
+        if (!(metrics instanceof OpenApiMetricsMXBean)) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(METRICS_MBEAN_DOMAIN + ":type=OpenApiContext,id=" + ObjectName.quote(id));
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(metrics, name);
+        } catch (Exception e) {
+            LOGGER.warn("error registering metrics MBean for context " + id + ": " + e.getMessage(), e);
+        }
+    }
+
+    protected void unregisterMetricsMBean() {
+        if (!(metrics instanceof OpenApiMetricsMXBean)) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(METRICS_MBEAN_DOMAIN + ":type=OpenApiContext,id=" + ObjectName.quote(id));
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("error unregistering metrics MBean for context " + id + ": " + e.getMessage(), e);
+        }
+    }
+
     protected List<ImmutablePair<String, String>> getKnownLocations() {
         return Arrays.asList(
                 new ImmutablePair<>("classpath", "openapi-configuration.yaml"),
@@ -313,10 +605,14 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
 
             if (StringUtils.isNotEmpty(configLocation)) {
                 if (loaders.get("classpath").exists(configLocation)) {
-                    return loaders.get("classpath").load(configLocation);
+                    OpenAPIConfiguration loaded = loaders.get("classpath").load(configLocation);
+                    configurationFile = resolveConfigurationFile("classpath", configLocation);
+                    return loaded;
                 }
                 if (loaders.get("file").exists(configLocation)) {
-                    return loaders.get("file").load(configLocation);
+                    OpenAPIConfiguration loaded = loaders.get("file").load(configLocation);
+                    configurationFile = resolveConfigurationFile("file", configLocation);
+                    return loaded;
                 }
             }
             // check known locations
@@ -324,7 +620,9 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
             for (ImmutablePair<String, String> location : knownLocations) {
                 if (loaders.get(location.left).exists(location.right)) {
                     try {
-                        return loaders.get(location.left).load(location.right);
+                        OpenAPIConfiguration loaded = loaders.get(location.left).load(location.right);
+                        configurationFile = resolveConfigurationFile(location.left, location.right);
+                        return loaded;
                     } catch (IOException ioe) {
                         // try next one
                     }
@@ -336,6 +634,27 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         }
     }
 
+    /**
+     * @return the file system path of a configuration location, if the configuration can be watched
+     */
+    protected Path resolveConfigurationFile(String loader, String location) {
+        try {
+            if ("file".equals(loader)) {
+                return Paths.get(location).toAbsolutePath();
+            }
+            if ("classpath".equals(loader)) {
+                // only resources of exploded class path entries can be watched
+                URL url = getClass().getResource(location.startsWith("/") ? location : "/" + location);
+                if (url != null && "file".equals(url.getProtocol())) {
+                    return Paths.get(url.toURI());
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.debug("cannot resolve configuration file of {}: {}", location, e.getMessage());
+        }
+        return null;
+    }
+
     @Override
     public T init() throws OpenApiConfigurationException {
 
@@ -363,16 +682,30 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
             if (modelConverters == null || modelConverters.isEmpty()) {
                 modelConverters = buildModelConverters(ContextUtils.deepCopy(openApiConfiguration));
             }
+            if (metrics == null) {
+                metrics = buildMetrics(openApiConfiguration);
+            }
         } catch (Exception e) {
             LOGGER.error("error initializing context: " + e.getMessage(), e);
             throw new OpenApiConfigurationException("error initializing context: " + e.getMessage(), e);
         }
+        try {
+            if (filter == null) {
+                filterClass = buildFilterClass(openApiConfiguration);
+                filter = buildFilter(openApiConfiguration);
+            }
+        } catch (Exception e) {
+            // as when the filter was loaded on each request, the definition is served unfiltered
+            LOGGER.error("failed to load filter", e);
+        }
 
+        // converters are prepended in turn, as previously done on the global chain
+        List<ModelConverter> contextConverters = new ArrayList<>();
         try {
             if (objectMapperProcessor != null) {
                 ObjectMapper mapper = IntegrationObjectMapperFactory.createJson();
                 objectMapperProcessor.processJsonObjectMapper(mapper);
-                ModelConverters.getInstance().addConverter(new ModelResolver(mapper));
+                contextConverters.add(0, new ModelResolver(mapper));
             }
         } catch (Exception e) {
             LOGGER.error("error configuring objectMapper: " + e.getMessage(), e);
@@ -382,22 +715,82 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         try {
             if (modelConverters != null && !modelConverters.isEmpty()) {
                 for (ModelConverter converter: modelConverters) {
-                    ModelConverters.getInstance().addConverter(converter);
+                    contextConverters.add(0, converter);
                 }
             }
         } catch (Exception e) {
             LOGGER.error("error configuring model converters: " + e.getMessage(), e);
             throw new OpenApiConfigurationException("error configuring model converters: " + e.getMessage(), e);
         }
+        // without own converters the context keeps using the global chain
+        modelConverterChain = contextConverters.isEmpty() ? null : ModelConverters.getInstance().chain(contextConverters);
 
         // set cache TTL if present in configuration
         if (openApiConfiguration.getCacheTTL() != null) {
             this.cacheTTL = openApiConfiguration.getCacheTTL();
         }
+        if (openApiConfiguration.isWatchConfiguration() != null) {
+            this.watchConfiguration = openApiConfiguration.isWatchConfiguration();
+        }
+        if (watchConfiguration) {
+            startConfigurationWatcher();
+        }
+        registerMetricsMBean();
         register();
+        open();
         return (T) this;
     }
 
+    private synchronized void open() {
+        if (open) {
+            return;
+        }
+        classLoader = getClassLoader();
+        OPEN_CONTEXTS.get(classLoader).incrementAndGet();
+        open = true;
+        closed = false;
+    }
+
+    /**
+     * @return the class loader of the application the context belongs to, i.e. the context class loader of the
+     * thread opening it; services, e.g. extensions, are to be loaded from it rather than from the thread reading
+     * the definition
+     *
+     * @since 2.0.10
+     */
+    protected synchronized ClassLoader getClassLoader() {
+        if (classLoader != null) {
+            return classLoader;
+        }
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return contextClassLoader == null ? getClass().getClassLoader() : contextClassLoader;
+    }
+
+    /**
+     * Stops watching the configuration, removes the context from {@link OpenApiContextLocator} and drops its caches;
+     * closing the last open context of a class loader, e.g. when its application is undeployed, releases the state
+     * held by swagger for the classes of the loader, see {@link ClassLoaderCache#releaseAll(ClassLoader)}.
+     *
+     * @since 2.0.10
+     */
+    @Override
+    public synchronized void close() {
+        if (!open) {
+            return;
+        }
+        open = false;
+        closed = true;
+        stopConfigurationWatcher();
+        setWarmUp(null);
+        unregister();
+        cache.clear();
+        if (OPEN_CONTEXTS.get(classLoader).decrementAndGet() <= 0) {
+            OPEN_CONTEXTS.release(classLoader);
+            ClassLoaderCache.releaseAll(classLoader);
+        }
+        classLoader = null;
+    }
+
     private OpenAPIConfiguration mergeParentConfiguration(OpenAPIConfiguration config, OpenApiContext parent) {
         if (parent == null || parent.getOpenApiConfiguration() == null) {
             return config;
@@ -421,6 +814,9 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         if (merged.getIgnoredRoutes() == null) {
             merged.setIgnoredRoutes(parentConfig.getIgnoredRoutes());
         }
+        if (merged.isIgnoredRoutesTemplateMatching() == null) {
+            merged.setIgnoredRoutesTemplateMatching(parentConfig.isIgnoredRoutesTemplateMatching());
+        }
         if (merged.getOpenAPI() == null) {
             merged.setOpenAPI(parentConfig.getOpenAPI());
         }
@@ -451,28 +847,349 @@ public class GenericOpenApiContext<T extends GenericOpenApiContext> implements O
         if (merged.getModelConverterClasses() == null) {
             merged.setModelConverterClassess(parentConfig.getModelConverterClasses());
         }
+        if (merged.isDeduplicate() == null) {
+            merged.setDeduplicate(parentConfig.isDeduplicate());
+        }
+        if (merged.isHoistDuplicateSchemas() == null) {
+            merged.setHoistDuplicateSchemas(parentConfig.isHoistDuplicateSchemas());
+        }
+        if (merged.getMetricsClass() == null) {
+            merged.setMetricsClass(parentConfig.getMetricsClass());
+        }
+        if (merged.isWatchConfiguration() == null) {
+            merged.setWatchConfiguration(parentConfig.isWatchConfiguration());
+        }
+        if (merged.isLazyComponents() == null) {
+            merged.setLazyComponents(parentConfig.isLazyComponents());
+        }
+        if (merged.isWarmUpLazyComponents() == null) {
+            merged.setWarmUpLazyComponents(parentConfig.isWarmUpLazyComponents());
+        }
+        if (merged.getAsyncTimeout() == null) {
+            merged.setAsyncTimeout(parentConfig.getAsyncTimeout());
+        }
 
         return merged;
     }
 
+    protected synchronized void startConfigurationWatcher() {
+        if (configurationFile == null) {
+            LOGGER.warn("configuration of context {} is not loaded from the file system and cannot be watched", id);
+            return;
+        }
+        if (configurationWatcher != null) {
+            if (configurationWatcher.getFile().equals(configurationFile.toAbsolutePath().normalize())) {
+                return;
+            }
+            stopConfigurationWatcher();
+        }
+        try {
+            configurationWatcher = new OpenApiConfigurationWatcher(configurationFile, file -> {
+                try {
+                    reloadConfiguration();
+                } catch (OpenApiConfigurationException e) {
+                    LOGGER.error("error reloading configuration of context " + id + ": " + e.getMessage(), e);
+                }
+            });
+            LOGGER.debug("watching configuration {} of context {}", configurationFile, id);
+        } catch (IOException e) {
+            LOGGER.warn("cannot watch configuration " + configurationFile + " of context " + id + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public synchronized void stopConfigurationWatcher() {
+        if (configurationWatcher != null) {
+            try {
+                configurationWatcher.close();
+            } catch (IOException e) {
+                LOGGER.debug("error closing configuration watcher of context {}: {}", id, e.getMessage());
+            }
+            configurationWatcher = null;
+        }
+    }
+
+    /**
+     * Loads the configuration again from its file and applies the changes, see
+     * {@link #applyConfiguration(OpenAPIConfiguration)}.
+     *
+     * @since 2.0.10
+     */
+    public void reloadConfiguration() throws OpenApiConfigurationException {
+        if (configurationFile == null) {
+            return;
+        }
+        OpenAPIConfiguration updated;
+        try {
+            updated = new FileOpenApiConfigurationLoader().load(configurationFile.toString());
+        } catch (Exception e) {
+            throw new OpenApiConfigurationException(e.getMessage(), e);
+        }
+        if (updated == null) {
+            // invalid content, possibly a write in progress
+            LOGGER.warn("cannot read configuration {} of context {}, keeping current configuration", configurationFile, id);
+            return;
+        }
+        applyConfiguration(mergeParentConfiguration(updated, parent));
+    }
+
+    /**
+     * Replaces the configuration, rebuilding only what the changes affect: changes to the info, external docs,
+     * servers, security or extensions of the definition patch the cached definition, other changes affecting
+     * the definition discard it so that the next read rescans.
+     *
+     * Changes to model converters, object mapper processor and metrics are only applied on restart.
+     *
+     * @since 2.0.10
+     */
+    protected synchronized void applyConfiguration(OpenAPIConfiguration updated) {
+        OpenAPIConfiguration current = openApiConfiguration;
+        if (updated == null || current == null) {
+            return;
+        }
+        if (!Objects.equals(current.getModelConverterClasses(), updated.getModelConverterClasses()) ||
+                !Objects.equals(current.getObjectMapperProcessorClass(), updated.getObjectMapperProcessorClass()) ||
+                !Objects.equals(current.getMetricsClass(), updated.getMetricsClass())) {
+            LOGGER.warn("changes to model converters, object mapper processor or metrics of context {} are applied on restart", id);
+        }
+        boolean rescan = requiresRescan(current, updated);
+
+        if (updated.getCacheTTL() != null) {
+            this.cacheTTL = updated.getCacheTTL();
+        }
+        try {
+            if (!Objects.equals(current.getScannerClass(), updated.getScannerClass())) {
+                openApiScanner = buildScanner(ContextUtils.deepCopy(updated));
+            } else if (openApiScanner != null) {
+                openApiScanner.setConfiguration(ContextUtils.deepCopy(updated));
+            }
+        } catch (Exception e) {
+            LOGGER.error("error building scanner: " + e.getMessage(), e);
+            // keep previous scanner
+        }
+        try {
+            if (providedFilter == null && (!Objects.equals(current.getFilterClass(), updated.getFilterClass())
+                    || !Objects.equals(current.isUseServiceLoader(), updated.isUseServiceLoader()))) {
+                filterClass = buildFilterClass(updated);
+                filter = buildFilter(updated);
+            }
+        } catch (Exception e) {
+            LOGGER.error("error building filter: " + e.getMessage(), e);
+            // keep previous filter
+        }
+        // readers not provided are rebuilt from the configuration on read
+        if (providedOpenApiReader != null) {
+            providedOpenApiReader.setConfiguration(ContextUtils.deepCopy(updated));
+        }
+
+        Cache cached = cache.get("openapi");
+        if (cached != null) {
+            OpenAPI patched = rescan ? null : patch(cached.openApi, current.getOpenAPI(), updated.getOpenAPI());
+            if (patched == null) {
+                LOGGER.debug("configuration of context {} changed, rescanning on next read", id);
+                cache.remove("openapi", cached);
+            } else if (patched != cached.openApi) {
+                LOGGER.debug("configuration of context {} changed, patching definition", id);
+                Cache patchedCache = new Cache();
+                patchedCache.createdAt = cached.createdAt;
+                patchedCache.openApi = patched;
+                cache.replace("openapi", cached, patchedCache);
+            }
+        }
+        // published once applied, definitions read before are not cached
+        openApiConfiguration = updated;
+        configurationGeneration++;
+    }
+
+    private boolean requiresRescan(OpenAPIConfiguration current, OpenAPIConfiguration updated) {
+        if (!Objects.equals(current.getResourcePackages(), updated.getResourcePackages()) ||
+                !Objects.equals(current.getResourceClasses(), updated.getResourceClasses()) ||
+                !Objects.equals(current.getReaderClass(), updated.getReaderClass()) ||
+                !Objects.equals(current.getScannerClass(), updated.getScannerClass()) ||
+                !Objects.equals(current.getIgnoredRoutes(), updated.getIgnoredRoutes()) ||
+                !Objects.equals(current.isIgnoredRoutesTemplateMatching(), updated.isIgnoredRoutesTemplateMatching()) ||
+                !Objects.equals(current.isReadAllResources(), updated.isReadAllResources()) ||
+                !Objects.equals(current.getUserDefinedOptions(), updated.getUserDefinedOptions()) ||
+                !Objects.equals(current.isDeduplicate(), updated.isDeduplicate()) ||
+                !Objects.equals(current.isHoistDuplicateSchemas(), updated.isHoistDuplicateSchemas()) ||
+                !Objects.equals(current.isLazyComponents(), updated.isLazyComponents())) {
+            return true;
+        }
+        OpenAPI from = current.getOpenAPI() == null ? new OpenAPI() : current.getOpenAPI();
+        OpenAPI to = updated.getOpenAPI() == null ? new OpenAPI() : updated.getOpenAPI();
+        // merged with the scanned resources
+        return !Objects.equals(from.getPaths(), to.getPaths()) ||
+                !Objects.equals(from.getComponents(), to.getComponents()) ||
+                !Objects.equals(from.getTags(), to.getTags());
+    }
+
+    /**
+     * @return a patched copy of the definition, the definition itself if unchanged, or null if a rescan is needed
+     */
+    private OpenAPI patch(OpenAPI openApi, OpenAPI current, OpenAPI updated) {
+        if (openApi == null) {
+            return null;
+        }
+        OpenAPI from = current == null ? new OpenAPI() : current;
+        OpenAPI to = updated == null ? new OpenAPI() : updated;
+        OpenAPI patched = openApi;
+        // values set by annotations override the configuration, patch only the values taken from it
+        if (!Objects.equals(from.getInfo(), to.getInfo()) && Objects.equals(openApi.getInfo(), from.getInfo())) {
+            if (to.getInfo() == null) {
+                return null;
+            }
+            patched = patched == openApi ? ModelCopyUtils.copy(openApi) : patched;
+            patched.setInfo(to.getInfo());
+        }
+        if (!Objects.equals(from.getExternalDocs(), to.getExternalDocs()) && Objects.equals(openApi.getExternalDocs(), from.getExternalDocs())) {
+            if (to.getExternalDocs() == null) {
+                return null;
+            }
+            patched = patched == openApi ? ModelCopyUtils.copy(openApi) : patched;
+            patched.setExternalDocs(to.getExternalDocs());
+        }
+        if (!Objects.equals(from.getServers(), to.getServers()) && Objects.equals(openApi.getServers(), from.getServers())) {
+            if (to.getServers() == null) {
+                return null;
+            }
+            patched = patched == openApi ? ModelCopyUtils.copy(openApi) : patched;
+            patched.setServers(to.getServers());
+        }
+        if (!Objects.equals(from.getSecurity(), to.getSecurity()) && Objects.equals(openApi.getSecurity(), from.getSecurity())) {
+            if (to.getSecurity() == null) {
+                return null;
+            }
+            patched = patched == openApi ? ModelCopyUtils.copy(openApi) : patched;
+            patched.setSecurity(to.getSecurity());
+        }
+        if (!Objects.equals(from.getExtensions(), to.getExtensions()) && Objects.equals(openApi.getExtensions(), from.getExtensions())) {
+            if (to.getExtensions() == null) {
+                return null;
+            }
+            patched = patched == openApi ? ModelCopyUtils.copy(openApi) : patched;
+            patched.setExtensions(to.getExtensions());
+        }
+        return patched;
+    }
+
     @Override
     public OpenAPI read() {
 
         if (cacheTTL == 0) {
             resetReader();
-            return getOpenApiReader().read(getOpenApiScanner().classes(), getOpenApiScanner().resources());
+            return readOpenApi();
         }
         Cache cached = cache.get("openapi");
         if (cached == null || cached.isStale(cacheTTL)) {
+            long generation = configurationGeneration;
             cached = new Cache();
             cached.createdAt = System.currentTimeMillis();
             resetReader();
-            cached.openApi = getOpenApiReader().read(getOpenApiScanner().classes(), getOpenApiScanner().resources());
-            cache.put("openapi", cached);
+            cached.openApi = readOpenApi();
+            putIfConfigurationUnchanged(cached, generation);
         }
         return cached.openApi;
     }
 
+    /**
+     * Caches the given definition unless a configuration was applied since its read started, as it may have been
+     * read with the previous one; synchronized with {@link #applyConfiguration(OpenAPIConfiguration)}.
+     */
+    private synchronized void putIfConfigurationUnchanged(Cache cached, long generation) {
+        if (configurationGeneration == generation) {
+            cache.put("openapi", cached);
+        } else {
+            LOGGER.debug("configuration of context {} changed while reading, not caching definition", id);
+        }
+    }
+
+    protected OpenAPI readOpenApi() {
+        OpenApiMetrics readMetrics = MetricsUtils.nonNull(metrics);
+        OpenApiMetrics previous = MetricsUtils.setCurrent(readMetrics);
+        ModelConverters previousConverters = ModelConverters.setCurrent(modelConverterChain);
+        try {
+            long start = System.nanoTime();
+            Set<Class<?>> classes = getOpenApiScanner().classes();
+            long scanned = System.nanoTime();
+            readMetrics.time(OpenApiMetrics.SCANNER_CLASSES, null, scanned - start);
+            OpenAPI openApi = getOpenApiReader().read(classes, getOpenApiScanner().resources());
+            readMetrics.time(OpenApiMetrics.READER_READ, null, System.nanoTime() - scanned);
+            openApi = deduplicate(openApi);
+            warmUpLazyComponents(openApi);
+            return openApi;
+        } finally {
+            MetricsUtils.setCurrent(previous);
+            ModelConverters.setCurrent(previousConverters);
+        }
+    }
+
+    protected OpenAPI deduplicate(OpenAPI openApi) {
+        if (openApi == null || openApiConfiguration == null || !Boolean.TRUE.equals(openApiConfiguration.isDeduplicate())) {
+            return openApi;
+        }
+        OpenApiDeduplicator.Result result = new OpenApiDeduplicator()
+                .hoistSchemas(Boolean.TRUE.equals(openApiConfiguration.isHoistDuplicateSchemas()))
+                .deduplicate(openApi);
+        LOGGER.debug("deduplicated openapi of context {}: {}", id, result);
+        return openApi;
+    }
+
+    /**
+     * Resolves on the executor of {@link #getAsyncReader()} the component schemas left pending by a reader in lazy
+     * mode, if configured. The warm-up is cancelled when another definition is read or the context is closed.
+     *
+     * @return the warm-up, or null if none was started
+     */
+    protected CompletableFuture<Void> warmUpLazyComponents(OpenAPI openApi) {
+        if (openApi == null || openApiConfiguration == null || !Boolean.TRUE.equals(openApiConfiguration.isWarmUpLazyComponents())) {
+            return null;
+        }
+        LazyComponentSchemas lazySchemas = LazyComponentSchemas.of(openApi.getComponents());
+        if (lazySchemas == null || lazySchemas.isResolved()) {
+            return null;
+        }
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        if (!setWarmUp(future)) {
+            return null;
+        }
+        try {
+            getAsyncReader().getExecutor().execute(() -> {
+                try {
+                    // a cancelled warm-up stops before the next schema
+                    while (!future.isDone() && lazySchemas.resolveNext()) {
+                    }
+                    future.complete(null);
+                } catch (Exception e) {
+                    LOGGER.warn("failed to warm up component schemas of context {}: {}", id, e.getMessage());
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("skipped warm up of component schemas of context {}: {}", id, e.getMessage());
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Replaces the current warm-up, cancelling it.
+     *
+     * @return false if the context is closed, the given warm-up is then cancelled too
+     */
+    private synchronized boolean setWarmUp(CompletableFuture<Void> future) {
+        if (warmUp != null) {
+            warmUp.cancel(false);
+        }
+        if (closed && future != null) {
+            future.cancel(false);
+            future = null;
+        }
+        warmUp = future;
+        return !closed;
+    }
+
     protected void resetReader() {
         if (providedOpenApiReader == null) {
             try {
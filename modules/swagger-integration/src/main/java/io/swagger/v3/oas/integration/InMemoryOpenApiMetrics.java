@@ -0,0 +1,95 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.core.metrics.OpenApiMetrics;
+import io.swagger.v3.oas.integration.api.OpenApiMetricsMXBean;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Keeps count, total and maximum of each metric in memory; keyed measurements are kept both under the
+ * metric name and under <code>metric[key]</code>.
+ *
+ * @since 2.0.10
+ */
+public class InMemoryOpenApiMetrics implements OpenApiMetrics, OpenApiMetricsMXBean {
+
+    private final ConcurrentHashMap<String, Stat> stats = new ConcurrentHashMap<>();
+
+    @Override
+    public void time(String metric, String key, long nanos) {
+        record(metric, key, nanos);
+    }
+
+    @Override
+    public void count(String metric, String key, long value) {
+        record(metric, key, value);
+    }
+
+    protected void record(String metric, String key, long value) {
+        stats.computeIfAbsent(metric, m -> new Stat()).add(value);
+        if (key != null) {
+            stats.computeIfAbsent(metric + "[" + key + "]", m -> new Stat()).add(value);
+        }
+    }
+
+    @Override
+    public Map<String, Long> getCounts() {
+        return collect(stat -> stat.count.sum());
+    }
+
+    @Override
+    public Map<String, Long> getTotals() {
+        return collect(stat -> stat.total.sum());
+    }
+
+    @Override
+    public Map<String, Long> getMaxima() {
+        return collect(stat -> stat.max.get());
+    }
+
+    @Override
+    public double getConverterCacheHitRate() {
+        long resolved = count(CONVERTER_RESOLVE);
+        return resolved == 0 ? 0 : (double) count(CONVERTER_RESOLVE_CACHED) / resolved;
+    }
+
+    public long count(String metric) {
+        Stat stat = stats.get(metric);
+        return stat == null ? 0 : stat.count.sum();
+    }
+
+    public long total(String metric) {
+        Stat stat = stats.get(metric);
+        return stat == null ? 0 : stat.total.sum();
+    }
+
+    @Override
+    public void reset() {
+        stats.clear();
+    }
+
+    private Map<String, Long> collect(ToLongFunction<Stat> value) {
+        Map<String, Long> result = new TreeMap<>();
+        for (Map.Entry<String, Stat> entry : stats.entrySet()) {
+            result.put(entry.getKey(), value.applyAsLong(entry.getValue()));
+        }
+        return result;
+    }
+
+    static class Stat {
+        final LongAdder count = new LongAdder();
+        final LongAdder total = new LongAdder();
+        final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        void add(long value) {
+            count.increment();
+            total.add(value);
+            max.accumulate(value);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.swagger.v3.oas.integration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Watches a configuration file on the file system and notifies a listener when it is created or modified.
+ *
+ * Events are collected for a short delay before notifying, so that an editor writing the file in several steps
+ * triggers a single notification.
+ *
+ * @since 2.0.10
+ */
+public class OpenApiConfigurationWatcher implements Closeable {
+
+    private static Logger LOGGER = LoggerFactory.getLogger(OpenApiConfigurationWatcher.class);
+
+    public static final long DEFAULT_DELAY = 200;
+
+    private final Path file;
+    private final Consumer<Path> listener;
+    private final long delay;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    public OpenApiConfigurationWatcher(Path file, Consumer<Path> listener) throws IOException {
+        this(file, listener, DEFAULT_DELAY);
+    }
+
+    public OpenApiConfigurationWatcher(Path file, Consumer<Path> listener, long delay) throws IOException {
+        this.file = file.toAbsolutePath().normalize();
+        this.listener = listener;
+        this.delay = delay;
+        this.watchService = this.file.getFileSystem().newWatchService();
+        this.file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this::watch, "swagger-openapi-configuration-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = pollChanges(key);
+                // collect the events of a write in progress before notifying
+                while ((key = watchService.poll(delay, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= pollChanges(key);
+                }
+                if (changed) {
+                    try {
+                        listener.accept(file);
+                    } catch (Exception e) {
+                        LOGGER.error("error processing change of " + file + ": " + e.getMessage(), e);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    private boolean pollChanges(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    /**
+     * @return whether the watching thread is still running
+     */
+    boolean isWatching() {
+        return thread.isAlive();
+    }
+
+    /**
+     * Stops watching and waits for the watching thread to exit, unless called by a listener from that thread.
+     */
+    @Override
+    public void close() throws IOException {
+        thread.interrupt();
+        watchService.close();
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join(delay + 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -28,4 +28,14 @@ public class OpenApiContextLocator {
     public void putOpenApiContext(String id, OpenApiContext openApiContext) {
         map.put(id, openApiContext);
     }
+
+    /**
+     * Removes the given context, if it is the one registered with the given id.
+     *
+     * @return true if the context was removed
+     * @since 2.0.10
+     */
+    public boolean removeOpenApiContext(String id, OpenApiContext openApiContext) {
+        return map.remove(id, openApiContext);
+    }
 }
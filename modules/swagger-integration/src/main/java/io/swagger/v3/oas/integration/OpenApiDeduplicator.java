@@ -0,0 +1,592 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Encoding;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hash-conses structurally equal Schema, Parameter, Header and Example objects of a resolved OpenAPI, so that
+ * identical inline definitions (e.g. the same enum or pattern parameter repeated across operations) share a
+ * single instance.
+ *
+ * Optionally inline schemas occurring more than once are hoisted into <code>components/schemas</code> and
+ * replaced by a $ref; inline schemas equal to an existing component schema are replaced by a $ref to it.
+ *
+ * Component schemas are never merged with each other, as {@link Schema#equals(Object)} ignores their name; schemas
+ * reaching a cycle are kept as they are, as their hash would not terminate.
+ *
+ * The OpenAPI is processed in place and its equal nodes are shared afterwards, so that changing one of them changes
+ * every position it occupies: the definition must be treated as read only, or copied with
+ * {@link io.swagger.v3.core.util.ModelCopyUtils} before being modified.
+ *
+ * @since 2.0.10
+ */
+public class OpenApiDeduplicator {
+
+    static final String HOISTED_SCHEMA_NAME = "InlineSchema";
+    private static final String COMPONENTS_SCHEMAS_REF = "#/components/schemas/";
+
+    private boolean hoistSchemas;
+
+    public boolean isHoistSchemas() {
+        return hoistSchemas;
+    }
+
+    public void setHoistSchemas(boolean hoistSchemas) {
+        this.hoistSchemas = hoistSchemas;
+    }
+
+    public OpenApiDeduplicator hoistSchemas(boolean hoistSchemas) {
+        this.hoistSchemas = hoistSchemas;
+        return this;
+    }
+
+    public Result deduplicate(OpenAPI openAPI) {
+        Result result = new Result();
+        if (openAPI == null) {
+            return result;
+        }
+        Interning interning = new Interning();
+        interning.openAPI(openAPI);
+
+        result.schemas = interning.schemas.size();
+        result.uniqueSchemas = interning.canonicalSchemas.size();
+        result.parameters = interning.parameters.size();
+        result.uniqueParameters = canonicalCount(interning.parameters);
+        result.headers = interning.headers.size();
+        result.uniqueHeaders = canonicalCount(interning.headers);
+        result.examples = interning.examples.size();
+        result.uniqueExamples = interning.exampleTable.size();
+
+        if (hoistSchemas) {
+            result.hoistedSchemas = new Hoisting(interning.canonicalSchemas, interning.occurrences, interning.cyclic).hoist(openAPI);
+        }
+        return result;
+    }
+
+    private static <T> int canonicalCount(Map<T, T> canonicals) {
+        int count = 0;
+        for (Map.Entry<T, T> entry : canonicals.entrySet()) {
+            if (entry.getKey() == entry.getValue()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Walks all the schema, parameter, header and example positions of an OpenAPI, replacing each with the
+     * value returned by the corresponding method.
+     */
+    private abstract static class Walker {
+
+        protected Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        protected abstract Schema schema(Schema schema);
+
+        protected Parameter parameter(Parameter parameter) {
+            if (parameter != null && visited.add(parameter)) {
+                parameterChildren(parameter);
+            }
+            return parameter;
+        }
+
+        protected Header header(Header header) {
+            if (header != null && visited.add(header)) {
+                headerChildren(header);
+            }
+            return header;
+        }
+
+        protected Example example(Example example) {
+            return example;
+        }
+
+        protected void schemaChildren(Schema schema) {
+            if (schema.getProperties() != null) {
+                for (Map.Entry<String, Schema> entry : ((Map<String, Schema>) schema.getProperties()).entrySet()) {
+                    entry.setValue(schema(entry.getValue()));
+                }
+            }
+            if (schema.getAdditionalProperties() instanceof Schema) {
+                schema.setAdditionalProperties(schema((Schema) schema.getAdditionalProperties()));
+            }
+            if (schema.getNot() != null) {
+                schema.setNot(schema(schema.getNot()));
+            }
+            if (schema instanceof ArraySchema) {
+                ArraySchema arraySchema = (ArraySchema) schema;
+                if (arraySchema.getItems() != null) {
+                    arraySchema.setItems(schema(arraySchema.getItems()));
+                }
+            } else if (schema instanceof ComposedSchema) {
+                ComposedSchema composedSchema = (ComposedSchema) schema;
+                schemas(composedSchema.getAllOf());
+                schemas(composedSchema.getAnyOf());
+                schemas(composedSchema.getOneOf());
+            }
+        }
+
+        protected void parameterChildren(Parameter parameter) {
+            parameter.setSchema(schema(parameter.getSchema()));
+            examples(parameter.getExamples());
+            content(parameter.getContent());
+        }
+
+        protected void headerChildren(Header header) {
+            header.setSchema(schema(header.getSchema()));
+            examples(header.getExamples());
+            content(header.getContent());
+        }
+
+        public void openAPI(OpenAPI openAPI) {
+            // components first, so that their instances are the ones retained
+            components(openAPI.getComponents());
+            if (openAPI.getPaths() != null) {
+                for (PathItem pathItem : openAPI.getPaths().values()) {
+                    pathItem(pathItem);
+                }
+            }
+        }
+
+        protected void components(Components components) {
+            if (components == null) {
+                return;
+            }
+            if (components.getSchemas() != null) {
+                componentSchemas(components.getSchemas());
+            }
+            if (components.getParameters() != null) {
+                for (Map.Entry<String, Parameter> entry : components.getParameters().entrySet()) {
+                    entry.setValue(parameter(entry.getValue()));
+                }
+            }
+            headers(components.getHeaders());
+            examples(components.getExamples());
+            if (components.getResponses() != null) {
+                for (ApiResponse response : components.getResponses().values()) {
+                    response(response);
+                }
+            }
+            if (components.getRequestBodies() != null) {
+                for (RequestBody requestBody : components.getRequestBodies().values()) {
+                    requestBody(requestBody);
+                }
+            }
+            callbacks(components.getCallbacks());
+        }
+
+        protected void componentSchemas(Map<String, Schema> schemas) {
+            for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+                entry.setValue(schema(entry.getValue()));
+            }
+        }
+
+        protected void pathItem(PathItem pathItem) {
+            if (pathItem == null) {
+                return;
+            }
+            parameters(pathItem.getParameters());
+            for (Operation operation : pathItem.readOperations()) {
+                parameters(operation.getParameters());
+                requestBody(operation.getRequestBody());
+                ApiResponses responses = operation.getResponses();
+                if (responses != null) {
+                    for (ApiResponse response : responses.values()) {
+                        response(response);
+                    }
+                }
+                callbacks(operation.getCallbacks());
+            }
+        }
+
+        protected void callbacks(Map<String, Callback> callbacks) {
+            if (callbacks == null) {
+                return;
+            }
+            for (Callback callback : callbacks.values()) {
+                if (callback != null) {
+                    for (PathItem pathItem : callback.values()) {
+                        pathItem(pathItem);
+                    }
+                }
+            }
+        }
+
+        protected void requestBody(RequestBody requestBody) {
+            if (requestBody != null) {
+                content(requestBody.getContent());
+            }
+        }
+
+        protected void response(ApiResponse response) {
+            if (response != null) {
+                headers(response.getHeaders());
+                content(response.getContent());
+            }
+        }
+
+        protected void content(Content content) {
+            if (content == null) {
+                return;
+            }
+            for (MediaType mediaType : content.values()) {
+                if (mediaType == null) {
+                    continue;
+                }
+                mediaType.setSchema(schema(mediaType.getSchema()));
+                examples(mediaType.getExamples());
+                if (mediaType.getEncoding() != null) {
+                    for (Encoding encoding : mediaType.getEncoding().values()) {
+                        if (encoding != null) {
+                            headers(encoding.getHeaders());
+                        }
+                    }
+                }
+            }
+        }
+
+        protected void schemas(List<Schema> schemas) {
+            if (schemas != null) {
+                schemas.replaceAll(this::schema);
+            }
+        }
+
+        protected void parameters(List<Parameter> parameters) {
+            if (parameters != null) {
+                parameters.replaceAll(this::parameter);
+            }
+        }
+
+        protected void headers(Map<String, Header> headers) {
+            if (headers != null) {
+                for (Map.Entry<String, Header> entry : headers.entrySet()) {
+                    entry.setValue(header(entry.getValue()));
+                }
+            }
+        }
+
+        protected void examples(Map<String, Example> examples) {
+            if (examples != null) {
+                for (Map.Entry<String, Example> entry : examples.entrySet()) {
+                    entry.setValue(example(entry.getValue()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces every object with the first structurally equal one met; children are processed before their
+     * parent, so that parents compare (and hash) against already canonical children. Objects reaching a schema
+     * cycle are neither hashed nor replaced.
+     */
+    private static class Interning extends Walker {
+
+        // processed instance -> canonical instance
+        Map<Schema, Schema> schemas = new IdentityHashMap<>();
+        Map<Parameter, Parameter> parameters = new IdentityHashMap<>();
+        Map<Header, Header> headers = new IdentityHashMap<>();
+        Map<Example, Example> examples = new IdentityHashMap<>();
+
+        Map<Schema, Schema> schemaTable = new HashMap<>();
+        Map<Parameter, Parameter> parameterTable = new HashMap<>();
+        Map<Header, Header> headerTable = new HashMap<>();
+        Map<Example, Example> exampleTable = new HashMap<>();
+
+        // canonical schemas in the order they were met, and the number of positions referring to each
+        List<Schema> canonicalSchemas = new ArrayList<>();
+        Map<Schema, Integer> occurrences = new IdentityHashMap<>();
+
+        // schemas reaching a cycle, and the ones being processed
+        Set<Schema> cyclic = Collections.newSetFromMap(new IdentityHashMap<>());
+        private Set<Schema> pending = Collections.newSetFromMap(new IdentityHashMap<>());
+        // whether the children of the object being processed reach a cycle
+        private boolean reachesCycle;
+
+        @Override
+        protected Schema schema(Schema schema) {
+            return schema(schema, true);
+        }
+
+        @Override
+        protected void componentSchemas(Map<String, Schema> schemas) {
+            // component schemas are kept, inline schemas equal to one of them share its instance
+            for (Schema schema : schemas.values()) {
+                schema(schema, false);
+            }
+        }
+
+        private Schema schema(Schema schema, boolean merge) {
+            if (schema == null) {
+                return null;
+            }
+            Schema canonical = schemas.get(schema);
+            if (canonical == null) {
+                // recorded before descending, so that a cycle leads back to the schema itself
+                schemas.put(schema, schema);
+                pending.add(schema);
+                boolean outer = reachesCycle;
+                reachesCycle = false;
+                schemaChildren(schema);
+                pending.remove(schema);
+                if (reachesCycle) {
+                    cyclic.add(schema);
+                    canonical = schema;
+                } else if (merge) {
+                    canonical = intern(schemaTable, schema);
+                } else {
+                    schemaTable.putIfAbsent(schema, schema);
+                    canonical = schema;
+                }
+                reachesCycle |= outer;
+                schemas.put(schema, canonical);
+                if (canonical == schema) {
+                    canonicalSchemas.add(schema);
+                }
+            } else if (pending.contains(canonical) || cyclic.contains(canonical)) {
+                reachesCycle = true;
+            }
+            occurrences.merge(canonical, 1, Integer::sum);
+            return canonical;
+        }
+
+        @Override
+        protected Parameter parameter(Parameter parameter) {
+            if (parameter == null) {
+                return null;
+            }
+            Parameter canonical = parameters.get(parameter);
+            if (canonical == null) {
+                boolean outer = reachesCycle;
+                reachesCycle = false;
+                parameterChildren(parameter);
+                canonical = reachesCycle ? parameter : intern(parameterTable, parameter);
+                reachesCycle |= outer;
+                parameters.put(parameter, canonical);
+            }
+            return canonical;
+        }
+
+        @Override
+        protected Header header(Header header) {
+            if (header == null) {
+                return null;
+            }
+            Header canonical = headers.get(header);
+            if (canonical == null) {
+                boolean outer = reachesCycle;
+                reachesCycle = false;
+                headerChildren(header);
+                canonical = reachesCycle ? header : intern(headerTable, header);
+                reachesCycle |= outer;
+                headers.put(header, canonical);
+            }
+            return canonical;
+        }
+
+        @Override
+        protected Example example(Example example) {
+            if (example == null) {
+                return null;
+            }
+            return examples.computeIfAbsent(example, e -> intern(exampleTable, e));
+        }
+
+        private static <T> T intern(Map<T, T> table, T value) {
+            T canonical = table.putIfAbsent(value, value);
+            return canonical == null ? value : canonical;
+        }
+    }
+
+    /**
+     * Replaces inline schemas equal to a component schema, or occurring more than once, with a $ref.
+     */
+    private static class Hoisting extends Walker {
+
+        private final List<Schema> canonicalSchemas;
+        private final Map<Schema, Integer> occurrences;
+        private final Set<Schema> cyclic;
+        private final Map<Schema, Schema> refs = new IdentityHashMap<>();
+
+        Hoisting(List<Schema> canonicalSchemas, Map<Schema, Integer> occurrences, Set<Schema> cyclic) {
+            this.canonicalSchemas = canonicalSchemas;
+            this.occurrences = occurrences;
+            this.cyclic = cyclic;
+        }
+
+        int hoist(OpenAPI openAPI) {
+            Map<String, Schema> schemas = new LinkedHashMap<>();
+            if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+                schemas = openAPI.getComponents().getSchemas();
+            }
+            for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
+                if (entry.getValue() != null) {
+                    refs.putIfAbsent(entry.getValue(), ref(entry.getKey()));
+                }
+            }
+            int hoisted = 0;
+            for (Schema schema : canonicalSchemas) {
+                if (occurrences.get(schema) > 1 && !refs.containsKey(schema) && !cyclic.contains(schema) && isHoistable(schema)) {
+                    String name = name(schema, schemas);
+                    schemas.put(name, schema);
+                    refs.put(schema, ref(name));
+                    hoisted++;
+                }
+            }
+            if (hoisted > 0) {
+                if (openAPI.getComponents() == null) {
+                    openAPI.setComponents(new Components());
+                }
+                openAPI.getComponents().setSchemas(schemas);
+            }
+            if (!refs.isEmpty()) {
+                openAPI(openAPI);
+            }
+            return hoisted;
+        }
+
+        @Override
+        protected Schema schema(Schema schema) {
+            if (schema == null) {
+                return null;
+            }
+            Schema ref = refs.get(schema);
+            if (ref != null) {
+                return ref;
+            }
+            if (visited.add(schema)) {
+                schemaChildren(schema);
+            }
+            return schema;
+        }
+
+        @Override
+        protected void componentSchemas(Map<String, Schema> schemas) {
+            // component schemas themselves are kept, only their children are replaced
+            for (Schema schema : schemas.values()) {
+                if (schema != null && visited.add(schema)) {
+                    schemaChildren(schema);
+                }
+            }
+        }
+
+        private boolean isHoistable(Schema schema) {
+            if (schema.get$ref() != null) {
+                return false;
+            }
+            if (schema instanceof ArraySchema) {
+                Schema items = ((ArraySchema) schema).getItems();
+                return items != null && (items.get$ref() != null || isHoistable(items));
+            }
+            return schema instanceof ComposedSchema ||
+                    (schema.getProperties() != null && !schema.getProperties().isEmpty()) ||
+                    schema.getEnum() != null ||
+                    schema.getPattern() != null;
+        }
+
+        private String name(Schema schema, Map<String, Schema> schemas) {
+            String base = HOISTED_SCHEMA_NAME;
+            if (StringUtils.isNotBlank(schema.getTitle())) {
+                base = schema.getTitle().trim().replaceAll("[^a-zA-Z0-9.\\-_]", "_");
+            }
+            String name = base;
+            for (int i = 1; schemas.containsKey(name); i++) {
+                name = base + i;
+            }
+            return name;
+        }
+
+        private static Schema ref(String name) {
+            return new Schema().$ref(COMPONENTS_SCHEMAS_REF + name);
+        }
+    }
+
+    public static class Result {
+
+        int schemas;
+        int uniqueSchemas;
+        int parameters;
+        int uniqueParameters;
+        int headers;
+        int uniqueHeaders;
+        int examples;
+        int uniqueExamples;
+        int hoistedSchemas;
+
+        public int getSchemas() {
+            return schemas;
+        }
+
+        public int getUniqueSchemas() {
+            return uniqueSchemas;
+        }
+
+        public int getParameters() {
+            return parameters;
+        }
+
+        public int getUniqueParameters() {
+            return uniqueParameters;
+        }
+
+        public int getHeaders() {
+            return headers;
+        }
+
+        public int getUniqueHeaders() {
+            return uniqueHeaders;
+        }
+
+        public int getExamples() {
+            return examples;
+        }
+
+        public int getUniqueExamples() {
+            return uniqueExamples;
+        }
+
+        public int getHoistedSchemas() {
+            return hoistedSchemas;
+        }
+
+        /**
+         * Number of objects released by sharing equal instances.
+         */
+        public int getSaved() {
+            return (schemas - uniqueSchemas) + (parameters - uniqueParameters) + (headers - uniqueHeaders) + (examples - uniqueExamples);
+        }
+
+        @Override
+        public String toString() {
+            return "schemas " + schemas + " -> " + uniqueSchemas +
+                    ", parameters " + parameters + " -> " + uniqueParameters +
+                    ", headers " + headers + " -> " + uniqueHeaders +
+                    ", examples " + examples + " -> " + uniqueExamples +
+                    ", hoisted schemas " + hoistedSchemas;
+        }
+    }
+}
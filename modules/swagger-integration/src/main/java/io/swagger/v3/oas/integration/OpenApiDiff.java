@@ -0,0 +1,87 @@
+package io.swagger.v3.oas.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Computes the RFC 6902 JSON Patch turning a definition tree into another one, walking both trees structurally.
+ *
+ * Objects are compared field by field and arrays element by element, elements added or removed at the end of an
+ * array being added or removed; any other change replaces the value.
+ *
+ * @since 2.0.10
+ */
+public class OpenApiDiff {
+
+    public static final String JSON_PATCH_MEDIA_TYPE = "application/json-patch+json";
+
+    /**
+     * @return the operations patching source into target, empty if both are equal
+     */
+    public static ArrayNode diff(JsonNode source, JsonNode target) {
+        ArrayNode patch = JsonNodeFactory.instance.arrayNode();
+        diff(source, target, "", patch);
+        return patch;
+    }
+
+    private static void diff(JsonNode source, JsonNode target, String path, ArrayNode patch) {
+        if (source.equals(target)) {
+            return;
+        }
+        if (source.isObject() && target.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                String fieldPath = path + "/" + escape(field.getKey());
+                JsonNode targetValue = target.get(field.getKey());
+                if (targetValue == null) {
+                    addOperation(patch, "remove", fieldPath, null);
+                } else {
+                    diff(field.getValue(), targetValue, fieldPath, patch);
+                }
+            }
+            fields = target.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!source.has(field.getKey())) {
+                    addOperation(patch, "add", path + "/" + escape(field.getKey()), field.getValue());
+                }
+            }
+        } else if (source.isArray() && target.isArray()) {
+            int common = Math.min(source.size(), target.size());
+            for (int i = 0; i < common; i++) {
+                diff(source.get(i), target.get(i), path + "/" + i, patch);
+            }
+            // remove from the end, keeping the indexes of the remaining elements
+            for (int i = source.size() - 1; i >= common; i--) {
+                addOperation(patch, "remove", path + "/" + i, null);
+            }
+            for (int i = common; i < target.size(); i++) {
+                addOperation(patch, "add", path + "/-", target.get(i));
+            }
+        } else {
+            addOperation(patch, "replace", path, target);
+        }
+    }
+
+    private static void addOperation(ArrayNode patch, String op, String path, JsonNode value) {
+        ObjectNode operation = patch.addObject();
+        operation.put("op", op);
+        operation.put("path", path);
+        if (value != null) {
+            operation.set("value", value);
+        }
+    }
+
+    private static String escape(String name) {
+        if (name.indexOf('~') < 0 && name.indexOf('/') < 0) {
+            return name;
+        }
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+}
@@ -0,0 +1,86 @@
+package io.swagger.v3.oas.integration;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A query for a part of the definition: the node at a JSON pointer, or the operations with a tag and/or under a
+ * path prefix. A pointer, if given, takes precedence over tag and path.
+ *
+ * With closure, the fragment also includes the components it transitively references.
+ *
+ * @since 2.0.10
+ */
+public class OpenApiFragment {
+
+    public static final String TAG_PARAM = "tag";
+    public static final String PATH_PARAM = "path";
+    public static final String POINTER_PARAM = "pointer";
+    public static final String CLOSURE_PARAM = "closure";
+
+    private final String tag;
+    private final String path;
+    private final String pointer;
+    private final boolean closure;
+
+    public OpenApiFragment(String tag, String path, String pointer, boolean closure) {
+        this.tag = StringUtils.isBlank(tag) ? null : tag.trim();
+        this.path = StringUtils.isBlank(path) ? null : path.trim();
+        this.pointer = StringUtils.isBlank(pointer) ? null : pointer.trim();
+        this.closure = closure;
+    }
+
+    /**
+     * @return the fragment queried by the given parameter values, or null if none of tag, path and pointer is given
+     */
+    public static OpenApiFragment create(String tag, String path, String pointer, String closure) {
+        if (StringUtils.isBlank(tag) && StringUtils.isBlank(path) && StringUtils.isBlank(pointer)) {
+            return null;
+        }
+        return new OpenApiFragment(tag, path, pointer, closure != null && !"false".equalsIgnoreCase(closure.trim()));
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getPointer() {
+        return pointer;
+    }
+
+    public boolean isClosure() {
+        return closure;
+    }
+
+    /**
+     * @return a key identifying the fragment, e.g. to cache its serializations
+     */
+    public String getKey() {
+        StringBuilder key = new StringBuilder();
+        if (pointer != null) {
+            appendKey(key, POINTER_PARAM, pointer);
+        } else {
+            appendKey(key, TAG_PARAM, tag);
+            appendKey(key, PATH_PARAM, path);
+        }
+        if (closure) {
+            key.append(CLOSURE_PARAM);
+        }
+        return key.toString();
+    }
+
+    private static void appendKey(StringBuilder key, String name, String value) {
+        if (value != null) {
+            // length prefixed, values may contain any character
+            key.append(name).append(value.length()).append(':').append(value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getKey();
+    }
+}
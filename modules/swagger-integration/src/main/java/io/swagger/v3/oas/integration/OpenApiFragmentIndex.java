@@ -0,0 +1,363 @@
+package io.swagger.v3.oas.integration;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.converter.LazyComponentSchemas;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.ModelCopyUtils;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers {@link OpenApiFragment} queries on the tree of a definition, indexing its paths and the operations of
+ * each tag once; the references of each component are collected on first use.
+ *
+ * Fragments selecting operations are partial definitions holding the selected paths and the document level
+ * fields; pointer fragments are the node at the pointer, placed into a partial definition at the same location
+ * if the closure is requested. Fragments share the nodes of the indexed tree, which must not be modified.
+ *
+ * Component schemas still pending in {@link LazyComponentSchemas} are left out of the indexed tree, and resolved
+ * only when a fragment reaches them.
+ *
+ * @since 2.0.10
+ */
+public class OpenApiFragmentIndex {
+
+    private static final String COMPONENTS_REF_PREFIX = "#/components/";
+    private static final Set<String> HTTP_METHODS = new HashSet<>(Arrays.asList(
+            "get", "put", "post", "delete", "options", "head", "patch", "trace"));
+
+    private final ObjectNode root;
+    private final NavigableMap<String, JsonNode> paths = new TreeMap<>();
+    private final Map<String, Map<String, Set<String>>> tagOperations = new LinkedHashMap<>();
+    private final ConcurrentHashMap<String, List<String>> componentReferences = new ConcurrentHashMap<>();
+    private final LazyComponentSchemas lazySchemas;
+    private final ConcurrentHashMap<String, JsonNode> lazySchemaNodes = new ConcurrentHashMap<>();
+
+    public OpenApiFragmentIndex(OpenAPI openAPI) {
+        this(toTree(openAPI), LazyComponentSchemas.of(openAPI.getComponents()));
+    }
+
+    public OpenApiFragmentIndex(ObjectNode root) {
+        this(root, null);
+    }
+
+    private OpenApiFragmentIndex(ObjectNode root, LazyComponentSchemas lazySchemas) {
+        this.root = root;
+        this.lazySchemas = lazySchemas;
+        JsonNode pathsNode = root.path("paths");
+        Iterator<Map.Entry<String, JsonNode>> pathItems = pathsNode.fields();
+        while (pathItems.hasNext()) {
+            Map.Entry<String, JsonNode> pathItem = pathItems.next();
+            paths.put(pathItem.getKey(), pathItem.getValue());
+            Iterator<Map.Entry<String, JsonNode>> operations = pathItem.getValue().fields();
+            while (operations.hasNext()) {
+                Map.Entry<String, JsonNode> operation = operations.next();
+                if (!HTTP_METHODS.contains(operation.getKey())) {
+                    continue;
+                }
+                for (JsonNode tag : operation.getValue().path("tags")) {
+                    tagOperations.computeIfAbsent(tag.asText(), k -> new LinkedHashMap<>())
+                            .computeIfAbsent(pathItem.getKey(), k -> new LinkedHashSet<>())
+                            .add(operation.getKey());
+                }
+            }
+        }
+    }
+
+    private static ObjectNode toTree(OpenAPI openAPI) {
+        LazyComponentSchemas lazySchemas = LazyComponentSchemas.of(openAPI.getComponents());
+        if (lazySchemas == null || lazySchemas.isResolved()) {
+            return Json.mapper().valueToTree(openAPI);
+        }
+        // a view holding the schemas resolved so far, the definition is shared
+        Components components = openAPI.getComponents();
+        OpenAPI view = ModelCopyUtils.copy(openAPI);
+        view.setComponents(new Components()
+                .schemas(lazySchemas.getResolvedSchemas())
+                .responses(components.getResponses())
+                .parameters(components.getParameters())
+                .examples(components.getExamples())
+                .requestBodies(components.getRequestBodies())
+                .headers(components.getHeaders())
+                .securitySchemes(components.getSecuritySchemes())
+                .links(components.getLinks())
+                .callbacks(components.getCallbacks())
+                .extensions(components.getExtensions()));
+        return Json.mapper().valueToTree(view);
+    }
+
+    public ObjectNode getRoot() {
+        return root;
+    }
+
+    /**
+     * @return the node at the given pointer, resolving the pending component schemas it reaches
+     */
+    private JsonNode at(JsonPointer pointer) {
+        if (lazySchemas == null || lazySchemas.isResolved()) {
+            return root.at(pointer);
+        }
+        if (pointer.matches() || "components".equals(pointer.getMatchingProperty()) && (pointer.tail().matches() ||
+                "schemas".equals(pointer.tail().getMatchingProperty()) && pointer.tail().tail().matches())) {
+            // the node holds all the schemas
+            ObjectNode resolved = root.deepCopy();
+            resolved.with("components").set("schemas", Json.mapper().valueToTree(lazySchemas));
+            return resolved.at(pointer);
+        }
+        if ("components".equals(pointer.getMatchingProperty()) && "schemas".equals(pointer.tail().getMatchingProperty())) {
+            JsonPointer schema = pointer.tail().tail();
+            return getComponent("schemas", schema.getMatchingProperty()).at(schema.tail());
+        }
+        return root.at(pointer);
+    }
+
+    /**
+     * @return the component of the given type and name, or a missing node
+     */
+    private JsonNode getComponent(String type, String name) {
+        JsonNode component = root.path("components").path(type).path(name);
+        if (component.isMissingNode() && lazySchemas != null && "schemas".equals(type) && lazySchemas.containsKey(name)) {
+            component = lazySchemaNodes.computeIfAbsent(name, k -> Json.mapper().valueToTree(lazySchemas.get(k)));
+        }
+        return component;
+    }
+
+    /**
+     * @return the fragment, or null if it selects nothing
+     */
+    public JsonNode select(OpenApiFragment fragment) {
+        if (fragment.getPointer() != null) {
+            return selectPointer(fragment.getPointer(), fragment.isClosure());
+        }
+        Map<String, Set<String>> selected = selectOperations(fragment.getTag(), fragment.getPath());
+        if (selected.isEmpty()) {
+            return null;
+        }
+        ObjectNode result = JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = root.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!"paths".equals(field.getKey()) && !"components".equals(field.getKey()) && !"tags".equals(field.getKey())) {
+                result.set(field.getKey(), field.getValue());
+            }
+        }
+        Set<String> usedTags = new HashSet<>();
+        ObjectNode pathsNode = result.putObject("paths");
+        for (Map.Entry<String, Set<String>> path : selected.entrySet()) {
+            JsonNode pathItem = paths.get(path.getKey());
+            ObjectNode selectedItem = JsonNodeFactory.instance.objectNode();
+            Iterator<Map.Entry<String, JsonNode>> itemFields = pathItem.fields();
+            while (itemFields.hasNext()) {
+                Map.Entry<String, JsonNode> itemField = itemFields.next();
+                if (!HTTP_METHODS.contains(itemField.getKey())) {
+                    selectedItem.set(itemField.getKey(), itemField.getValue());
+                } else if (path.getValue() == null || path.getValue().contains(itemField.getKey())) {
+                    selectedItem.set(itemField.getKey(), itemField.getValue());
+                    for (JsonNode tag : itemField.getValue().path("tags")) {
+                        usedTags.add(tag.asText());
+                    }
+                }
+            }
+            pathsNode.set(path.getKey(), selectedItem);
+        }
+        if (root.has("tags")) {
+            ArrayNode tags = JsonNodeFactory.instance.arrayNode();
+            for (JsonNode tag : root.get("tags")) {
+                if (usedTags.contains(tag.path("name").asText())) {
+                    tags.add(tag);
+                }
+            }
+            if (tags.size() > 0) {
+                result.set("tags", tags);
+            }
+        }
+        if (fragment.isClosure()) {
+            addClosure(result);
+        }
+        return result;
+    }
+
+    /**
+     * @return the methods selected per path, null selecting all methods of a path
+     */
+    private Map<String, Set<String>> selectOperations(String tag, String pathPrefix) {
+        Map<String, Set<String>> selected = new LinkedHashMap<>();
+        if (tag != null) {
+            Map<String, Set<String>> tagged = tagOperations.getOrDefault(tag, Collections.emptyMap());
+            for (Map.Entry<String, Set<String>> path : tagged.entrySet()) {
+                if (pathPrefix == null || isUnder(path.getKey(), pathPrefix)) {
+                    selected.put(path.getKey(), path.getValue());
+                }
+            }
+            return selected;
+        }
+        // paths under the prefix are sorted right after it
+        for (String path : paths.tailMap(pathPrefix, true).keySet()) {
+            if (!path.startsWith(pathPrefix)) {
+                break;
+            }
+            if (isUnder(path, pathPrefix)) {
+                selected.put(path, null);
+            }
+        }
+        return selected;
+    }
+
+    private static boolean isUnder(String path, String prefix) {
+        if (!path.startsWith(prefix)) {
+            return false;
+        }
+        return path.length() == prefix.length() || prefix.endsWith("/") || path.charAt(prefix.length()) == '/';
+    }
+
+    private JsonNode selectPointer(String pointer, boolean closure) {
+        JsonPointer jsonPointer;
+        try {
+            jsonPointer = JsonPointer.compile(pointer);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        JsonNode node = at(jsonPointer);
+        if (node.isMissingNode()) {
+            return null;
+        }
+        if (!closure || jsonPointer.matches()) {
+            return node;
+        }
+        // place the node at its location, as far as the pointer goes through objects
+        ObjectNode result = JsonNodeFactory.instance.objectNode();
+        ObjectNode parent = result;
+        JsonNode source = root;
+        JsonPointer segment = jsonPointer;
+        while (!segment.tail().matches()) {
+            if (!source.isObject()) {
+                return node;
+            }
+            source = source.get(segment.getMatchingProperty());
+            parent = parent.putObject(segment.getMatchingProperty());
+            segment = segment.tail();
+        }
+        if (!source.isObject()) {
+            return node;
+        }
+        parent.set(segment.getMatchingProperty(), node);
+        addClosure(result);
+        return result;
+    }
+
+    /**
+     * Adds the components transitively referenced by the given partial definition, along with the security
+     * schemes of its security requirements.
+     */
+    private void addClosure(ObjectNode result) {
+        Map<String, Map<String, JsonNode>> closure = new LinkedHashMap<>();
+        Set<String> visited = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        collectReferences(result, pending);
+        while (!pending.isEmpty()) {
+            String ref = pending.pop();
+            if (!visited.add(ref)) {
+                continue;
+            }
+            String[] location = ref.split("/", 2);
+            JsonNode component = getComponent(location[0], location[1]);
+            if (component.isMissingNode()) {
+                continue;
+            }
+            closure.computeIfAbsent(location[0], k -> new LinkedHashMap<>()).put(location[1], component);
+            pending.addAll(componentReferences.computeIfAbsent(ref, k -> {
+                List<String> refs = new ArrayList<>();
+                collectReferences(component, refs);
+                return refs;
+            }));
+        }
+        if (closure.isEmpty()) {
+            return;
+        }
+        // merge into new nodes, the result may share component nodes of the indexed tree
+        ObjectNode components = JsonNodeFactory.instance.objectNode();
+        JsonNode existing = result.get("components");
+        if (existing != null && existing.isObject()) {
+            components.setAll((ObjectNode) existing);
+        }
+        for (Map.Entry<String, Map<String, JsonNode>> type : closure.entrySet()) {
+            ObjectNode typeNode = JsonNodeFactory.instance.objectNode();
+            JsonNode existingType = components.get(type.getKey());
+            if (existingType != null && existingType.isObject()) {
+                typeNode.setAll((ObjectNode) existingType);
+            }
+            typeNode.setAll(type.getValue());
+            components.set(type.getKey(), typeNode);
+        }
+        result.set("components", components);
+    }
+
+    /**
+     * Collects references as <code>type/name</code>, e.g. <code>schemas/Order</code>.
+     */
+    private static void collectReferences(JsonNode node, Collection<String> refs) {
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode value = field.getValue();
+                if ("$ref".equals(field.getKey()) && value.isTextual()) {
+                    addReference(value.asText(), refs);
+                } else if ("mapping".equals(field.getKey()) && value.isObject()) {
+                    // discriminator mapping
+                    for (JsonNode mapping : value) {
+                        if (mapping.isTextual()) {
+                            addReference(mapping.asText(), refs);
+                        }
+                    }
+                } else if ("security".equals(field.getKey()) && value.isArray()) {
+                    for (JsonNode requirement : value) {
+                        Iterator<String> schemes = requirement.fieldNames();
+                        while (schemes.hasNext()) {
+                            refs.add("securitySchemes/" + schemes.next());
+                        }
+                    }
+                } else {
+                    collectReferences(value, refs);
+                }
+            }
+        } else if (node.isArray()) {
+            for (JsonNode element : node) {
+                collectReferences(element, refs);
+            }
+        }
+    }
+
+    private static void addReference(String ref, Collection<String> refs) {
+        if (ref.startsWith(COMPONENTS_REF_PREFIX)) {
+            String location = ref.substring(COMPONENTS_REF_PREFIX.length());
+            int separator = location.indexOf('/');
+            if (separator > 0) {
+                // component names are pointer escaped
+                refs.add(location.substring(0, separator) + "/" +
+                        location.substring(separator + 1).replace("~1", "/").replace("~0", "~"));
+            }
+        }
+    }
+}
@@ -0,0 +1,482 @@
+package io.swagger.v3.oas.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.core.metrics.MetricsUtils;
+import io.swagger.v3.core.metrics.OpenApiMetrics;
+import io.swagger.v3.core.util.Cbor;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Smile;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.integration.api.OpenApiContext;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the serializations of the definition last read from an OpenApiContext, along with their gzip compressed
+ * variants, which are built lazily on first request. Fragments of the definition are answered from an index of
+ * the snapshot and cached as well. A new definition snapshot returned by the context replaces all cached
+ * serializations. The last versions of the definition are kept in a short history, identified by their entity tag,
+ * to answer clients with a JSON Patch to the current version. Definitions filtered from the snapshot are serialized
+ * reusing the serializations of the subtrees they share with it.
+ *
+ * Besides "json" and "yaml", definitions are serialized in the binary "smile" and "cbor" formats, which are never
+ * pretty printed. These are only offered when their optional Jackson dataformat is on the classpath, and are
+ * answered as "json" otherwise.
+ *
+ * @since 2.0.10
+ */
+public class OpenApiSerializationCache {
+
+    public static final String GZIP = "gzip";
+    public static final String SMILE_MEDIA_TYPE = "application/x-jackson-smile";
+    public static final String CBOR_MEDIA_TYPE = "application/cbor";
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+    // the format, encoding and patch or not modified response all depend on these request headers
+    public static final String VARY = "Accept, Accept-Encoding, If-None-Match";
+    // fragment queries come from requests, bound the serializations kept per snapshot
+    public static final int MAX_CACHED_FRAGMENTS = 256;
+    public static final int HISTORY_SIZE = 8;
+
+    private static final ConcurrentHashMap<String, OpenApiSerializationCache> CACHES = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot;
+    private final Deque<Version> history = new ArrayDeque<>();
+
+    public static OpenApiSerializationCache getInstance(String ctxId) {
+        if (ctxId == null) {
+            ctxId = OpenApiContext.OPENAPI_CONTEXT_ID_DEFAULT;
+        }
+        return CACHES.computeIfAbsent(ctxId, k -> new OpenApiSerializationCache());
+    }
+
+    /**
+     * Drops the cache of the given context, e.g. when the context is closed.
+     *
+     * @since 2.0.10
+     */
+    public static void removeInstance(String ctxId) {
+        CACHES.remove(ctxId == null ? OpenApiContext.OPENAPI_CONTEXT_ID_DEFAULT : ctxId);
+    }
+
+    /**
+     * Returns the serialization of the given definition in the given format, serializing it only if the definition
+     * is not the snapshot cached for this context.
+     */
+    public Serialization get(OpenAPI openAPI, String type, boolean pretty, OpenApiMetrics metrics) throws IOException {
+        return get(getSnapshot(openAPI), type, pretty, metrics);
+    }
+
+    private Serialization get(Snapshot current, String type, boolean pretty, OpenApiMetrics metrics) throws IOException {
+        String key = getKey(type, pretty);
+        Serialization serialization = current.serializations.get(key);
+        if (serialization == null) {
+            serialization = serialize(current.openAPI, type, pretty, metrics);
+            Serialization previous = current.serializations.putIfAbsent(key, serialization);
+            if (previous != null) {
+                serialization = previous;
+            }
+        }
+        return serialization;
+    }
+
+    /**
+     * Returns the serialization of a fragment of the given definition, answering it from the index of the cached
+     * snapshot; at most {@link #MAX_CACHED_FRAGMENTS} fragment serializations are kept per snapshot.
+     *
+     * @return the serialization, or null if the fragment selects nothing
+     */
+    public Serialization getFragment(OpenAPI openAPI, OpenApiFragment fragment, String type, boolean pretty, OpenApiMetrics metrics) throws IOException {
+        Snapshot current = getSnapshot(openAPI);
+        String key = getKey(type, pretty) + "#" + fragment.getKey();
+        Serialization serialization = current.serializations.get(key);
+        if (serialization == null) {
+            JsonNode node = current.getIndex().select(fragment);
+            if (node == null) {
+                return null;
+            }
+            serialization = serialize(node, type, pretty, metrics);
+            if (current.fragments.incrementAndGet() <= MAX_CACHED_FRAGMENTS) {
+                Serialization previous = current.serializations.putIfAbsent(key, serialization);
+                if (previous != null) {
+                    serialization = previous;
+                }
+            }
+        }
+        return serialization;
+    }
+
+    /**
+     * Returns the entity tag of the given definition, a hash of its compact JSON serialization, recording the
+     * definition in the history of this context.
+     */
+    public String getETag(OpenAPI openAPI, OpenApiMetrics metrics) throws IOException {
+        return getETag(getSnapshot(openAPI), metrics);
+    }
+
+    private String getETag(Snapshot current, OpenApiMetrics metrics) throws IOException {
+        String etag = current.etag;
+        if (etag == null) {
+            byte[] bytes = get(current, "json", false, metrics).getBytes();
+            etag = hash(bytes);
+            synchronized (history) {
+                // a snapshot read again with the same content is the same version
+                if (history.isEmpty() || !history.getLast().etag.equals(etag)) {
+                    history.addLast(new Version(etag, bytes));
+                    if (history.size() > HISTORY_SIZE) {
+                        history.removeFirst();
+                    }
+                }
+            }
+            current.etag = etag;
+        }
+        return etag;
+    }
+
+    /**
+     * Returns the JSON Patch from the version of the definition with the given entity tag to the given definition,
+     * if that version is one of the last {@link #HISTORY_SIZE} versions served for this context.
+     *
+     * @return the serialization of the patch, or null if the version is unknown
+     */
+    public Serialization getPatch(OpenAPI openAPI, String etag, OpenApiMetrics metrics) throws IOException {
+        Snapshot current = getSnapshot(openAPI);
+        getETag(current, metrics);
+        String key = "patch#" + etag;
+        Serialization serialization = current.serializations.get(key);
+        if (serialization == null) {
+            Version version = null;
+            synchronized (history) {
+                for (Version candidate : history) {
+                    if (candidate.etag.equals(etag)) {
+                        version = candidate;
+                    }
+                }
+            }
+            if (version == null) {
+                return null;
+            }
+            metrics = MetricsUtils.nonNull(metrics);
+            long start = System.nanoTime();
+            JsonNode patch = OpenApiDiff.diff(Json.mapper().readTree(version.bytes), current.getIndex().getRoot());
+            byte[] bytes = Json.mapper().writeValueAsBytes(patch);
+            metrics.time(OpenApiMetrics.SERIALIZATION, "patch", System.nanoTime() - start);
+            metrics.count(OpenApiMetrics.SERIALIZATION_BYTES, "patch", bytes.length);
+            serialization = new Serialization(bytes);
+            // bounded by the history size
+            Serialization previous = current.serializations.putIfAbsent(key, serialization);
+            if (previous != null) {
+                serialization = previous;
+            }
+        }
+        return serialization;
+    }
+
+    static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hash = new StringBuilder();
+            for (int i = 0; i < 16; i++) {
+                hash.append(Character.forDigit((digest[i] >> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Snapshot getSnapshot(OpenAPI openAPI) {
+        Snapshot current = snapshot;
+        if (current == null || current.openAPI != openAPI) {
+            current = new Snapshot(openAPI);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    public void clear() {
+        snapshot = null;
+        synchronized (history) {
+            history.clear();
+        }
+    }
+
+    /**
+     * Serializes the given definition without caching it, e.g. for definitions filtered per request.
+     */
+    public static Serialization serialize(OpenAPI openAPI, String type, boolean pretty, OpenApiMetrics metrics) throws IOException {
+        return serialize((Object) openAPI, type, pretty, metrics);
+    }
+
+    /**
+     * Serializes a definition filtered from the given one without caching it. The compact JSON serializations of the
+     * subtrees of the given definition are kept along with its snapshot, and spliced into the serialization of the
+     * filtered definitions sharing them; other formats are serialized in full.
+     */
+    public Serialization serializeFiltered(OpenAPI openAPI, OpenAPI filtered, String type, boolean pretty, OpenApiMetrics metrics) throws IOException {
+        if (pretty || !"json".equalsIgnoreCase(type)) {
+            return serialize(filtered, type, pretty, metrics);
+        }
+        metrics = MetricsUtils.nonNull(metrics);
+        long start = System.nanoTime();
+        byte[] bytes = getSnapshot(openAPI).getSubtrees().serialize(filtered);
+        metrics.time(OpenApiMetrics.SERIALIZATION, "json", System.nanoTime() - start);
+        metrics.count(OpenApiMetrics.SERIALIZATION_BYTES, "json", bytes.length);
+        return new Serialization(bytes);
+    }
+
+    /**
+     * Serializes a fragment of the given definition without caching it, e.g. for definitions filtered per request.
+     *
+     * @return the serialization, or null if the fragment selects nothing
+     */
+    public static Serialization serializeFragment(OpenAPI openAPI, OpenApiFragment fragment, String type, boolean pretty, OpenApiMetrics metrics) throws IOException {
+        JsonNode node = new OpenApiFragmentIndex(openAPI).select(fragment);
+        return node == null ? null : serialize(node, type, pretty, metrics);
+    }
+
+    private static Serialization serialize(Object value, String type, boolean pretty, OpenApiMetrics metrics) throws IOException {
+        metrics = MetricsUtils.nonNull(metrics);
+        String format = getFormat(type);
+        long start = System.nanoTime();
+        byte[] bytes;
+        if ("smile".equals(format)) {
+            bytes = Smile.mapper().writeValueAsBytes(value);
+        } else if ("cbor".equals(format)) {
+            bytes = Cbor.mapper().writeValueAsBytes(value);
+        } else {
+            String entity;
+            if ("yaml".equals(format)) {
+                entity = pretty ? Yaml.pretty(value) : Yaml.write(value);
+            } else {
+                entity = pretty ? Json.pretty(value) : Json.mapper().writeValueAsString(value);
+            }
+            bytes = entity.getBytes(StandardCharsets.UTF_8);
+        }
+        metrics.time(OpenApiMetrics.SERIALIZATION, format, System.nanoTime() - start);
+        metrics.count(OpenApiMetrics.SERIALIZATION_BYTES, format, bytes.length);
+        return new Serialization(bytes);
+    }
+
+    private static String getKey(String type, boolean pretty) {
+        String format = getFormat(type);
+        return pretty && ("json".equals(format) || "yaml".equals(format)) ? format + ".pretty" : format;
+    }
+
+    /**
+     * @return the format of the given type, one of "json" (default), "yaml", "smile" and "cbor"; "smile" and "cbor"
+     * only if {@link Smile#isAvailable()} and {@link Cbor#isAvailable()} respectively
+     */
+    public static String getFormat(String type) {
+        String format = StringUtils.isBlank(type) ? "json" : type.trim().toLowerCase();
+        switch (format) {
+            case "yaml":
+                return format;
+            case "smile":
+                return Smile.isAvailable() ? format : "json";
+            case "cbor":
+                return Cbor.isAvailable() ? format : "json";
+            default:
+                return "json";
+        }
+    }
+
+    /**
+     * @return the media type of the given format
+     */
+    public static String getMediaType(String type) {
+        switch (getFormat(type)) {
+            case "yaml":
+                return "application/yaml";
+            case "smile":
+                return SMILE_MEDIA_TYPE;
+            case "cbor":
+                return CBOR_MEDIA_TYPE;
+            default:
+                return "application/json";
+        }
+    }
+
+    /**
+     * @return true if the given Accept-Encoding header values allow a gzip encoded response
+     */
+    public static boolean acceptsGzip(String... acceptEncodings) {
+        if (acceptEncodings == null) {
+            return false;
+        }
+        Boolean gzip = null;
+        Boolean any = null;
+        for (String acceptEncoding : acceptEncodings) {
+            if (StringUtils.isBlank(acceptEncoding)) {
+                continue;
+            }
+            for (String coding : acceptEncoding.split(",")) {
+                String[] parts = coding.split(";");
+                String name = parts[0].trim().toLowerCase();
+                boolean accepted = true;
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim();
+                    if (param.startsWith("q=")) {
+                        try {
+                            accepted = Double.parseDouble(param.substring(2).trim()) > 0;
+                        } catch (NumberFormatException e) {
+                            accepted = false;
+                        }
+                    }
+                }
+                if (GZIP.equals(name) || "x-gzip".equals(name)) {
+                    gzip = accepted;
+                } else if ("*".equals(name)) {
+                    any = accepted;
+                }
+            }
+        }
+        if (gzip != null) {
+            return gzip;
+        }
+        return Boolean.TRUE.equals(any);
+    }
+
+    /**
+     * @return the entity tags listed in the given If-None-Match header values, without quotes and weak indicator
+     */
+    public static List<String> parseETags(String... ifNoneMatches) {
+        List<String> etags = new ArrayList<>();
+        if (ifNoneMatches == null) {
+            return etags;
+        }
+        for (String ifNoneMatch : ifNoneMatches) {
+            if (StringUtils.isBlank(ifNoneMatch)) {
+                continue;
+            }
+            for (String etag : ifNoneMatch.split(",")) {
+                etag = etag.trim();
+                if (etag.startsWith("W/")) {
+                    etag = etag.substring(2);
+                }
+                etag = StringUtils.removeEnd(StringUtils.removeStart(etag, "\""), "\"");
+                if (!etag.isEmpty()) {
+                    etags.add(etag);
+                }
+            }
+        }
+        return etags;
+    }
+
+    /**
+     * @return the ETag header value of the given entity tag; weak, as all formats and encodings share it
+     */
+    public static String formatETag(String etag) {
+        return "W/\"" + etag + "\"";
+    }
+
+    private static class Version {
+        private final String etag;
+        private final byte[] bytes;
+
+        private Version(String etag, byte[] bytes) {
+            this.etag = etag;
+            this.bytes = bytes;
+        }
+    }
+
+    private static class Snapshot {
+        private final OpenAPI openAPI;
+        private final ConcurrentHashMap<String, Serialization> serializations = new ConcurrentHashMap<>();
+        private final AtomicInteger fragments = new AtomicInteger();
+        private volatile OpenApiFragmentIndex index;
+        private volatile OpenApiSubtreeCache subtrees;
+        private volatile String etag;
+
+        private Snapshot(OpenAPI openAPI) {
+            this.openAPI = openAPI;
+        }
+
+        private OpenApiFragmentIndex getIndex() {
+            OpenApiFragmentIndex result = index;
+            if (result == null) {
+                synchronized (this) {
+                    result = index;
+                    if (result == null) {
+                        result = new OpenApiFragmentIndex(openAPI);
+                        index = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private OpenApiSubtreeCache getSubtrees() {
+            OpenApiSubtreeCache result = subtrees;
+            if (result == null) {
+                synchronized (this) {
+                    result = subtrees;
+                    if (result == null) {
+                        result = new OpenApiSubtreeCache(openAPI);
+                        subtrees = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    public static class Serialization {
+        private final byte[] bytes;
+        private volatile byte[] gzipped;
+
+        public Serialization(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        /**
+         * @return the serialization, UTF-8 encoded for the text formats
+         */
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Returns the gzip compressed serialization, compressing it on first call.
+         *
+         * @param threshold the size in bytes below which the serialization is not compressed; negative disables compression
+         * @return the compressed serialization, or null if it is smaller than threshold
+         */
+        public byte[] getGzipped(int threshold) throws IOException {
+            if (threshold < 0 || bytes.length < threshold) {
+                return null;
+            }
+            byte[] result = gzipped;
+            if (result == null) {
+                synchronized (this) {
+                    result = gzipped;
+                    if (result == null) {
+                        result = gzip(bytes);
+                        gzipped = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static byte[] gzip(byte[] bytes) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(bytes.length / 8, 64));
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(bytes);
+            }
+            return out.toByteArray();
+        }
+    }
+}
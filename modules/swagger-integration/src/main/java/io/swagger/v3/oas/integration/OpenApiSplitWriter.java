@@ -0,0 +1,314 @@
+package io.swagger.v3.oas.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes a definition as multiple files: a root document, one file per group of paths, grouped by the first tag
+ * of their operations or by their first path segment, and one file per component type. Path items and components
+ * are connected to their files with relative external references; security schemes stay in the root document, as
+ * security requirements refer to them by name.
+ *
+ * An index manifest, <code>&lt;fileName&gt;-index.json</code>, lists the groups and files along with the hash of
+ * each file content. Files are written in parallel and only rewritten if their hash changed since the last run;
+ * files of the previous run no longer produced are deleted.
+ *
+ * @since 2.0.10
+ */
+public class OpenApiSplitWriter {
+
+    private static Logger LOGGER = LoggerFactory.getLogger(OpenApiSplitWriter.class);
+
+    public enum GroupBy {TAG, PATH}
+
+    public static final String DEFAULT_GROUP = "default";
+
+    private static final String COMPONENTS_REF_PREFIX = "#/components/";
+
+    private final Path outputDir;
+    private final String fileName;
+    private GroupBy groupBy = GroupBy.TAG;
+    private boolean json = true;
+    private boolean yaml;
+    private boolean prettyPrint;
+    private Charset encoding = StandardCharsets.UTF_8;
+
+    public OpenApiSplitWriter(Path outputDir, String fileName) {
+        this.outputDir = outputDir;
+        this.fileName = fileName;
+    }
+
+    public OpenApiSplitWriter groupBy(GroupBy groupBy) {
+        this.groupBy = groupBy;
+        return this;
+    }
+
+    public OpenApiSplitWriter json(boolean json) {
+        this.json = json;
+        return this;
+    }
+
+    public OpenApiSplitWriter yaml(boolean yaml) {
+        this.yaml = yaml;
+        return this;
+    }
+
+    public OpenApiSplitWriter prettyPrint(boolean prettyPrint) {
+        this.prettyPrint = prettyPrint;
+        return this;
+    }
+
+    public OpenApiSplitWriter encoding(Charset encoding) {
+        this.encoding = encoding;
+        return this;
+    }
+
+    public Path getManifestFile() {
+        return outputDir.resolve(fileName + "-index.json");
+    }
+
+    /**
+     * Writes the files of the given definition, along with the index manifest.
+     *
+     * @return the number of files written, unchanged files not counted
+     */
+    public int write(OpenAPI openAPI) throws IOException {
+        ObjectNode root = Json.mapper().valueToTree(openAPI);
+        Map<String, Map<String, JsonNode>> groups = group(root.path("paths"));
+
+        ObjectNode manifest = JsonNodeFactory.instance.objectNode();
+        manifest.put("groupBy", groupBy.name().toLowerCase());
+        ArrayNode documents = manifest.putArray("documents");
+        ObjectNode groupsNode = manifest.putObject("groups");
+        ObjectNode componentsNode = manifest.putObject("components");
+
+        for (Map.Entry<String, Map<String, JsonNode>> group : groups.entrySet()) {
+            ArrayNode groupPaths = groupsNode.putObject(group.getKey()).putArray("paths");
+            group.getValue().keySet().forEach(groupPaths::add);
+        }
+
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        for (String extension : getExtensions()) {
+            String document = fileName + "." + extension;
+            documents.add(document);
+            ObjectNode rootDocument = root.deepCopy();
+            ObjectNode paths = rootDocument.putObject("paths");
+            for (Map.Entry<String, Map<String, JsonNode>> group : groups.entrySet()) {
+                String file = fileName + "/paths/" + group.getKey() + "." + extension;
+                ObjectNode groupDocument = JsonNodeFactory.instance.objectNode();
+                for (Map.Entry<String, JsonNode> path : group.getValue().entrySet()) {
+                    JsonNode pathItem = path.getValue().deepCopy();
+                    rewriteReferences(pathItem, "../components/", extension);
+                    groupDocument.set(path.getKey(), pathItem);
+                    paths.putObject(path.getKey()).put("$ref", file + "#/" + escape(path.getKey()));
+                }
+                groupsNode.with(group.getKey()).withArray("files").add(file);
+                files.put(file, serialize(groupDocument, extension));
+            }
+            JsonNode components = rootDocument.path("components");
+            if (components.isObject()) {
+                ObjectNode rootComponents = JsonNodeFactory.instance.objectNode();
+                Iterator<Map.Entry<String, JsonNode>> types = components.fields();
+                while (types.hasNext()) {
+                    Map.Entry<String, JsonNode> type = types.next();
+                    if ("securitySchemes".equals(type.getKey())) {
+                        rootComponents.set(type.getKey(), type.getValue());
+                        continue;
+                    }
+                    String file = fileName + "/components/" + type.getKey() + "." + extension;
+                    JsonNode typeDocument = type.getValue().deepCopy();
+                    rewriteReferences(typeDocument, "", extension);
+                    componentsNode.withArray(type.getKey()).add(file);
+                    files.put(file, serialize(typeDocument, extension));
+                }
+                if (rootComponents.size() > 0) {
+                    rootDocument.set("components", rootComponents);
+                } else {
+                    rootDocument.remove("components");
+                }
+            }
+            rewriteReferences(rootDocument, fileName + "/components/", extension);
+            files.put(document, serialize(rootDocument, extension));
+        }
+
+        ObjectNode hashes = manifest.putObject("files");
+        for (Map.Entry<String, byte[]> file : files.entrySet()) {
+            hashes.put(file.getKey(), OpenApiSerializationCache.hash(file.getValue()));
+        }
+        JsonNode previous = readManifest();
+        int written = writeFiles(files, hashes, previous.path("files"));
+        deleteStaleFiles(previous.path("files"), files);
+        Files.createDirectories(outputDir);
+        Files.write(getManifestFile(), Json.pretty(manifest).getBytes(StandardCharsets.UTF_8));
+        return written;
+    }
+
+    private List<String> getExtensions() {
+        List<String> extensions = new ArrayList<>(2);
+        if (json) {
+            extensions.add("json");
+        }
+        if (yaml) {
+            extensions.add("yaml");
+        }
+        return extensions;
+    }
+
+    private Map<String, Map<String, JsonNode>> group(JsonNode paths) {
+        Map<String, Map<String, JsonNode>> groups = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> pathItems = paths.fields();
+        while (pathItems.hasNext()) {
+            Map.Entry<String, JsonNode> pathItem = pathItems.next();
+            // a path item is referenced as a whole, it is grouped by its first operation
+            String group = groupBy == GroupBy.TAG ? getFirstTag(pathItem.getValue()) : getFirstSegment(pathItem.getKey());
+            groups.computeIfAbsent(toFileName(group), k -> new LinkedHashMap<>()).put(pathItem.getKey(), pathItem.getValue());
+        }
+        return groups;
+    }
+
+    private static String getFirstTag(JsonNode pathItem) {
+        for (JsonNode operation : pathItem) {
+            JsonNode tags = operation.path("tags");
+            if (tags.size() > 0) {
+                return tags.get(0).asText();
+            }
+        }
+        return DEFAULT_GROUP;
+    }
+
+    private static String getFirstSegment(String path) {
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                return segment;
+            }
+        }
+        return DEFAULT_GROUP;
+    }
+
+    private static String toFileName(String group) {
+        String name = group.replaceAll("[^A-Za-z0-9._-]", "_");
+        return name.isEmpty() || name.startsWith(".") ? "_" + name : name;
+    }
+
+    /**
+     * Rewrites local component references to the component files, relative to the given location.
+     */
+    private static void rewriteReferences(JsonNode node, String location, String extension) {
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode value = field.getValue();
+                if ("$ref".equals(field.getKey()) && value.isTextual()) {
+                    field.setValue(rewriteReference(value, location, extension));
+                } else if ("mapping".equals(field.getKey()) && value.isObject()) {
+                    // discriminator mapping
+                    Iterator<Map.Entry<String, JsonNode>> mappings = value.fields();
+                    while (mappings.hasNext()) {
+                        Map.Entry<String, JsonNode> mapping = mappings.next();
+                        mapping.setValue(rewriteReference(mapping.getValue(), location, extension));
+                    }
+                } else {
+                    rewriteReferences(value, location, extension);
+                }
+            }
+        } else if (node.isArray()) {
+            for (JsonNode element : node) {
+                rewriteReferences(element, location, extension);
+            }
+        }
+    }
+
+    private static JsonNode rewriteReference(JsonNode ref, String location, String extension) {
+        String value = ref.asText();
+        if (!value.startsWith(COMPONENTS_REF_PREFIX)) {
+            return ref;
+        }
+        String component = value.substring(COMPONENTS_REF_PREFIX.length());
+        int separator = component.indexOf('/');
+        if (separator <= 0 || component.startsWith("securitySchemes/")) {
+            return ref;
+        }
+        return TextNode.valueOf(location + component.substring(0, separator) + "." + extension + "#" + component.substring(separator));
+    }
+
+    private static String escape(String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+
+    private byte[] serialize(JsonNode node, String extension) throws IOException {
+        String entity;
+        if ("yaml".equals(extension)) {
+            entity = prettyPrint ? Yaml.pretty(node) : Yaml.write(node);
+        } else {
+            entity = prettyPrint ? Json.pretty(node) : Json.mapper().writeValueAsString(node);
+        }
+        return entity.getBytes(encoding);
+    }
+
+    private JsonNode readManifest() {
+        Path manifest = getManifestFile();
+        if (Files.isRegularFile(manifest)) {
+            try {
+                return Json.mapper().readTree(manifest.toFile());
+            } catch (IOException e) {
+                LOGGER.warn("ignoring unreadable manifest " + manifest + ": " + e.getMessage());
+            }
+        }
+        return JsonNodeFactory.instance.objectNode();
+    }
+
+    private int writeFiles(Map<String, byte[]> files, JsonNode hashes, JsonNode previousHashes) throws IOException {
+        AtomicInteger written = new AtomicInteger();
+        try {
+            files.entrySet().parallelStream().forEach(file -> {
+                Path path = outputDir.resolve(file.getKey());
+                String hash = hashes.path(file.getKey()).asText();
+                if (hash.equals(previousHashes.path(file.getKey()).asText(null)) && Files.isRegularFile(path)) {
+                    return;
+                }
+                try {
+                    Files.createDirectories(path.getParent());
+                    Files.write(path, file.getValue());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                written.incrementAndGet();
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return written.get();
+    }
+
+    private void deleteStaleFiles(JsonNode previousHashes, Map<String, byte[]> files) throws IOException {
+        Iterator<String> previousFiles = previousHashes.fieldNames();
+        while (previousFiles.hasNext()) {
+            String previousFile = previousFiles.next();
+            if (!files.containsKey(previousFile)) {
+                Files.deleteIfExists(outputDir.resolve(previousFile));
+            }
+        }
+    }
+}
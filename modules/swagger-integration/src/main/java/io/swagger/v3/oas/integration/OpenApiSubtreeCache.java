@@ -0,0 +1,218 @@
+package io.swagger.v3.oas.integration;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import io.swagger.v3.core.jackson.SchemaSerializer;
+import io.swagger.v3.core.util.ClassLoaderCache;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the compact JSON serializations of the subtrees of a definition snapshot, keyed by identity: path items,
+ * operations, parameters, request bodies, responses, components entries and the properties of component schemas.
+ * Definitions sharing these instances with the snapshot, e.g. as filtered by SpecFilter, are serialized by splicing
+ * the kept serializations, so that only the subtrees not shared are serialized.
+ *
+ * Each serialization is kept along with a copy of the content it was written from, read back from it, and is only
+ * spliced while the subtree still equals that copy; a subtree changed in place, e.g. by a filter, is serialized again.
+ * Subtrees whose serialization does not read back to an equal copy are always serialized.
+ */
+class OpenApiSubtreeCache {
+
+    private static volatile ObjectMapper mapper;
+
+    static {
+        // the serializers cached by the mapper may be of classes of the released loader, e.g. of example values
+        ClassLoaderCache.addReleaseListener(classLoader -> mapper = null);
+    }
+
+    private final Set<Object> subtrees = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Object, Serialized> serializations = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    OpenApiSubtreeCache(OpenAPI openAPI) {
+        if (openAPI.getPaths() != null) {
+            for (PathItem pathItem : openAPI.getPaths().values()) {
+                add(pathItem);
+                addAll(pathItem.getParameters());
+                for (Operation operation : pathItem.readOperations()) {
+                    add(operation);
+                    addAll(operation.getParameters());
+                    add(operation.getRequestBody());
+                    if (operation.getResponses() != null) {
+                        addAll(operation.getResponses().values());
+                    }
+                }
+            }
+        }
+        Components components = openAPI.getComponents();
+        if (components != null) {
+            if (components.getSchemas() != null) {
+                for (Schema schema : components.getSchemas().values()) {
+                    add(schema);
+                    if (schema != null && schema.getProperties() != null) {
+                        addAll(schema.getProperties().values());
+                    }
+                }
+            }
+            addAll(components.getResponses());
+            addAll(components.getParameters());
+            addAll(components.getExamples());
+            addAll(components.getRequestBodies());
+            addAll(components.getHeaders());
+            addAll(components.getSecuritySchemes());
+            addAll(components.getLinks());
+        }
+    }
+
+    private void add(Object subtree) {
+        if (subtree != null) {
+            subtrees.add(subtree);
+        }
+    }
+
+    private void addAll(Map<String, ?> subtrees) {
+        if (subtrees != null) {
+            addAll(subtrees.values());
+        }
+    }
+
+    private void addAll(Collection<?> subtrees) {
+        if (subtrees != null) {
+            subtrees.forEach(this::add);
+        }
+    }
+
+    /**
+     * @return the compact JSON serialization of the given definition
+     */
+    byte[] serialize(OpenAPI openAPI) throws IOException {
+        return getWriter().withAttribute(OpenApiSubtreeCache.class, this).writeValueAsBytes(openAPI);
+    }
+
+    private static ObjectWriter getWriter() {
+        ObjectMapper result = mapper;
+        if (result == null) {
+            result = Json.mapper().copy();
+            result.registerModule(new SimpleModule() {
+                @Override
+                public void setupModule(SetupContext context) {
+                    super.setupModule(context);
+                    context.addBeanSerializerModifier(new BeanSerializerModifier() {
+                        @Override
+                        public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription desc, JsonSerializer<?> serializer) {
+                            if (Schema.class.isAssignableFrom(desc.getBeanClass())) {
+                                // modifiers registered before wrap this serializer in turn, SchemaSerializer then
+                                // falls back to it
+                                serializer = new SchemaSerializer((JsonSerializer<Object>) serializer);
+                            }
+                            return new SubtreeSerializer((JsonSerializer<Object>) serializer);
+                        }
+                    });
+                }
+            });
+            mapper = result;
+        }
+        return result.writer();
+    }
+
+    private static class SubtreeSerializer extends JsonSerializer<Object> implements ResolvableSerializer, ContextualSerializer {
+
+        private final JsonSerializer<Object> defaultSerializer;
+
+        private SubtreeSerializer(JsonSerializer<Object> defaultSerializer) {
+            this.defaultSerializer = defaultSerializer;
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (defaultSerializer instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) defaultSerializer).resolve(provider);
+            }
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+            if (defaultSerializer instanceof ContextualSerializer) {
+                JsonSerializer<?> contextual = ((ContextualSerializer) defaultSerializer).createContextual(provider, property);
+                if (contextual != defaultSerializer) {
+                    return new SubtreeSerializer((JsonSerializer<Object>) contextual);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+            OpenApiSubtreeCache cache = (OpenApiSubtreeCache) provider.getAttribute(OpenApiSubtreeCache.class);
+            if (cache == null || !cache.subtrees.contains(value)) {
+                defaultSerializer.serialize(value, jgen, provider);
+                return;
+            }
+            Serialized serialized = cache.serializations.get(value);
+            if (serialized == null || !serialized.matches(value)) {
+                // subtrees nested in this one are kept along the way
+                StringWriter writer = new StringWriter();
+                try (JsonGenerator subtreeGenerator = mapper.getFactory().createGenerator(writer)) {
+                    provider.getConfig().initialize(subtreeGenerator);
+                    defaultSerializer.serialize(value, subtreeGenerator, provider);
+                }
+                String serialization = writer.toString();
+                if (serialized != null && serialized.content == null) {
+                    // not read back to an equal copy before, don't try again
+                    jgen.writeRawValue(serialization);
+                    return;
+                }
+                serialized = new Serialized(readCopy(value, serialization), serialization);
+                cache.serializations.put(value, serialized);
+            }
+            jgen.writeRawValue(serialized.serialization);
+        }
+
+        private static Object readCopy(Object value, String serialization) {
+            try {
+                Object copy = mapper.readValue(serialization, value.getClass());
+                return value.equals(copy) ? copy : null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    private static class Serialized {
+        // null if the serialization is not read back to a copy equal to the subtree
+        private final Object content;
+        private final String serialization;
+
+        private Serialized(Object content, String serialization) {
+            this.content = content;
+            this.serialization = serialization;
+        }
+
+        private boolean matches(Object value) {
+            return content != null && content.equals(value);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.swagger.v3.oas.integration;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Matches paths against a set of routes compiled into a trie of path segments; a path matches if a route is
+ * equal to it or to one of its leading segment sequences, e.g. route <code>/users</code> matches
+ * <code>/users</code> and <code>/users/{id}</code> but not <code>/usersettings</code>.
+ *
+ * With template matching enabled, a route segment like <code>{param}</code> matches any single path segment.
+ *
+ * @since 2.0.10
+ */
+public class RoutePrefixTrie {
+
+    private static final String PATH_DELIMITER = "/";
+
+    private final Node root = new Node();
+    private final boolean templateMatching;
+    private boolean empty = true;
+
+    public RoutePrefixTrie(Collection<String> routes) {
+        this(routes, false);
+    }
+
+    public RoutePrefixTrie(Collection<String> routes, boolean templateMatching) {
+        this.templateMatching = templateMatching;
+        if (routes != null) {
+            for (String route : routes) {
+                add(route);
+            }
+        }
+    }
+
+    private void add(String route) {
+        if (route == null) {
+            return;
+        }
+        Node node = root;
+        for (String segment : route.split(PATH_DELIMITER, -1)) {
+            if (templateMatching && isTemplate(segment)) {
+                if (node.template == null) {
+                    node.template = new Node();
+                }
+                node = node.template;
+            } else {
+                node = node.children.computeIfAbsent(segment, k -> new Node());
+            }
+        }
+        node.terminal = true;
+        empty = false;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    public boolean isTemplateMatching() {
+        return templateMatching;
+    }
+
+    /**
+     * @return true if any route is a segment prefix of the given path
+     */
+    public boolean matches(String path) {
+        if (empty || path == null) {
+            return false;
+        }
+        return matches(root, path.split(PATH_DELIMITER, -1), 0);
+    }
+
+    private boolean matches(Node node, String[] segments, int index) {
+        while (true) {
+            if (node.terminal) {
+                return true;
+            }
+            if (index == segments.length) {
+                return false;
+            }
+            Node child = node.children.get(segments[index]);
+            if (node.template != null) {
+                if (child == null) {
+                    child = node.template;
+                } else if (matches(node.template, segments, index + 1)) {
+                    return true;
+                }
+            }
+            if (child == null) {
+                return false;
+            }
+            node = child;
+            index++;
+        }
+    }
+
+    private static boolean isTemplate(String segment) {
+        return segment.length() > 1 && segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node template;
+        private boolean terminal;
+    }
+}
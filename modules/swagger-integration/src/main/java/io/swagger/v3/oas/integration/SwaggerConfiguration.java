@@ -25,11 +25,33 @@ public class SwaggerConfiguration implements OpenAPIConfiguration {
     private Boolean readAllResources = Boolean.TRUE;
 
     private Collection<String> ignoredRoutes;
+    // match {param} segments of ignored routes against any path segment
+    private Boolean ignoredRoutesTemplateMatching;
     private Long cacheTTL = -1L;
 
     private Set<String> modelConverterClasses;
     private String objectMapperProcessorClass;
 
+    // share structurally equal schemas, parameters, headers and examples of the resolved definition
+    private Boolean deduplicate;
+    private Boolean hoistDuplicateSchemas;
+
+    private String metricsClass;
+
+    // reload the configuration when its file changes
+    private Boolean watchConfiguration;
+
+    // resolve the component schemas of operation types on first access, possibly warming them up in the background
+    private Boolean lazyComponents;
+    private Boolean warmUpLazyComponents;
+    private Long asyncTimeout;
+
+    // find the resource classes in the index built at compile time instead of scanning the classpath
+    private Boolean useResourceIndex;
+
+    // load the extension points without a configured class as services
+    private Boolean useServiceLoader;
+
     public Long getCacheTTL() {
         return cacheTTL;
     }
@@ -65,7 +87,29 @@ public class SwaggerConfiguration implements OpenAPIConfiguration {
     }
 
     public SwaggerConfiguration ignoredRoutes(Collection<String> ignoredRoutes) {
-        this.ignoredRoutes = ignoredRoutes;
+        setIgnoredRoutes(ignoredRoutes);
+        return this;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public Boolean isIgnoredRoutesTemplateMatching() {
+        return ignoredRoutesTemplateMatching;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setIgnoredRoutesTemplateMatching(Boolean ignoredRoutesTemplateMatching) {
+        this.ignoredRoutesTemplateMatching = ignoredRoutesTemplateMatching;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public SwaggerConfiguration ignoredRoutesTemplateMatching(Boolean ignoredRoutesTemplateMatching) {
+        setIgnoredRoutesTemplateMatching(ignoredRoutesTemplateMatching);
         return this;
     }
 
@@ -231,4 +275,205 @@ public class SwaggerConfiguration implements OpenAPIConfiguration {
         this.modelConverterClasses = modelConverterClasses;
         return this;
     }
+
+    /**
+     * @since 2.0.10
+     */
+    public Boolean isDeduplicate() {
+        return deduplicate;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setDeduplicate(Boolean deduplicate) {
+        this.deduplicate = deduplicate;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public SwaggerConfiguration deduplicate(Boolean deduplicate) {
+        this.deduplicate = deduplicate;
+        return this;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public Boolean isHoistDuplicateSchemas() {
+        return hoistDuplicateSchemas;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setHoistDuplicateSchemas(Boolean hoistDuplicateSchemas) {
+        this.hoistDuplicateSchemas = hoistDuplicateSchemas;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public SwaggerConfiguration hoistDuplicateSchemas(Boolean hoistDuplicateSchemas) {
+        this.hoistDuplicateSchemas = hoistDuplicateSchemas;
+        return this;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public String getMetricsClass() {
+        return metricsClass;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setMetricsClass(String metricsClass) {
+        this.metricsClass = metricsClass;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public SwaggerConfiguration metricsClass(String metricsClass) {
+        this.metricsClass = metricsClass;
+        return this;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public Boolean isWatchConfiguration() {
+        return watchConfiguration;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setWatchConfiguration(Boolean watchConfiguration) {
+        this.watchConfiguration = watchConfiguration;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public SwaggerConfiguration watchConfiguration(Boolean watchConfiguration) {
+        this.watchConfiguration = watchConfiguration;
+        return this;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public Boolean isLazyComponents() {
+        return lazyComponents;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setLazyComponents(Boolean lazyComponents) {
+        this.lazyComponents = lazyComponents;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public SwaggerConfiguration lazyComponents(Boolean lazyComponents) {
+        this.lazyComponents = lazyComponents;
+        return this;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public Boolean isWarmUpLazyComponents() {
+        return warmUpLazyComponents;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setWarmUpLazyComponents(Boolean warmUpLazyComponents) {
+        this.warmUpLazyComponents = warmUpLazyComponents;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public SwaggerConfiguration warmUpLazyComponents(Boolean warmUpLazyComponents) {
+        this.warmUpLazyComponents = warmUpLazyComponents;
+        return this;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    @Override
+    public Long getAsyncTimeout() {
+        return asyncTimeout;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setAsyncTimeout(Long asyncTimeout) {
+        this.asyncTimeout = asyncTimeout;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public SwaggerConfiguration asyncTimeout(Long asyncTimeout) {
+        this.asyncTimeout = asyncTimeout;
+        return this;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    @Override
+    public Boolean isUseResourceIndex() {
+        return useResourceIndex;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setUseResourceIndex(Boolean useResourceIndex) {
+        this.useResourceIndex = useResourceIndex;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public SwaggerConfiguration useResourceIndex(Boolean useResourceIndex) {
+        this.useResourceIndex = useResourceIndex;
+        return this;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    @Override
+    public Boolean isUseServiceLoader() {
+        return useServiceLoader;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setUseServiceLoader(Boolean useServiceLoader) {
+        this.useServiceLoader = useServiceLoader;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public SwaggerConfiguration useServiceLoader(Boolean useServiceLoader) {
+        this.useServiceLoader = useServiceLoader;
+        return this;
+    }
 }
@@ -39,4 +39,96 @@ public interface OpenAPIConfiguration {
      */
     public Set<String> getModelConverterClasses();
 
+    /**
+     * @return true to share structurally equal schemas, parameters, headers and examples of the resolved definition
+     *
+     * @since 2.0.10
+     */
+    default Boolean isDeduplicate() {
+        return null;
+    }
+
+    /**
+     * @return true to also move inline schemas occurring more than once into the components of the deduplicated definition
+     *
+     * @since 2.0.10
+     */
+    default Boolean isHoistDuplicateSchemas() {
+        return null;
+    }
+
+    /**
+     * @return the class name of the OpenApiMetrics implementation recording reads and serializations of the context
+     *
+     * @since 2.0.10
+     */
+    default String getMetricsClass() {
+        return null;
+    }
+
+    /**
+     * @return true to match {param} segments of ignored routes against any path segment
+     *
+     * @since 2.0.10
+     */
+    default Boolean isIgnoredRoutesTemplateMatching() {
+        return null;
+    }
+
+    /**
+     * @return true to reload the configuration when its file changes
+     *
+     * @since 2.0.10
+     */
+    default Boolean isWatchConfiguration() {
+        return null;
+    }
+
+    /**
+     * @return true to resolve the component schemas of operation types on first access
+     *
+     * @since 2.0.10
+     */
+    default Boolean isLazyComponents() {
+        return null;
+    }
+
+    /**
+     * @return true to resolve lazy component schemas in the background after the definition is read
+     *
+     * @since 2.0.10
+     */
+    default Boolean isWarmUpLazyComponents() {
+        return null;
+    }
+
+    /**
+     * @return the time in milliseconds after which asynchronous requests are served the last resolved definition
+     *
+     * @since 2.0.10
+     */
+    default Long getAsyncTimeout() {
+        return null;
+    }
+
+    /**
+     * @return true to find the resource classes in the class index built at compile time, scanning only the resource
+     * packages it does not cover
+     *
+     * @since 2.0.10
+     */
+    default Boolean isUseResourceIndex() {
+        return null;
+    }
+
+    /**
+     * @return true to load the reader, scanner, object mapper processor, metrics and filter of the context as
+     * services when no class is configured for them
+     *
+     * @since 2.0.10
+     */
+    default Boolean isUseServiceLoader() {
+        return null;
+    }
+
 }
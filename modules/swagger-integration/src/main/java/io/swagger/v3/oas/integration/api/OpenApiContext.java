@@ -1,12 +1,14 @@
 package io.swagger.v3.oas.integration.api;
 
 import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.filter.OpenAPISpecFilter;
+import io.swagger.v3.core.metrics.OpenApiMetrics;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
 import io.swagger.v3.oas.models.OpenAPI;
 
 import java.util.Set;
 
-public interface OpenApiContext {
+public interface OpenApiContext extends AutoCloseable {
 
     String OPENAPI_CONTEXT_ID_KEY = "openapi.context.id";
     String OPENAPI_CONTEXT_ID_PREFIX = OPENAPI_CONTEXT_ID_KEY + ".";
@@ -16,6 +18,11 @@ public interface OpenApiContext {
 
     OpenApiContext init() throws OpenApiConfigurationException;
 
+    /**
+     * Returns the resolved OpenAPI definition; when caching is enabled the same instance is returned to all callers,
+     * and must not be modified: use {@link io.swagger.v3.core.filter.SpecFilter} or
+     * {@link io.swagger.v3.core.util.ModelCopyUtils} to derive a modified copy.
+     */
     OpenAPI read();
 
     OpenAPIConfiguration getOpenApiConfiguration();
@@ -38,4 +45,48 @@ public interface OpenApiContext {
      */
     void setModelConverters(Set<ModelConverter> modelConverters);
 
+    /**
+     * @return the metrics recording reads and serializations of the context, or null if not recorded
+     *
+     * @since 2.0.10
+     */
+    default OpenApiMetrics getMetrics() {
+        return null;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    default void setMetrics(OpenApiMetrics metrics) {
+    }
+
+    /**
+     * Returns the filter applied to the definition when served. A filter configured by class is instantiated for each
+     * request, as before; a filter set by {@link #setFilter(OpenAPISpecFilter)} or loaded as a service filters all
+     * requests, possibly concurrently, and is expected to be thread safe.
+     *
+     * @return the filter, or null if the definition is served unfiltered
+     * @since 2.0.10
+     */
+    default OpenAPISpecFilter getFilter() {
+        return null;
+    }
+
+    /**
+     * Sets the filter applied to the definition when served, shared by all requests as described in {@link #getFilter()}.
+     *
+     * @since 2.0.10
+     */
+    default void setFilter(OpenAPISpecFilter filter) {
+    }
+
+    /**
+     * Releases the resources held by the context, e.g. when its application is undeployed.
+     *
+     * @since 2.0.10
+     */
+    @Override
+    default void close() {
+    }
+
 }
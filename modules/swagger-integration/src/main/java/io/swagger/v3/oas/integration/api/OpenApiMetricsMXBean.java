@@ -0,0 +1,36 @@
+package io.swagger.v3.oas.integration.api;
+
+import java.util.Map;
+
+/**
+ * JMX view of the metrics of an {@link OpenApiContext}, registered as
+ * <code>io.swagger.v3.oas.integration:type=OpenApiContext,id=&lt;context id&gt;</code>.
+ *
+ * Durations are in nanoseconds.
+ *
+ * @since 2.0.10
+ */
+public interface OpenApiMetricsMXBean {
+
+    /**
+     * @return the number of recorded measurements by metric
+     */
+    Map<String, Long> getCounts();
+
+    /**
+     * @return the sum of the recorded measurements by metric
+     */
+    Map<String, Long> getTotals();
+
+    /**
+     * @return the largest recorded measurement by metric
+     */
+    Map<String, Long> getMaxima();
+
+    /**
+     * @return the ratio of model resolutions served by the converter context cache
+     */
+    double getConverterCacheHitRate();
+
+    void reset();
+}
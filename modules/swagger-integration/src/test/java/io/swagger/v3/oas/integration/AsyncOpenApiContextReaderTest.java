@@ -0,0 +1,176 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.LazyComponentSchemas;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiContext;
+import io.swagger.v3.oas.integration.api.OpenApiReader;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class AsyncOpenApiContextReaderTest {
+
+    @Test(description = "coalesce concurrent reads of a context")
+    public void shouldCoalesceReads() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicInteger reads = new AtomicInteger();
+        OpenApiContext ctx = new GenericOpenApiContext()
+                .id("async-test")
+                .openApiReader(new OpenApiReader() {
+                    @Override
+                    public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+                    }
+
+                    @Override
+                    public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
+                        reads.incrementAndGet();
+                        try {
+                            latch.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return new OpenAPI().info(new Info().title("async"));
+                    }
+                })
+                .openApiConfiguration(new SwaggerConfiguration().cacheTTL(0L).resourcePackages(Collections.singleton("com.my.project.resources")))
+                .init();
+
+        AsyncOpenApiContextReader reader = new AsyncOpenApiContextReader(AsyncOpenApiContextReader.createExecutor(2, 10));
+        CompletableFuture<OpenAPI> first = reader.read(ctx);
+        CompletableFuture<OpenAPI> second = reader.read(ctx);
+        assertSame(first, second);
+        assertNull(reader.getSnapshot(ctx));
+
+        latch.countDown();
+        OpenAPI openAPI = first.get(10, TimeUnit.SECONDS);
+        assertEquals(openAPI.getInfo().getTitle(), "async");
+        assertEquals(reads.get(), 1);
+        assertSame(reader.getSnapshot(ctx), openAPI);
+
+        // a new read is started once the previous one is done
+        assertEquals(reader.read(ctx).get(10, TimeUnit.SECONDS).getInfo().getTitle(), "async");
+        assertEquals(reads.get(), 2);
+    }
+
+    @Test(description = "keep the reads of contexts sharing an id apart")
+    public void shouldKeepContextsApart() throws Exception {
+        AsyncOpenApiContextReader reader = new AsyncOpenApiContextReader(Runnable::run);
+        OpenApiContext first = createContext("first");
+        OpenApiContext second = createContext("second");
+
+        assertEquals(reader.read(first).get().getInfo().getTitle(), "first");
+        assertEquals(reader.read(second).get().getInfo().getTitle(), "second");
+        assertEquals(reader.getSnapshot(first).getInfo().getTitle(), "first");
+        assertEquals(reader.getSnapshot(second).getInfo().getTitle(), "second");
+
+        reader.remove(first);
+        assertNull(reader.getSnapshot(first));
+        assertEquals(reader.getSnapshot(second).getInfo().getTitle(), "second");
+    }
+
+    @Test(description = "shut down the shared reader, creating a new one on next use")
+    public void shouldShutDownSharedInstance() {
+        AsyncOpenApiContextReader instance = AsyncOpenApiContextReader.getInstance();
+        AsyncOpenApiContextReader.shutdown();
+        assertTrue(((ExecutorService) instance.getExecutor()).isShutdown());
+        assertNotSame(AsyncOpenApiContextReader.getInstance(), instance);
+    }
+
+    private OpenApiContext createContext(String title) throws Exception {
+        // not registered, as contexts of different applications
+        return new GenericOpenApiContext() {
+            @Override
+            protected void register() {
+            }
+        }
+                .id("async-shared-id")
+                .openApiReader(new OpenApiReader() {
+                    @Override
+                    public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+                    }
+
+                    @Override
+                    public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
+                        return new OpenAPI().info(new Info().title(title));
+                    }
+                })
+                .openApiConfiguration(new SwaggerConfiguration().cacheTTL(0L).resourcePackages(Collections.singleton("com.my.project.resources")))
+                .init();
+    }
+
+    @Test(description = "warm up the lazy component schemas on the executor of the context, until closed")
+    public void shouldWarmUpLazyComponents() throws Exception {
+        final List<Runnable> tasks = new ArrayList<>();
+        AsyncOpenApiContextReader asyncReader = new AsyncOpenApiContextReader(tasks::add);
+
+        GenericOpenApiContext ctx = createLazyContext("warm-up-test", asyncReader);
+        LazyComponentSchemas lazySchemas = LazyComponentSchemas.of(ctx.read().getComponents());
+        assertFalse(lazySchemas.isResolved());
+        assertEquals(tasks.size(), 1);
+        tasks.remove(0).run();
+        assertTrue(lazySchemas.isResolved());
+        assertTrue(lazySchemas.getResolvedSchemas().containsKey("Pet"));
+        assertTrue(lazySchemas.getResolvedSchemas().containsKey("Owner"));
+        ctx.close();
+
+        // closing the context cancels the pending warm-up
+        ctx = createLazyContext("warm-up-closed-test", asyncReader);
+        lazySchemas = LazyComponentSchemas.of(ctx.read().getComponents());
+        assertEquals(tasks.size(), 1);
+        ctx.close();
+        tasks.remove(0).run();
+        assertFalse(lazySchemas.isResolved());
+    }
+
+    private GenericOpenApiContext createLazyContext(String id, AsyncOpenApiContextReader asyncReader) throws Exception {
+        return new GenericOpenApiContext()
+                .id(id)
+                .asyncReader(asyncReader)
+                .openApiReader(new OpenApiReader() {
+                    @Override
+                    public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+                    }
+
+                    @Override
+                    public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
+                        Components components = new Components();
+                        LazyComponentSchemas.install(components);
+                        new ModelConverters().resolveAsLazyReference(new AnnotatedType(Pet.class).resolveAsRef(true), components);
+                        return new OpenAPI().components(components);
+                    }
+                })
+                .openApiConfiguration(new SwaggerConfiguration().cacheTTL(0L).warmUpLazyComponents(true)
+                        .resourcePackages(Collections.singleton("com.my.project.resources")))
+                .init();
+    }
+
+    static class Pet {
+        public String name;
+        public Owner owner;
+    }
+
+    static class Owner {
+        public String name;
+    }
+}
@@ -0,0 +1,105 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.metrics.OpenApiMetrics;
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiContext;
+import io.swagger.v3.oas.integration.api.OpenApiReader;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import org.testng.annotations.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class InMemoryOpenApiMetricsTest {
+
+    @Test(description = "record context reads and expose them via JMX")
+    public void shouldRecordReads() throws Exception {
+
+        OpenAPIConfiguration config = new SwaggerConfiguration()
+                .resourcePackages(Collections.singleton("com.my.project.resources"))
+                .openAPI(new OpenAPI().info(new Info().description("TEST INFO DESC")))
+                .cacheTTL(0L);
+        InMemoryOpenApiMetrics metrics = new InMemoryOpenApiMetrics();
+
+        OpenApiContext ctx = new GenericOpenApiContext()
+                .id("metrics-test")
+                .metrics(metrics)
+                .openApiConfiguration(config)
+                .init();
+        ctx.read();
+        ctx.read();
+
+        assertEquals(metrics.count(OpenApiMetrics.SCANNER_CLASSES), 2);
+        assertEquals(metrics.count(OpenApiMetrics.READER_READ), 2);
+        // no model resolved
+        assertEquals(metrics.getConverterCacheHitRate(), 0d);
+
+        ObjectName name = new ObjectName(GenericOpenApiContext.METRICS_MBEAN_DOMAIN + ":type=OpenApiContext,id=" + ObjectName.quote("metrics-test"));
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+
+        metrics.reset();
+        assertTrue(metrics.getCounts().isEmpty());
+    }
+
+    @Test(description = "record the converter cache hits of repeated reads")
+    public void shouldRecordConverterCacheHits() throws Exception {
+        InMemoryOpenApiMetrics metrics = new InMemoryOpenApiMetrics();
+        OpenApiContext ctx = new GenericOpenApiContext()
+                .id("metrics-hit-rate-test")
+                .metrics(metrics)
+                .cacheTTL(0)
+                .openApiConfiguration(new SwaggerConfiguration().cacheTTL(0L))
+                .openApiReader(new OpenApiReader() {
+                    @Override
+                    public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+                    }
+
+                    @Override
+                    public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
+                        ModelConverters.getInstance().resolveAsResolvedSchema(new AnnotatedType(Pair.class));
+                        return new OpenAPI();
+                    }
+                })
+                .init();
+        ctx.read();
+        ctx.read();
+
+        assertEquals(metrics.count(OpenApiMetrics.READER_READ), 2);
+        // the second item of each pair is resolved from the converter context
+        assertTrue(metrics.count(OpenApiMetrics.CONVERTER_RESOLVE_CACHED) >= 2);
+        assertTrue(metrics.getConverterCacheHitRate() > 0d);
+    }
+
+    @Test(description = "keep keyed measurements also under the metric")
+    public void shouldAggregateKeys() {
+        InMemoryOpenApiMetrics metrics = new InMemoryOpenApiMetrics();
+        metrics.count(OpenApiMetrics.SERIALIZATION_BYTES, "json", 100);
+        metrics.count(OpenApiMetrics.SERIALIZATION_BYTES, "yaml", 80);
+        metrics.count(OpenApiMetrics.CONVERTER_RESOLVE, null, 1);
+        metrics.count(OpenApiMetrics.CONVERTER_RESOLVE, null, 1);
+        metrics.count(OpenApiMetrics.CONVERTER_RESOLVE_CACHED, null, 1);
+
+        assertEquals(metrics.total(OpenApiMetrics.SERIALIZATION_BYTES), 180);
+        assertEquals(metrics.getTotals().get(OpenApiMetrics.SERIALIZATION_BYTES + "[json]").longValue(), 100);
+        assertEquals(metrics.getMaxima().get(OpenApiMetrics.SERIALIZATION_BYTES).longValue(), 100);
+        assertEquals(metrics.getConverterCacheHitRate(), 0.5d);
+    }
+
+    public static class Item {
+        public String name;
+    }
+
+    public static class Pair {
+        public Item first;
+        public Item second;
+    }
+}
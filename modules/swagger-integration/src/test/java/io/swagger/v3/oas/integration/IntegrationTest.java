@@ -1,5 +1,9 @@
 package io.swagger.v3.oas.integration;
 
+import io.swagger.v3.core.converter.ModelConverter;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.jackson.ModelResolver;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -7,12 +11,15 @@ import io.swagger.v3.oas.models.info.Info;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
 
 public class IntegrationTest {
 
@@ -36,4 +43,22 @@ public class IntegrationTest {
         assertNotNull(openApi);
     }
 
+    @Test(description = "keep context converters out of the global chain")
+    public void shouldIsolateModelConverters() throws Exception {
+
+        int globalConverters = ModelConverters.getInstance().getConverters().size();
+        ModelConverter converter = new ModelResolver(Json.mapper());
+
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .id("converters-test")
+                .modelConverters(Collections.singleton(converter))
+                .openApiConfiguration(new SwaggerConfiguration().resourcePackages(Collections.singleton("com.my.project.resources")))
+                .init();
+        ctx.init();
+
+        assertEquals(ModelConverters.getInstance().getConverters().size(), globalConverters);
+        assertSame(ctx.getModelConverterChain().getConverters().get(0), converter);
+        assertEquals(ctx.getModelConverterChain().getConverters().size(), globalConverters + 1);
+    }
+
 }
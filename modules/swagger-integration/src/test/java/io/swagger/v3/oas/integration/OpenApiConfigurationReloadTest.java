@@ -0,0 +1,118 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiReader;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+public class OpenApiConfigurationReloadTest {
+
+    private Path file;
+
+    @BeforeMethod
+    public void createConfiguration() throws Exception {
+        file = Files.createTempFile("openapi-configuration", ".yaml");
+        write("com.my.project.resources", "first");
+    }
+
+    @AfterMethod
+    public void deleteConfiguration() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    @Test(description = "patch the cached definition on info changes")
+    public void shouldPatchDefinition() throws Exception {
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .id("reload-patch-test")
+                .configLocation(file.toString())
+                .init();
+        assertEquals(ctx.getConfigurationFile(), file.toAbsolutePath());
+        OpenAPI first = ctx.read();
+        assertEquals(first.getInfo().getTitle(), "first");
+
+        write("com.my.project.resources", "second");
+        ctx.reloadConfiguration();
+
+        OpenAPI second = ctx.read();
+        assertNotSame(second, first);
+        assertEquals(second.getInfo().getTitle(), "second");
+        assertEquals(first.getInfo().getTitle(), "first");
+        assertSame(ctx.read(), second);
+
+        ctx.reloadConfiguration();
+        assertSame(ctx.read(), second);
+    }
+
+    @Test(description = "rescan on resource package changes")
+    public void shouldRescanDefinition() throws Exception {
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .id("reload-rescan-test")
+                .configLocation(file.toString())
+                .init();
+        OpenAPI first = ctx.read();
+
+        write("org.my.project.resources", "first");
+        ctx.reloadConfiguration();
+
+        assertEquals(ctx.getOpenApiConfiguration().getResourcePackages(), Collections.singleton("org.my.project.resources"));
+        assertNotSame(ctx.read(), first);
+    }
+
+    @Test(description = "don't cache a definition read while the configuration changes")
+    public void shouldNotCacheDefinitionReadDuringReload() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        GenericOpenApiContext[] holder = new GenericOpenApiContext[1];
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .id("reload-read-test")
+                .openApiConfiguration(configuration("first"))
+                .openApiReader(new OpenApiReader() {
+                    @Override
+                    public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
+                    }
+
+                    @Override
+                    public OpenAPI read(Set<Class<?>> classes, Map<String, Object> resources) {
+                        if (reads.incrementAndGet() == 1) {
+                            // reloaded while reading
+                            holder[0].applyConfiguration(configuration("second"));
+                        }
+                        return new OpenAPI();
+                    }
+                })
+                .init();
+        holder[0] = ctx;
+
+        OpenAPI first = ctx.read();
+        OpenAPI second = ctx.read();
+        assertNotSame(second, first);
+        assertEquals(reads.get(), 2);
+        assertSame(ctx.read(), second);
+    }
+
+    private SwaggerConfiguration configuration(String resourcePackage) {
+        return new SwaggerConfiguration().resourcePackages(Collections.singleton(resourcePackage));
+    }
+
+    private void write(String resourcePackage, String title) throws Exception {
+        String config = "resourcePackages:\n" +
+                "- " + resourcePackage + "\n" +
+                "openAPI:\n" +
+                "  info:\n" +
+                "    title: " + title + "\n";
+        Files.write(file, config.getBytes(StandardCharsets.UTF_8));
+    }
+}
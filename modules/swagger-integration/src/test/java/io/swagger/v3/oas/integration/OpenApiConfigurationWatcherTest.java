@@ -0,0 +1,85 @@
+package io.swagger.v3.oas.integration;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class OpenApiConfigurationWatcherTest {
+
+    private static final long TIMEOUT = 30000;
+
+    private Path file;
+
+    @BeforeMethod
+    public void createConfiguration() throws Exception {
+        file = Files.createTempFile("openapi-configuration", ".json");
+        write("first");
+    }
+
+    @AfterMethod
+    public void deleteConfiguration() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    @Test(description = "notify the listener when the watched file is written")
+    public void shouldNotifyOnChange() throws Exception {
+        CountDownLatch changed = new CountDownLatch(1);
+        try (OpenApiConfigurationWatcher watcher = new OpenApiConfigurationWatcher(file, path -> changed.countDown(), 50)) {
+            assertEquals(watcher.getFile(), file.toAbsolutePath().normalize());
+            write("second");
+            assertTrue(changed.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test(description = "stop the watching thread on close")
+    public void shouldStopOnClose() throws Exception {
+        OpenApiConfigurationWatcher watcher = new OpenApiConfigurationWatcher(file, path -> {
+        });
+        assertTrue(watcher.isWatching());
+        watcher.close();
+        assertFalse(watcher.isWatching());
+    }
+
+    @Test(description = "reload the configuration of a context when the watched file is written")
+    public void shouldReloadWatchedContext() throws Exception {
+        GenericOpenApiContext ctx = new GenericOpenApiContext()
+                .id("watch-reload-test")
+                .configLocation(file.toString())
+                .watchConfiguration(true)
+                .init();
+        try {
+            assertEquals(ctx.read().getInfo().getTitle(), "first");
+
+            write("second");
+            long deadline = System.currentTimeMillis() + TIMEOUT;
+            while (!"second".equals(ctx.getOpenApiConfiguration().getOpenAPI().getInfo().getTitle()) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals(ctx.read().getInfo().getTitle(), "second");
+        } finally {
+            ctx.close();
+        }
+    }
+
+    private void write(String title) throws Exception {
+        String config = "{\n" +
+                "  \"resourcePackages\": [\"com.my.project.resources\"],\n" +
+                "  \"openAPI\": {\n" +
+                "    \"info\": {\n" +
+                "      \"title\": \"" + title + "\"\n" +
+                "    }\n" +
+                "  }\n" +
+                "}\n";
+        Files.write(file, config.getBytes(StandardCharsets.UTF_8));
+    }
+}
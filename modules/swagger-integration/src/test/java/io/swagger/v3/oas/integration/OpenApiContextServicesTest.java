@@ -0,0 +1,64 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.core.filter.AbstractSpecFilter;
+import io.swagger.v3.core.metrics.NoOpOpenApiMetrics;
+import io.swagger.v3.oas.integration.api.OpenApiContext;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class OpenApiContextServicesTest {
+
+    @Test(description = "load the filter as a service only if enabled")
+    public void shouldLoadServicesIfEnabled() throws Exception {
+        OpenApiContext ctx = new GenericOpenApiContext()
+                .id("services-disabled")
+                .openApiConfiguration(new SwaggerConfiguration())
+                .init();
+        try {
+            assertNull(ctx.getFilter());
+            assertTrue(ctx.getMetrics() instanceof NoOpOpenApiMetrics);
+        } finally {
+            ctx.close();
+        }
+
+        ctx = new GenericOpenApiContext()
+                .id("services-filter")
+                .openApiConfiguration(new SwaggerConfiguration().useServiceLoader(true).metricsClass(NoOpOpenApiMetrics.class.getName()))
+                .init();
+        try {
+            assertEquals(ctx.getFilter().getClass(), ServiceFilter.class);
+            assertSame(ctx.getFilter(), ctx.getFilter());
+        } finally {
+            ctx.close();
+        }
+    }
+
+    @Test(description = "fail if more than one service is registered")
+    public void shouldFailOnAmbiguousServices() throws Exception {
+        try {
+            new GenericOpenApiContext()
+                    .id("services-ambiguous")
+                    .openApiConfiguration(new SwaggerConfiguration().useServiceLoader(true))
+                    .init()
+                    .close();
+            fail("more than one metrics service is registered");
+        } catch (OpenApiConfigurationException e) {
+            assertTrue(e.getMessage().contains(FirstMetrics.class.getName()), e.getMessage());
+            assertTrue(e.getMessage().contains(SecondMetrics.class.getName()), e.getMessage());
+        }
+    }
+
+    public static class ServiceFilter extends AbstractSpecFilter {
+    }
+
+    public static class FirstMetrics extends NoOpOpenApiMetrics {
+    }
+
+    public static class SecondMetrics extends NoOpOpenApiMetrics {
+    }
+}
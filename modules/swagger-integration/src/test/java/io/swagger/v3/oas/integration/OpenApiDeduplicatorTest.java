@@ -0,0 +1,135 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+public class OpenApiDeduplicatorTest {
+
+    @Test(description = "share equal schemas and parameters")
+    public void shouldShareEqualInstances() {
+        OpenAPI openAPI = openAPI();
+        OpenApiDeduplicator.Result result = new OpenApiDeduplicator().deduplicate(openAPI);
+
+        Operation first = openAPI.getPaths().get("/first").getGet();
+        Operation second = openAPI.getPaths().get("/second").getGet();
+        assertSame(first.getParameters().get(0), second.getParameters().get(0));
+        assertSame(response(first), response(second));
+
+        assertEquals(result.getSchemas(), 12);
+        assertEquals(result.getUniqueSchemas(), 5);
+        assertEquals(result.getParameters(), 2);
+        assertEquals(result.getUniqueParameters(), 1);
+        assertEquals(result.getHoistedSchemas(), 0);
+        assertEquals(result.getSaved(), 8);
+    }
+
+    @Test(description = "hoist repeated inline schemas into components")
+    public void shouldHoistRepeatedSchemas() {
+        OpenAPI openAPI = openAPI();
+        OpenApiDeduplicator.Result result = new OpenApiDeduplicator().hoistSchemas(true).deduplicate(openAPI);
+
+        // the code enum and the array of Pet both occur twice
+        assertEquals(result.getHoistedSchemas(), 2);
+        Schema array = openAPI.getComponents().getSchemas().get(OpenApiDeduplicator.HOISTED_SCHEMA_NAME + "1");
+        assertNotNull(array);
+        assertEquals(((ArraySchema) array).getItems().get$ref(), "#/components/schemas/Pet");
+
+        Operation first = openAPI.getPaths().get("/first").getGet();
+        assertEquals(first.getParameters().get(0).getSchema().get$ref(), "#/components/schemas/" + OpenApiDeduplicator.HOISTED_SCHEMA_NAME);
+        assertEquals(response(first).get$ref(), "#/components/schemas/" + OpenApiDeduplicator.HOISTED_SCHEMA_NAME + "1");
+
+        // inline schema equal to a component is replaced by a reference to it
+        Operation third = openAPI.getPaths().get("/third").getGet();
+        assertEquals(response(third).get$ref(), "#/components/schemas/Pet");
+    }
+
+    @Test(description = "keep equal component schemas apart")
+    public void shouldKeepEqualComponentSchemas() {
+        OpenAPI openAPI = openAPI();
+        openAPI.getComponents().addSchemas("Animal", pet());
+        new OpenApiDeduplicator().hoistSchemas(true).deduplicate(openAPI);
+
+        Schema pet = openAPI.getComponents().getSchemas().get("Pet");
+        Schema animal = openAPI.getComponents().getSchemas().get("Animal");
+        assertNotSame(animal, pet);
+        assertEquals(animal, pet);
+        assertSame(animal.getProperties().get("name"), pet.getProperties().get("name"));
+        assertEquals(response(openAPI.getPaths().get("/third").getGet()).get$ref(), "#/components/schemas/Pet");
+    }
+
+    @Test(description = "keep schemas reaching a cycle")
+    public void shouldKeepCyclicSchemas() {
+        OpenAPI openAPI = openAPI();
+        Schema node = new Schema().type("object");
+        node.addProperties("next", node);
+        Schema list = new ArraySchema().items(node);
+        openAPI.getPaths().get("/third").getGet().addParametersItem(new QueryParameter().name("nodes").schema(list));
+        openAPI.getPaths().get("/second").getGet().addParametersItem(new QueryParameter().name("nodes").schema(list));
+
+        OpenApiDeduplicator.Result result = new OpenApiDeduplicator().hoistSchemas(true).deduplicate(openAPI);
+
+        assertSame(node.getProperties().get("next"), node);
+        assertSame(((ArraySchema) list).getItems(), node);
+        // the two nodes parameters are not merged
+        assertEquals(result.getParameters(), 4);
+        assertEquals(result.getUniqueParameters(), 3);
+        assertEquals(result.getHoistedSchemas(), 2);
+    }
+
+    private Schema response(Operation operation) {
+        return operation.getResponses().get("200").getContent().get("application/json").getSchema();
+    }
+
+    private OpenAPI openAPI() {
+        Paths paths = new Paths();
+        paths.addPathItem("/first", new PathItem().get(operation(petArray())));
+        paths.addPathItem("/second", new PathItem().get(operation(petArray())));
+        paths.addPathItem("/third", new PathItem().get(new Operation().responses(responses(pet()))));
+        return new OpenAPI()
+                .paths(paths)
+                .components(new Components().addSchemas("Pet", pet()));
+    }
+
+    private Operation operation(Schema response) {
+        return new Operation()
+                .addParametersItem(new QueryParameter()
+                        .name("code")
+                        .schema(new StringSchema().addEnumItem("A").addEnumItem("B")))
+                .responses(responses(response));
+    }
+
+    private ApiResponses responses(Schema schema) {
+        return new ApiResponses()
+                .addApiResponse("200", new ApiResponse()
+                        .description("ok")
+                        .content(new Content().addMediaType("application/json", new MediaType().schema(schema))));
+    }
+
+    private Schema petArray() {
+        return new ArraySchema().items(new Schema().$ref("Pet"));
+    }
+
+    private Schema pet() {
+        return new Schema()
+                .type("object")
+                .addProperties("name", new StringSchema())
+                .addProperties("tag", new StringSchema());
+    }
+}
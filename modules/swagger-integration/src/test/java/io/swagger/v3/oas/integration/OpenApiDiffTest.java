@@ -0,0 +1,60 @@
+package io.swagger.v3.oas.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.tags.Tag;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+
+public class OpenApiDiffTest {
+
+    @Test(description = "diff definition trees")
+    public void shouldDiffTrees() throws Exception {
+        JsonNode source = Json.mapper().readTree("{\"info\":{\"title\":\"a\",\"version\":\"1\"},\"tags\":[\"x\",\"y\"],\"paths\":{\"/a/b\":{}}}");
+        JsonNode target = Json.mapper().readTree("{\"info\":{\"title\":\"b\"},\"tags\":[\"x\"],\"paths\":{\"/a/b\":{},\"/c~d\":{}}}");
+
+        JsonNode patch = OpenApiDiff.diff(source, target);
+        assertEquals(patch, Json.mapper().readTree("[" +
+                "{\"op\":\"replace\",\"path\":\"/info/title\",\"value\":\"b\"}," +
+                "{\"op\":\"remove\",\"path\":\"/info/version\"}," +
+                "{\"op\":\"remove\",\"path\":\"/tags/1\"}," +
+                "{\"op\":\"add\",\"path\":\"/paths/~1c~0d\",\"value\":{}}]"));
+        assertEquals(OpenApiDiff.diff(source, source).size(), 0);
+    }
+
+    @Test(description = "answer patches between versions of the definition")
+    public void shouldPatchVersions() throws Exception {
+        OpenApiSerializationCache cache = OpenApiSerializationCache.getInstance("diff-test");
+        OpenAPI first = createOpenAPI("first");
+        String firstETag = cache.getETag(first, null);
+        assertEquals(cache.getETag(createOpenAPI("first"), null), firstETag);
+
+        OpenAPI second = createOpenAPI("second").addTagsItem(new Tag().name("pets"));
+        String secondETag = cache.getETag(second, null);
+        assertNotEquals(secondETag, firstETag);
+
+        JsonNode patch = Json.mapper().readTree(cache.getPatch(second, firstETag, null).getBytes());
+        assertEquals(patch, Json.mapper().readTree("[" +
+                "{\"op\":\"replace\",\"path\":\"/info/title\",\"value\":\"second\"}," +
+                "{\"op\":\"add\",\"path\":\"/tags\",\"value\":[{\"name\":\"pets\"}]}]"));
+        assertNull(cache.getPatch(second, "unknown", null));
+
+        assertEquals(OpenApiSerializationCache.parseETags("W/\"" + firstETag + "\", \"other\""),
+                Arrays.asList(firstETag, "other"));
+    }
+
+    private OpenAPI createOpenAPI(String title) {
+        return new OpenAPI()
+                .info(new Info().title(title))
+                .paths(new Paths().addPathItem("/pets", new PathItem().description("pets")));
+    }
+}
@@ -0,0 +1,181 @@
+package io.swagger.v3.oas.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.LazyComponentSchemas;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import io.swagger.v3.oas.models.tags.Tag;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class OpenApiFragmentIndexTest {
+
+    @Test(description = "select the operations of a tag")
+    public void shouldSelectTag() {
+        OpenApiFragmentIndex index = new OpenApiFragmentIndex(createOpenAPI());
+
+        JsonNode fragment = index.select(new OpenApiFragment("orders", null, null, false));
+        assertEquals(fragment.path("info").path("title").asText(), "shop");
+        assertEquals(fragment.path("paths").size(), 1);
+        assertTrue(fragment.path("paths").path("/v1/orders").has("get"));
+        assertFalse(fragment.path("paths").path("/v1/orders").has("post"));
+        assertEquals(fragment.path("tags").size(), 1);
+        assertFalse(fragment.has("components"));
+
+        assertNull(index.select(new OpenApiFragment("unknown", null, null, false)));
+    }
+
+    @Test(description = "select the paths under a prefix with their component closure")
+    public void shouldSelectPathWithClosure() {
+        OpenApiFragmentIndex index = new OpenApiFragmentIndex(createOpenAPI());
+
+        JsonNode fragment = index.select(new OpenApiFragment(null, "/v1/orders", null, true));
+        assertEquals(fragment.path("paths").size(), 2);
+        assertTrue(fragment.path("paths").has("/v1/orders/{id}"));
+        assertFalse(fragment.path("paths").has("/v1/ordersummary"));
+        JsonNode components = fragment.path("components");
+        assertTrue(components.path("schemas").has("Orders"));
+        assertTrue(components.path("schemas").has("Order"));
+        assertFalse(components.path("schemas").has("Customer"));
+        assertTrue(components.path("parameters").has("Id"));
+        assertTrue(components.path("securitySchemes").has("oauth"));
+    }
+
+    @Test(description = "select the node at a pointer")
+    public void shouldSelectPointer() {
+        OpenApiFragmentIndex index = new OpenApiFragmentIndex(createOpenAPI());
+
+        JsonNode order = index.select(new OpenApiFragment(null, null, "/components/schemas/Orders", false));
+        assertEquals(order.path("type").asText(), "array");
+        assertSame(order, index.getRoot().at("/components/schemas/Orders"));
+
+        JsonNode fragment = index.select(new OpenApiFragment(null, null, "/components/schemas/Orders", true));
+        assertEquals(fragment.path("components").path("schemas").size(), 2);
+        assertTrue(fragment.path("components").path("schemas").has("Order"));
+        // the indexed tree is left unmodified
+        assertEquals(index.getRoot().at("/components/schemas").size(), 3);
+
+        assertNull(index.select(new OpenApiFragment(null, null, "/components/schemas/Missing", false)));
+        assertNull(index.select(new OpenApiFragment(null, null, "components", false)));
+    }
+
+    @Test(description = "resolve the pending component schemas reached by a fragment")
+    public void shouldResolveLazyComponents() {
+        OpenAPI openAPI = createOpenAPI();
+        Components components = openAPI.getComponents();
+        LazyComponentSchemas lazySchemas = LazyComponentSchemas.install(components);
+        ModelConverters converters = new ModelConverters();
+        Schema item = converters.resolveAsLazyReference(new AnnotatedType(Item.class).resolveAsRef(true), components);
+        // a schema already defined with the name is kept
+        assertEquals(converters.resolveAsLazyReference(new AnnotatedType(Customer.class).resolveAsRef(true), components).get$ref(), "#/components/schemas/Customer");
+        assertEquals(components.getSchemas().get("Customer").getType(), "object");
+        assertNull(components.getSchemas().get("Customer").getProperties());
+        openAPI.getComponents().getSchemas().get("Order").addProperties("item", item);
+
+        OpenApiFragmentIndex index = new OpenApiFragmentIndex(openAPI);
+        assertTrue(index.getRoot().at("/components/schemas/Item").isMissingNode());
+        assertFalse(lazySchemas.isResolved());
+
+        JsonNode name = index.select(new OpenApiFragment(null, null, "/components/schemas/Item/properties/name", false));
+        assertEquals(name.path("type").asText(), "string");
+        assertTrue(lazySchemas.getResolvedSchemas().containsKey("Item"));
+        assertTrue(lazySchemas.getResolvedSchemas().containsKey("Supplier"));
+        assertTrue(lazySchemas.isResolved());
+
+        JsonNode fragment = index.select(new OpenApiFragment(null, null, "/components/schemas/Order", true));
+        assertTrue(fragment.path("components").path("schemas").has("Item"));
+        assertTrue(fragment.path("components").path("schemas").has("Supplier"));
+        assertFalse(fragment.path("components").path("schemas").has("Customer"));
+    }
+
+    @Test(description = "select all the component schemas, resolving the pending ones")
+    public void shouldSelectLazyComponents() {
+        OpenAPI openAPI = createOpenAPI();
+        LazyComponentSchemas lazySchemas = LazyComponentSchemas.install(openAPI.getComponents());
+        new ModelConverters().resolveAsLazyReference(new AnnotatedType(Item.class).resolveAsRef(true), openAPI.getComponents());
+
+        OpenApiFragmentIndex index = new OpenApiFragmentIndex(openAPI);
+        JsonNode schemas = index.select(new OpenApiFragment(null, null, "/components/schemas", false));
+        assertEquals(schemas.size(), 5);
+        assertTrue(schemas.has("Item"));
+        assertTrue(lazySchemas.isResolved());
+        // the indexed tree is left unmodified
+        assertEquals(index.getRoot().at("/components/schemas").size(), 3);
+    }
+
+    @Test(description = "cache fragment serializations per snapshot")
+    public void shouldCacheFragments() throws Exception {
+        OpenApiSerializationCache cache = OpenApiSerializationCache.getInstance("fragment-test");
+        OpenAPI openAPI = createOpenAPI();
+        OpenApiFragment fragment = OpenApiFragment.create("orders", null, null, "true");
+
+        OpenApiSerializationCache.Serialization serialization = cache.getFragment(openAPI, fragment, "json", false, null);
+        assertSame(cache.getFragment(openAPI, OpenApiFragment.create("orders", null, null, "true"), "json", false, null), serialization);
+        assertTrue(new String(serialization.getBytes(), StandardCharsets.UTF_8).contains("\"Order\""));
+        assertNull(cache.getFragment(openAPI, OpenApiFragment.create("unknown", null, null, null), "json", false, null));
+        assertNull(OpenApiFragment.create(null, " ", null, "true"));
+    }
+
+    private OpenAPI createOpenAPI() {
+        Operation listOrders = new Operation().addTagsItem("orders")
+                .addSecurityItem(new SecurityRequirement().addList("oauth"));
+        listOrders.setResponses(new ApiResponses()
+                .addApiResponse("200", new ApiResponse().description("orders")
+                        .content(new Content().addMediaType("application/json",
+                                new MediaType().schema(new Schema().$ref("Orders"))))));
+        Operation getOrder = new Operation().addTagsItem("admin")
+                .addParametersItem(new Parameter().$ref("#/components/parameters/Id"));
+        Operation createOrder = new Operation().addTagsItem("admin");
+        Operation summary = new Operation().addTagsItem("admin");
+        return new OpenAPI()
+                .info(new Info().title("shop"))
+                .addTagsItem(new Tag().name("orders"))
+                .addTagsItem(new Tag().name("admin"))
+                .paths(new Paths()
+                        .addPathItem("/v1/orders", new PathItem().get(listOrders).post(createOrder))
+                        .addPathItem("/v1/orders/{id}", new PathItem().get(getOrder))
+                        .addPathItem("/v1/ordersummary", new PathItem().get(summary)))
+                .components(new Components()
+                        .addSchemas("Orders", new ArraySchema().items(new Schema().$ref("Order")))
+                        .addSchemas("Order", new Schema().type("object").addProperties("id", new StringSchema()))
+                        .addSchemas("Customer", new Schema().type("object"))
+                        .addParameters("Id", new Parameter().in("path").name("id").required(true))
+                        .addSecuritySchemes("oauth", new SecurityScheme().type(SecurityScheme.Type.OAUTH2)));
+    }
+
+    static class Item {
+        public String name;
+        public Supplier supplier;
+    }
+
+    static class Supplier {
+        public String name;
+    }
+
+    static class Customer {
+        public String name;
+    }
+}
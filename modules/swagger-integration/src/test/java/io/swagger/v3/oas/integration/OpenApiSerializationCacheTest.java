@@ -0,0 +1,141 @@
+package io.swagger.v3.oas.integration;
+
+import io.swagger.v3.core.filter.AbstractSpecFilter;
+import io.swagger.v3.core.filter.OpenAPISpecFilter;
+import io.swagger.v3.core.filter.SpecFilter;
+import io.swagger.v3.core.model.ApiDescription;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Smile;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.apache.commons.lang3.StringUtils;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class OpenApiSerializationCacheTest {
+
+    @Test(description = "serialize and compress once per snapshot")
+    public void shouldCacheSerializationsPerSnapshot() throws Exception {
+        OpenApiSerializationCache cache = OpenApiSerializationCache.getInstance("serialization-test");
+        OpenAPI openAPI = new OpenAPI().info(new Info().description(StringUtils.repeat("description ", 200)));
+
+        OpenApiSerializationCache.Serialization json = cache.get(openAPI, "json", false, null);
+        assertSame(cache.get(openAPI, "json", false, null), json);
+        assertNotSame(cache.get(openAPI, "yaml", false, null), json);
+
+        byte[] gzipped = json.getGzipped(OpenApiSerializationCache.DEFAULT_COMPRESSION_THRESHOLD);
+        assertTrue(gzipped.length < json.getBytes().length);
+        assertSame(json.getGzipped(OpenApiSerializationCache.DEFAULT_COMPRESSION_THRESHOLD), gzipped);
+        assertEquals(gunzip(gzipped), new String(json.getBytes(), StandardCharsets.UTF_8));
+        assertNull(json.getGzipped(json.getBytes().length + 1));
+        assertNull(json.getGzipped(-1));
+
+        // a new snapshot replaces the cached serializations
+        OpenAPI updated = new OpenAPI().info(new Info().description("updated"));
+        assertTrue(new String(cache.get(updated, "json", false, null).getBytes(), StandardCharsets.UTF_8).contains("updated"));
+    }
+
+    @Test(description = "splice the serializations of shared subtrees into filtered definitions")
+    public void shouldSerializeFilteredDefinitions() throws Exception {
+        OpenApiSerializationCache cache = OpenApiSerializationCache.getInstance("filtered-test");
+        ApiResponse pets = new ApiResponse().description("pets")
+                .content(new Content().addMediaType("application/json", new MediaType().schema(new Schema().$ref("Pet"))));
+        OpenAPI openAPI = new OpenAPI()
+                .info(new Info().title("pets"))
+                .paths(new Paths()
+                        .addPathItem("/pets", new PathItem()
+                                .get(new Operation().operationId("listPets")
+                                        .addParametersItem(new QueryParameter().name("limit").schema(new IntegerSchema()))
+                                        .responses(new ApiResponses().addApiResponse("200", pets)))
+                                .delete(new Operation().operationId("deletePets").responses(new ApiResponses().addApiResponse("200", pets)))))
+                .components(new Components().addSchemas("Pet", new Schema().type("object")
+                        .addProperties("name", new StringSchema()).addProperties("tag", new StringSchema())));
+        OpenAPISpecFilter noDelete = new AbstractSpecFilter() {
+            @Override
+            public Optional<Operation> filterOperation(Operation operation, ApiDescription api, Map<String, List<String>> params, Map<String, String> cookies, Map<String, List<String>> headers) {
+                return "deletePets".equals(operation.getOperationId()) ? Optional.empty() : Optional.of(operation);
+            }
+        };
+
+        OpenAPI filtered = new SpecFilter().filter(openAPI, noDelete, null, null, null);
+        String json = new String(cache.serializeFiltered(openAPI, filtered, "json", false, null).getBytes(), StandardCharsets.UTF_8);
+        assertEquals(json, Json.mapper().writeValueAsString(filtered));
+        assertFalse(json.contains("deletePets"));
+
+        // a subtree changed in place is serialized again
+        pets.setDescription("changed");
+        ((Schema) openAPI.getComponents().getSchemas().get("Pet").getProperties().get("tag")).setDescription("tag");
+        filtered = new SpecFilter().filter(openAPI, noDelete, null, null, null);
+        json = new String(cache.serializeFiltered(openAPI, filtered, "json", false, null).getBytes(), StandardCharsets.UTF_8);
+        assertEquals(json, Json.mapper().writeValueAsString(filtered));
+        assertTrue(json.contains("\"description\":\"changed\""));
+        assertFalse(json.contains("\"description\":\"pets\""));
+        assertTrue(new String(cache.serializeFiltered(openAPI, filtered, "json", true, null).getBytes(), StandardCharsets.UTF_8).contains("changed"));
+    }
+
+    @Test(description = "serialize and cache the binary formats")
+    public void shouldCacheBinarySerializations() throws Exception {
+        OpenApiSerializationCache cache = OpenApiSerializationCache.getInstance("binary-serialization-test");
+        OpenAPI openAPI = new OpenAPI().info(new Info().description("binary"));
+
+        OpenApiSerializationCache.Serialization smile = cache.get(openAPI, "smile", false, null);
+        assertSame(cache.get(openAPI, "SMILE", true, null), smile);
+        assertNotSame(cache.get(openAPI, "cbor", false, null), smile);
+        assertEquals(Json.mapper().writeValueAsString(Smile.mapper().readValue(smile.getBytes(), OpenAPI.class)),
+                Json.mapper().writeValueAsString(openAPI));
+
+        assertEquals(OpenApiSerializationCache.getFormat(" Cbor "), "cbor");
+        assertEquals(OpenApiSerializationCache.getFormat("xml"), "json");
+        assertEquals(OpenApiSerializationCache.getMediaType("smile"), OpenApiSerializationCache.SMILE_MEDIA_TYPE);
+        assertEquals(OpenApiSerializationCache.getMediaType(null), "application/json");
+    }
+
+    @Test(description = "parse Accept-Encoding")
+    public void shouldParseAcceptEncoding() {
+        assertTrue(OpenApiSerializationCache.acceptsGzip("gzip, deflate, br"));
+        assertTrue(OpenApiSerializationCache.acceptsGzip("deflate", "GZIP;q=0.5"));
+        assertTrue(OpenApiSerializationCache.acceptsGzip("*"));
+        assertFalse(OpenApiSerializationCache.acceptsGzip("gzip;q=0, *"));
+        assertFalse(OpenApiSerializationCache.acceptsGzip("identity"));
+        assertFalse(OpenApiSerializationCache.acceptsGzip((String) null));
+    }
+
+    private String gunzip(byte[] bytes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,104 @@
+package io.swagger.v3.oas.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class OpenApiSplitWriterTest {
+
+    private Path outputDir;
+
+    @BeforeMethod
+    public void createOutputDir() throws Exception {
+        outputDir = Files.createTempDirectory("openapi-split");
+    }
+
+    @AfterMethod
+    public void deleteOutputDir() throws Exception {
+        try (Stream<Path> files = Files.walk(outputDir)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test(description = "split paths by tag with external references")
+    public void shouldSplitByTag() throws Exception {
+        OpenApiSplitWriter writer = new OpenApiSplitWriter(outputDir, "openapi");
+        assertEquals(writer.write(createOpenAPI()), 4);
+
+        JsonNode root = Json.mapper().readTree(outputDir.resolve("openapi.json").toFile());
+        assertEquals(root.path("info").path("title").asText(), "pets");
+        assertEquals(root.at("/paths/~1pets/$ref").asText(), "openapi/paths/pets.json#/~1pets");
+        assertEquals(root.at("/paths/~1stores/$ref").asText(), "openapi/paths/default.json#/~1stores");
+        assertTrue(root.at("/components/securitySchemes").has("oauth"));
+        assertFalse(root.at("/components").has("schemas"));
+
+        JsonNode pets = Json.mapper().readTree(outputDir.resolve("openapi/paths/pets.json").toFile());
+        assertEquals(pets.at("/~1pets/get/responses/200/content/application~1json/schema/$ref").asText(),
+                "../components/schemas.json#/Pets");
+        JsonNode schemas = Json.mapper().readTree(outputDir.resolve("openapi/components/schemas.json").toFile());
+        assertEquals(schemas.at("/Pets/items/$ref").asText(), "schemas.json#/Pet");
+
+        JsonNode manifest = Json.mapper().readTree(writer.getManifestFile().toFile());
+        assertEquals(manifest.at("/groups/pets/paths/0").asText(), "/pets");
+        assertEquals(manifest.at("/groups/pets/files/0").asText(), "openapi/paths/pets.json");
+        assertEquals(manifest.path("files").size(), 4);
+    }
+
+    @Test(description = "rewrite changed files only and delete stale ones")
+    public void shouldRewriteChangedFiles() throws Exception {
+        OpenApiSplitWriter writer = new OpenApiSplitWriter(outputDir, "openapi").groupBy(OpenApiSplitWriter.GroupBy.PATH);
+        writer.write(createOpenAPI());
+        assertTrue(Files.exists(outputDir.resolve("openapi/paths/stores.json")));
+
+        assertEquals(writer.write(createOpenAPI()), 0);
+
+        OpenAPI changed = createOpenAPI();
+        changed.getPaths().remove("/stores");
+        changed.getInfo().setTitle("changed");
+        assertEquals(writer.write(changed), 1);
+        assertFalse(Files.exists(outputDir.resolve("openapi/paths/stores.json")));
+        assertTrue(Files.exists(outputDir.resolve("openapi/paths/pets.json")));
+    }
+
+    private OpenAPI createOpenAPI() {
+        Operation listPets = new Operation().addTagsItem("pets");
+        listPets.setResponses(new ApiResponses()
+                .addApiResponse("200", new ApiResponse().description("pets")
+                        .content(new Content().addMediaType("application/json",
+                                new MediaType().schema(new Schema().$ref("Pets"))))));
+        return new OpenAPI()
+                .info(new Info().title("pets"))
+                .paths(new Paths()
+                        .addPathItem("/pets", new PathItem().get(listPets))
+                        .addPathItem("/stores", new PathItem().get(new Operation().operationId("stores"))))
+                .components(new Components()
+                        .addSchemas("Pets", new ArraySchema().items(new Schema().$ref("Pet")))
+                        .addSchemas("Pet", new Schema().type("object"))
+                        .addSecuritySchemes("oauth", new SecurityScheme().type(SecurityScheme.Type.OAUTH2)));
+    }
+}
@@ -0,0 +1,42 @@
+package io.swagger.v3.oas.integration;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class RoutePrefixTrieTest {
+
+    @Test(description = "match routes at segment boundaries")
+    public void shouldMatchSegmentPrefixes() {
+        RoutePrefixTrie trie = new RoutePrefixTrie(Arrays.asList("/users", "/admin/reports/"));
+
+        assertTrue(trie.matches("/users"));
+        assertTrue(trie.matches("/users/{id}"));
+        assertFalse(trie.matches("/usersettings"));
+        assertFalse(trie.matches("/user"));
+        assertTrue(trie.matches("/admin/reports/"));
+        assertFalse(trie.matches("/admin/reports"));
+        assertFalse(trie.matches("/admin/reports/daily"));
+        assertFalse(trie.matches("/pets"));
+        assertTrue(new RoutePrefixTrie(Collections.singleton("")).matches("/pets"));
+        assertFalse(new RoutePrefixTrie(null).matches("/pets"));
+    }
+
+    @Test(description = "match template segments if enabled")
+    public void shouldMatchTemplates() {
+        RoutePrefixTrie trie = new RoutePrefixTrie(Arrays.asList("/users/{userId}/secret", "/users/me"), true);
+
+        assertTrue(trie.matches("/users/{id}/secret"));
+        assertTrue(trie.matches("/users/42/secret/key"));
+        assertTrue(trie.matches("/users/me"));
+        assertTrue(trie.matches("/users/me/secret"));
+        assertFalse(trie.matches("/users/{id}"));
+        assertFalse(trie.matches("/users/{id}/public"));
+
+        assertFalse(new RoutePrefixTrie(Collections.singleton("/users/{userId}"), false).matches("/users/42"));
+    }
+}
@@ -4,9 +4,12 @@ import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.integration.IgnoredPackages;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiContext;
 
 import javax.servlet.ServletContainerInitializer;
 import javax.servlet.ServletContext;
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
 import javax.servlet.ServletException;
 import javax.servlet.annotation.HandlesTypes;
 import javax.ws.rs.Path;
@@ -28,6 +31,18 @@ public class SwaggerServletInitializer implements ServletContainerInitializer {
     }
 
     public void onStartup(Set<Class<?>> classes, ServletContext servletContext) throws ServletException {
+        // releases the state held for the application classes when it is undeployed, including the contexts built
+        // by the openapi resources
+        servletContext.addListener(new ServletContextListener() {
+            @Override
+            public void contextInitialized(ServletContextEvent sce) {
+            }
+
+            @Override
+            public void contextDestroyed(ServletContextEvent sce) {
+                ServletConfigContextUtils.closeContexts(sce.getServletContext());
+            }
+        });
         if (classes != null && classes.size() != 0) {
             Set<Class<?>> resources = new LinkedHashSet();
             classes.stream()
@@ -39,9 +54,10 @@ public class SwaggerServletInitializer implements ServletContainerInitializer {
                     SwaggerConfiguration oasConfig = new SwaggerConfiguration()
                             .resourceClasses(resources.stream().map(c -> c.getName()).collect(Collectors.toSet()));
 
-                    new JaxrsOpenApiContextBuilder()
+                    OpenApiContext ctx = new JaxrsOpenApiContextBuilder()
                             .openApiConfiguration(oasConfig)
                             .buildContext(true);
+                    ServletConfigContextUtils.closeOnDestroy(servletContext, ctx);
                 } catch (OpenApiConfigurationException e) {
                     throw new RuntimeException(e.getMessage(), e);
                 }
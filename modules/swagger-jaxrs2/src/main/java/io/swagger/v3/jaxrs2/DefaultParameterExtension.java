@@ -10,7 +10,7 @@ import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.ParameterProcessor;
 import io.swagger.v3.jaxrs2.ext.AbstractOpenAPIExtension;
 import io.swagger.v3.jaxrs2.ext.OpenAPIExtension;
-import io.swagger.v3.jaxrs2.ext.OpenAPIExtensions;
+import io.swagger.v3.jaxrs2.ext.OpenAPIExtensionChain;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import org.apache.commons.lang3.StringUtils;
@@ -99,7 +99,7 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
             } else {
                 List<Parameter> formParameters = new ArrayList<>();
                 List<Parameter> parameters = new ArrayList<>();
-                if (handleAdditionalAnnotation(parameters, formParameters, annotation, type, typesToSkip, classConsumes, methodConsumes, components, includeRequestBody, jsonViewAnnotation)) {
+                if (handleAdditionalAnnotation(parameters, formParameters, annotation, type, typesToSkip, classConsumes, methodConsumes, components, includeRequestBody, jsonViewAnnotation, chain)) {
                     ResolvedParameter extractParametersResult = new ResolvedParameter();
                     extractParametersResult.parameters.addAll(parameters);
                     extractParametersResult.formParameters.addAll(formParameters);
@@ -158,9 +158,22 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
 
     private boolean handleAdditionalAnnotation(List<Parameter> parameters, List<Parameter> formParameters, Annotation annotation,
                                                final Type type, Set<Type> typesToSkip, javax.ws.rs.Consumes classConsumes,
-                                               javax.ws.rs.Consumes methodConsumes, Components components, boolean includeRequestBody, JsonView jsonViewAnnotation) {
+                                               javax.ws.rs.Consumes methodConsumes, Components components, boolean includeRequestBody, JsonView jsonViewAnnotation,
+                                               Iterator<OpenAPIExtension> chain) {
         boolean processed = false;
         if (BeanParam.class.isAssignableFrom(annotation.getClass())) {
+            final OpenAPIExtensionChain extensions = OpenAPIExtensionChain.from(chain);
+            // expansions depending on types skipped by an enclosing bean are not reusable
+            final ParameterTemplates templates = typesToSkip.isEmpty() ? extensions.getParameterTemplates() : null;
+            if (templates != null) {
+                ParameterTemplates.Template template = templates.get(type, components, classConsumes, methodConsumes, includeRequestBody, jsonViewAnnotation);
+                if (template != null) {
+                    ResolvedParameter resolved = template.getResolved();
+                    parameters.addAll(resolved.parameters);
+                    formParameters.addAll(resolved.formParameters);
+                    return template.isProcessed();
+                }
+            }
             // Use Jackson's logic for processing Beans
             final BeanDescription beanDesc = mapper.getSerializationConfig().introspect(constructType(type));
             final List<BeanPropertyDefinition> properties = beanDesc.findProperties();
@@ -170,7 +183,6 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                 final AnnotatedMethod setter = propDef.getSetter();
                 final AnnotatedMethod getter = propDef.getGetter();
                 final List<Annotation> paramAnnotations = new ArrayList<Annotation>();
-                final Iterator<OpenAPIExtension> extensions = OpenAPIExtensions.chain();
                 Type paramType = null;
 
                 // Gather the field's details
@@ -218,7 +230,7 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                 }
 
                 // Re-process all Bean fields and let the default swagger-jaxrs/swagger-jersey-jaxrs processors do their thing
-                ResolvedParameter resolvedParameter = extensions.next().extractParameters(
+                ResolvedParameter resolvedParameter = extensions.extractParameters(
                         paramAnnotations,
                         paramType,
                         typesToSkip,
@@ -226,8 +238,7 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
                         classConsumes,
                         methodConsumes,
                         includeRequestBody,
-                        jsonViewAnnotation,
-                        extensions);
+                        jsonViewAnnotation);
 
                 List<Parameter> extractedParameters =
                         resolvedParameter.parameters;
@@ -265,6 +276,12 @@ public class DefaultParameterExtension extends AbstractOpenAPIExtension {
 
                 processed = true;
             }
+            if (templates != null) {
+                ResolvedParameter resolved = new ResolvedParameter();
+                resolved.parameters.addAll(parameters);
+                resolved.formParameters.addAll(formParameters);
+                templates.put(type, components, classConsumes, methodConsumes, includeRequestBody, jsonViewAnnotation, resolved, processed);
+            }
         }
         return processed;
     }
@@ -0,0 +1,143 @@
+package io.swagger.v3.jaxrs2;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.swagger.v3.core.converter.ModelConverters;
+import io.swagger.v3.core.util.ModelCopyUtils;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.parameters.Parameter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches expanded parameters of a source, e.g. a <code>@BeanParam</code> type or a resource class constructor, so
+ * that every operation using it gets copies of the same templates instead of expanding it again.
+ *
+ * Templates are bound to the components they registered their schemas in and to the model converters used to
+ * resolve them. A template also records whether its source was handled at all, so that a cache hit reports the same
+ * outcome as the expansion it replaces.
+ *
+ * @since 2.0.10
+ */
+public class ParameterTemplates {
+
+    private final Map<Key, Template> templates = new ConcurrentHashMap<>();
+
+    /**
+     * @return the cached template, or null if none is cached
+     */
+    public Template get(Object source, Components components, javax.ws.rs.Consumes classConsumes,
+                        javax.ws.rs.Consumes methodConsumes, boolean includeRequestBody, JsonView jsonViewAnnotation) {
+        return templates.get(new Key(source, components, classConsumes, methodConsumes, includeRequestBody, jsonViewAnnotation));
+    }
+
+    public void put(Object source, Components components, javax.ws.rs.Consumes classConsumes,
+                    javax.ws.rs.Consumes methodConsumes, boolean includeRequestBody, JsonView jsonViewAnnotation, ResolvedParameter resolved) {
+        put(source, components, classConsumes, methodConsumes, includeRequestBody, jsonViewAnnotation, resolved, true);
+    }
+
+    public void put(Object source, Components components, javax.ws.rs.Consumes classConsumes,
+                    javax.ws.rs.Consumes methodConsumes, boolean includeRequestBody, JsonView jsonViewAnnotation, ResolvedParameter resolved,
+                    boolean processed) {
+        templates.put(new Key(source, components, classConsumes, methodConsumes, includeRequestBody, jsonViewAnnotation), new Template(copy(resolved), processed));
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    public void clear() {
+        templates.clear();
+    }
+
+    private static ResolvedParameter copy(ResolvedParameter resolved) {
+        ResolvedParameter copy = new ResolvedParameter();
+        copy.parameters = copy(resolved.parameters);
+        copy.formParameters = copy(resolved.formParameters);
+        copy.requestBody = ModelCopyUtils.copy(resolved.requestBody);
+        return copy;
+    }
+
+    private static List<Parameter> copy(List<Parameter> parameters) {
+        List<Parameter> copy = new ArrayList<>(parameters.size());
+        for (Parameter parameter : parameters) {
+            copy.add(ModelCopyUtils.copy(parameter));
+        }
+        return copy;
+    }
+
+    public static final class Template {
+        private final ResolvedParameter resolved;
+        private final boolean processed;
+
+        private Template(ResolvedParameter resolved, boolean processed) {
+            this.resolved = resolved;
+            this.processed = processed;
+        }
+
+        /**
+         * @return a copy of the expanded parameters
+         */
+        public ResolvedParameter getResolved() {
+            return copy(resolved);
+        }
+
+        /**
+         * @return whether the source was expanded, or left to the next handler
+         */
+        public boolean isProcessed() {
+            return processed;
+        }
+    }
+
+    private static class Key {
+        private final Object source;
+        private final Components components;
+        private final ModelConverters modelConverters;
+        private final javax.ws.rs.Consumes classConsumes;
+        private final javax.ws.rs.Consumes methodConsumes;
+        private final boolean includeRequestBody;
+        private final JsonView jsonViewAnnotation;
+        private final int hashCode;
+
+        private Key(Object source, Components components, javax.ws.rs.Consumes classConsumes,
+                    javax.ws.rs.Consumes methodConsumes, boolean includeRequestBody, JsonView jsonViewAnnotation) {
+            this.source = source;
+            this.components = components;
+            this.modelConverters = ModelConverters.getCurrent();
+            this.classConsumes = classConsumes;
+            this.methodConsumes = methodConsumes;
+            this.includeRequestBody = includeRequestBody;
+            this.jsonViewAnnotation = jsonViewAnnotation;
+            this.hashCode = Objects.hash(source, System.identityHashCode(components), System.identityHashCode(modelConverters),
+                    classConsumes, methodConsumes, includeRequestBody, jsonViewAnnotation);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            // components and converters are mutable, compare them by identity
+            return components == key.components &&
+                    modelConverters == key.modelConverters &&
+                    includeRequestBody == key.includeRequestBody &&
+                    Objects.equals(source, key.source) &&
+                    Objects.equals(classConsumes, key.classConsumes) &&
+                    Objects.equals(methodConsumes, key.methodConsumes) &&
+                    Objects.equals(jsonViewAnnotation, key.jsonViewAnnotation);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -7,14 +7,18 @@ import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
 import com.fasterxml.jackson.databind.introspect.AnnotatedParameter;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.LazyComponentSchemas;
 import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.converter.ResolvedSchema;
+import io.swagger.v3.core.metrics.MetricsUtils;
+import io.swagger.v3.core.metrics.OpenApiMetrics;
 import io.swagger.v3.core.util.AnnotationsUtils;
 import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.ModelCopyUtils;
 import io.swagger.v3.core.util.ParameterProcessor;
 import io.swagger.v3.core.util.PathUtils;
 import io.swagger.v3.core.util.ReflectionUtils;
-import io.swagger.v3.jaxrs2.ext.OpenAPIExtension;
+import io.swagger.v3.jaxrs2.ext.OpenAPIExtensionChain;
 import io.swagger.v3.jaxrs2.ext.OpenAPIExtensions;
 import io.swagger.v3.jaxrs2.util.ReaderUtils;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
@@ -22,6 +26,7 @@ import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.servers.Server;
 import io.swagger.v3.oas.integration.ContextUtils;
+import io.swagger.v3.oas.integration.RoutePrefixTrie;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
 import io.swagger.v3.oas.integration.api.OpenApiReader;
@@ -60,11 +65,11 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
@@ -82,6 +87,15 @@ public class Reader implements OpenApiReader {
     private Components components;
     private Paths paths;
     private Set<Tag> openApiTags;
+    private ModelConverters modelConverters;
+    private OpenAPIExtensionChain extensionChain;
+    private boolean cacheSubResources = true;
+    private Map<SubResourceKey, List<SubResourceOperation>> subResourceTemplates = new HashMap<>();
+    private List<SubResourceOperation> subResourceRecording;
+    // operations skipped as ignored routes, telling whether a recording is complete
+    private int ignoredOperationCount;
+    // ignored routes of config, compiled once per setConfiguration
+    private RoutePrefixTrie ignoredRoutes;
 
     private static final String GET_METHOD = "get";
     private static final String POST_METHOD = "post";
@@ -118,7 +132,15 @@ public class Reader implements OpenApiReader {
      * Scans a single class for Swagger annotations - does not invoke ReaderListeners
      */
     public OpenAPI read(Class<?> cls) {
-        return read(cls, resolveApplicationPath(), null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
+        subResourceTemplates.clear();
+        getExtensionChain().getParameterTemplates().clear();
+        installLazyComponents();
+        ModelConverters previous = ModelConverters.setCurrent(getModelConverters());
+        try (ModelConverters.Session session = getModelConverters().openSession()) {
+            return read(cls, resolveApplicationPath(), null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
+        } finally {
+            ModelConverters.setCurrent(previous);
+        }
     }
 
     /**
@@ -145,44 +167,68 @@ public class Reader implements OpenApiReader {
         });
         sortedClasses.addAll(classes);
 
-        Map<Class<?>, ReaderListener> listeners = new HashMap<>();
+        subResourceTemplates.clear();
+        getExtensionChain().getParameterTemplates().clear();
+        installLazyComponents();
+        // parameter extensions and annotation processing resolve schemas with the converters of this reader, each type
+        // once within the pass
+        ModelConverters previous = ModelConverters.setCurrent(getModelConverters());
+        try (ModelConverters.Session session = getModelConverters().openSession()) {
+            Map<Class<?>, ReaderListener> listeners = new HashMap<>();
+
+            for (Class<?> cls : sortedClasses) {
+                if (ReaderListener.class.isAssignableFrom(cls) && !listeners.containsKey(cls)) {
+                    try {
+                        listeners.put(cls, (ReaderListener) cls.newInstance());
+                    } catch (Exception e) {
+                        LOGGER.error("Failed to create ReaderListener", e);
+                    }
+                }
+            }
 
-        for (Class<?> cls : sortedClasses) {
-            if (ReaderListener.class.isAssignableFrom(cls) && !listeners.containsKey(cls)) {
+            for (ReaderListener listener : listeners.values()) {
                 try {
-                    listeners.put(cls, (ReaderListener) cls.newInstance());
+                    listener.beforeScan(this, openAPI);
                 } catch (Exception e) {
-                    LOGGER.error("Failed to create ReaderListener", e);
+                    LOGGER.error("Unexpected error invoking beforeScan listener [" + listener.getClass().getName() + "]", e);
                 }
             }
-        }
 
-        for (ReaderListener listener : listeners.values()) {
-            try {
-                listener.beforeScan(this, openAPI);
-            } catch (Exception e) {
-                LOGGER.error("Unexpected error invoking beforeScan listener [" + listener.getClass().getName() + "]", e);
+            OpenApiMetrics metrics = MetricsUtils.current();
+            for (Class<?> cls : sortedClasses) {
+                long start = System.nanoTime();
+                read(cls, resolveApplicationPath(), null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
+                metrics.time(OpenApiMetrics.READER_CLASS, cls.getName(), System.nanoTime() - start);
             }
-        }
-
-        for (Class<?> cls : sortedClasses) {
-            read(cls, resolveApplicationPath(), null, false, null, null, new LinkedHashSet<String>(), new ArrayList<Parameter>(), new HashSet<Class<?>>());
-        }
 
-        for (ReaderListener listener : listeners.values()) {
-            try {
-                listener.afterScan(this, openAPI);
-            } catch (Exception e) {
-                LOGGER.error("Unexpected error invoking afterScan listener [" + listener.getClass().getName() + "]", e);
+            for (ReaderListener listener : listeners.values()) {
+                try {
+                    listener.afterScan(this, openAPI);
+                } catch (Exception e) {
+                    LOGGER.error("Unexpected error invoking afterScan listener [" + listener.getClass().getName() + "]", e);
+                }
             }
+        } finally {
+            ModelConverters.setCurrent(previous);
         }
         return openAPI;
     }
 
+    /**
+     * In lazy mode, defers the resolution of the component schemas of operation types until first accessed.
+     */
+    private void installLazyComponents() {
+        if (config != null && Boolean.TRUE.equals(config.isLazyComponents())) {
+            LazyComponentSchemas.install(components);
+        }
+    }
+
     @Override
     public void setConfiguration(OpenAPIConfiguration openApiConfiguration) {
         if (openApiConfiguration != null) {
             this.config = ContextUtils.deepCopy(openApiConfiguration);
+            this.ignoredRoutes = config.getIgnoredRoutes() == null ? null :
+                    new RoutePrefixTrie(config.getIgnoredRoutes(), Boolean.TRUE.equals(config.isIgnoredRoutesTemplateMatching()));
             if (openApiConfiguration.getOpenAPI() != null) {
                 this.openAPI = this.config.getOpenAPI();
                 if (this.openAPI.getComponents() != null) {
@@ -368,10 +414,10 @@ public class Reader implements OpenApiReader {
         final List<Parameter> globalParameters = new ArrayList<>();
 
         // look for constructor-level annotated properties
-        globalParameters.addAll(ReaderUtils.collectConstructorParameters(cls, components, classConsumes, null));
+        globalParameters.addAll(ReaderUtils.collectConstructorParameters(cls, components, classConsumes, null, getExtensionChain()));
 
         // look for field-level annotated properties
-        globalParameters.addAll(ReaderUtils.collectFieldParameters(cls, components, classConsumes, null));
+        globalParameters.addAll(ReaderUtils.collectFieldParameters(cls, components, classConsumes, null, getExtensionChain()));
 
         // iterate class methods
         Method methods[] = cls.getMethods();
@@ -400,13 +446,14 @@ public class Reader implements OpenApiReader {
             Map<String, String> regexMap = new LinkedHashMap<>();
             operationPath = PathUtils.parsePath(operationPath, regexMap);
             if (operationPath != null) {
-                if (config != null && ReaderUtils.isIgnored(operationPath, config)) {
+                if (isIgnored(operationPath)) {
+                    ignoredOperationCount++;
                     continue;
                 }
 
                 final Class<?> subResource = getSubResourceWithJaxRsSubresourceLocatorSpecs(method);
 
-                String httpMethod = ReaderUtils.extractOperationMethod(method, OpenAPIExtensions.chain());
+                String httpMethod = getExtensionChain().extractOperationMethod(method);
                 httpMethod = (httpMethod == null && isSubresource) ? parentMethod : httpMethod;
 
                 if (StringUtils.isBlank(httpMethod) && subResource == null) {
@@ -447,6 +494,7 @@ public class Reader implements OpenApiReader {
                         .orElse(jsonViewAnnotation);
                 }
 
+                long operationStart = System.nanoTime();
                 Operation operation = parseMethod(
                         method,
                         globalParameters,
@@ -564,41 +612,21 @@ public class Reader implements OpenApiReader {
 
                     if (subResource != null && !scannedResources.contains(subResource)) {
                         scannedResources.add(subResource);
-                        read(subResource, operationPath, httpMethod, true, operation.getRequestBody(), operation.getResponses(), classTags, operation.getParameters(), scannedResources);
+                        readSubResource(subResource, operationPath, httpMethod, operation, classTags, scannedResources);
                         // remove the sub resource so that it can visit it later in another path
-                        // but we have a room for optimization in the future to reuse the scanned result
-                        // by caching the scanned resources in the reader instance to avoid actual scanning
-                        // the the resources again
                         scannedResources.remove(subResource);
                         // don't proceed with root resource operation, as it's handled by subresource
                         continue;
                     }
 
-                    final Iterator<OpenAPIExtension> chain = OpenAPIExtensions.chain();
-                    if (chain.hasNext()) {
-                        final OpenAPIExtension extension = chain.next();
-                        extension.decorateOperation(operation, method, chain);
-                    }
-
-                    PathItem pathItemObject;
-                    if (openAPI.getPaths() != null && openAPI.getPaths().get(operationPath) != null) {
-                        pathItemObject = openAPI.getPaths().get(operationPath);
-                    } else {
-                        pathItemObject = new PathItem();
-                    }
+                    getExtensionChain().decorateOperation(operation, method);
 
                     if (StringUtils.isBlank(httpMethod)) {
                         continue;
                     }
-                    setPathItemOperation(pathItemObject, httpMethod, operation);
-
-                    paths.addPathItem(operationPath, pathItemObject);
-                    if (openAPI.getPaths() != null) {
-                        this.paths.putAll(openAPI.getPaths());
-                    }
-
-                    openAPI.setPaths(this.paths);
-
+                    String baseOperationId = apiOperation != null && StringUtils.isNotBlank(apiOperation.operationId()) ? apiOperation.operationId() : method.getName();
+                    addOperation(operationPath, httpMethod, operation, baseOperationId);
+                    MetricsUtils.current().time(OpenApiMetrics.READER_OPERATION, httpMethod.toUpperCase() + " " + operationPath, System.nanoTime() - operationStart);
                 }
             }
         }
@@ -1017,7 +1045,15 @@ public class Reader implements OpenApiReader {
 
         final Class<?> subResource = getSubResourceWithJaxRsSubresourceLocatorSpecs(method);
         if (!shouldIgnoreClass(returnType.getTypeName()) && !method.getGenericReturnType().equals(subResource)) {
-            ResolvedSchema resolvedSchema = ModelConverters.getInstance().resolveAsResolvedSchema(new AnnotatedType(returnType).resolveAsRef(true).jsonViewAnnotation(jsonViewAnnotation));
+            AnnotatedType returnAnnotatedType = new AnnotatedType(returnType).resolveAsRef(true).jsonViewAnnotation(jsonViewAnnotation);
+            ResolvedSchema resolvedSchema;
+            Schema lazyReference = getModelConverters().resolveAsLazyReference(returnAnnotatedType, components);
+            if (lazyReference != null) {
+                resolvedSchema = new ResolvedSchema();
+                resolvedSchema.schema = lazyReference;
+            } else {
+                resolvedSchema = getModelConverters().resolveAsResolvedSchema(returnAnnotatedType);
+            }
             if (resolvedSchema.schema != null) {
                 Schema returnTypeSchema = resolvedSchema.schema;
                 Content content = new Content();
@@ -1044,10 +1080,7 @@ public class Reader implements OpenApiReader {
                         }
                     }
                 }
-                Map<String, Schema> schemaMap = resolvedSchema.referencedSchemas;
-                if (schemaMap != null) {
-                    schemaMap.forEach((key, schema) -> components.addSchemas(key, schema));
-                }
+                ModelConverters.addReferencedSchemas(resolvedSchema, components);
 
             }
         }
@@ -1076,7 +1109,7 @@ public class Reader implements OpenApiReader {
         }
         ignore = ignore || rawClassName.startsWith("javax.ws.rs.");
         ignore = ignore || rawClassName.equalsIgnoreCase("void");
-        ignore = ignore || ModelConverters.getInstance().isRegisteredAsSkippedClass(rawClassName);
+        ignore = ignore || getModelConverters().isRegisteredAsSkippedClass(rawClassName);
         return ignore;
     }
 
@@ -1118,6 +1151,121 @@ public class Reader implements OpenApiReader {
         return callbackMap;
     }
 
+    private void addOperation(String operationPath, String httpMethod, Operation operation, String baseOperationId) {
+        PathItem pathItemObject;
+        if (openAPI.getPaths() != null && openAPI.getPaths().get(operationPath) != null) {
+            pathItemObject = openAPI.getPaths().get(operationPath);
+        } else {
+            pathItemObject = new PathItem();
+        }
+        setPathItemOperation(pathItemObject, httpMethod, operation);
+
+        paths.addPathItem(operationPath, pathItemObject);
+        if (openAPI.getPaths() != null) {
+            this.paths.putAll(openAPI.getPaths());
+        }
+
+        openAPI.setPaths(this.paths);
+
+        if (subResourceRecording != null) {
+            subResourceRecording.add(new SubResourceOperation(operationPath, httpMethod, operation, baseOperationId));
+        }
+    }
+
+    /**
+     * Reads a sub-resource located by the given parent operation. The operations resulting from the first read
+     * of a sub-resource are kept as templates, and replayed for further parents differing only by path and
+     * parameters, rather than reading the sub-resource again.
+     */
+    protected void readSubResource(Class<?> subResource,
+                                   String parentPath,
+                                   String parentMethod,
+                                   Operation parentOperation,
+                                   Set<String> parentTags,
+                                   Set<Class<?>> scannedResources) {
+
+        List<Parameter> parentParameters = parentOperation.getParameters();
+        if (!cacheSubResources) {
+            read(subResource, parentPath, parentMethod, true, parentOperation.getRequestBody(), parentOperation.getResponses(), parentTags, parentParameters, scannedResources);
+            return;
+        }
+
+        SubResourceKey key = new SubResourceKey(subResource, parentMethod, parentOperation, parentTags, scannedResources);
+        List<SubResourceOperation> template = subResourceTemplates.get(key);
+        if (template != null) {
+            String prefix = "/".equals(parentPath) ? "" : parentPath;
+            for (SubResourceOperation templateOperation : template) {
+                Operation operation = ModelCopyUtils.copy(templateOperation.operation);
+                List<Parameter> parameters = new ArrayList<>();
+                if (templateOperation.operation.getParameters() != null) {
+                    parameters.addAll(templateOperation.operation.getParameters());
+                }
+                if (parentParameters != null) {
+                    parameters.addAll(parentParameters);
+                }
+                operation.setParameters(parameters.isEmpty() ? null : parameters);
+                if (templateOperation.isDerivedOperationId()) {
+                    operation.setOperationId(getOperationId(templateOperation.baseOperationId));
+                }
+                String operationPath = prefix + templateOperation.path;
+                operationPath = operationPath.isEmpty() ? "/" : operationPath;
+                // ignored routes depend on the full path
+                if (isIgnored(operationPath)) {
+                    ignoredOperationCount++;
+                    continue;
+                }
+                addOperation(operationPath, templateOperation.httpMethod, operation, templateOperation.baseOperationId);
+            }
+            return;
+        }
+
+        List<SubResourceOperation> outerRecording = subResourceRecording;
+        List<SubResourceOperation> recording = new ArrayList<>();
+        subResourceRecording = recording;
+        int ignoredBefore = ignoredOperationCount;
+        try {
+            read(subResource, parentPath, parentMethod, true, parentOperation.getRequestBody(), parentOperation.getResponses(), parentTags, parentParameters, scannedResources);
+        } finally {
+            subResourceRecording = outerRecording;
+        }
+        if (outerRecording != null) {
+            outerRecording.addAll(recording);
+        }
+        // operations skipped as ignored routes of this parent may not be ignored for others
+        template = ignoredOperationCount == ignoredBefore ? toSubResourceTemplate(recording, parentPath, parentParameters) : null;
+        if (template != null) {
+            subResourceTemplates.put(key, template);
+        }
+    }
+
+    private List<SubResourceOperation> toSubResourceTemplate(List<SubResourceOperation> recording, String parentPath, List<Parameter> parentParameters) {
+        String prefix = "/".equals(parentPath) ? "" : parentPath;
+        int parentParameterCount = parentParameters == null ? 0 : parentParameters.size();
+        List<SubResourceOperation> template = new ArrayList<>();
+        for (SubResourceOperation recorded : recording) {
+            if (!recorded.path.startsWith(prefix)) {
+                return null;
+            }
+            // parent parameters are appended last to each operation
+            List<Parameter> parameters = recorded.operation.getParameters() == null ? new ArrayList<>() : recorded.operation.getParameters();
+            int ownParameterCount = parameters.size() - parentParameterCount;
+            if (ownParameterCount < 0) {
+                return null;
+            }
+            for (int i = 0; i < parentParameterCount; i++) {
+                if (parameters.get(ownParameterCount + i) != parentParameters.get(i)) {
+                    return null;
+                }
+            }
+            Operation operation = ModelCopyUtils.copy(recorded.operation);
+            operation.setParameters(new ArrayList<>(parameters.subList(0, ownParameterCount)));
+            // paths are relative to the parent path, "/" being the parent path itself
+            String path = recorded.path.substring(prefix.length());
+            template.add(new SubResourceOperation("/".equals(path) ? "" : path, recorded.httpMethod, operation, recorded.baseOperationId));
+        }
+        return template;
+    }
+
     private void setPathItemOperation(PathItem pathItemObject, String method, Operation operation) {
         switch (method) {
             case POST_METHOD:
@@ -1270,16 +1418,14 @@ public class Reader implements OpenApiReader {
 
     protected ResolvedParameter getParameters(Type type, List<Annotation> annotations, Operation operation, javax.ws.rs.Consumes classConsumes,
                                               javax.ws.rs.Consumes methodConsumes, JsonView jsonViewAnnotation) {
-        final Iterator<OpenAPIExtension> chain = OpenAPIExtensions.chain();
-        if (!chain.hasNext()) {
+        final OpenAPIExtensionChain chain = getExtensionChain();
+        if (chain.isEmpty()) {
             return new ResolvedParameter();
         }
         LOGGER.debug("getParameters for {}", type);
         Set<Type> typesToSkip = new HashSet<>();
-        final OpenAPIExtension extension = chain.next();
-        LOGGER.debug("trying extension {}", extension);
 
-        final ResolvedParameter extractParametersResult = extension.extractParameters(annotations, type, typesToSkip, components, classConsumes, methodConsumes, true, jsonViewAnnotation, chain);
+        final ResolvedParameter extractParametersResult = chain.extractParameters(annotations, type, typesToSkip, components, classConsumes, methodConsumes, true, jsonViewAnnotation);
         return extractParametersResult;
     }
 
@@ -1313,7 +1459,7 @@ public class Reader implements OpenApiReader {
         if (components == null) {
             return true;
         }
-        if (components.getSchemas() != null && components.getSchemas().size() > 0) {
+        if (components.getSchemas() != null && !components.getSchemas().isEmpty()) {
             return false;
         }
         if (components.getSecuritySchemes() != null && components.getSecuritySchemes().size() > 0) {
@@ -1366,6 +1512,60 @@ public class Reader implements OpenApiReader {
         this.application = application;
     }
 
+    /**
+     * Enables or disables reusing the operations read from a sub-resource for further parents locating it;
+     * enabled by default.
+     *
+     * @since 2.0.10
+     */
+    public void setCacheSubResources(boolean cacheSubResources) {
+        this.cacheSubResources = cacheSubResources;
+    }
+
+    /**
+     * @return the converters used to resolve schemas; by default the chain of the context being read, if any,
+     * or the global one
+     *
+     * @since 2.0.10
+     */
+    public ModelConverters getModelConverters() {
+        return modelConverters == null ? ModelConverters.getCurrent() : modelConverters;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setModelConverters(ModelConverters modelConverters) {
+        this.modelConverters = modelConverters;
+    }
+
+    /**
+     * @return the extension chain used by this reader, compiled from the registered extensions on first use
+     *
+     * @since 2.0.10
+     */
+    public OpenAPIExtensionChain getExtensionChain() {
+        if (extensionChain == null) {
+            extensionChain = OpenAPIExtensions.compile();
+        }
+        return extensionChain;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setExtensionChain(OpenAPIExtensionChain extensionChain) {
+        this.extensionChain = extensionChain;
+    }
+
+    private boolean isIgnored(String path) {
+        if (ignoredRoutes != null) {
+            return ignoredRoutes.matches(path);
+        }
+        // config assigned without setConfiguration
+        return config != null && ReaderUtils.isIgnored(path, config);
+    }
+
     protected boolean ignoreOperationPath(String path, String parentPath) {
 
         if (StringUtils.isBlank(path) && StringUtils.isBlank(parentPath)) {
@@ -1436,4 +1636,71 @@ public class Reader implements OpenApiReader {
             return null;
         }
     }
+
+    private static class SubResourceKey {
+        private final Class<?> subResource;
+        private final String parentMethod;
+        private final RequestBody parentRequestBody;
+        private final ApiResponses parentResponses;
+        private final Set<String> parentTags;
+        private final Set<Class<?>> scannedResources;
+
+        private SubResourceKey(Class<?> subResource, String parentMethod, Operation parentOperation, Set<String> parentTags, Set<Class<?>> scannedResources) {
+            this.subResource = subResource;
+            this.parentMethod = parentMethod;
+            this.parentRequestBody = parentOperation.getRequestBody();
+            this.parentResponses = parentOperation.getResponses();
+            this.parentTags = parentTags == null ? null : new HashSet<>(parentTags);
+            this.scannedResources = new HashSet<>(scannedResources);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SubResourceKey that = (SubResourceKey) o;
+            return Objects.equals(subResource, that.subResource) &&
+                    Objects.equals(parentMethod, that.parentMethod) &&
+                    Objects.equals(parentRequestBody, that.parentRequestBody) &&
+                    Objects.equals(parentResponses, that.parentResponses) &&
+                    Objects.equals(parentTags, that.parentTags) &&
+                    Objects.equals(scannedResources, that.scannedResources);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(subResource, parentMethod, parentTags, scannedResources);
+        }
+    }
+
+    private static class SubResourceOperation {
+        private final String path;
+        private final String httpMethod;
+        private final Operation operation;
+        private final String baseOperationId;
+
+        private SubResourceOperation(String path, String httpMethod, Operation operation, String baseOperationId) {
+            this.path = path;
+            this.httpMethod = httpMethod;
+            this.operation = operation;
+            this.baseOperationId = baseOperationId;
+        }
+
+        /**
+         * @return true if the operation id was derived from the base one by {@link Reader#getOperationId(String)},
+         * rather than set e.g. by an extension
+         */
+        private boolean isDerivedOperationId() {
+            String operationId = operation.getOperationId();
+            if (operationId == null || baseOperationId == null) {
+                return false;
+            }
+            return operationId.equals(baseOperationId) ||
+                    (operationId.startsWith(baseOperationId + "_") && StringUtils.isNumeric(operationId.substring(baseOperationId.length() + 1)));
+        }
+    }
 }
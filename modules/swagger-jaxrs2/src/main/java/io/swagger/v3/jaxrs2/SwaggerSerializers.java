@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 
 @Provider
 @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, "application/yaml"})
@@ -54,7 +55,7 @@ public class SwaggerSerializers implements MessageBodyWriter<OpenAPI> {
             if (prettyPrint) {
                 out.write(Yaml.pretty().writeValueAsBytes(data));
             } else {
-                out.write(Yaml.mapper().writeValueAsBytes(data));
+                out.write(Yaml.write(data).getBytes(StandardCharsets.UTF_8));
             }
         } else if (mediaType.isCompatible(MediaType.APPLICATION_XML_TYPE)) {
             headers.remove("Content-Type");
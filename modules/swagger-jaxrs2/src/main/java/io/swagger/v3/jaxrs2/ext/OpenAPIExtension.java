@@ -27,4 +27,15 @@ public interface OpenAPIExtension {
      * @param chain     the chain with swagger extensions to process
      */
     void decorateOperation(Operation operation, Method method, Iterator<OpenAPIExtension> chain);
+
+    /**
+     * Declares the parameter annotations this extension handles in {@link #extractParameters}; parameters carrying
+     * none of them skip this extension. Returns null by default, so the extension sees every parameter.
+     *
+     * @return the handled annotation types, or null for all parameters
+     * @since 2.0.10
+     */
+    default Set<Class<? extends Annotation>> getParameterAnnotations() {
+        return null;
+    }
 }
@@ -0,0 +1,175 @@
+package io.swagger.v3.jaxrs2.ext;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.swagger.v3.jaxrs2.ParameterTemplates;
+import io.swagger.v3.jaxrs2.ResolvedParameter;
+import io.swagger.v3.jaxrs2.util.ReaderUtils;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.Operation;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable, array based snapshot of the {@link OpenAPIExtension} chain, resolved once and reused for every
+ * method and parameter scanned by a reader.
+ *
+ * Parameter iterators skip extensions declaring {@link OpenAPIExtension#getParameterAnnotations()} if none of the
+ * declared annotation types is present on the parameter. Chains are compiled once per class loader by
+ * {@link OpenAPIExtensions#compile(ClassLoader)}; each call walks the chain with its own cursor.
+ *
+ * @since 2.0.10
+ */
+public class OpenAPIExtensionChain {
+
+    private final OpenAPIExtension[] extensions;
+    private final Class<?>[][] parameterAnnotations;
+    private final ParameterTemplates parameterTemplates = new ParameterTemplates();
+
+    public OpenAPIExtensionChain(List<OpenAPIExtension> extensions) {
+        if (extensions == null) {
+            extensions = Collections.emptyList();
+        }
+        this.extensions = extensions.toArray(new OpenAPIExtension[0]);
+        this.parameterAnnotations = new Class<?>[this.extensions.length][];
+        for (int i = 0; i < this.extensions.length; i++) {
+            Set<Class<? extends Annotation>> types = this.extensions[i].getParameterAnnotations();
+            if (types != null) {
+                parameterAnnotations[i] = types.toArray(new Class<?>[0]);
+            }
+        }
+    }
+
+    /**
+     * @return the chain the given iterator walks, or a chain compiled from the registered extensions
+     */
+    public static OpenAPIExtensionChain from(Iterator<OpenAPIExtension> chain) {
+        if (chain instanceof Cursor) {
+            return ((Cursor) chain).getChain();
+        }
+        return OpenAPIExtensions.compile();
+    }
+
+    /**
+     * @return true if this chain holds the given extensions, in the same order
+     */
+    boolean isCompiledFrom(List<OpenAPIExtension> extensions) {
+        if (extensions == null) {
+            return this.extensions.length == 0;
+        }
+        if (extensions.size() != this.extensions.length) {
+            return false;
+        }
+        for (int i = 0; i < this.extensions.length; i++) {
+            if (extensions.get(i) != this.extensions[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return extensions.length;
+    }
+
+    public boolean isEmpty() {
+        return extensions.length == 0;
+    }
+
+    /**
+     * @return the cache of parameters expanded through this chain
+     */
+    public ParameterTemplates getParameterTemplates() {
+        return parameterTemplates;
+    }
+
+    /**
+     * @return an iterator over all extensions
+     */
+    public Iterator<OpenAPIExtension> iterator() {
+        return new Cursor(this, null);
+    }
+
+    /**
+     * @return an iterator over the extensions relevant to a parameter with the given annotations
+     */
+    public Iterator<OpenAPIExtension> iterator(List<Annotation> annotations) {
+        return new Cursor(this, annotations == null ? Collections.<Annotation>emptyList() : annotations);
+    }
+
+    /**
+     * @return the http method of the given method, as resolved by {@link ReaderUtils#extractOperationMethod(Method, Iterator)}
+     */
+    public String extractOperationMethod(Method method) {
+        return ReaderUtils.extractOperationMethod(method, iterator());
+    }
+
+    public void decorateOperation(Operation operation, Method method) {
+        Iterator<OpenAPIExtension> chain = iterator();
+        if (chain.hasNext()) {
+            chain.next().decorateOperation(operation, method, chain);
+        }
+    }
+
+    public ResolvedParameter extractParameters(List<Annotation> annotations, Type type, Set<Type> typesToSkip, Components components,
+                                               javax.ws.rs.Consumes classConsumes, javax.ws.rs.Consumes methodConsumes, boolean includeRequestBody, JsonView jsonViewAnnotation) {
+        Iterator<OpenAPIExtension> chain = iterator(annotations);
+        if (!chain.hasNext()) {
+            return new ResolvedParameter();
+        }
+        return chain.next().extractParameters(annotations, type, typesToSkip, components, classConsumes, methodConsumes, includeRequestBody, jsonViewAnnotation, chain);
+    }
+
+    private boolean isRelevant(int index, List<Annotation> annotations) {
+        Class<?>[] types = parameterAnnotations[index];
+        if (annotations == null || types == null) {
+            return true;
+        }
+        for (int i = 0; i < annotations.size(); i++) {
+            Class<?> annotationType = annotations.get(i).annotationType();
+            for (Class<?> type : types) {
+                if (type == annotationType) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static class Cursor implements Iterator<OpenAPIExtension> {
+        private final OpenAPIExtensionChain chain;
+        private final List<Annotation> annotations;
+        private int index;
+
+        private Cursor(OpenAPIExtensionChain chain, List<Annotation> annotations) {
+            this.chain = chain;
+            this.annotations = annotations;
+        }
+
+        private OpenAPIExtensionChain getChain() {
+            return chain;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (index < chain.extensions.length && !chain.isRelevant(index, annotations)) {
+                index++;
+            }
+            return index < chain.extensions.length;
+        }
+
+        @Override
+        public OpenAPIExtension next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return chain.extensions[index++];
+        }
+    }
+}
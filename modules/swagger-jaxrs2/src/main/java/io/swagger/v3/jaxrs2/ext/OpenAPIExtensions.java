@@ -1,5 +1,6 @@
 package io.swagger.v3.jaxrs2.ext;
 
+import io.swagger.v3.core.util.ClassLoaderCache;
 import io.swagger.v3.jaxrs2.DefaultParameterExtension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,30 +10,99 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ServiceLoader;
 
+/**
+ * The registered extensions, loaded as services of the context class loader of the current thread and kept per class
+ * loader, so that the extensions of an application are not used by, nor keep alive, other applications sharing the
+ * library. Extensions set by {@link #setExtensions(List)} apply to all class loaders, as before.
+ */
 public class OpenAPIExtensions {
     private static Logger LOGGER = LoggerFactory.getLogger(OpenAPIExtensions.class);
 
-    private static List<OpenAPIExtension> extensions = null;
+    private static final ClassLoaderCache<List<OpenAPIExtension>> EXTENSIONS = new ClassLoaderCache<>(OpenAPIExtensions::load);
+    private static final ClassLoaderCache<OpenAPIExtensionChain> CHAINS = new ClassLoaderCache<>(
+            classLoader -> new OpenAPIExtensionChain(getExtensions(classLoader)));
+    private static volatile List<OpenAPIExtension> extensions;
+
+    static {
+        ClassLoaderCache.addReleaseListener(OpenAPIExtensions::release);
+    }
 
     public static List<OpenAPIExtension> getExtensions() {
-        return extensions;
+        return getExtensions(Thread.currentThread().getContextClassLoader());
     }
 
+    /**
+     * @return the extensions set by {@link #setExtensions(List)} if any, otherwise the extensions registered as
+     * services of the given class loader
+     * @since 2.0.10
+     */
+    public static List<OpenAPIExtension> getExtensions(ClassLoader classLoader) {
+        List<OpenAPIExtension> ext = extensions;
+        return ext != null ? ext : EXTENSIONS.get(classLoader);
+    }
+
+    /**
+     * Sets the extensions used for all class loaders, taking precedence over the ones set per class loader; null
+     * restores them. The extensions are dropped when the class loader of one of them is released by
+     * {@link ClassLoaderCache#releaseAll(ClassLoader)}.
+     */
     public static void setExtensions(List<OpenAPIExtension> ext) {
         extensions = ext;
     }
 
+    /**
+     * Sets the extensions used for the given class loader, e.g. the one of an application, in place of its services;
+     * null loads them again from its services.
+     *
+     * @since 2.0.10
+     */
+    public static void setExtensions(ClassLoader classLoader, List<OpenAPIExtension> ext) {
+        EXTENSIONS.set(classLoader, ext);
+    }
+
     public static Iterator<OpenAPIExtension> chain() {
-        return extensions.iterator();
+        return getExtensions().iterator();
     }
 
-    static {
-        extensions = new ArrayList<>();
-        ServiceLoader<OpenAPIExtension> loader = ServiceLoader.load(OpenAPIExtension.class);
+    /**
+     * @return a snapshot of the registered extensions, to be reused across methods and parameters
+     * @since 2.0.10
+     */
+    public static OpenAPIExtensionChain compile() {
+        return compile(Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * @return a snapshot of the extensions of the given class loader, e.g. the one of a context,
+     * regardless of the thread reading the definition; the snapshot is compiled once per class loader, and again
+     * only when its extensions change
+     * @since 2.0.10
+     */
+    public static OpenAPIExtensionChain compile(ClassLoader classLoader) {
+        List<OpenAPIExtension> extensions = getExtensions(classLoader);
+        OpenAPIExtensionChain chain = CHAINS.get(classLoader);
+        if (!chain.isCompiledFrom(extensions)) {
+            chain = new OpenAPIExtensionChain(extensions);
+            CHAINS.set(classLoader, chain);
+        }
+        return chain;
+    }
+
+    private static void release(ClassLoader classLoader) {
+        List<OpenAPIExtension> ext = extensions;
+        if (ext != null && ext.stream().anyMatch(e -> ClassLoaderCache.isLoadedBy(e.getClass(), classLoader))) {
+            extensions = null;
+        }
+    }
+
+    private static List<OpenAPIExtension> load(ClassLoader classLoader) {
+        List<OpenAPIExtension> extensions = new ArrayList<>();
+        ServiceLoader<OpenAPIExtension> loader = ServiceLoader.load(OpenAPIExtension.class, classLoader);
         for (OpenAPIExtension ext : loader) {
             LOGGER.debug("adding extension " + ext);
             extensions.add(ext);
         }
         extensions.add(new DefaultParameterExtension());
+        return extensions;
     }
-}
\ No newline at end of file
+}
@@ -12,6 +12,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.ws.rs.core.Application;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -19,6 +26,15 @@ import java.util.Set;
 
 public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> implements JaxrsOpenApiScanner {
 
+    /**
+     * The classpath resource listing the classes annotated with Path or OpenAPIDefinition, one per line, as written
+     * by {@link JaxrsResourceIndexProcessor}. If enabled by {@link OpenAPIConfiguration#isUseResourceIndex()}, the
+     * listed classes are used instead of scanning the classpath, for the resource packages they are found in.
+     *
+     * @since 2.0.10
+     */
+    public static final String RESOURCE_INDEX = "META-INF/swagger/resource-classes";
+
     static final Set<String> ignored = new HashSet();
 
     static {
@@ -29,6 +45,7 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
     protected Application application;
     protected static Logger LOGGER = LoggerFactory.getLogger(JaxrsAnnotationScanner.class);
     protected boolean onlyConsiderResourcePackages = false;
+    protected Set<Class<?>> scannedClasses;
 
     public JaxrsAnnotationScanner application(Application application) {
         this.application = application;
@@ -57,7 +74,6 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
             openApiConfiguration = new SwaggerConfiguration();
         }
 
-        ClassGraph graph = new ClassGraph().enableAllInfo();
         Set<String> acceptablePackages = new HashSet<String>();
         Set<Class<?>> output = new HashSet<Class<?>>();
 
@@ -80,7 +96,6 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
             for (String pkg : openApiConfiguration.getResourcePackages()) {
                 if (!isIgnored(pkg)) {
                     acceptablePackages.add(pkg);
-                    graph.whitelistPackages(pkg);
                 }
             }
         } else {
@@ -88,10 +103,9 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
                 allowAllPackages = true;
             }
         }
-        final Set<Class<?>> classes;
-        try (ScanResult scanResult = graph.scan()) {
-            classes = new HashSet<>(scanResult.getClassesWithAnnotation(javax.ws.rs.Path.class.getName()).loadClasses());
-            classes.addAll(new HashSet<>(scanResult.getClassesWithAnnotation(OpenAPIDefinition.class.getName()).loadClasses()));
+        Set<Class<?>> classes = scannedClasses;
+        if (classes == null) {
+            classes = scanAnnotatedClasses(acceptablePackages, Boolean.TRUE.equals(openApiConfiguration.isUseResourceIndex()));
         }
 
         for (Class<?> cls : classes) {
@@ -109,6 +123,130 @@ public class JaxrsAnnotationScanner<T extends JaxrsAnnotationScanner<T>> impleme
         return output;
     }
 
+    /**
+     * Scans the given packages, or the whole classpath if none is given, for classes annotated with Path or
+     * OpenAPIDefinition, e.g. to share a single scan among the scanners of several contexts.
+     *
+     * @since 2.0.10
+     */
+    public static Set<Class<?>> scanAnnotatedClasses(Collection<String> packages) {
+        return scanAnnotatedClasses(packages, false);
+    }
+
+    /**
+     * Finds the classes annotated with Path or OpenAPIDefinition in the given packages, or in the whole classpath if
+     * none is given. With useIndex, the classes listed in {@link #RESOURCE_INDEX} are used for the packages they are
+     * found in, and only the packages without an indexed class are scanned; all classes listed are used if no
+     * package is given.
+     *
+     * @since 2.0.10
+     */
+    public static Set<Class<?>> scanAnnotatedClasses(Collection<String> packages, boolean useIndex) {
+        Set<Class<?>> indexed = useIndex ? getIndexedClasses() : null;
+        if (indexed == null) {
+            return scan(packages);
+        }
+        if (packages == null || packages.isEmpty()) {
+            return indexed;
+        }
+        Set<Class<?>> classes = new HashSet<>();
+        Set<String> notIndexed = new HashSet<>();
+        for (String pkg : packages) {
+            boolean found = false;
+            for (Class<?> cls : indexed) {
+                if (cls.getName().startsWith(pkg)) {
+                    classes.add(cls);
+                    found = true;
+                }
+            }
+            if (!found) {
+                notIndexed.add(pkg);
+            }
+        }
+        if (!notIndexed.isEmpty()) {
+            LOGGER.debug("scanning packages not covered by {}: {}", RESOURCE_INDEX, notIndexed);
+            classes.addAll(scan(notIndexed));
+        }
+        return classes;
+    }
+
+    private static Set<Class<?>> scan(Collection<String> packages) {
+        // ClassGraph is only needed without a precomputed or indexed class list, e.g. not in native images
+        ClassGraph graph = new ClassGraph().enableAllInfo();
+        if (packages != null) {
+            for (String pkg : packages) {
+                graph.whitelistPackages(pkg);
+            }
+        }
+        try (ScanResult scanResult = graph.scan()) {
+            return getAnnotatedClasses(scanResult);
+        }
+    }
+
+    /**
+     * @return the classes listed in the indexes on the classpath which are still annotated, or null if there is no
+     * index
+     */
+    static Set<Class<?>> getIndexedClasses() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = JaxrsAnnotationScanner.class.getClassLoader();
+        }
+        Enumeration<URL> indexes;
+        try {
+            indexes = classLoader.getResources(RESOURCE_INDEX);
+        } catch (IOException e) {
+            LOGGER.warn("error reading " + RESOURCE_INDEX + ": " + e.getMessage(), e);
+            return null;
+        }
+        if (!indexes.hasMoreElements()) {
+            return null;
+        }
+        Set<Class<?>> classes = new HashSet<>();
+        while (indexes.hasMoreElements()) {
+            URL index = indexes.nextElement();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                String className;
+                while ((className = reader.readLine()) != null) {
+                    className = className.trim();
+                    if (className.isEmpty()) {
+                        continue;
+                    }
+                    try {
+                        Class<?> cls = Class.forName(className, false, classLoader);
+                        // the index may be stale after incremental compilations
+                        if (cls.isAnnotationPresent(javax.ws.rs.Path.class) || cls.isAnnotationPresent(OpenAPIDefinition.class)) {
+                            classes.add(cls);
+                        }
+                    } catch (ClassNotFoundException | LinkageError e) {
+                        LOGGER.warn("error loading indexed class " + className + ": " + e.getMessage());
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warn("error reading " + index + ": " + e.getMessage(), e);
+                return null;
+            }
+        }
+        return classes;
+    }
+
+    private static Set<Class<?>> getAnnotatedClasses(ScanResult scanResult) {
+        Set<Class<?>> classes = new HashSet<>(scanResult.getClassesWithAnnotation(javax.ws.rs.Path.class.getName()).loadClasses());
+        classes.addAll(new HashSet<>(scanResult.getClassesWithAnnotation(OpenAPIDefinition.class.getName()).loadClasses()));
+        return classes;
+    }
+
+    /**
+     * Sets the classes found by a previous scan, see {@link #scanAnnotatedClasses(Collection)}; the configured
+     * resource packages then select among them instead of scanning the classpath.
+     *
+     * @since 2.0.10
+     */
+    public T scannedClasses(Set<Class<?>> scannedClasses) {
+        this.scannedClasses = scannedClasses;
+        return (T) this;
+    }
+
     protected boolean isIgnored(String classOrPackageName) {
         if (StringUtils.isBlank(classOrPackageName)) {
             return true;
@@ -1,6 +1,7 @@
 package io.swagger.v3.jaxrs2.integration;
 
 import io.swagger.v3.jaxrs2.Reader;
+import io.swagger.v3.jaxrs2.ext.OpenAPIExtensions;
 import io.swagger.v3.jaxrs2.integration.api.JaxrsOpenApiScanner;
 import io.swagger.v3.oas.integration.GenericOpenApiContext;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
@@ -29,11 +30,13 @@ public class JaxrsOpenApiContext<T extends JaxrsOpenApiContext> extends GenericO
         if (StringUtils.isNotBlank(openApiConfiguration.getReaderClass())) {
             Class cls = getClass().getClassLoader().loadClass(openApiConfiguration.getReaderClass());
             reader = (OpenApiReader) cls.newInstance();
-        } else {
+        } else if ((reader = loadService(OpenApiReader.class, openApiConfiguration)) == null) {
             reader = new Reader();
         }
         if (reader instanceof Reader) {
             ((Reader) reader).setApplication(app);
+            // definitions may be read on threads of other applications, e.g. by the async reader
+            ((Reader) reader).setExtensionChain(OpenAPIExtensions.compile(getClassLoader()));
         }
         reader.setConfiguration(openApiConfiguration);
         return reader;
@@ -46,7 +49,7 @@ public class JaxrsOpenApiContext<T extends JaxrsOpenApiContext> extends GenericO
         if (StringUtils.isNotBlank(openApiConfiguration.getScannerClass())) {
             Class cls = getClass().getClassLoader().loadClass(openApiConfiguration.getScannerClass());
             scanner = (OpenApiScanner) cls.newInstance();
-        } else {
+        } else if ((scanner = loadService(OpenApiScanner.class, openApiConfiguration)) == null) {
             scanner = new JaxrsApplicationAndAnnotationScanner();
         }
         scanner.setConfiguration(openApiConfiguration);
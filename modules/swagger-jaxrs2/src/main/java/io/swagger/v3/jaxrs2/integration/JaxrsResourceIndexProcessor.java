@@ -0,0 +1,89 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Lists the classes annotated with Path or OpenAPIDefinition at compile time into
+ * {@link JaxrsAnnotationScanner#RESOURCE_INDEX}, which the scanners then read instead of scanning the classpath.
+ *
+ * The processor is not registered as a service, it is to be enabled explicitly, e.g. with the annotationProcessors
+ * of the maven compiler plugin or the -processor option of javac; as the index replaces the scan, it is to be enabled
+ * for all the modules holding resources.
+ *
+ * @since 2.0.10
+ */
+@SupportedAnnotationTypes({"javax.ws.rs.Path", "io.swagger.v3.oas.annotations.OpenAPIDefinition"})
+public class JaxrsResourceIndexProcessor extends AbstractProcessor {
+
+    private final Set<String> classes = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement) {
+                    classes.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+                }
+            }
+        }
+        // other annotation processors may handle the same annotations
+        return false;
+    }
+
+    private void writeIndex() {
+        // keeps the classes of previous compilations, e.g. incremental ones only processing the changed sources
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", JaxrsAnnotationScanner.RESOURCE_INDEX);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && processingEnv.getElementUtils().getTypeElement(line.replace('$', '.')) != null) {
+                        classes.add(line);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // no index yet
+        }
+        if (classes.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", JaxrsAnnotationScanner.RESOURCE_INDEX);
+            try (Writer writer = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String cls : classes) {
+                    writer.write(cls);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "error writing " + JaxrsAnnotationScanner.RESOURCE_INDEX + ": " + e.getMessage());
+        }
+    }
+}
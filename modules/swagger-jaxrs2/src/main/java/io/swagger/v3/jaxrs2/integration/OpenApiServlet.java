@@ -1,9 +1,10 @@
 package io.swagger.v3.jaxrs2.integration;
 
-import io.swagger.v3.core.util.Json;
-import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
 import io.swagger.v3.oas.integration.OpenApiContextLocator;
+import io.swagger.v3.oas.integration.OpenApiDiff;
+import io.swagger.v3.oas.integration.OpenApiFragment;
+import io.swagger.v3.oas.integration.OpenApiSerializationCache;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.lang3.StringUtils;
@@ -14,7 +15,8 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
+import java.util.List;
 
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getContextIdFromServletConfig;
 
@@ -22,12 +24,38 @@ public class OpenApiServlet extends HttpServlet {
 
     public static final String APPLICATION_JSON = "application/json";
     public static final String APPLICATION_YAML = "application/yaml";
+    /**
+     * @since 2.0.10
+     */
+    public static final String APPLICATION_SMILE = OpenApiSerializationCache.SMILE_MEDIA_TYPE;
+    /**
+     * @since 2.0.10
+     */
+    public static final String APPLICATION_CBOR = OpenApiSerializationCache.CBOR_MEDIA_TYPE;
     public static final String ACCEPT_HEADER = "Accept";
+    public static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    public static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    public static final String VARY_HEADER = "Vary";
+    public static final String ETAG_HEADER = "ETag";
+    public static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+
+    /**
+     * Init parameter holding the size in bytes below which the definition is not gzip compressed; negative disables compression.
+     *
+     * @since 2.0.10
+     */
+    public static final String COMPRESSION_THRESHOLD_KEY = "openApi.compressionThreshold";
+
+    private int compressionThreshold = OpenApiSerializationCache.DEFAULT_COMPRESSION_THRESHOLD;
 
     @Override
     public void init(ServletConfig config) throws ServletException {
 
         super.init(config);
+        String threshold = config.getInitParameter(COMPRESSION_THRESHOLD_KEY);
+        if (StringUtils.isNotBlank(threshold)) {
+            compressionThreshold = Integer.parseInt(threshold.trim());
+        }
         String ctxId = getContextIdFromServletConfig(config);
         try {
             new ServletOpenApiContextBuilder()
@@ -39,6 +67,15 @@ public class OpenApiServlet extends HttpServlet {
         }
     }
 
+    @Override
+    public void destroy() {
+        OpenApiContext ctx = OpenApiContextLocator.getInstance().getOpenApiContext(getContextIdFromServletConfig(getServletConfig()));
+        if (ctx != null) {
+            ctx.close();
+        }
+        super.destroy();
+    }
+
     // TODO move to own servlet non jaxrs project and reference from there
     // TODO cleanup and errors
     @Override
@@ -51,33 +88,87 @@ public class OpenApiServlet extends HttpServlet {
         String type = "json";
 
         String acceptHeader = req.getHeader(ACCEPT_HEADER);
-        if (!StringUtils.isBlank(acceptHeader) && acceptHeader.toLowerCase().contains(APPLICATION_YAML)) {
+        String accept = StringUtils.isBlank(acceptHeader) ? "" : acceptHeader.toLowerCase();
+        String url = req.getRequestURL().toString().toLowerCase();
+        if (accept.contains(APPLICATION_YAML)) {
             type = "yaml";
+        } else if (accept.contains(APPLICATION_SMILE)) {
+            type = "smile";
+        } else if (accept.contains(APPLICATION_CBOR)) {
+            type = "cbor";
         } else {
             // check URL:
-            if (req.getRequestURL().toString().toLowerCase().endsWith("yaml")) {
+            if (url.endsWith("yaml")) {
                 type = "yaml";
+            } else if (url.endsWith("smile")) {
+                type = "smile";
+            } else if (url.endsWith("cbor")) {
+                type = "cbor";
             }
         }
 
+        // negotiated as by BaseOpenApiResource, e.g. json when smile or cbor is not available
+        String format = OpenApiSerializationCache.getFormat(type);
+
         boolean pretty = false;
         if (ctx.getOpenApiConfiguration() != null && Boolean.TRUE.equals(ctx.getOpenApiConfiguration().isPrettyPrint())) {
             pretty = true;
         }
 
+        OpenApiFragment fragment = OpenApiFragment.create(
+                req.getParameter(OpenApiFragment.TAG_PARAM),
+                req.getParameter(OpenApiFragment.PATH_PARAM),
+                req.getParameter(OpenApiFragment.POINTER_PARAM),
+                req.getParameter(OpenApiFragment.CLOSURE_PARAM));
+        OpenApiSerializationCache cache = OpenApiSerializationCache.getInstance(ctx.getId());
+        String contentType = OpenApiSerializationCache.getMediaType(format);
+        OpenApiSerializationCache.Serialization serialization = null;
+        resp.setHeader(VARY_HEADER, OpenApiSerializationCache.VARY);
+        if (fragment == null) {
+            String etag = cache.getETag(oas, ctx.getMetrics());
+            List<String> clientETags = OpenApiSerializationCache.parseETags(req.getHeader(IF_NONE_MATCH_HEADER));
+            resp.setHeader(ETAG_HEADER, OpenApiSerializationCache.formatETag(etag));
+            if (clientETags.contains(etag)) {
+                resp.setStatus(304);
+                return;
+            }
+            if (!StringUtils.isBlank(acceptHeader) && acceptHeader.toLowerCase().contains(OpenApiDiff.JSON_PATCH_MEDIA_TYPE)) {
+                for (String clientETag : clientETags) {
+                    serialization = cache.getPatch(oas, clientETag, ctx.getMetrics());
+                    if (serialization != null) {
+                        contentType = OpenApiDiff.JSON_PATCH_MEDIA_TYPE;
+                        break;
+                    }
+                }
+            }
+            if (serialization == null) {
+                serialization = cache.get(oas, format, pretty, ctx.getMetrics());
+            }
+        } else {
+            serialization = cache.getFragment(oas, fragment, format, pretty, ctx.getMetrics());
+            if (serialization == null) {
+                resp.setStatus(404);
+                return;
+            }
+        }
+
         resp.setStatus(200);
 
-        if (type.equalsIgnoreCase("yaml")) {
-            resp.setContentType(APPLICATION_YAML);
-            PrintWriter pw = resp.getWriter();
-            pw.write(pretty ? Yaml.pretty(oas) : Yaml.mapper().writeValueAsString(oas));
-            pw.close();
-        } else {
-            resp.setContentType(APPLICATION_JSON);
-            PrintWriter pw = resp.getWriter();
-            pw.write(pretty ? Json.pretty(oas) : Json.mapper().writeValueAsString(oas));
-            pw.close();
+        resp.setContentType(contentType);
+        byte[] entity = null;
+        if (OpenApiSerializationCache.acceptsGzip(req.getHeader(ACCEPT_ENCODING_HEADER))) {
+            entity = serialization.getGzipped(compressionThreshold);
+            if (entity != null) {
+                resp.setHeader(CONTENT_ENCODING_HEADER, OpenApiSerializationCache.GZIP);
+            }
+        }
+        if (entity == null) {
+            entity = serialization.getBytes();
         }
+        resp.setContentLength(entity.length);
+        OutputStream out = resp.getOutputStream();
+        out.write(entity);
+        out.close();
 
     }
 }
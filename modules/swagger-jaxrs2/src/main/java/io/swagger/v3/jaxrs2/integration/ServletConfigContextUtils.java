@@ -1,12 +1,15 @@
 package io.swagger.v3.jaxrs2.integration;
 
+import io.swagger.v3.oas.integration.AsyncOpenApiContextReader;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.servlet.ServletConfig;
+import javax.servlet.ServletContext;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class ServletConfigContextUtils {
@@ -26,6 +29,21 @@ public class ServletConfigContextUtils {
     public static final String OPENAPI_CONFIGURATION_FILTER_KEY = "openApi.configuration.filterClass";
     public static final String OPENAPI_CONFIGURATION_CACHE_TTL_KEY = "openApi.configuration.cacheTTL";
 
+    /**
+     * @since 2.0.10
+     */
+    public static final String OPENAPI_CONFIGURATION_ASYNC_TIMEOUT_KEY = "openApi.configuration.asyncTimeout";
+
+    /**
+     * @since 2.0.10
+     */
+    public static final String OPENAPI_CONFIGURATION_USE_RESOURCE_INDEX_KEY = "openApi.configuration.useResourceIndex";
+
+    /**
+     * @since 2.0.10
+     */
+    public static final String OPENAPI_CONFIGURATION_USE_SERVICE_LOADER_KEY = "openApi.configuration.useServiceLoader";
+
     /**
      * @since 2.0.6
      */
@@ -36,6 +54,11 @@ public class ServletConfigContextUtils {
      */
     public static final String OPENAPI_CONFIGURATION_MODEL_CONVERTERS_KEY = "openApi.configuration.modelConverterClasses";
 
+    /**
+     * @since 2.0.10
+     */
+    public static final String OPENAPI_CONTEXTS_ATTRIBUTE = "io.swagger.v3.oas.integration.contexts";
+
     public static Set<String> resolveResourcePackages(ServletConfig servletConfig) {
         if (!isServletConfigAvailable(servletConfig)) {
             return null;
@@ -143,6 +166,54 @@ public class ServletConfigContextUtils {
         return ctxId;
     }
 
+    /**
+     * Closes the given context when the servlet context of the given config is destroyed, if available.
+     *
+     * @since 2.0.10
+     */
+    public static void closeOnDestroy(ServletConfig config, OpenApiContext ctx) {
+        if (isServletConfigAvailable(config) && config.getServletContext() != null) {
+            closeOnDestroy(config.getServletContext(), ctx);
+        }
+    }
+
+    /**
+     * Closes the given context when the given servlet context is destroyed, see {@link SwaggerServletInitializer}.
+     *
+     * @since 2.0.10
+     */
+    public static void closeOnDestroy(ServletContext servletContext, OpenApiContext ctx) {
+        Set<OpenApiContext> contexts = (Set<OpenApiContext>) servletContext.getAttribute(OPENAPI_CONTEXTS_ATTRIBUTE);
+        if (contexts == null) {
+            synchronized (ServletConfigContextUtils.class) {
+                contexts = (Set<OpenApiContext>) servletContext.getAttribute(OPENAPI_CONTEXTS_ATTRIBUTE);
+                if (contexts == null) {
+                    contexts = ConcurrentHashMap.newKeySet();
+                    servletContext.setAttribute(OPENAPI_CONTEXTS_ATTRIBUTE, contexts);
+                }
+            }
+        }
+        contexts.add(ctx);
+    }
+
+    /**
+     * Closes the contexts to close along with the given servlet context, and shuts down the shared
+     * {@link AsyncOpenApiContextReader}, so that its threads don't outlive the application.
+     *
+     * @since 2.0.10
+     */
+    public static void closeContexts(ServletContext servletContext) {
+        Set<OpenApiContext> contexts = (Set<OpenApiContext>) servletContext.getAttribute(OPENAPI_CONTEXTS_ATTRIBUTE);
+        if (contexts == null) {
+            return;
+        }
+        servletContext.removeAttribute(OPENAPI_CONTEXTS_ATTRIBUTE);
+        for (OpenApiContext ctx : contexts) {
+            ctx.close();
+        }
+        AsyncOpenApiContextReader.shutdown();
+    }
+
     public static boolean isServletConfigAvailable(ServletConfig sc) {
         if (sc == null) {
             return false;
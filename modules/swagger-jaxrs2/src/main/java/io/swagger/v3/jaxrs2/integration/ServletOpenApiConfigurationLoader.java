@@ -14,6 +14,9 @@ import javax.servlet.ServletConfig;
 import java.io.IOException;
 
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_BUILDER_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_ASYNC_TIMEOUT_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_USE_RESOURCE_INDEX_KEY;
+import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_USE_SERVICE_LOADER_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_CACHE_TTL_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_FILTER_KEY;
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.OPENAPI_CONFIGURATION_OBJECT_MAPPER_PROCESSOR_KEY;
@@ -55,6 +58,9 @@ public class ServletOpenApiConfigurationLoader implements OpenApiConfigurationLo
                     .prettyPrint(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_PRETTYPRINT_KEY))
                     .readerClass(getInitParam(servletConfig, OPENAPI_CONFIGURATION_READER_KEY))
                     .cacheTTL(getLongInitParam(servletConfig, OPENAPI_CONFIGURATION_CACHE_TTL_KEY))
+                    .asyncTimeout(getLongInitParam(servletConfig, OPENAPI_CONFIGURATION_ASYNC_TIMEOUT_KEY))
+                    .useResourceIndex(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_USE_RESOURCE_INDEX_KEY))
+                    .useServiceLoader(getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_USE_SERVICE_LOADER_KEY))
                     .scannerClass(getInitParam(servletConfig, OPENAPI_CONFIGURATION_SCANNER_KEY))
                     .objectMapperProcessorClass(getInitParam(servletConfig, OPENAPI_CONFIGURATION_OBJECT_MAPPER_PROCESSOR_KEY))
                     .modelConverterClasses(resolveModelConverterClasses(servletConfig));
@@ -113,6 +119,15 @@ public class ServletOpenApiConfigurationLoader implements OpenApiConfigurationLo
             if (getLongInitParam(servletConfig, OPENAPI_CONFIGURATION_CACHE_TTL_KEY) != null) {
                 return true;
             }
+            if (getLongInitParam(servletConfig, OPENAPI_CONFIGURATION_ASYNC_TIMEOUT_KEY) != null) {
+                return true;
+            }
+            if (getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_USE_RESOURCE_INDEX_KEY) != null) {
+                return true;
+            }
+            if (getBooleanInitParam(servletConfig, OPENAPI_CONFIGURATION_USE_SERVICE_LOADER_KEY) != null) {
+                return true;
+            }
             if (getInitParam(servletConfig, OPENAPI_CONFIGURATION_SCANNER_KEY) != null) {
                 return true;
             }
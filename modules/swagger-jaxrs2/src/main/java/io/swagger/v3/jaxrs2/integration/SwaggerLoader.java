@@ -1,15 +1,23 @@
 package io.swagger.v3.jaxrs2.integration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.core.filter.OpenAPISpecFilter;
 import io.swagger.v3.core.filter.SpecFilter;
+import io.swagger.v3.core.util.Cbor;
 import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Smile;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.integration.GenericOpenApiContextBuilder;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
+import io.swagger.v3.oas.integration.OpenApiSplitWriter;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.lang3.StringUtils;
 
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -36,6 +44,11 @@ public class SwaggerLoader {
     private String objectMapperProcessorClass;
     private String modelConverterClasses;
 
+    private String splitBy;
+    private String outputPath;
+    private String outputFileName = "openapi";
+    private String encoding = "UTF-8";
+
     /**
      * @since 2.0.6
      */
@@ -160,6 +173,65 @@ public class SwaggerLoader {
     }
 
 
+    /**
+     * @since 2.0.10
+     */
+    public String getSplitBy() {
+        return splitBy;
+    }
+
+    /**
+     * Sets the grouping of paths, TAG or PATH, to write the specification as multiple files into outputPath
+     * instead of resolving it as a whole.
+     *
+     * @since 2.0.10
+     */
+    public void setSplitBy(String splitBy) {
+        this.splitBy = splitBy;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public String getOutputPath() {
+        return outputPath;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setOutputPath(String outputPath) {
+        this.outputPath = outputPath;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public String getOutputFileName() {
+        return outputFileName;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setOutputFileName(String outputFileName) {
+        this.outputFileName = outputFileName;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public String getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setEncoding(String encoding) {
+        this.encoding = encoding;
+    }
+
     public Map<String, String> resolve() throws Exception{
 
         Set<String> ignoredRoutesSet = null;
@@ -228,6 +300,40 @@ public class SwaggerLoader {
 
             String openapiJson = null;
             String openapiYaml = null;
+            boolean binary = "SMILE".equals(outputFormat) || "CBOR".equals(outputFormat);
+            if (("SMILE".equals(outputFormat) && !Smile.isAvailable()) || ("CBOR".equals(outputFormat) && !Cbor.isAvailable())) {
+                throw new Exception("the " + outputFormat + " output format requires jackson-dataformat-" + outputFormat.toLowerCase() + " on the classpath");
+            }
+            if (StringUtils.isNotBlank(splitBy)) {
+                if (binary) {
+                    throw new Exception("splitBy supports the JSON and YAML output formats only");
+                }
+                // written as files, nothing left to return
+                new OpenApiSplitWriter(Paths.get(outputPath), outputFileName)
+                        .groupBy(OpenApiSplitWriter.GroupBy.valueOf(splitBy.trim().toUpperCase()))
+                        .json("JSON".equals(outputFormat) || "JSONANDYAML".equals(outputFormat))
+                        .yaml("YAML".equals(outputFormat) || "JSONANDYAML".equals(outputFormat))
+                        .prettyPrint(prettyPrint)
+                        .encoding(Charset.forName(encoding))
+                        .write(openAPI);
+                HashMap<String, String> map = new HashMap();
+                map.put("JSON", openapiJson);
+                map.put("YAML", openapiYaml);
+                return map;
+            }
+            if (binary) {
+                // not representable as a string, written as a file as well
+                ObjectMapper mapper = "SMILE".equals(outputFormat) ? Smile.mapper() : Cbor.mapper();
+                Path path = Paths.get(outputPath, outputFileName + "." + outputFormat.toLowerCase());
+                if (path.toAbsolutePath().getParent() != null) {
+                    Files.createDirectories(path.toAbsolutePath().getParent());
+                }
+                Files.write(path, mapper.writeValueAsBytes(openAPI));
+                HashMap<String, String> map = new HashMap();
+                map.put("JSON", openapiJson);
+                map.put("YAML", openapiYaml);
+                return map;
+            }
             if ("JSON".equals(outputFormat) || "JSONANDYAML".equals(outputFormat)) {
                 if (prettyPrint) {
                     openapiJson = Json.pretty(openAPI);
@@ -239,7 +345,7 @@ public class SwaggerLoader {
                 if (prettyPrint) {
                     openapiYaml = Yaml.pretty(openAPI);
                 } else {
-                    openapiYaml = Yaml.mapper().writeValueAsString(openAPI);
+                    openapiYaml = Yaml.write(openAPI);
                 }
 
             }
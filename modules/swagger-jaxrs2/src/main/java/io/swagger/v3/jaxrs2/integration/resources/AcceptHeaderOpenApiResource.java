@@ -1,6 +1,8 @@
 package io.swagger.v3.jaxrs2.integration.resources;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.integration.OpenApiDiff;
+import io.swagger.v3.oas.integration.OpenApiSerializationCache;
 
 import javax.servlet.ServletConfig;
 import javax.ws.rs.GET;
@@ -22,7 +24,7 @@ public class AcceptHeaderOpenApiResource extends BaseOpenApiResource {
     Application app;
 
     @GET
-    @Produces({MediaType.APPLICATION_JSON})
+    @Produces({MediaType.APPLICATION_JSON, OpenApiDiff.JSON_PATCH_MEDIA_TYPE})
     @Operation(hidden = true)
     public Response getOpenApiJson(@Context HttpHeaders headers,
                                    @Context UriInfo uriInfo) throws Exception {
@@ -38,4 +40,28 @@ public class AcceptHeaderOpenApiResource extends BaseOpenApiResource {
 
         return super.getOpenApi(headers, config, app, uriInfo, "yaml");
     }
+
+    /**
+     * @since 2.0.10
+     */
+    @GET
+    @Produces({OpenApiSerializationCache.SMILE_MEDIA_TYPE})
+    @Operation(hidden = true)
+    public Response getOpenApiSmile(@Context HttpHeaders headers,
+                                    @Context UriInfo uriInfo) throws Exception {
+
+        return super.getOpenApi(headers, config, app, uriInfo, "smile");
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    @GET
+    @Produces({OpenApiSerializationCache.CBOR_MEDIA_TYPE})
+    @Operation(hidden = true)
+    public Response getOpenApiCbor(@Context HttpHeaders headers,
+                                   @Context UriInfo uriInfo) throws Exception {
+
+        return super.getOpenApi(headers, config, app, uriInfo, "cbor");
+    }
 }
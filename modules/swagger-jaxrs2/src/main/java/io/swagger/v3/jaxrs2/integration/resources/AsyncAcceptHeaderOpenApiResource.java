@@ -0,0 +1,77 @@
+package io.swagger.v3.jaxrs2.integration.resources;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.integration.OpenApiDiff;
+import io.swagger.v3.oas.integration.OpenApiSerializationCache;
+
+import javax.servlet.ServletConfig;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.UriInfo;
+
+/**
+ * Asynchronous alternative to {@link AcceptHeaderOpenApiResource}, resolving the definition off the request thread.
+ *
+ * @since 2.0.10
+ */
+@Path("/openapi")
+public class AsyncAcceptHeaderOpenApiResource extends BaseOpenApiResource {
+    @Context
+    ServletConfig config;
+
+    @Context
+    Application app;
+
+    @GET
+    @Produces({MediaType.APPLICATION_JSON, OpenApiDiff.JSON_PATCH_MEDIA_TYPE})
+    @Operation(hidden = true)
+    public void getOpenApiJson(@Context HttpHeaders headers,
+                               @Context UriInfo uriInfo,
+                               @Suspended AsyncResponse asyncResponse) throws Exception {
+
+        super.getOpenApiAsync(headers, config, app, uriInfo, "json", asyncResponse);
+    }
+
+    @GET
+    @Produces({"application/yaml"})
+    @Operation(hidden = true)
+    public void getOpenApiYaml(@Context HttpHeaders headers,
+                               @Context UriInfo uriInfo,
+                               @Suspended AsyncResponse asyncResponse) throws Exception {
+
+        super.getOpenApiAsync(headers, config, app, uriInfo, "yaml", asyncResponse);
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    @GET
+    @Produces({OpenApiSerializationCache.SMILE_MEDIA_TYPE})
+    @Operation(hidden = true)
+    public void getOpenApiSmile(@Context HttpHeaders headers,
+                                @Context UriInfo uriInfo,
+                                @Suspended AsyncResponse asyncResponse) throws Exception {
+
+        super.getOpenApiAsync(headers, config, app, uriInfo, "smile", asyncResponse);
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    @GET
+    @Produces({OpenApiSerializationCache.CBOR_MEDIA_TYPE})
+    @Operation(hidden = true)
+    public void getOpenApiCbor(@Context HttpHeaders headers,
+                               @Context UriInfo uriInfo,
+                               @Suspended AsyncResponse asyncResponse) throws Exception {
+
+        super.getOpenApiAsync(headers, config, app, uriInfo, "cbor", asyncResponse);
+    }
+}
@@ -0,0 +1,42 @@
+package io.swagger.v3.jaxrs2.integration.resources;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.integration.OpenApiDiff;
+
+import javax.servlet.ServletConfig;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.UriInfo;
+
+/**
+ * Asynchronous alternative to {@link OpenApiResource}, resolving the definition off the request thread.
+ *
+ * @since 2.0.10
+ */
+@Path("/openapi.{type:json|yaml}")
+public class AsyncOpenApiResource extends BaseOpenApiResource {
+    @Context
+    ServletConfig config;
+
+    @Context
+    Application app;
+
+    @GET
+    @Produces({MediaType.APPLICATION_JSON, "application/yaml", OpenApiDiff.JSON_PATCH_MEDIA_TYPE})
+    @Operation(hidden = true)
+    public void getOpenApi(@Context HttpHeaders headers,
+                           @Context UriInfo uriInfo,
+                           @PathParam("type") String type,
+                           @Suspended AsyncResponse asyncResponse) throws Exception {
+
+        super.getOpenApiAsync(headers, config, app, uriInfo, type, asyncResponse);
+    }
+}
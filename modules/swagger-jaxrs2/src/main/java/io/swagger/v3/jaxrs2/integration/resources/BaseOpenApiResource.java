@@ -2,21 +2,25 @@ package io.swagger.v3.jaxrs2.integration.resources;
 
 import io.swagger.v3.core.filter.OpenAPISpecFilter;
 import io.swagger.v3.core.filter.SpecFilter;
-import io.swagger.v3.core.util.Json;
-import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.core.metrics.MetricsUtils;
+import io.swagger.v3.core.metrics.OpenApiMetrics;
 import io.swagger.v3.jaxrs2.integration.JaxrsOpenApiContextBuilder;
+import io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils;
+import io.swagger.v3.oas.integration.AsyncOpenApiContextReader;
+import io.swagger.v3.oas.integration.OpenApiDiff;
+import io.swagger.v3.oas.integration.OpenApiFragment;
+import io.swagger.v3.oas.integration.OpenApiSerializationCache;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
 import io.swagger.v3.oas.integration.api.OpenApiContext;
 import io.swagger.v3.oas.models.OpenAPI;
-import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.servlet.ServletConfig;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.core.Cookie;
 import javax.ws.rs.core.HttpHeaders;
-import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
@@ -24,6 +28,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static io.swagger.v3.jaxrs2.integration.ServletConfigContextUtils.getContextIdFromServletConfig;
 
@@ -37,6 +44,82 @@ public abstract class BaseOpenApiResource {
                                   UriInfo uriInfo,
                                   String type) throws Exception {
 
+        OpenApiContext ctx = buildContext(config, app);
+        OpenAPI oas = ctx.read();
+        return buildResponse(ctx, oas, getQueryParams(uriInfo.getQueryParameters()), getCookies(headers), getHeaders(headers), type);
+    }
+
+    /**
+     * Resolves, filters and serializes the definition on the executor of {@link #getAsyncReader()}, resuming the
+     * given response when done. If resolving takes longer than {@link #getAsyncTimeout(OpenApiContext)}, or is rejected
+     * by the executor, the last resolved definition is served instead, if any.
+     *
+     * @since 2.0.10
+     */
+    protected void getOpenApiAsync(HttpHeaders headers,
+                                   ServletConfig config,
+                                   Application app,
+                                   UriInfo uriInfo,
+                                   String type,
+                                   AsyncResponse asyncResponse) throws Exception {
+
+        OpenApiContext ctx = buildContext(config, app);
+        // request scoped objects are not to be accessed outside of the request thread
+        Map<String, List<String>> params = getQueryParams(uriInfo.getQueryParameters());
+        Map<String, String> cookies = getCookies(headers);
+        Map<String, List<String>> requestHeaders = getHeaders(headers);
+
+        AsyncOpenApiContextReader reader = getAsyncReader();
+        long asyncTimeout = getAsyncTimeout(ctx);
+        if (asyncTimeout > 0) {
+            asyncResponse.setTimeoutHandler(response ->
+                    resumeWithSnapshot(response, reader, ctx, params, cookies, requestHeaders, type));
+            asyncResponse.setTimeout(asyncTimeout, TimeUnit.MILLISECONDS);
+        }
+
+        reader.read(ctx)
+                .thenApplyAsync(oas -> {
+                    try {
+                        return buildResponse(ctx, oas, params, cookies, requestHeaders, type);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }, reader.getExecutor())
+                .whenComplete((response, throwable) -> {
+                    if (throwable == null) {
+                        asyncResponse.resume(response);
+                    } else if (throwable.getCause() instanceof RejectedExecutionException) {
+                        resumeWithSnapshot(asyncResponse, reader, ctx, params, cookies, requestHeaders, type);
+                    } else {
+                        asyncResponse.resume(throwable.getCause() == null ? throwable : throwable.getCause());
+                    }
+                });
+    }
+
+    private void resumeWithSnapshot(AsyncResponse asyncResponse,
+                                    AsyncOpenApiContextReader reader,
+                                    OpenApiContext ctx,
+                                    Map<String, List<String>> params,
+                                    Map<String, String> cookies,
+                                    Map<String, List<String>> requestHeaders,
+                                    String type) {
+        OpenAPI snapshot = reader.getSnapshot(ctx);
+        if (snapshot == null) {
+            asyncResponse.resume(Response.status(Response.Status.SERVICE_UNAVAILABLE).build());
+            return;
+        }
+        try {
+            asyncResponse.resume(buildResponse(ctx, snapshot, params, cookies, requestHeaders, type));
+        } catch (Exception e) {
+            asyncResponse.resume(e);
+        }
+    }
+
+    /**
+     * Builds the context on first use, to be closed along with the servlet context, see
+     * {@link ServletConfigContextUtils#closeOnDestroy(ServletConfig, OpenApiContext)}.
+     */
+    protected OpenApiContext buildContext(ServletConfig config, Application app) throws Exception {
         String ctxId = getContextIdFromServletConfig(config);
         OpenApiContext ctx = new JaxrsOpenApiContextBuilder()
                 .servletConfig(config)
@@ -46,21 +129,36 @@ public abstract class BaseOpenApiResource {
                 .openApiConfiguration(openApiConfiguration)
                 .ctxId(ctxId)
                 .buildContext(true);
-        OpenAPI oas = ctx.read();
+        ServletConfigContextUtils.closeOnDestroy(config, ctx);
+        return ctx;
+    }
+
+    protected Response buildResponse(OpenApiContext ctx,
+                                     OpenAPI oas,
+                                     Map<String, List<String>> params,
+                                     Map<String, String> cookies,
+                                     Map<String, List<String>> headers,
+                                     String type) throws Exception {
+
+        OpenApiMetrics metrics = MetricsUtils.nonNull(ctx.getMetrics());
         boolean pretty = false;
         if (ctx.getOpenApiConfiguration() != null && Boolean.TRUE.equals(ctx.getOpenApiConfiguration().isPrettyPrint())) {
             pretty = true;
         }
 
+        boolean filtered = false;
+        OpenAPI unfiltered = oas;
         if (oas != null) {
-            if (ctx.getOpenApiConfiguration() != null && ctx.getOpenApiConfiguration().getFilterClass() != null) {
+            OpenAPISpecFilter filterImpl = ctx.getFilter();
+            if (filterImpl != null) {
                 try {
-                    OpenAPISpecFilter filterImpl = (OpenAPISpecFilter) Class.forName(ctx.getOpenApiConfiguration().getFilterClass()).newInstance();
                     SpecFilter f = new SpecFilter();
-                    oas = f.filter(oas, filterImpl, getQueryParams(uriInfo.getQueryParameters()), getCookies(headers),
-                            getHeaders(headers));
+                    long start = System.nanoTime();
+                    oas = f.filter(oas, filterImpl, params, cookies, headers);
+                    metrics.time(OpenApiMetrics.FILTER, null, System.nanoTime() - start);
+                    filtered = true;
                 } catch (Exception e) {
-                    LOGGER.error("failed to load filter", e);
+                    LOGGER.error("failed to filter", e);
                 }
             }
         }
@@ -69,17 +167,92 @@ public abstract class BaseOpenApiResource {
             return Response.status(404).build();
         }
 
-        if (StringUtils.isNotBlank(type) && type.trim().equalsIgnoreCase("yaml")) {
-            return Response.status(Response.Status.OK)
-                    .entity(pretty ? Yaml.pretty(oas) : Yaml.mapper().writeValueAsString(oas))
-                    .type("application/yaml")
-                    .build();
+        String format = OpenApiSerializationCache.getFormat(type);
+        OpenApiFragment fragment = OpenApiFragment.create(
+                getFirstValue(params, OpenApiFragment.TAG_PARAM),
+                getFirstValue(params, OpenApiFragment.PATH_PARAM),
+                getFirstValue(params, OpenApiFragment.POINTER_PARAM),
+                getFirstValue(params, OpenApiFragment.CLOSURE_PARAM));
+        Response.ResponseBuilder builder = Response.status(Response.Status.OK);
+        String mediaType = OpenApiSerializationCache.getMediaType(format);
+        // filtered definitions depend on the request, only the context snapshot and its subtrees are cached
+        OpenApiSerializationCache.Serialization serialization;
+        if (fragment != null) {
+            serialization = filtered ?
+                    OpenApiSerializationCache.serializeFragment(oas, fragment, format, pretty, metrics) :
+                    OpenApiSerializationCache.getInstance(ctx.getId()).getFragment(oas, fragment, format, pretty, metrics);
+            if (serialization == null) {
+                return Response.status(404).build();
+            }
+        } else if (filtered) {
+            serialization = OpenApiSerializationCache.getInstance(ctx.getId()).serializeFiltered(unfiltered, oas, format, pretty, metrics);
         } else {
-            return Response.status(Response.Status.OK)
-                    .entity(pretty ? Json.pretty(oas) : Json.mapper().writeValueAsString(oas))
-                    .type(MediaType.APPLICATION_JSON_TYPE)
-                    .build();
+            OpenApiSerializationCache cache = OpenApiSerializationCache.getInstance(ctx.getId());
+            String etag = cache.getETag(oas, metrics);
+            List<String> clientETags = OpenApiSerializationCache.parseETags(getHeaderValues(headers, HttpHeaders.IF_NONE_MATCH));
+            if (clientETags.contains(etag)) {
+                return Response.notModified()
+                        .header(HttpHeaders.ETAG, OpenApiSerializationCache.formatETag(etag))
+                        .header(HttpHeaders.VARY, OpenApiSerializationCache.VARY)
+                        .build();
+            }
+            serialization = null;
+            if (acceptsPatch(getHeaderValues(headers, HttpHeaders.ACCEPT))) {
+                for (String clientETag : clientETags) {
+                    serialization = cache.getPatch(oas, clientETag, metrics);
+                    if (serialization != null) {
+                        mediaType = OpenApiDiff.JSON_PATCH_MEDIA_TYPE;
+                        break;
+                    }
+                }
+            }
+            if (serialization == null) {
+                serialization = cache.get(oas, format, pretty, metrics);
+            }
+            builder.header(HttpHeaders.ETAG, OpenApiSerializationCache.formatETag(etag));
+        }
+
+        builder.type(mediaType);
+        byte[] entity = null;
+        if (OpenApiSerializationCache.acceptsGzip(getHeaderValues(headers, HttpHeaders.ACCEPT_ENCODING))) {
+            entity = serialization.getGzipped(compressionThreshold);
+            if (entity != null) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, OpenApiSerializationCache.GZIP);
+            }
+        }
+        if (entity == null) {
+            entity = serialization.getBytes();
+        }
+        return builder
+                .entity(entity)
+                .header(HttpHeaders.CONTENT_LENGTH, entity.length)
+                .header(HttpHeaders.VARY, OpenApiSerializationCache.VARY)
+                .build();
+    }
+
+    private static String getFirstValue(Map<String, List<String>> params, String name) {
+        List<String> values = params == null ? null : params.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    private static boolean acceptsPatch(String[] accepts) {
+        if (accepts != null) {
+            for (String accept : accepts) {
+                if (accept != null && accept.toLowerCase().contains(OpenApiDiff.JSON_PATCH_MEDIA_TYPE)) {
+                    return true;
+                }
+            }
         }
+        return false;
+    }
+
+    private static String[] getHeaderValues(Map<String, List<String>> headers, String name) {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey()) && header.getValue() != null) {
+                return header.getValue().toArray(new String[0]);
+            }
+        }
+        return null;
     }
 
     private static Map<String, List<String>> getQueryParams(MultivaluedMap<String, String> params) {
@@ -160,4 +333,98 @@ public abstract class BaseOpenApiResource {
         return this;
     }
 
+    protected long asyncTimeout;
+
+    /**
+     * @since 2.0.10
+     */
+    public long getAsyncTimeout() {
+        return asyncTimeout;
+    }
+
+    /**
+     * Sets the time in milliseconds after which an asynchronous request is served the last resolved definition;
+     * 0 (default) uses the async timeout of the configuration if any, else waits for the definition being resolved.
+     *
+     * @since 2.0.10
+     */
+    public void setAsyncTimeout(long asyncTimeout) {
+        this.asyncTimeout = asyncTimeout;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public BaseOpenApiResource asyncTimeout(long asyncTimeout) {
+        setAsyncTimeout(asyncTimeout);
+        return this;
+    }
+
+    /**
+     * @return the timeout set to the resource if any, else the one of the configuration of the given context
+     *
+     * @since 2.0.10
+     */
+    protected long getAsyncTimeout(OpenApiContext ctx) {
+        if (asyncTimeout > 0) {
+            return asyncTimeout;
+        }
+        OpenAPIConfiguration configuration = ctx.getOpenApiConfiguration();
+        if (configuration != null && configuration.getAsyncTimeout() != null) {
+            return configuration.getAsyncTimeout();
+        }
+        return 0;
+    }
+
+    protected int compressionThreshold = OpenApiSerializationCache.DEFAULT_COMPRESSION_THRESHOLD;
+
+    /**
+     * @since 2.0.10
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Sets the size in bytes below which the definition is served uncompressed to clients accepting gzip;
+     * a negative value disables compression.
+     *
+     * @since 2.0.10
+     */
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public BaseOpenApiResource compressionThreshold(int compressionThreshold) {
+        setCompressionThreshold(compressionThreshold);
+        return this;
+    }
+
+    protected AsyncOpenApiContextReader asyncReader;
+
+    /**
+     * @since 2.0.10
+     */
+    public AsyncOpenApiContextReader getAsyncReader() {
+        return asyncReader == null ? AsyncOpenApiContextReader.getInstance() : asyncReader;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public void setAsyncReader(AsyncOpenApiContextReader asyncReader) {
+        this.asyncReader = asyncReader;
+    }
+
+    /**
+     * @since 2.0.10
+     */
+    public BaseOpenApiResource asyncReader(AsyncOpenApiContextReader asyncReader) {
+        setAsyncReader(asyncReader);
+        return this;
+    }
+
 }
@@ -1,6 +1,7 @@
 package io.swagger.v3.jaxrs2.integration.resources;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.integration.OpenApiDiff;
 
 import javax.servlet.ServletConfig;
 import javax.ws.rs.GET;
@@ -23,7 +24,7 @@ public class OpenApiResource extends BaseOpenApiResource {
     Application app;
 
     @GET
-    @Produces({MediaType.APPLICATION_JSON, "application/yaml"})
+    @Produces({MediaType.APPLICATION_JSON, "application/yaml", OpenApiDiff.JSON_PATCH_MEDIA_TYPE})
     @Operation(hidden = true)
     public Response getOpenApi(@Context HttpHeaders headers,
                                @Context UriInfo uriInfo,
@@ -3,8 +3,12 @@ package io.swagger.v3.jaxrs2.util;
 import com.fasterxml.jackson.annotation.JsonView;
 import io.swagger.v3.core.util.ParameterProcessor;
 import io.swagger.v3.core.util.ReflectionUtils;
+import io.swagger.v3.jaxrs2.ParameterTemplates;
+import io.swagger.v3.jaxrs2.ResolvedParameter;
 import io.swagger.v3.jaxrs2.ext.OpenAPIExtension;
+import io.swagger.v3.jaxrs2.ext.OpenAPIExtensionChain;
 import io.swagger.v3.jaxrs2.ext.OpenAPIExtensions;
+import io.swagger.v3.oas.integration.RoutePrefixTrie;
 import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.parameters.Parameter;
@@ -44,10 +48,31 @@ public class ReaderUtils {
      * @return the collection of supported parameters
      */
     public static List<Parameter> collectConstructorParameters(Class<?> cls, Components components, javax.ws.rs.Consumes classConsumes, JsonView jsonViewAnnotation) {
+        return collectConstructorParameters(cls, components, classConsumes, jsonViewAnnotation, OpenAPIExtensions.compile());
+    }
+
+    /**
+     * Collects constructor-level parameters from class using the given extension chain.
+     *
+     * @since 2.0.10
+     */
+    public static List<Parameter> collectConstructorParameters(Class<?> cls, Components components, javax.ws.rs.Consumes classConsumes, JsonView jsonViewAnnotation, OpenAPIExtensionChain chain) {
         if (cls.isLocalClass() || (cls.isMemberClass() && !Modifier.isStatic(cls.getModifiers()))) {
             return Collections.emptyList();
         }
+        final ParameterTemplates templates = chain.getParameterTemplates();
+        final ConstructorParameters source = new ConstructorParameters(cls);
+        ParameterTemplates.Template template = templates.get(source, components, classConsumes, null, false, jsonViewAnnotation);
+        if (template != null) {
+            return template.getResolved().parameters;
+        }
+        ResolvedParameter resolved = new ResolvedParameter();
+        resolved.parameters = selectConstructorParameters(cls, components, classConsumes, jsonViewAnnotation, chain);
+        templates.put(source, components, classConsumes, null, false, jsonViewAnnotation, resolved);
+        return resolved.parameters;
+    }
 
+    private static List<Parameter> selectConstructorParameters(Class<?> cls, Components components, javax.ws.rs.Consumes classConsumes, JsonView jsonViewAnnotation, OpenAPIExtensionChain chain) {
         List<Parameter> selected = Collections.emptyList();
         int maxParamsCount = 0;
 
@@ -68,7 +93,7 @@ public class ReaderUtils {
                     paramsCount++;
                 } else {
                     final Type genericParameterType = genericParameterTypes[i];
-                    final List<Parameter> tmpParameters = collectParameters(genericParameterType, tmpAnnotations, components, classConsumes, jsonViewAnnotation);
+                    final List<Parameter> tmpParameters = collectParameters(genericParameterType, tmpAnnotations, components, classConsumes, jsonViewAnnotation, chain);
                     if (tmpParameters.size() >= 1) {
                         for (Parameter tmpParameter : tmpParameters) {
                             Parameter processedParameter = ParameterProcessor.applyAnnotations(
@@ -105,19 +130,26 @@ public class ReaderUtils {
      * @return the collection of supported parameters
      */
     public static List<Parameter> collectFieldParameters(Class<?> cls, Components components, javax.ws.rs.Consumes classConsumes, JsonView jsonViewAnnotation) {
+        return collectFieldParameters(cls, components, classConsumes, jsonViewAnnotation, OpenAPIExtensions.compile());
+    }
+
+    /**
+     * Collects field-level parameters from class using the given extension chain.
+     *
+     * @since 2.0.10
+     */
+    public static List<Parameter> collectFieldParameters(Class<?> cls, Components components, javax.ws.rs.Consumes classConsumes, JsonView jsonViewAnnotation, OpenAPIExtensionChain chain) {
         final List<Parameter> parameters = new ArrayList<Parameter>();
         for (Field field : ReflectionUtils.getDeclaredFields(cls)) {
             final List<Annotation> annotations = Arrays.asList(field.getAnnotations());
             final Type genericType = field.getGenericType();
-            parameters.addAll(collectParameters(genericType, annotations, components, classConsumes, jsonViewAnnotation));
+            parameters.addAll(collectParameters(genericType, annotations, components, classConsumes, jsonViewAnnotation, chain));
         }
         return parameters;
     }
 
-    private static List<Parameter> collectParameters(Type type, List<Annotation> annotations, Components components, javax.ws.rs.Consumes classConsumes, JsonView jsonViewAnnotation) {
-        final Iterator<OpenAPIExtension> chain = OpenAPIExtensions.chain();
-        return chain.hasNext() ? chain.next().extractParameters(annotations, type, new HashSet<>(), components, classConsumes, null, false, jsonViewAnnotation, chain).parameters :
-                Collections.emptyList();
+    private static List<Parameter> collectParameters(Type type, List<Annotation> annotations, Components components, javax.ws.rs.Consumes classConsumes, JsonView jsonViewAnnotation, OpenAPIExtensionChain chain) {
+        return chain.extractParameters(annotations, type, new HashSet<>(), components, classConsumes, null, false, jsonViewAnnotation).parameters;
     }
 
     private static boolean isContext(List<Annotation> annotations) {
@@ -151,13 +183,9 @@ public class ReaderUtils {
         if (config.getIgnoredRoutes() == null) {
             return false;
         }
-        for (String item : config.getIgnoredRoutes()) {
-            final int length = item.length();
-            if (path.startsWith(item) && (path.length() == length || path.startsWith(PATH_DELIMITER, length))) {
-                return true;
-            }
-        }
-        return false;
+        // compiles the routes on every call; Reader keeps them compiled per configuration
+        return new RoutePrefixTrie(config.getIgnoredRoutes(), Boolean.TRUE.equals(config.isIgnoredRoutesTemplateMatching()))
+                .matches(path);
     }
 
     public static String getPath(javax.ws.rs.Path classLevelPath, javax.ws.rs.Path methodLevelPath, String parentPath, boolean isSubresource) {
@@ -237,4 +265,25 @@ public class ReaderUtils {
         }
         return null;
     }
+
+    /**
+     * Distinguishes cached constructor parameters from parameters expanded from the same class as a bean.
+     */
+    private static class ConstructorParameters {
+        private final Class<?> cls;
+
+        private ConstructorParameters(Class<?> cls) {
+            this.cls = cls;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ConstructorParameters && ((ConstructorParameters) o).cls == cls;
+        }
+
+        @Override
+        public int hashCode() {
+            return cls.hashCode();
+        }
+    }
 }
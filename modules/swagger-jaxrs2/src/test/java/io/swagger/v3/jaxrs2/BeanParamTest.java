@@ -4,6 +4,7 @@ import java.util.List;
 
 import javax.ws.rs.BeanParam;
 import javax.ws.rs.GET;
+import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 
 import org.testng.Assert;
@@ -25,6 +26,39 @@ public class BeanParamTest {
         }
     }
 
+    @Path("/")
+    private static class MySharedBeanParamResource {
+        @GET
+        @Path("/first")
+        public String getFirst(@BeanParam ListOfStringsBeanParam listOfStringsBean) {
+            return "result";
+        }
+
+        @GET
+        @Path("/second")
+        public String getSecond(@BeanParam ListOfStringsBeanParam listOfStringsBean) {
+            return "result";
+        }
+    }
+
+    @Path("/")
+    private static class MyEmptyBeanParamResource {
+        @POST
+        @Path("/first")
+        public String postFirst(@BeanParam EmptyBean emptyBean) {
+            return "result";
+        }
+
+        @POST
+        @Path("/second")
+        public String postSecond(@BeanParam EmptyBean emptyBean) {
+            return "result";
+        }
+    }
+
+    public static class EmptyBean {
+    }
+
     @Test(description = "check array type of serialized BeanParam containing QueryParams") // tests issue #2466
     public void shouldSerializeTypeParameter() {
         OpenAPI openApi = new Reader(new OpenAPI()).read(MyBeanParamResource.class);
@@ -38,4 +72,26 @@ public class BeanParamTest {
         Assert.assertEquals(((ArraySchema) schema).getItems().getType(), "string");   
     }
 
-}
\ No newline at end of file
+    @Test(description = "expand a BeanParam once and copy it into each operation")
+    public void shouldReuseExpandedBeanParam() {
+        Reader reader = new Reader(new OpenAPI());
+        OpenAPI openApi = reader.read(MySharedBeanParamResource.class);
+        Parameter first = openApi.getPaths().get("/first").getGet().getParameters().get(0);
+        Parameter second = openApi.getPaths().get("/second").getGet().getParameters().get(0);
+        Assert.assertEquals(first, second);
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(second.getSchema().getClass(), ArraySchema.class);
+        // the bean and the resource constructor
+        Assert.assertEquals(reader.getExtensionChain().getParameterTemplates().size(), 2);
+    }
+
+    @Test(description = "report a cached BeanParam without properties as unprocessed")
+    public void shouldReuseUnprocessedBeanParam() {
+        OpenAPI openApi = new Reader(new OpenAPI()).read(MyEmptyBeanParamResource.class);
+        io.swagger.v3.oas.models.Operation first = openApi.getPaths().get("/first").getPost();
+        io.swagger.v3.oas.models.Operation second = openApi.getPaths().get("/second").getPost();
+        Assert.assertNotNull(first.getRequestBody());
+        Assert.assertEquals(second.getRequestBody(), first.getRequestBody());
+        Assert.assertEquals(second.getParameters(), first.getParameters());
+    }
+}
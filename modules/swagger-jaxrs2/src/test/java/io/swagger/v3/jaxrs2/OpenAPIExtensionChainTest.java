@@ -0,0 +1,122 @@
+package io.swagger.v3.jaxrs2;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import io.swagger.v3.jaxrs2.ext.AbstractOpenAPIExtension;
+import io.swagger.v3.jaxrs2.ext.OpenAPIExtension;
+import io.swagger.v3.jaxrs2.ext.OpenAPIExtensionChain;
+import io.swagger.v3.jaxrs2.ext.OpenAPIExtensions;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import org.testng.annotations.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+public class OpenAPIExtensionChainTest {
+
+    @Test(description = "skip extensions not relevant to a parameter")
+    public void shouldSkipIrrelevantExtensions() throws Exception {
+        QueryParamExtension queryParamExtension = new QueryParamExtension();
+        OpenAPIExtensionChain chain = new OpenAPIExtensionChain(Arrays.asList(queryParamExtension, new DefaultParameterExtension()));
+        Method method = ParamResource.class.getMethod("find", String.class, String.class);
+        Annotation[][] annotations = method.getParameterAnnotations();
+
+        ResolvedParameter resolved = chain.extractParameters(Arrays.asList(annotations[0]), String.class, new HashSet<>(), new Components(), null, null, true, null);
+        assertEquals(resolved.parameters.get(0).getIn(), "path");
+        assertEquals(queryParamExtension.calls, 0);
+
+        resolved = chain.extractParameters(Arrays.asList(annotations[1]), String.class, new HashSet<>(), new Components(), null, null, true, null);
+        assertEquals(resolved.parameters.get(0).getIn(), "query");
+        assertEquals(queryParamExtension.calls, 1);
+
+        Iterator<OpenAPIExtension> iterator = chain.iterator(Collections.<Annotation>emptyList());
+        assertSame(OpenAPIExtensionChain.from(iterator), chain);
+        assertEquals(iterator.next().getClass(), DefaultParameterExtension.class);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test(description = "compile the chain once per class loader, and again when its extensions change")
+    public void shouldCompileOncePerClassLoader() throws Exception {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], contextClassLoader)) {
+            OpenAPIExtensionChain chain = OpenAPIExtensions.compile(classLoader);
+            assertSame(OpenAPIExtensions.compile(classLoader), chain);
+            assertNotSame(OpenAPIExtensions.compile(contextClassLoader), chain);
+
+            QueryParamExtension queryParamExtension = new QueryParamExtension();
+            OpenAPIExtensions.getExtensions(classLoader).add(0, queryParamExtension);
+            try {
+                OpenAPIExtensionChain changed = OpenAPIExtensions.compile(classLoader);
+                assertNotSame(changed, chain);
+                assertEquals(changed.size(), chain.size() + 1);
+                assertSame(changed.iterator().next(), queryParamExtension);
+            } finally {
+                OpenAPIExtensions.getExtensions(classLoader).remove(queryParamExtension);
+            }
+        }
+    }
+
+    @Test(description = "read with the extension chain of the reader")
+    public void shouldReadWithReaderChain() {
+        QueryParamExtension queryParamExtension = new QueryParamExtension();
+        Reader reader = new Reader(new OpenAPI());
+        reader.setExtensionChain(new OpenAPIExtensionChain(Arrays.asList(queryParamExtension, new DefaultParameterExtension())));
+
+        Operation operation = reader.read(ParamResource.class).getPaths().get("/params/{id}").getGet();
+        assertEquals(operation.getParameters().size(), 2);
+        assertEquals(queryParamExtension.calls, 1);
+        assertEquals(queryParamExtension.decorated, 1);
+    }
+
+    static class QueryParamExtension extends AbstractOpenAPIExtension {
+        private int calls;
+        private int decorated;
+
+        @Override
+        public Set<Class<? extends Annotation>> getParameterAnnotations() {
+            return Collections.<Class<? extends Annotation>>singleton(QueryParam.class);
+        }
+
+        @Override
+        public ResolvedParameter extractParameters(List<Annotation> annotations, Type type, Set<Type> typesToSkip, Components components,
+                                                   javax.ws.rs.Consumes classConsumes, javax.ws.rs.Consumes methodConsumes, boolean includeRequestBody,
+                                                   JsonView jsonViewAnnotation, Iterator<OpenAPIExtension> chain) {
+            calls++;
+            return super.extractParameters(annotations, type, typesToSkip, components, classConsumes, methodConsumes, includeRequestBody, jsonViewAnnotation, chain);
+        }
+
+        @Override
+        public void decorateOperation(Operation operation, Method method, Iterator<OpenAPIExtension> chain) {
+            decorated++;
+            super.decorateOperation(operation, method, chain);
+        }
+    }
+
+    @Path("/params")
+    public static class ParamResource {
+        @GET
+        @Path("/{id}")
+        public String find(@PathParam("id") String id, @QueryParam("filter") String filter) {
+            return id;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.swagger.v3.jaxrs2;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.core.converter.LazyComponentSchemas;
 import io.swagger.v3.core.converter.ModelConverter;
 import io.swagger.v3.core.converter.ModelConverterContextImpl;
 import io.swagger.v3.core.converter.ModelConverters;
@@ -10,6 +11,7 @@ import io.swagger.v3.core.filter.OpenAPISpecFilter;
 import io.swagger.v3.core.filter.SpecFilter;
 import io.swagger.v3.core.jackson.ModelResolver;
 import io.swagger.v3.core.model.ApiDescription;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.PrimitiveType;
 import io.swagger.v3.jaxrs2.matchers.SerializationMatchers;
 import io.swagger.v3.jaxrs2.resources.SingleExampleResource;
@@ -26,6 +28,7 @@ import io.swagger.v3.jaxrs2.resources.EnhancedResponsesResource;
 import io.swagger.v3.jaxrs2.resources.ExternalDocsReference;
 import io.swagger.v3.jaxrs2.resources.MyClass;
 import io.swagger.v3.jaxrs2.resources.MyOtherClass;
+import io.swagger.v3.jaxrs2.resources.PetResource;
 import io.swagger.v3.jaxrs2.resources.RefCallbackResource;
 import io.swagger.v3.jaxrs2.resources.RefExamplesResource;
 import io.swagger.v3.jaxrs2.resources.RefHeaderResource;
@@ -47,6 +50,8 @@ import io.swagger.v3.jaxrs2.resources.SimpleMethods;
 import io.swagger.v3.jaxrs2.resources.SimpleParameterResource;
 import io.swagger.v3.jaxrs2.resources.SimpleRequestBodyResource;
 import io.swagger.v3.jaxrs2.resources.SimpleResponsesResource;
+import io.swagger.v3.jaxrs2.resources.SimpleUserResource;
+import io.swagger.v3.jaxrs2.resources.SharedSubResourceResource;
 import io.swagger.v3.jaxrs2.resources.SubResourceHead;
 import io.swagger.v3.jaxrs2.resources.TagsResource;
 import io.swagger.v3.jaxrs2.resources.Test2607;
@@ -67,6 +72,7 @@ import io.swagger.v3.jaxrs2.resources.extensions.ParameterExtensionsResource;
 import io.swagger.v3.jaxrs2.resources.extensions.RequestBodyExtensionsResource;
 import io.swagger.v3.jaxrs2.resources.rs.ProcessTokenRestService;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.ExternalDocumentation;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -103,6 +109,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -115,6 +122,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
@@ -701,6 +709,14 @@ public class ReaderTest {
         }
     }
 
+    @Path("/lazy")
+    static class LazyResource {
+        @GET
+        public A getA() {
+            return null;
+        }
+    }
+
     @Test(description = "test resource with array in response content")
     public void test2497() {
         Reader reader = new Reader(new OpenAPI());
@@ -749,6 +765,66 @@ public class ReaderTest {
         assertEquals(schema.getType(), "string");
     }
 
+    @Test(description = "test sub-resource reused under several parents")
+    public void testSharedSubResource() {
+        Reader uncachedReader = new Reader(new OpenAPI());
+        uncachedReader.setCacheSubResources(false);
+        OpenAPI expected = uncachedReader.read(SharedSubResourceResource.class);
+
+        Reader reader = new Reader(new OpenAPI());
+        OpenAPI openAPI = reader.read(SharedSubResourceResource.class);
+        assertEquals(Json.pretty(openAPI), Json.pretty(expected));
+
+        Paths paths = openAPI.getPaths();
+        assertEquals(paths.size(), 7);
+        Operation operation = paths.get("/shared/second/{secondId}/{id}").getGet();
+        assertEquals(operation.getOperationId(), "getSubresourceOperation_1");
+        assertEquals(operation.getParameters().size(), 2);
+        assertEquals(operation.getParameters().get(1).getName(), "secondId");
+        operation = paths.get("/shared/third").getGet();
+        assertEquals(operation.getOperationId(), "getAllEmployees_2");
+        assertNull(operation.getParameters());
+        assertNotSame(operation, paths.get("/shared/first/{firstId}").getGet());
+    }
+
+    @Test(description = "test sub-resource reused under several parents with ignored routes")
+    public void testSharedSubResourceWithIgnoredRoutes() {
+        SwaggerConfiguration config = new SwaggerConfiguration()
+                .ignoredRoutes(new HashSet<>(Arrays.asList("/shared/first/{firstId}/{id}", "/shared/third/{id}")));
+        Reader uncachedReader = new Reader(config);
+        uncachedReader.setCacheSubResources(false);
+        OpenAPI expected = uncachedReader.read(SharedSubResourceResource.class);
+
+        Reader reader = new Reader(config);
+        OpenAPI openAPI = reader.read(SharedSubResourceResource.class);
+        assertEquals(Json.pretty(openAPI), Json.pretty(expected));
+
+        Paths paths = openAPI.getPaths();
+        assertNull(paths.get("/shared/first/{firstId}/{id}"));
+        assertNotNull(paths.get("/shared/first/{firstId}"));
+        assertNotNull(paths.get("/shared/second/{secondId}/{id}"));
+        // replayed from the template recorded under the second parent
+        assertNotNull(paths.get("/shared/third"));
+        assertNull(paths.get("/shared/third/{id}"));
+    }
+
+    @Test(description = "test ignored routes compiled per reader configuration")
+    public void testIgnoredRoutesPerConfiguration() {
+        Set<String> ignoredRoutes = new HashSet<>(Collections.singleton("/shared/third/{id}"));
+        SwaggerConfiguration config = new SwaggerConfiguration().ignoredRoutes(ignoredRoutes);
+        OpenAPI openAPI = new Reader(config).read(SharedSubResourceResource.class);
+        assertNull(openAPI.getPaths().get("/shared/third/{id}"));
+        assertNotNull(openAPI.getPaths().get("/shared/second/{secondId}/{id}"));
+
+        ignoredRoutes.add("/shared/second");
+        openAPI = new Reader(config).read(SharedSubResourceResource.class);
+        assertNull(openAPI.getPaths().get("/shared/second/{secondId}/{id}"));
+
+        config.ignoredRoutesTemplateMatching(true).ignoredRoutes(Collections.singleton("/shared/{name}"));
+        openAPI = new Reader(config).read(SharedSubResourceResource.class);
+        assertNull(openAPI.getPaths());
+    }
+
     @Test(description = "test another resource with subresources")
     public void testAnotherResourceWithSubresources() {
         Reader reader = new Reader(new OpenAPI());
@@ -2144,4 +2220,27 @@ public class ReaderTest {
         SerializationMatchers.assertEqualsToYaml(openAPI, yaml);
     }
 
-}
\ No newline at end of file
+    @Test(description = "resolve the component schemas of operation types on first access")
+    public void testLazyComponents() {
+        Set<Class<?>> classes = new HashSet<>(Arrays.asList(PetResource.class, SimpleUserResource.class, TestResource.class,
+                LazyResource.class));
+        OpenAPI eager = new Reader(new SwaggerConfiguration()).read(classes);
+        OpenAPI lazy = new Reader(new SwaggerConfiguration().lazyComponents(true)).read(classes);
+
+        LazyComponentSchemas lazySchemas = LazyComponentSchemas.of(lazy.getComponents());
+        assertNotNull(lazySchemas);
+        assertFalse(lazySchemas.isResolved());
+        // returned types also resolved for request bodies are not deferred again
+        assertTrue(lazySchemas.getResolvedSchemas().containsKey("User"));
+        assertFalse(lazySchemas.getResolvedSchemas().containsKey("A"));
+        assertFalse(lazySchemas.getResolvedSchemas().containsKey("B"));
+        assertTrue(lazySchemas.containsKey("A"));
+
+        Schema a = lazy.getComponents().getSchemas().get("A");
+        assertEquals(a, eager.getComponents().getSchemas().get("A"));
+        assertTrue(lazySchemas.getResolvedSchemas().containsKey("B"));
+
+        assertTrue(Json.mapper().valueToTree(lazy).equals(Json.mapper().valueToTree(eager)));
+        assertTrue(lazySchemas.isResolved());
+    }
+}
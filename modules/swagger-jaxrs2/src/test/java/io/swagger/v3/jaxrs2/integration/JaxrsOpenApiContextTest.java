@@ -0,0 +1,337 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import com.my.project.resources.ResourceInPackageA;
+import io.swagger.v3.core.filter.AbstractSpecFilter;
+import io.swagger.v3.core.filter.OpenAPISpecFilter;
+import io.swagger.v3.jaxrs2.Reader;
+import io.swagger.v3.jaxrs2.ext.AbstractOpenAPIExtension;
+import io.swagger.v3.jaxrs2.ext.OpenAPIExtension;
+import io.swagger.v3.jaxrs2.ext.OpenAPIExtensionChain;
+import io.swagger.v3.jaxrs2.ext.OpenAPIExtensions;
+import io.swagger.v3.jaxrs2.integration.resources.OpenApiResource;
+import io.swagger.v3.oas.integration.AsyncOpenApiContextReader;
+import io.swagger.v3.oas.integration.OpenApiContextLocator;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import io.swagger.v3.oas.integration.api.OpenAPIConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiContext;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import org.my.project.resources.ResourceInPackageB;
+import org.testng.annotations.Test;
+
+import javax.servlet.ServletConfig;
+import javax.servlet.ServletContext;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class JaxrsOpenApiContextTest {
+
+    @Test(description = "build the definition from a precomputed class list and explicit instances")
+    public void shouldReadPrecomputedClasses() throws Exception {
+        OpenAPISpecFilter filter = new AbstractSpecFilter() {
+        };
+        OpenApiContext ctx = new JaxrsOpenApiContext()
+                .id("precomputed-classes")
+                .openApiConfiguration(new SwaggerConfiguration().openAPI(new OpenAPI().info(new Info().title("precomputed"))))
+                .openApiScanner(new JaxrsAnnotationScanner().scannedClasses(new HashSet<>(Arrays.asList(ResourceInPackageA.class, ResourceInPackageB.class))))
+                .filter(filter)
+                .init();
+
+        OpenAPI openAPI = ctx.read();
+        assertEquals(openAPI.getInfo().getTitle(), "precomputed");
+        assertEquals(new HashSet<>(openAPI.getPaths().keySet()), new HashSet<>(Arrays.asList("/packageA", "/packageB")));
+        assertSame(ctx.getFilter(), filter);
+    }
+
+    @Test(description = "build the filter from the configured class")
+    public void shouldBuildFilterFromClass() throws Exception {
+        OpenApiContext ctx = new JaxrsOpenApiContext()
+                .id("filter-class")
+                .openApiConfiguration(new SwaggerConfiguration().filterClass(NoOpFilter.class.getName()))
+                .openApiScanner(new JaxrsAnnotationScanner().scannedClasses(new HashSet<>()))
+                .init();
+        assertNotNull(ctx.getFilter());
+        assertEquals(ctx.getFilter().getClass(), NoOpFilter.class);
+        // filters configured by class may keep request state, each request gets its own
+        assertNotSame(ctx.getFilter(), ctx.getFilter());
+
+        OpenApiContext unfiltered = new JaxrsOpenApiContext()
+                .id("no-filter")
+                .openApiConfiguration(new SwaggerConfiguration())
+                .openApiScanner(new JaxrsAnnotationScanner().scannedClasses(new HashSet<>()))
+                .init();
+        assertNull(unfiltered.getFilter());
+    }
+
+    @Test(description = "release the state of the class loader of the last closed context")
+    public void shouldReleaseClassLoaderOnClose() throws Exception {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], contextClassLoader)) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            OpenApiContext first = new JaxrsOpenApiContext()
+                    .id("close-first")
+                    .openApiConfiguration(new SwaggerConfiguration())
+                    .openApiScanner(new JaxrsAnnotationScanner().scannedClasses(new HashSet<>(Arrays.asList(ResourceInPackageA.class))))
+                    .init();
+            OpenApiContext second = new JaxrsOpenApiContext()
+                    .id("close-second")
+                    .openApiConfiguration(new SwaggerConfiguration())
+                    .openApiScanner(new JaxrsAnnotationScanner().scannedClasses(new HashSet<>()))
+                    .init();
+            assertNotNull(first.read());
+            List<OpenAPIExtension> extensions = OpenAPIExtensions.getExtensions();
+
+            first.close();
+            assertNull(OpenApiContextLocator.getInstance().getOpenApiContext("close-first"));
+            assertSame(OpenApiContextLocator.getInstance().getOpenApiContext("close-second"), second);
+            assertSame(OpenAPIExtensions.getExtensions(), extensions);
+
+            second.close();
+            assertNull(OpenApiContextLocator.getInstance().getOpenApiContext("close-second"));
+            assertNotSame(OpenAPIExtensions.getExtensions(), extensions);
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test(description = "load the extensions of the class loader of the context, regardless of the reading thread")
+    public void shouldLoadExtensionsOfContextClassLoader() throws Exception {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], contextClassLoader)) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            OpenAPIExtension extension = new AbstractOpenAPIExtension() {
+            };
+            OpenAPIExtensions.setExtensions(classLoader, Collections.singletonList(extension));
+            OpenApiContext ctx = new JaxrsOpenApiContext()
+                    .id("extensions-class-loader")
+                    .openApiConfiguration(new SwaggerConfiguration())
+                    .openApiScanner(new JaxrsAnnotationScanner().scannedClasses(new HashSet<>()))
+                    .init();
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+            try {
+                assertEquals(((Reader) ((JaxrsOpenApiContext) ctx).getOpenApiReader()).getExtensionChain().size(), 1);
+                assertFalse(OpenAPIExtensions.getExtensions().contains(extension));
+            } finally {
+                ctx.close();
+            }
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test(description = "use the extensions set for all class loaders first")
+    public void shouldUseGlobalExtensions() throws Exception {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            List<OpenAPIExtension> extensions = Collections.singletonList(new AbstractOpenAPIExtension() {
+            });
+            OpenAPIExtensions.setExtensions(extensions);
+            OpenAPIExtensionChain chain = OpenAPIExtensions.compile(classLoader);
+            try {
+                assertSame(OpenAPIExtensions.getExtensions(classLoader), extensions);
+                assertSame(OpenAPIExtensions.getExtensions(), extensions);
+                assertEquals(chain.size(), 1);
+            } finally {
+                OpenAPIExtensions.setExtensions(null);
+            }
+            assertNotSame(OpenAPIExtensions.getExtensions(classLoader), extensions);
+            assertNotSame(OpenAPIExtensions.compile(classLoader), chain);
+        }
+    }
+
+    @Test(description = "close the contexts built by the resources when the servlet context is destroyed")
+    public void shouldCloseResourceContextsWithServletContext() throws Exception {
+        Map<String, Object> attributes = new HashMap<>();
+        ServletContext servletContext = (ServletContext) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{ServletContext.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getAttribute":
+                            return attributes.get(args[0]);
+                        case "setAttribute":
+                            return attributes.put((String) args[0], args[1]);
+                        case "removeAttribute":
+                            return attributes.remove(args[0]);
+                        default:
+                            return null;
+                    }
+                });
+        ServletConfig servletConfig = new ServletConfig() {
+            @Override
+            public String getServletName() {
+                return "closed-with-servlet-context";
+            }
+
+            @Override
+            public ServletContext getServletContext() {
+                return servletContext;
+            }
+
+            @Override
+            public String getInitParameter(String name) {
+                return null;
+            }
+
+            @Override
+            public Enumeration<String> getInitParameterNames() {
+                return Collections.emptyEnumeration();
+            }
+        };
+        OpenApiContext ctx = new ContextResource().buildContext(servletConfig, null);
+        String ctxId = ServletConfigContextUtils.getContextIdFromServletConfig(servletConfig);
+        assertSame(OpenApiContextLocator.getInstance().getOpenApiContext(ctxId), ctx);
+        assertSame(new ContextResource().buildContext(servletConfig, null), ctx);
+
+        ServletConfigContextUtils.closeContexts(servletContext);
+        assertNull(OpenApiContextLocator.getInstance().getOpenApiContext(ctxId));
+        assertTrue(attributes.isEmpty());
+    }
+
+    @Test(description = "read the async timeout from the servlet init params")
+    public void shouldConfigureAsyncTimeout() throws Exception {
+        ServletConfig servletConfig = new ServletConfig() {
+            @Override
+            public String getServletName() {
+                return "async";
+            }
+
+            @Override
+            public ServletContext getServletContext() {
+                return null;
+            }
+
+            @Override
+            public String getInitParameter(String name) {
+                return ServletConfigContextUtils.OPENAPI_CONFIGURATION_ASYNC_TIMEOUT_KEY.equals(name) ? "500" : null;
+            }
+
+            @Override
+            public Enumeration<String> getInitParameterNames() {
+                return Collections.enumeration(Collections.singleton(ServletConfigContextUtils.OPENAPI_CONFIGURATION_ASYNC_TIMEOUT_KEY));
+            }
+        };
+        ServletOpenApiConfigurationLoader loader = new ServletOpenApiConfigurationLoader(servletConfig);
+        assertTrue(loader.exists(null));
+        OpenAPIConfiguration configuration = loader.load(null);
+        assertEquals(configuration.getAsyncTimeout(), Long.valueOf(500));
+
+        OpenApiContext ctx = new JaxrsOpenApiContext()
+                .id("async-timeout")
+                .openApiConfiguration(configuration)
+                .openApiScanner(new JaxrsAnnotationScanner().scannedClasses(new HashSet<>()))
+                .init();
+        TimeoutResource resource = new TimeoutResource();
+        assertEquals(resource.getAsyncTimeout(ctx), 500);
+        // the timeout set to the resource takes precedence
+        resource.setAsyncTimeout(100);
+        assertEquals(resource.getAsyncTimeout(ctx), 100);
+    }
+
+    @Test(description = "serve the last resolved definition when the read is rejected")
+    public void shouldServeSnapshotWhenRejected() throws Exception {
+        AtomicBoolean rejecting = new AtomicBoolean();
+        AsyncOpenApiContextReader asyncReader = new AsyncOpenApiContextReader(task -> {
+            if (rejecting.get()) {
+                throw new RejectedExecutionException();
+            }
+            task.run();
+        });
+        OpenApiContext ctx = new JaxrsOpenApiContext()
+                .id("async-rejected")
+                .openApiConfiguration(new SwaggerConfiguration().cacheTTL(0L)
+                        .openAPI(new OpenAPI().info(new Info().title("rejected"))))
+                .openApiScanner(new JaxrsAnnotationScanner().scannedClasses(new HashSet<>()))
+                .init();
+        try {
+            OpenAPI snapshot = asyncReader.read(ctx).get();
+            rejecting.set(true);
+
+            List<Object> resumed = new ArrayList<>();
+            AsyncResponse asyncResponse = (AsyncResponse) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{AsyncResponse.class}, (proxy, method, args) -> {
+                        if ("resume".equals(method.getName())) {
+                            resumed.add(args[0]);
+                            return true;
+                        }
+                        return method.getReturnType() == boolean.class ? false : null;
+                    });
+            UriInfo uriInfo = (UriInfo) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{UriInfo.class}, (proxy, method, args) -> null);
+            AsyncResource resource = new AsyncResource(ctx);
+            resource.setAsyncReader(asyncReader);
+            resource.getOpenApiAsync(null, null, null, uriInfo, "json", asyncResponse);
+
+            assertEquals(resumed.size(), 1);
+            assertSame(resource.served, snapshot);
+        } finally {
+            ctx.close();
+        }
+    }
+
+    static class AsyncResource extends OpenApiResource {
+        private final OpenApiContext ctx;
+        private OpenAPI served;
+
+        AsyncResource(OpenApiContext ctx) {
+            this.ctx = ctx;
+        }
+
+        @Override
+        protected OpenApiContext buildContext(ServletConfig config, Application app) {
+            return ctx;
+        }
+
+        @Override
+        protected Response buildResponse(OpenApiContext ctx, OpenAPI oas, Map<String, List<String>> params,
+                                         Map<String, String> cookies, Map<String, List<String>> headers, String type) {
+            served = oas;
+            return null;
+        }
+
+        @Override
+        protected void getOpenApiAsync(HttpHeaders headers, ServletConfig config, Application app, UriInfo uriInfo,
+                                       String type, AsyncResponse asyncResponse) throws Exception {
+            super.getOpenApiAsync(headers, config, app, uriInfo, type, asyncResponse);
+        }
+    }
+
+    static class TimeoutResource extends OpenApiResource {
+        @Override
+        protected long getAsyncTimeout(OpenApiContext ctx) {
+            return super.getAsyncTimeout(ctx);
+        }
+    }
+
+    static class ContextResource extends OpenApiResource {
+        @Override
+        protected OpenApiContext buildContext(ServletConfig config, Application app) throws Exception {
+            return super.buildContext(config, app);
+        }
+    }
+
+    public static class NoOpFilter extends AbstractSpecFilter {
+    }
+}
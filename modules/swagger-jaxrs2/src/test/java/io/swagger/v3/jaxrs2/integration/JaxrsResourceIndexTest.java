@@ -0,0 +1,113 @@
+package io.swagger.v3.jaxrs2.integration;
+
+import com.my.project.resources.ResourceInPackageA;
+import io.swagger.v3.jaxrs2.resources.PetResource;
+import io.swagger.v3.jaxrs2.resources.model.Pet;
+import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class JaxrsResourceIndexTest {
+
+    private Path output;
+    private ClassLoader contextClassLoader;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        output = Files.createTempDirectory("swagger-index");
+        contextClassLoader = Thread.currentThread().getContextClassLoader();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        Thread.currentThread().setContextClassLoader(contextClassLoader);
+        for (File file : Files.walk(output).map(Path::toFile).sorted((a, b) -> b.compareTo(a)).collect(Collectors.toList())) {
+            file.delete();
+        }
+    }
+
+    @Test(description = "index the annotated classes at compile time")
+    public void shouldIndexAnnotatedClasses() throws Exception {
+        compile(source("test.PetsResource", "package test;\n" +
+                "@javax.ws.rs.Path(\"/pets\")\n" +
+                "public class PetsResource {\n" +
+                "    @javax.ws.rs.Path(\"/{id}\") @javax.ws.rs.GET public String get() { return null; }\n" +
+                "    @io.swagger.v3.oas.annotations.OpenAPIDefinition public static class Definition {}\n" +
+                "}\n"), source("test.Pet", "package test;\npublic class Pet {}\n"));
+
+        List<String> index = Files.readAllLines(output.resolve(JaxrsAnnotationScanner.RESOURCE_INDEX), StandardCharsets.UTF_8);
+        assertEquals(index, Arrays.asList("test.PetsResource", "test.PetsResource$Definition"));
+    }
+
+    @Test(description = "use the indexed classes instead of scanning the classpath when enabled")
+    public void shouldUseIndexedClasses() throws Exception {
+        Path index = output.resolve(JaxrsAnnotationScanner.RESOURCE_INDEX);
+        Files.createDirectories(index.getParent());
+        // a class no longer annotated is skipped
+        Files.write(index, Arrays.asList(ResourceInPackageA.class.getName(), Pet.class.getName()), StandardCharsets.UTF_8);
+        Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[]{output.toUri().toURL()}, contextClassLoader));
+
+        Set<Class<?>> classes = new JaxrsAnnotationScanner()
+                .openApiConfiguration(new SwaggerConfiguration().useResourceIndex(true)).classes();
+        assertEquals(classes, Collections.singleton(ResourceInPackageA.class));
+
+        // packages without an indexed class are scanned
+        SwaggerConfiguration configuration = new SwaggerConfiguration().useResourceIndex(true)
+                .resourcePackages(new HashSet<>(Arrays.asList("com.my.project", "io.swagger.v3.jaxrs2.resources")));
+        classes = new JaxrsAnnotationScanner().openApiConfiguration(configuration).classes();
+        assertTrue(classes.contains(ResourceInPackageA.class));
+        assertTrue(classes.contains(PetResource.class));
+        assertEquals(JaxrsAnnotationScanner.scanAnnotatedClasses(configuration.getResourcePackages(), true), classes);
+    }
+
+    @Test(description = "scan the classpath unless the index is enabled")
+    public void shouldIgnoreIndexByDefault() throws Exception {
+        Path index = output.resolve(JaxrsAnnotationScanner.RESOURCE_INDEX);
+        Files.createDirectories(index.getParent());
+        Files.write(index, Collections.singletonList(ResourceInPackageA.class.getName()), StandardCharsets.UTF_8);
+        Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[]{output.toUri().toURL()}, contextClassLoader));
+
+        SwaggerConfiguration configuration = new SwaggerConfiguration()
+                .resourcePackages(Collections.singleton("io.swagger.v3.jaxrs2.resources"));
+        assertTrue(new JaxrsAnnotationScanner().openApiConfiguration(configuration).classes().contains(PetResource.class));
+        assertTrue(JaxrsAnnotationScanner.scanAnnotatedClasses(configuration.getResourcePackages()).contains(PetResource.class));
+    }
+
+    private void compile(JavaFileObject... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> options = Arrays.asList("-d", output.toString(), "-classpath", System.getProperty("java.class.path"),
+                "-processor", JaxrsResourceIndexProcessor.class.getName());
+        assertTrue(compiler.getTask(null, null, null, options, null, Arrays.asList(sources)).call());
+    }
+
+    private static JavaFileObject source(String name, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
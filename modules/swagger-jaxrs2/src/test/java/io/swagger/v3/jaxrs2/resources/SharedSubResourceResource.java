@@ -0,0 +1,28 @@
+package io.swagger.v3.jaxrs2.resources;
+
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+
+@Path("/shared")
+public class SharedSubResourceResource {
+
+    @Path("/first/{firstId}")
+    public SubResource getFirst(@PathParam("firstId") String firstId) {
+        return new SubResource();
+    }
+
+    @Path("/second/{secondId}")
+    public SubResource getSecond(@PathParam("secondId") Long secondId) {
+        return new SubResource();
+    }
+
+    @Path("/third")
+    public SubResource getThird() {
+        return new SubResource();
+    }
+
+    @Path("/noPath")
+    public NoPathSubResource getNoPath() {
+        return new NoPathSubResource();
+    }
+}
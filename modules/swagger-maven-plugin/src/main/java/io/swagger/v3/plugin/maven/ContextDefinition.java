@@ -0,0 +1,133 @@
+package io.swagger.v3.plugin.maven;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A context resolved by a {@link SwaggerMojo} execution along with other contexts, configured in a
+ * <code>contextDefinition</code> element of the <code>contexts</code> parameter. Parameters not set here are taken
+ * from the execution.
+ *
+ * @since 2.0.10
+ */
+public class ContextDefinition {
+
+    private String contextId;
+    private String outputFileName;
+    private String outputPath;
+    private Set<String> resourcePackages;
+    private Set<String> resourceClasses;
+    private LinkedHashSet<String> modelConverterClasses;
+    private String filterClass;
+    private String readerClass;
+    private String scannerClass;
+    private String objectMapperProcessorClass;
+    private Collection<String> ignoredRoutes;
+    private String openapiFilePath;
+    private String configurationFilePath;
+
+    public String getContextId() {
+        return contextId;
+    }
+
+    public void setContextId(String contextId) {
+        this.contextId = contextId;
+    }
+
+    public String getOutputFileName() {
+        return outputFileName;
+    }
+
+    public void setOutputFileName(String outputFileName) {
+        this.outputFileName = outputFileName;
+    }
+
+    public String getOutputPath() {
+        return outputPath;
+    }
+
+    public void setOutputPath(String outputPath) {
+        this.outputPath = outputPath;
+    }
+
+    public Set<String> getResourcePackages() {
+        return resourcePackages;
+    }
+
+    public void setResourcePackages(Set<String> resourcePackages) {
+        this.resourcePackages = resourcePackages;
+    }
+
+    public Set<String> getResourceClasses() {
+        return resourceClasses;
+    }
+
+    public void setResourceClasses(Set<String> resourceClasses) {
+        this.resourceClasses = resourceClasses;
+    }
+
+    public LinkedHashSet<String> getModelConverterClasses() {
+        return modelConverterClasses;
+    }
+
+    public void setModelConverterClasses(LinkedHashSet<String> modelConverterClasses) {
+        this.modelConverterClasses = modelConverterClasses;
+    }
+
+    public String getFilterClass() {
+        return filterClass;
+    }
+
+    public void setFilterClass(String filterClass) {
+        this.filterClass = filterClass;
+    }
+
+    public String getReaderClass() {
+        return readerClass;
+    }
+
+    public void setReaderClass(String readerClass) {
+        this.readerClass = readerClass;
+    }
+
+    public String getScannerClass() {
+        return scannerClass;
+    }
+
+    public void setScannerClass(String scannerClass) {
+        this.scannerClass = scannerClass;
+    }
+
+    public String getObjectMapperProcessorClass() {
+        return objectMapperProcessorClass;
+    }
+
+    public void setObjectMapperProcessorClass(String objectMapperProcessorClass) {
+        this.objectMapperProcessorClass = objectMapperProcessorClass;
+    }
+
+    public Collection<String> getIgnoredRoutes() {
+        return ignoredRoutes;
+    }
+
+    public void setIgnoredRoutes(Collection<String> ignoredRoutes) {
+        this.ignoredRoutes = ignoredRoutes;
+    }
+
+    public String getOpenapiFilePath() {
+        return openapiFilePath;
+    }
+
+    public void setOpenapiFilePath(String openapiFilePath) {
+        this.openapiFilePath = openapiFilePath;
+    }
+
+    public String getConfigurationFilePath() {
+        return configurationFilePath;
+    }
+
+    public void setConfigurationFilePath(String configurationFilePath) {
+        this.configurationFilePath = configurationFilePath;
+    }
+}
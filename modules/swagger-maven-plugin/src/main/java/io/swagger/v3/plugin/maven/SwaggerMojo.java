@@ -1,13 +1,21 @@
 package io.swagger.v3.plugin.maven;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.core.filter.OpenAPISpecFilter;
+import io.swagger.v3.core.converter.ModelConverters;
 import io.swagger.v3.core.filter.SpecFilter;
+import io.swagger.v3.core.util.Cbor;
 import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Smile;
 import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.jaxrs2.integration.JaxrsAnnotationScanner;
 import io.swagger.v3.jaxrs2.integration.JaxrsOpenApiContextBuilder;
+import io.swagger.v3.oas.integration.GenericOpenApiContext;
 import io.swagger.v3.oas.integration.GenericOpenApiContextBuilder;
 import io.swagger.v3.oas.integration.OpenApiConfigurationException;
+import io.swagger.v3.oas.integration.OpenApiSplitWriter;
 import io.swagger.v3.oas.integration.SwaggerConfiguration;
+import io.swagger.v3.oas.integration.api.OpenApiContext;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -27,6 +35,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 
 import static java.lang.String.format;
@@ -40,7 +53,7 @@ import static java.lang.String.format;
 )
 public class SwaggerMojo extends AbstractMojo {
 
-    public enum Format {JSON, YAML, JSONANDYAML}
+    public enum Format {JSON, YAML, JSONANDYAML, SMILE, CBOR}
 
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
@@ -60,6 +73,11 @@ public class SwaggerMojo extends AbstractMojo {
             encoding = projectEncoding;
         }
 
+        if (isCollectionNotBlank(contexts)) {
+            resolveContexts();
+            return;
+        }
+
         // read swagger configuration if one was provided
         Optional<SwaggerConfiguration> swaggerConfiguration =
                 readStructuredDataFromFile(configurationFilePath, SwaggerConfiguration.class, "configurationFilePath");
@@ -82,61 +100,197 @@ public class SwaggerMojo extends AbstractMojo {
                     .buildContext(true)
                     .read();
 
-            if (StringUtils.isNotBlank(filterClass)) {
-                try {
-                    OpenAPISpecFilter filterImpl = (OpenAPISpecFilter) this.getClass().getClassLoader().loadClass(filterClass).newInstance();
-                    SpecFilter f = new SpecFilter();
-                    openAPI = f.filter(openAPI, filterImpl, new HashMap<>(), new HashMap<>(),
-                            new HashMap<>());
-                } catch (Exception e) {
-                    getLog().error( "Error applying filter to API specification" , e);
-                    throw new MojoExecutionException("Error applying filter to API specification: " + e.getMessage(), e);
-                }
-            }
+            openAPI = applyFilter(openAPI, filterClass);
+            writeSpecification(openAPI, outputPath, outputFileName);
 
-            String openapiJson = null;
-            String openapiYaml = null;
-            if (Format.JSON.equals(outputFormat) || Format.JSONANDYAML.equals(outputFormat)) {
-                if (prettyPrint) {
-                    openapiJson = Json.pretty(openAPI);
-                } else {
-                    openapiJson = Json.mapper().writeValueAsString(openAPI);
-                }
+        } catch (OpenApiConfigurationException e) {
+            getLog().error( "Error resolving API specification" , e);
+            throw new MojoFailureException(e.getMessage(), e);
+        } catch (IOException e) {
+            getLog().error( "Error writing API specification" , e);
+            throw new MojoExecutionException("Failed to write API definition", e);
+        } catch (Exception e) {
+            getLog().error( "Error resolving API specification" , e);
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+    }
 
+    private OpenAPI applyFilter(OpenAPI openAPI, String filterClass) throws MojoExecutionException {
+        if (StringUtils.isNotBlank(filterClass)) {
+            try {
+                OpenAPISpecFilter filterImpl = (OpenAPISpecFilter) this.getClass().getClassLoader().loadClass(filterClass).newInstance();
+                SpecFilter f = new SpecFilter();
+                openAPI = f.filter(openAPI, filterImpl, new HashMap<>(), new HashMap<>(),
+                        new HashMap<>());
+            } catch (Exception e) {
+                getLog().error( "Error applying filter to API specification" , e);
+                throw new MojoExecutionException("Error applying filter to API specification: " + e.getMessage(), e);
             }
-            if (Format.YAML.equals(outputFormat) || Format.JSONANDYAML.equals(outputFormat)) {
-                if (prettyPrint) {
-                    openapiYaml = Yaml.pretty(openAPI);
-                } else {
-                    openapiYaml = Yaml.mapper().writeValueAsString(openAPI);
-                }
+        }
+        return openAPI;
+    }
 
+    private void writeSpecification(OpenAPI openAPI, String outputPath, String outputFileName) throws IOException {
+        boolean binary = Format.SMILE.equals(outputFormat) || Format.CBOR.equals(outputFormat);
+        if (splitBy != null) {
+            if (binary) {
+                throw new IOException("splitBy supports the JSON and YAML output formats only");
             }
-            Path path = Paths.get(outputPath, "temp");
-            final File parentFile = path.toFile().getParentFile();
-            if (parentFile != null) {
-                parentFile.mkdirs();
+            int written = new OpenApiSplitWriter(Paths.get(outputPath), outputFileName)
+                    .groupBy(splitBy)
+                    .json(Format.JSON.equals(outputFormat) || Format.JSONANDYAML.equals(outputFormat))
+                    .yaml(Format.YAML.equals(outputFormat) || Format.JSONANDYAML.equals(outputFormat))
+                    .prettyPrint(prettyPrint)
+                    .encoding(Charset.forName(encoding))
+                    .write(openAPI);
+            getLog().info(format("Written %d changed OpenAPI specification files", written));
+            return;
+        }
+
+        String openapiJson = null;
+        String openapiYaml = null;
+        if (Format.JSON.equals(outputFormat) || Format.JSONANDYAML.equals(outputFormat)) {
+            if (prettyPrint) {
+                openapiJson = Json.pretty(openAPI);
+            } else {
+                openapiJson = Json.mapper().writeValueAsString(openAPI);
             }
 
-            if (openapiJson != null) {
-                path = Paths.get(outputPath, outputFileName + ".json");
-                Files.write(path, openapiJson.getBytes(Charset.forName(encoding)));
+        }
+        if (Format.YAML.equals(outputFormat) || Format.JSONANDYAML.equals(outputFormat)) {
+            if (prettyPrint) {
+                openapiYaml = Yaml.pretty(openAPI);
+            } else {
+                openapiYaml = Yaml.write(openAPI);
             }
-            if (openapiYaml != null) {
-                path = Paths.get(outputPath, outputFileName + ".yaml");
-                Files.write(path, openapiYaml.getBytes(Charset.forName(encoding)));
+
+        }
+        Path path = Paths.get(outputPath, "temp");
+        final File parentFile = path.toFile().getParentFile();
+        if (parentFile != null) {
+            parentFile.mkdirs();
+        }
+
+        if (openapiJson != null) {
+            path = Paths.get(outputPath, outputFileName + ".json");
+            Files.write(path, openapiJson.getBytes(Charset.forName(encoding)));
+        }
+        if (openapiYaml != null) {
+            path = Paths.get(outputPath, outputFileName + ".yaml");
+            Files.write(path, openapiYaml.getBytes(Charset.forName(encoding)));
+        }
+        if (binary) {
+            ObjectMapper mapper = Format.SMILE.equals(outputFormat) ? Smile.mapper() : Cbor.mapper();
+            path = Paths.get(outputPath, outputFileName + "." + outputFormat.name().toLowerCase());
+            Files.write(path, mapper.writeValueAsBytes(openAPI));
+        }
+    }
+
+    /**
+     * Resolves the contexts of the contexts parameter: the classpath is scanned once for all of them, contexts using
+     * the same converters share the schemas resolved for each type, and contexts are read and written in parallel.
+     */
+    private void resolveContexts() throws MojoExecutionException, MojoFailureException {
+        long start = System.nanoTime();
+        Map<ContextDefinition, SwaggerConfiguration> configs = new LinkedHashMap<>();
+        for (ContextDefinition definition : contexts) {
+            if (StringUtils.isBlank(definition.getContextId())) {
+                throw new MojoFailureException("contextId is required for each context definition");
             }
+            Optional<SwaggerConfiguration> swaggerConfiguration = readStructuredDataFromFile(
+                    StringUtils.isNotBlank(definition.getConfigurationFilePath()) ? definition.getConfigurationFilePath() : configurationFilePath,
+                    SwaggerConfiguration.class, "configurationFilePath");
+            Optional<OpenAPI> openAPIInput = readStructuredDataFromFile(
+                    StringUtils.isNotBlank(definition.getOpenapiFilePath()) ? definition.getOpenapiFilePath() : openapiFilePath,
+                    OpenAPI.class, "openapiFilePath");
+            SwaggerConfiguration contextConfig = mergeConfig(definition,
+                    mergeConfig(openAPIInput.orElse(null), swaggerConfiguration.orElse(new SwaggerConfiguration())));
+            setDefaultsIfMissing(contextConfig);
+            configs.put(definition, contextConfig);
+        }
 
+        Map<ContextDefinition, OpenApiContext> resolved = new LinkedHashMap<>();
+        try {
+            Set<Class<?>> scannedClasses = scanClasses(configs.values());
+            Map<List<Object>, ModelConverters> chains = new HashMap<>();
+            // contexts are built in turn, as they register themselves and their converters on init
+            for (Map.Entry<ContextDefinition, SwaggerConfiguration> entry : configs.entrySet()) {
+                SwaggerConfiguration contextConfig = entry.getValue();
+                OpenApiContext ctx = new JaxrsOpenApiContextBuilder()
+                        .openApiConfiguration(contextConfig)
+                        .ctxId(entry.getKey().getContextId())
+                        .buildContext(true);
+                if (ctx instanceof GenericOpenApiContext) {
+                    GenericOpenApiContext genericCtx = (GenericOpenApiContext) ctx;
+                    if (scannedClasses != null && genericCtx.getOpenApiScanner() instanceof JaxrsAnnotationScanner) {
+                        ((JaxrsAnnotationScanner) genericCtx.getOpenApiScanner()).scannedClasses(scannedClasses);
+                    }
+                    ModelConverters chain = genericCtx.getModelConverterChain();
+                    List<Object> converters = Arrays.asList(contextConfig.getModelConverterClasses(), contextConfig.getObjectMapperProcessorClass());
+                    genericCtx.setModelConverterChain(chains.computeIfAbsent(converters,
+                            k -> (chain == null ? ModelConverters.getInstance() : chain).withResolvedSchemaCache()));
+                }
+                resolved.put(entry.getKey(), ctx);
+            }
         } catch (OpenApiConfigurationException e) {
             getLog().error( "Error resolving API specification" , e);
             throw new MojoFailureException(e.getMessage(), e);
-        } catch (IOException e) {
-            getLog().error( "Error writing API specification" , e);
-            throw new MojoExecutionException("Failed to write API definition", e);
-        } catch (Exception e) {
-            getLog().error( "Error resolving API specification" , e);
-            throw new MojoExecutionException(e.getMessage(), e);
         }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, resolved.size())));
+        try {
+            Map<ContextDefinition, Future<Long>> results = new LinkedHashMap<>();
+            for (Map.Entry<ContextDefinition, OpenApiContext> entry : resolved.entrySet()) {
+                ContextDefinition definition = entry.getKey();
+                results.put(definition, executor.submit(() -> {
+                    long contextStart = System.nanoTime();
+                    OpenAPI openAPI = applyFilter(entry.getValue().read(),
+                            StringUtils.isNotBlank(definition.getFilterClass()) ? definition.getFilterClass() : filterClass);
+                    writeSpecification(openAPI,
+                            StringUtils.isNotBlank(definition.getOutputPath()) ? definition.getOutputPath() : outputPath,
+                            StringUtils.isNotBlank(definition.getOutputFileName()) ? definition.getOutputFileName() : definition.getContextId());
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - contextStart);
+                }));
+            }
+            for (Map.Entry<ContextDefinition, Future<Long>> result : results.entrySet()) {
+                try {
+                    getLog().info(format("Resolved context %s in %d ms", result.getKey().getContextId(), result.getValue().get()));
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof MojoExecutionException) {
+                        throw (MojoExecutionException) e.getCause();
+                    }
+                    getLog().error(format("Error resolving API specification of context %s", result.getKey().getContextId()), e.getCause());
+                    throw new MojoExecutionException(e.getCause().getMessage(), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted resolving API specifications", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        getLog().info(format("Resolved %d contexts in %d ms", resolved.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    }
+
+    /**
+     * @return the classes found scanning the resource packages of all the given configurations, or null if all of
+     * them list their resource classes
+     */
+    private Set<Class<?>> scanClasses(Collection<SwaggerConfiguration> configs) {
+        Set<String> packages = new HashSet<>();
+        boolean scan = false;
+        for (SwaggerConfiguration contextConfig : configs) {
+            if (isCollectionNotBlank(contextConfig.getResourceClasses())) {
+                continue;
+            }
+            if (!isCollectionNotBlank(contextConfig.getResourcePackages())) {
+                return JaxrsAnnotationScanner.scanAnnotatedClasses(null);
+            }
+            scan = true;
+            packages.addAll(contextConfig.getResourcePackages());
+        }
+        return scan ? JaxrsAnnotationScanner.scanAnnotatedClasses(packages) : null;
     }
 
     private void setDefaultsIfMissing(SwaggerConfiguration config) {
@@ -301,6 +455,36 @@ public class SwaggerMojo extends AbstractMojo {
         return config;
     }
 
+    private SwaggerConfiguration mergeConfig(ContextDefinition definition, SwaggerConfiguration config) {
+        // overwrite the settings of the execution provided by the context definition
+        if (StringUtils.isNotBlank(definition.getFilterClass())) {
+            config.filterClass(definition.getFilterClass());
+        }
+        if (isCollectionNotBlank(definition.getIgnoredRoutes())) {
+            config.ignoredRoutes(definition.getIgnoredRoutes());
+        }
+        if (StringUtils.isNotBlank(definition.getReaderClass())) {
+            config.readerClass(definition.getReaderClass());
+        }
+        if (StringUtils.isNotBlank(definition.getScannerClass())) {
+            config.scannerClass(definition.getScannerClass());
+        }
+        if (isCollectionNotBlank(definition.getResourceClasses())) {
+            config.resourceClasses(definition.getResourceClasses());
+        }
+        if (isCollectionNotBlank(definition.getResourcePackages())) {
+            config.resourcePackages(definition.getResourcePackages());
+        }
+        if (StringUtils.isNotBlank(definition.getObjectMapperProcessorClass())) {
+            config.objectMapperProcessorClass(definition.getObjectMapperProcessorClass());
+        }
+        if (isCollectionNotBlank(definition.getModelConverterClasses())) {
+            config.modelConverterClasses(definition.getModelConverterClasses());
+        }
+
+        return config;
+    }
+
     private boolean isCollectionNotBlank(Collection<?> collection) {
         return collection != null && !collection.isEmpty();
     }
@@ -314,6 +498,31 @@ public class SwaggerMojo extends AbstractMojo {
     @Parameter( property = "resolve.outputFormat", defaultValue = "JSON")
     private Format outputFormat = Format.JSON;
 
+    /**
+     * Writes the specification as multiple files, grouping paths by tag or by first path segment
+     *
+     * @since 2.0.10
+     */
+    @Parameter( property = "resolve.splitBy" )
+    private OpenApiSplitWriter.GroupBy splitBy;
+
+    /**
+     * Contexts to resolve in this execution, each written to its own file(s); parameters not set on a context are
+     * taken from the execution. The output file name defaults to the context id.
+     *
+     * @since 2.0.10
+     */
+    @Parameter
+    private List<ContextDefinition> contexts;
+
+    /**
+     * Number of contexts resolved in parallel, defaults to the number of available processors
+     *
+     * @since 2.0.10
+     */
+    @Parameter( property = "resolve.threads" )
+    private int threads = Runtime.getRuntime().availableProcessors();
+
     @Parameter( property = "resolve.resourcePackages" )
     private Set<String> resourcePackages;
     @Parameter( property = "resolve.resourceClasses" )
@@ -0,0 +1,59 @@
+package io.swagger.v3.plugin.maven;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.FileUtils;
+import org.apache.maven.plugin.MojoFailureException;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class SwaggerResolveContextsTest extends ASwaggerMavenIntegrationTest {
+
+    public void testResolveContexts() throws Exception {
+        File pom = getTestFile("src/test/resources/pom.resolveContexts.xml");
+        SwaggerMojo mojo = (SwaggerMojo) lookupConfiguredMojo(pom, "resolve");
+        assertNotNull(mojo);
+        mojo.execute();
+
+        // the output file name defaults to the context id
+        OpenAPI all = readOutput(mojo, "contextsAll");
+        validateOpenApiContent(all);
+        assertTrue(all.getPaths().containsKey("/pet/{petId}"));
+        assertTrue(all.getPaths().containsKey("/completetags"));
+        assertFalse("UPDATEDBYFILTER".equals(all.getInfo().getTitle()));
+
+        // the filter of the context is applied to its definition only
+        OpenAPI filtered = readOutput(mojo, "filtered");
+        validateOpenApiContent(filtered);
+        assertEquals("UPDATEDBYFILTER", filtered.getInfo().getTitle());
+        assertEquals(all.getPaths().keySet(), filtered.getPaths().keySet());
+
+        // the resource packages of the context replace the ones of the execution
+        OpenAPI tags = readOutput(mojo, "contextsTags");
+        validateOpenApiContent(tags);
+        assertTrue(tags.getPaths().containsKey("/completetags"));
+        assertFalse(tags.getPaths().containsKey("/pet/{petId}"));
+        assertEquals(all.getPaths().get("/completetags"), tags.getPaths().get("/completetags"));
+    }
+
+    public void testResolveContextsWithoutId() throws Exception {
+        File pom = getTestFile("src/test/resources/pom.resolveContextsNoId.xml");
+        SwaggerMojo mojo = (SwaggerMojo) lookupConfiguredMojo(pom, "resolve");
+        assertNotNull(mojo);
+        try {
+            mojo.execute();
+            fail("a context definition without contextId is rejected");
+        } catch (MojoFailureException e) {
+            assertTrue(e.getMessage().contains("contextId"));
+        }
+    }
+
+    private OpenAPI readOutput(SwaggerMojo mojo, String outputFileName) throws Exception {
+        Path path = Paths.get(mojo.getOutputPath(), outputFileName + ".json");
+        assertTrue(Files.isRegularFile(path));
+        return Json.mapper().readValue(FileUtils.readFileToString(path.toFile(), "UTF-8"), OpenAPI.class);
+    }
+}